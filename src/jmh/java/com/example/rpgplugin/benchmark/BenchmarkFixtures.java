@@ -0,0 +1,120 @@
+package com.example.rpgplugin.benchmark;
+
+import com.example.rpgplugin.player.RPGPlayer;
+import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.stats.StatModifier;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * ベンチマーク用のフィクスチャ
+ *
+ * <p>Bukkitのエンティティ・プレイヤーはMockitoのモックで代用します。
+ * 呼び出し記録によるオーバーヘッドと割り当てを避けるため、モックは {@code stubOnly} で作成します。</p>
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 修正値付きのステータスマネージャーを作成します
+     *
+     * @return ステータスマネージャー
+     */
+    static StatManager statManager() {
+        StatManager statManager = new StatManager(10, 0);
+        statManager.setBaseStat(Stat.STRENGTH, 50);
+        statManager.setBaseStat(Stat.INTELLIGENCE, 40);
+        statManager.setBaseStat(Stat.SPIRIT, 30);
+        statManager.setBaseStat(Stat.VITALITY, 45);
+        statManager.setBaseStat(Stat.DEXTERITY, 35);
+        statManager.addModifier(Stat.STRENGTH, new StatModifier("weapon", StatModifier.Type.FLAT, 15));
+        statManager.addModifier(Stat.STRENGTH, new StatModifier("buff", StatModifier.Type.MULTIPLIER, 0.2));
+        statManager.addModifier(Stat.INTELLIGENCE, new StatModifier("staff", StatModifier.Type.FLAT, 10));
+        statManager.addModifier(Stat.VITALITY, new StatModifier("armor", StatModifier.Type.FLAT, 20));
+        return statManager;
+    }
+
+    /**
+     * RPGプレイヤーのモックを作成します
+     *
+     * @param statManager ステータスマネージャー
+     * @return RPGプレイヤー
+     */
+    static RPGPlayer rpgPlayer(StatManager statManager) {
+        RPGPlayer rpgPlayer = mock(RPGPlayer.class, withSettings().stubOnly());
+        when(rpgPlayer.getStatManager()).thenReturn(statManager);
+        when(rpgPlayer.getClassId()).thenReturn("warrior");
+        when(rpgPlayer.getClassRank()).thenReturn(2);
+        when(rpgPlayer.getLevel()).thenReturn(30);
+        when(rpgPlayer.getVanillaLevel()).thenReturn(30);
+        return rpgPlayer;
+    }
+
+    /**
+     * ワールドのモックを作成します
+     *
+     * @return ワールド
+     */
+    static World world() {
+        World world = mock(World.class, withSettings().stubOnly());
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        return world;
+    }
+
+    /**
+     * 原点で +Z 方向を向いたプレイヤーのモックを作成します
+     *
+     * @param world ワールド
+     * @return プレイヤー
+     */
+    static Player caster(World world) {
+        Player caster = mock(Player.class, withSettings().stubOnly());
+        when(caster.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(caster.getLocation()).thenReturn(new Location(world, 0, 64, 0, 0f, 0f));
+        when(caster.getWorld()).thenReturn(world);
+        return caster;
+    }
+
+    /**
+     * 原点周辺に散らばったエンティティのモックを作成します
+     *
+     * @param world ワールド
+     * @param count 数
+     * @param spread 原点からの最大距離（XZ）
+     * @return エンティティリスト
+     */
+    static List<Entity> entities(World world, int count, double spread) {
+        Random random = new Random(42L);
+        List<Entity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LivingEntity entity = mock(LivingEntity.class, withSettings().stubOnly());
+            Location location = new Location(world,
+                    (random.nextDouble() * 2 - 1) * spread,
+                    64 + random.nextDouble() * 4,
+                    (random.nextDouble() * 2 - 1) * spread);
+            when(entity.getLocation()).thenReturn(location);
+            when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+            when(entity.getType()).thenReturn(EntityType.ZOMBIE);
+            when(entity.getWorld()).thenReturn(world);
+            when(entity.isValid()).thenReturn(true);
+            entities.add(entity);
+        }
+        return entities;
+    }
+}
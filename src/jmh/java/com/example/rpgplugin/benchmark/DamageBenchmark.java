@@ -0,0 +1,73 @@
+package com.example.rpgplugin.benchmark;
+
+import com.example.rpgplugin.damage.config.DamageConfig;
+import com.example.rpgplugin.damage.config.EventConfig;
+import com.example.rpgplugin.damage.config.VariableScopeManager;
+import com.example.rpgplugin.damage.config.YamlDamageCalculator;
+import com.example.rpgplugin.player.RPGPlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ダメージ計算パイプラインのベンチマーク
+ *
+ * <p>damage_config.yml 相当の設定をコードで組み立て、スキルダメージ・被ダメージ・クリティカル込みの計算を計測します。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DamageBenchmark {
+
+    private YamlDamageCalculator calculator;
+    private RPGPlayer attacker;
+    private RPGPlayer defender;
+
+    @Setup
+    public void setUp() {
+        DamageConfig damageConfig = new DamageConfig.Builder()
+                .addEvent("skill_damage", new EventConfig.Builder()
+                        .formula("BASE_DAMAGE * (1 + STR / 100) + Lv * 2")
+                        .critical("DEX * 0.1", "1.5 + DEX / 200")
+                        .minDamage(1.0)
+                        .build())
+                .addEvent("damage_taken", new EventConfig.Builder()
+                        .physicalCutFormula("BASE_DAMAGE * (100 / (100 + VIT))")
+                        .magicCutFormula("BASE_DAMAGE * (100 / (100 + SPI))")
+                        .minDamage(1.0)
+                        .build())
+                .build();
+
+        calculator = new YamlDamageCalculator(damageConfig, new VariableScopeManager());
+        attacker = BenchmarkFixtures.rpgPlayer(BenchmarkFixtures.statManager());
+        defender = BenchmarkFixtures.rpgPlayer(BenchmarkFixtures.statManager());
+    }
+
+    @Benchmark
+    public double skillDamage() {
+        return calculator.calculateSkillDamage(100.0, attacker, 5);
+    }
+
+    @Benchmark
+    public double skillDamageWithCritical() {
+        return calculator.calculateWithCritical(100.0, attacker, 5).getFinalDamage();
+    }
+
+    @Benchmark
+    public double skillDamageThenTaken() {
+        double damage = calculator.calculateSkillDamage(100.0, attacker, 5);
+        return calculator.calculateDamageTaken(damage, defender, false);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.rpgplugin.benchmark;
+
+import com.example.rpgplugin.player.RPGPlayer;
+import com.example.rpgplugin.skill.evaluator.CompiledExpression;
+import com.example.rpgplugin.skill.evaluator.ExpressionParser;
+import com.example.rpgplugin.skill.evaluator.FormulaEvaluator;
+import com.example.rpgplugin.skill.evaluator.VariableContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 数式評価のベンチマーク
+ *
+ * <p>毎回パースする場合、コンパイル済みの式を評価する場合、{@link FormulaEvaluator} 経由（キャッシュ込み）を比較します。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormulaBenchmark {
+
+    private static final String FORMULA = "STR * 1.5 + INT * 0.5 + Lv * 10 + (DEX / 4) * 2";
+
+    private RPGPlayer rpgPlayer;
+    private VariableContext context;
+    private CompiledExpression compiled;
+    private FormulaEvaluator evaluator;
+
+    @Setup
+    public void setUp() throws ExpressionParser.FormulaEvaluationException {
+        rpgPlayer = BenchmarkFixtures.rpgPlayer(BenchmarkFixtures.statManager());
+        context = new VariableContext(rpgPlayer, 5);
+        compiled = new ExpressionParser(FORMULA).compile();
+        evaluator = new FormulaEvaluator();
+    }
+
+    @Benchmark
+    public double parseAndEvaluate() throws ExpressionParser.FormulaEvaluationException {
+        return new ExpressionParser(FORMULA).evaluate(context);
+    }
+
+    @Benchmark
+    public double compiledEvaluate() throws ExpressionParser.FormulaEvaluationException {
+        return compiled.evaluate(context);
+    }
+
+    @Benchmark
+    public double formulaEvaluator() throws ExpressionParser.FormulaEvaluationException {
+        return evaluator.evaluate(FORMULA, rpgPlayer, 5);
+    }
+}
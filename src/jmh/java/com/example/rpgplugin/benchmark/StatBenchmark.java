@@ -0,0 +1,63 @@
+package com.example.rpgplugin.benchmark;
+
+import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ステータス解決のベンチマーク
+ *
+ * <p>キャッシュが有効な状態の読み取りと、基本値の変更直後（再計算あり）の読み取りを計測します。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatBenchmark {
+
+    private static final Stat[] STATS = Stat.values();
+
+    private StatManager statManager;
+    private int toggle;
+
+    @Setup
+    public void setUp() {
+        statManager = BenchmarkFixtures.statManager();
+    }
+
+    @Benchmark
+    public void getFinalStat(Blackhole blackhole) {
+        for (Stat stat : STATS) {
+            blackhole.consume(statManager.getFinalStat(stat));
+        }
+    }
+
+    @Benchmark
+    public void getFinalStatAfterChange(Blackhole blackhole) {
+        toggle ^= 1;
+        statManager.setBaseStat(Stat.STRENGTH, 50 + toggle);
+        for (Stat stat : STATS) {
+            blackhole.consume(statManager.getFinalStat(stat));
+        }
+    }
+
+    @Benchmark
+    public DerivedAttributes getDerivedAttributes() {
+        return statManager.getDerivedAttributes();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.rpgplugin.benchmark;
+
+import com.example.rpgplugin.skill.target.AreaShape;
+import com.example.rpgplugin.skill.target.ShapeCalculator;
+import com.example.rpgplugin.skill.target.SkillTarget;
+import com.example.rpgplugin.skill.target.TargetSelector;
+import com.example.rpgplugin.skill.target.TargetType;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ターゲット選択のベンチマーク
+ *
+ * <p>周囲のエンティティ数を変えながら、範囲判定と {@link TargetSelector} による選択を計測します。
+ * 視線判定はモックでは意味を持たないため {@code throughWall} を有効にしています。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TargetingBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int entityCount;
+
+    private Player caster;
+    private List<Entity> candidates;
+    private Location origin;
+    private Vector direction;
+    private SkillTarget sphere;
+    private SkillTarget cone;
+
+    @Setup
+    public void setUp() {
+        World world = BenchmarkFixtures.world();
+        caster = BenchmarkFixtures.caster(world);
+        candidates = BenchmarkFixtures.entities(world, entityCount, 24.0);
+        origin = caster.getLocation();
+        direction = origin.getDirection();
+
+        sphere = SkillTarget.builder()
+                .type(TargetType.SPHERE)
+                .areaShape(AreaShape.SPHERE)
+                .sphereRadius(8.0)
+                .maxTargets(10)
+                .throughWall(true)
+                .build();
+        cone = SkillTarget.builder()
+                .type(TargetType.CONE)
+                .areaShape(AreaShape.CONE)
+                .cone(new SkillTarget.ConeConfig(60.0, 10.0))
+                .maxTargets(10)
+                .throughWall(true)
+                .build();
+    }
+
+    @Benchmark
+    public int sphereInRange() {
+        int count = 0;
+        for (Entity entity : candidates) {
+            if (ShapeCalculator.isInRange(entity, origin, direction, AreaShape.SPHERE, sphere)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int coneInRange() {
+        int count = 0;
+        for (Entity entity : candidates) {
+            if (ShapeCalculator.isInRange(entity, origin, direction, AreaShape.CONE, cone)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<Entity> selectSphere() {
+        return TargetSelector.selectTargets(caster, sphere, candidates, null);
+    }
+
+    @Benchmark
+    public List<Entity> selectCone() {
+        return TargetSelector.selectTargets(caster, cone, candidates, null);
+    }
+}
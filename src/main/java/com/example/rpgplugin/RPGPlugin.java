@@ -5,6 +5,8 @@ import com.example.rpgplugin.core.config.ConfigWatcher;
 import com.example.rpgplugin.core.config.YamlConfigManager;
 import com.example.rpgplugin.core.dependency.DependencyManager;
 import com.example.rpgplugin.core.module.ModuleManager;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
+import com.example.rpgplugin.core.scheduler.SkillScheduler;
 import com.example.rpgplugin.core.system.CoreSystemManager;
 import com.example.rpgplugin.core.system.GameSystemManager;
 import com.example.rpgplugin.core.system.ExternalSystemManager;
@@ -17,9 +19,12 @@ import com.example.rpgplugin.rpgclass.RPGClass;
 import com.example.rpgplugin.skill.SkillManager;
 import com.example.rpgplugin.model.skill.SkillConfig;
 import com.example.rpgplugin.skill.executor.ActiveSkillExecutor;
+import com.example.rpgplugin.skill.component.mechanic.CosmeticBatcher;
 import com.example.rpgplugin.skill.executor.PassiveSkillExecutor;
+import com.example.rpgplugin.skill.target.EntitySpatialIndex;
 import com.example.rpgplugin.stats.StatManager;
 import com.example.rpgplugin.storage.StorageManager;
+import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -328,6 +333,19 @@ public class RPGPlugin extends JavaPlugin {
         int skillCount = skillConfig.loadSkills();
         getLogger().info("Loaded " + skillCount + " skills");
 
+        // 時限修正値・テンポラリ変数の期限管理（毎ティック1回進める）
+        getServer().getScheduler().runTaskTimer(this, gameSystem.getExpiryService()::tick, 1L, 1L);
+
+        // スキル実行スケジューラー（遅延・チャネリング・ダメージ適用をティック予算内で実行）
+        getServer().getScheduler().runTaskTimer(this, gameSystem.getSkillScheduler()::tick, 1L, 1L);
+        if (getConfig().getBoolean("debug.performance_logging", false)) {
+            // 1分ごとにスケジューラーの実行統計を出力
+            getServer().getScheduler().runTaskTimer(this, gameSystem.getSkillScheduler()::logStats, 1200L, 1200L);
+        }
+
+        // パーティクル・サウンドの一括送信（ティック終了時に送信）
+        getServer().getPluginManager().registerEvents(gameSystem.getCosmeticBatcher(), this);
+
         // 経験値ハンドラーを登録
         gameSystem.getExpManager().registerListeners();
 
@@ -337,6 +355,9 @@ public class RPGPlugin extends JavaPlugin {
         // プレイヤーマネージャーを登録
         getServer().getPluginManager().registerEvents(gameSystem.getPlayerManager(), this);
 
+        // スキルデータのロード/保存を登録
+        getServer().getPluginManager().registerEvents(gameSystem.getSkillManager(), this);
+
         // 自動保存タスクを開始
         startAutoSaveTask();
 
@@ -361,7 +382,7 @@ public class RPGPlugin extends JavaPlugin {
         // PlaceholderAPI連携
         if (getServer().getPluginManager().getPlugin("PlaceholderAPI") != null) {
             try {
-                placeholderExpansion = new com.example.rpgplugin.api.placeholder.RPGPlaceholderExpansion(this);
+                placeholderExpansion = new com.example.rpgplugin.api.placeholder.RPGPlaceholderExpansion(this, Bukkit::getCurrentTick);
                 placeholderExpansion.register();
                 getLogger().info("PlaceholderAPI integration loaded successfully!");
             } catch (Exception e) {
@@ -394,6 +415,7 @@ if (getServer().getPluginManager().getPlugin("Skript") != null) {
             getServer().getScheduler().runTaskTimerAsynchronously(this, () -> {
                 try {
                     gameSystem.getPlayerManager().saveAllAsync();
+                    gameSystem.getSkillManager().saveAllPlayerData();
                 } catch (Exception e) {
                     getLogger().warning("[AutoSave] Failed to save player data: " + e.getMessage());
                 }
@@ -447,7 +469,8 @@ if (getServer().getPluginManager().getPlugin("Skript") != null) {
                     gameSystem.getClassManager(),
                     gameSystem.getSkillManager(),
                     gameSystem.getClassLoader(),
-                    gameSystem.getSkillLoader()
+                    gameSystem.getSkillLoader(),
+                    coreSystem.getStorageManager()
                 );
             getCommand("rpgadmin").setExecutor(adminCommand);
             getCommand("rpgadmin").setTabCompleter(adminCommand);
@@ -621,6 +644,42 @@ private void registerListeners() {
         return gameSystem.getPassiveSkillExecutor();
     }
 
+    /**
+     * 期限管理サービスを取得します
+     *
+     * @return ExpiryServiceインスタンス
+     */
+    public ExpiryService getExpiryService() {
+        return gameSystem.getExpiryService();
+    }
+
+    /**
+     * スキル実行スケジューラーを取得します
+     *
+     * @return SkillSchedulerインスタンス
+     */
+    public SkillScheduler getSkillScheduler() {
+        return gameSystem.getSkillScheduler();
+    }
+
+    /**
+     * パーティクル・サウンドの一括送信を取得します
+     *
+     * @return CosmeticBatcherインスタンス
+     */
+    public CosmeticBatcher getCosmeticBatcher() {
+        return gameSystem.getCosmeticBatcher();
+    }
+
+    /**
+     * ターゲット選択用の空間インデックスを取得します
+     *
+     * @return EntitySpatialIndexインスタンス
+     */
+    public EntitySpatialIndex getEntitySpatialIndex() {
+        return gameSystem.getEntitySpatialIndex();
+    }
+
     // ====== 外部システム ======
 
     /**
@@ -47,6 +47,17 @@ public interface RPGPluginAPI {
      */
     Optional<RPGPlayer> getRPGPlayer(Player player);
 
+    /**
+     * プレイヤーデータをロード中か確認します
+     *
+     * <p>ロード中は {@link #getRPGPlayer(Player)} がemptyを返し、
+     * 各取得メソッドはデフォルト値を返します。</p>
+     *
+     * @param player Bukkitプレイヤー
+     * @return ロード中の場合はtrue
+     */
+    boolean isPlayerDataLoading(Player player);
+
     /**
      * プレイヤーのバニラレベルを取得します
      *
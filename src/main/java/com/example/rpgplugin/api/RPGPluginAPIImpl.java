@@ -69,6 +69,14 @@ public class RPGPluginAPIImpl implements RPGPluginAPI {
         return Optional.ofNullable(playerManager.getRPGPlayer(player.getUniqueId()));
     }
 
+    @Override
+    public boolean isPlayerDataLoading(Player player) {
+        if (player == null) {
+            return false;
+        }
+        return playerManager.isLoading(player.getUniqueId());
+    }
+
     @Override
     public int getLevel(Player player) {
         if (player == null) {
@@ -5,12 +5,18 @@ import com.example.rpgplugin.api.RPGPluginAPI;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.rpgclass.RPGClass;
 import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.StatManager;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
 
 /**
  * RPGPluginのPlaceholderAPI拡張
@@ -32,20 +38,55 @@ import java.util.UUID;
  *   <li>{@code %rpg_mana%} - 現在MP</li>
  * </ul>
  *
+ * <p>パラメータは初回要求時に解決処理へ変換してキャッシュします。
+ * ティックソースを指定した場合、描画済みの値をプレイヤーごと・ティックごとにメモ化します
+ * （スコアボードやタブリストが毎ティック全プレイヤー分を要求するため）。</p>
+ *
  * @author RPGPlugin Team
  * @version 1.0.0
  */
 public class RPGPlaceholderExpansion extends PlaceholderExpansion {
 
+    /** 解析済みパラメータのキャッシュ上限 */
+    private static final int MAX_COMPILED_RESOLVERS = 1024;
+
+    /** 参照されないメモを破棄するまでのティック数 */
+    private static final int MEMO_SWEEP_INTERVAL_TICKS = 1200;
+
+    /** 不明なプレースホルダー */
+    private static final Resolver UNKNOWN = request -> null;
+
     private final RPGPlugin plugin;
+    private final IntSupplier tickSource;
+    private final Map<String, Resolver> exactResolvers;
+    private final Map<String, Resolver> compiledResolvers = new ConcurrentHashMap<>();
+    private final Map<UUID, PlayerMemo> memos = new ConcurrentHashMap<>();
+    private volatile int lastSweepTick;
 
     /**
      * コンストラクタ
      *
+     * <p>ティックソースを指定しないため、値のメモ化は行いません。</p>
+     *
      * @param plugin プラグインインスタンス
      */
     public RPGPlaceholderExpansion(RPGPlugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * <p>同一ティック内の同じプレイヤー・同じプレースホルダーの要求には、前回の値を返します。
+     * ステータス・レベル・クラスが変わった場合はティック内でも再計算します。</p>
+     *
+     * @param plugin プラグインインスタンス
+     * @param tickSource 現在のサーバーティックを返すサプライヤー（nullでメモ化なし）
+     */
+    public RPGPlaceholderExpansion(RPGPlugin plugin, IntSupplier tickSource) {
         this.plugin = plugin;
+        this.tickSource = tickSource;
+        this.exactResolvers = createExactResolvers();
     }
 
     @Override
@@ -82,121 +123,204 @@ public class RPGPlaceholderExpansion extends PlaceholderExpansion {
             return null;
         }
 
-        UUID uuid = player.getUniqueId();
-        RPGPluginAPI api = plugin.getAPI();
+        Resolver resolver = resolverFor(params);
+        if (resolver == UNKNOWN) {
+            // 不明なリクエスト
+            return null;
+        }
 
-        // レベル関連
-        if (params.equalsIgnoreCase("level")) {
-            return String.valueOf(api.getLevel(player));
-        }
-
-        // マルチステータス（全て表示） - "stats"は "stat"のチェックより先に行う
-        if (params.equals("stats")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
-            if (rpgPlayer != null) {
-                return String.format("STR:%d INT:%d SPI:%d VIT:%d DEX:%d",
-                        api.getStat(player, Stat.STRENGTH),
-                        api.getStat(player, Stat.INTELLIGENCE),
-                        api.getStat(player, Stat.SPIRIT),
-                        api.getStat(player, Stat.VITALITY),
-                        api.getStat(player, Stat.DEXTERITY)
-                );
-            }
-            return "";
+        UUID uuid = player.getUniqueId();
+        RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
+        Request request = new Request(player, plugin.getAPI(), rpgPlayer);
+        if (tickSource == null) {
+            return resolver.resolve(request);
         }
 
-        // ステータス関連
-        if (params.startsWith("stat")) {
-            String statStr = params.startsWith("stat_") ? params.substring(5).toUpperCase() : "";
-            Stat stat = parseStat(statStr);
-            if (stat != null) {
-                return String.valueOf(api.getStat(player, stat));
+        int tick = tickSource.getAsInt();
+        sweepMemos(tick);
+
+        PlayerMemo memo = memos.computeIfAbsent(uuid, k -> new PlayerMemo());
+        synchronized (memo) {
+            memo.revalidate(tick, statVersion(rpgPlayer), player.getLevel(),
+                    rpgPlayer != null ? rpgPlayer.getClassId() : null);
+
+            String cached = memo.values.get(params);
+            if (cached != null) {
+                return cached;
+            }
+            String value = resolver.resolve(request);
+            if (value != null) {
+                memo.values.put(params, value);
             }
-            return "0";
+            return value;
         }
+    }
 
-        // クラス関連
-        if (params.equals("class")) {
-            String classId = api.getClassId(player);
-            return classId != null ? classId : "None";
+    /**
+     * パラメータに対応する解決処理を取得します
+     *
+     * <p>一度解析したパラメータは解決処理をキャッシュし、以降は文字列の比較を行いません。</p>
+     *
+     * @param params パラメータ
+     * @return 解決処理、不明な場合は {@link #UNKNOWN}
+     */
+    private Resolver resolverFor(String params) {
+        Resolver resolver = compiledResolvers.get(params);
+        if (resolver != null) {
+            return resolver;
         }
-
-        if (params.equals("class_name")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
-            if (rpgPlayer != null) {
-                Optional<RPGClass> rpgClass = plugin.getClassManager().getPlayerClass(player);
-                if (rpgClass.isPresent()) {
-                    return rpgClass.get().getDisplayName();
-                }
-            }
-            return "None";
+        resolver = compile(params);
+        if (compiledResolvers.size() < MAX_COMPILED_RESOLVERS) {
+            compiledResolvers.putIfAbsent(params, resolver);
         }
+        return resolver;
+    }
 
-        if (params.equals("class_rank")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
-            if (rpgPlayer != null) {
-                Optional<RPGClass> rpgClass = plugin.getClassManager().getPlayerClass(player);
-                if (rpgClass.isPresent()) {
-                    return String.valueOf(rpgClass.get().getRank());
-                }
-            }
-            return "1";
+    /**
+     * パラメータを解析して解決処理を作成します
+     *
+     * @param params パラメータ
+     * @return 解決処理、不明な場合は {@link #UNKNOWN}
+     */
+    private Resolver compile(String params) {
+        Resolver exact = exactResolvers.get(params);
+        if (exact != null) {
+            return exact;
         }
 
-        // スキルポイント（利用可能ステータスポイントを使用）
-        if (params.equals("skill_points")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
-            if (rpgPlayer != null) {
-                return String.valueOf(rpgPlayer.getAvailablePoints());
-            }
-            return "0";
+        // レベル関連（大文字小文字を区別しない）
+        if (params.equalsIgnoreCase("level")) {
+            return exactResolvers.get("level");
         }
 
-        // 利用可能ステータスポイント
-        if (params.equals("available_points")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
-            if (rpgPlayer != null) {
-                return String.valueOf(rpgPlayer.getAvailablePoints());
+        // ステータス関連（"stats"は完全一致で先に解決済み）
+        if (params.startsWith("stat")) {
+            Stat stat = params.startsWith("stat_") ? parseStat(params.substring(5)) : null;
+            if (stat == null) {
+                return request -> "0";
             }
-            return "0";
+            return request -> String.valueOf(request.api().getStat(request.player(), stat));
         }
 
         // スキルレベル
         if (params.startsWith("skill_level_")) {
             String skillId = params.substring(12);
-            if (api.hasSkill(player, skillId)) {
-                return String.valueOf(api.getSkillLevel(player, skillId));
-            }
-            return "0";
+            return request -> request.api().hasSkill(request.player(), skillId)
+                    ? String.valueOf(request.api().getSkillLevel(request.player(), skillId))
+                    : "0";
         }
 
+        return UNKNOWN;
+    }
+
+    /**
+     * 完全一致のプレースホルダーの解決処理を作成します
+     *
+     * @return キー→解決処理のマップ
+     */
+    private Map<String, Resolver> createExactResolvers() {
+        Map<String, Resolver> resolvers = new HashMap<>();
+
+        // レベル関連
+        resolvers.put("level", request -> String.valueOf(request.api().getLevel(request.player())));
+
+        // マルチステータス（全て表示）
+        resolvers.put("stats", request -> {
+            if (request.rpgPlayer() == null) {
+                return "";
+            }
+            RPGPluginAPI api = request.api();
+            Player player = request.player();
+            return "STR:" + api.getStat(player, Stat.STRENGTH)
+                    + " INT:" + api.getStat(player, Stat.INTELLIGENCE)
+                    + " SPI:" + api.getStat(player, Stat.SPIRIT)
+                    + " VIT:" + api.getStat(player, Stat.VITALITY)
+                    + " DEX:" + api.getStat(player, Stat.DEXTERITY);
+        });
+
+        // クラス関連
+        resolvers.put("class", request -> {
+            String classId = request.api().getClassId(request.player());
+            return classId != null ? classId : "None";
+        });
+        resolvers.put("class_name", request -> {
+            Optional<RPGClass> rpgClass = playerClass(request);
+            return rpgClass.isPresent() ? rpgClass.get().getDisplayName() : "None";
+        });
+        resolvers.put("class_rank", request -> {
+            Optional<RPGClass> rpgClass = playerClass(request);
+            return rpgClass.isPresent() ? String.valueOf(rpgClass.get().getRank()) : "1";
+        });
+
+        // スキルポイント（利用可能ステータスポイントを使用）・利用可能ステータスポイント
+        Resolver availablePoints = request -> request.rpgPlayer() != null
+                ? String.valueOf(request.rpgPlayer().getAvailablePoints())
+                : "0";
+        resolvers.put("skill_points", availablePoints);
+        resolvers.put("available_points", availablePoints);
+
         // HP/MP関連
-        if (params.equals("max_hp") || params.equals("max_health")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
+        Resolver maxHealth = request -> {
+            RPGPlayer rpgPlayer = request.rpgPlayer();
             if (rpgPlayer != null && rpgPlayer.getPlayerData().getMaxHealth() > 0) {
                 return String.valueOf(rpgPlayer.getPlayerData().getMaxHealth());
             }
             return "20";
-        }
-
-        if (params.equals("max_mana")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
+        };
+        resolvers.put("max_hp", maxHealth);
+        resolvers.put("max_health", maxHealth);
+        resolvers.put("max_mana", request -> {
+            RPGPlayer rpgPlayer = request.rpgPlayer();
             if (rpgPlayer != null && rpgPlayer.getPlayerData().getMaxMana() > 0) {
                 return String.valueOf(rpgPlayer.getPlayerData().getMaxMana());
             }
             return "100";
+        });
+        resolvers.put("mana", request -> request.rpgPlayer() != null
+                ? String.valueOf(request.rpgPlayer().getPlayerData().getCurrentMana())
+                : "100");
+
+        return resolvers;
+    }
+
+    /**
+     * プレイヤーのクラスを取得します
+     *
+     * @param request 要求
+     * @return クラス、RPGPlayerが存在しない場合は空
+     */
+    private Optional<RPGClass> playerClass(Request request) {
+        if (request.rpgPlayer() == null) {
+            return Optional.empty();
         }
+        return plugin.getClassManager().getPlayerClass(request.player());
+    }
 
-        if (params.equals("mana")) {
-            RPGPlayer rpgPlayer = plugin.getPlayerManager().getRPGPlayer(uuid);
-            if (rpgPlayer != null) {
-                return String.valueOf(rpgPlayer.getPlayerData().getCurrentMana());
-            }
-            return "100";
+    /**
+     * 最終ステータスのバージョンを取得します
+     *
+     * @param rpgPlayer RPGプレイヤー
+     * @return バージョン、取得できない場合は-1
+     */
+    private static long statVersion(RPGPlayer rpgPlayer) {
+        if (rpgPlayer == null) {
+            return -1L;
         }
+        StatManager statManager = rpgPlayer.getStatManager();
+        return statManager != null ? statManager.getFinalStatVersion() : -1L;
+    }
 
-        // 不明なリクエスト
-        return null;
+    /**
+     * 長期間参照されていないプレイヤーのメモを破棄します
+     *
+     * @param tick 現在のティック
+     */
+    private void sweepMemos(int tick) {
+        if (tick - lastSweepTick < MEMO_SWEEP_INTERVAL_TICKS) {
+            return;
+        }
+        lastSweepTick = tick;
+        memos.values().removeIf(memo -> tick - memo.tick >= MEMO_SWEEP_INTERVAL_TICKS);
     }
 
     /**
@@ -232,4 +356,48 @@ public class RPGPlaceholderExpansion extends PlaceholderExpansion {
                 return null;
         }
     }
+
+    /**
+     * プレースホルダーの解決処理
+     */
+    @FunctionalInterface
+    private interface Resolver {
+        String resolve(Request request);
+    }
+
+    /**
+     * 1回の要求で共有する参照
+     *
+     * @param player プレイヤー
+     * @param api API
+     * @param rpgPlayer RPGプレイヤー（存在しない場合はnull）
+     */
+    private record Request(Player player, RPGPluginAPI api, RPGPlayer rpgPlayer) {
+    }
+
+    /**
+     * プレイヤーごとのティック内メモ
+     */
+    private static final class PlayerMemo {
+        final Map<String, String> values = new HashMap<>();
+        volatile int tick;
+        long statVersion;
+        int level;
+        String classId;
+
+        /**
+         * ティック・ステータス・レベル・クラスのいずれかが変わっていればメモを破棄します
+         */
+        void revalidate(int tick, long statVersion, int level, String classId) {
+            if (this.tick == tick && this.statVersion == statVersion && this.level == level
+                    && Objects.equals(this.classId, classId)) {
+                return;
+            }
+            values.clear();
+            this.tick = tick;
+            this.statVersion = statVersion;
+            this.level = level;
+            this.classId = classId;
+        }
+    }
 }
@@ -5,6 +5,9 @@ import com.example.rpgplugin.rpgclass.ClassLoader;
 import com.example.rpgplugin.rpgclass.ClassManager;
 import com.example.rpgplugin.skill.SkillLoader;
 import com.example.rpgplugin.skill.SkillManager;
+import com.example.rpgplugin.storage.StorageManager;
+import com.example.rpgplugin.storage.repository.CacheRepository;
+import com.example.rpgplugin.storage.repository.LatencyHistogram;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -23,6 +26,7 @@ import java.util.stream.Collectors;
  *   <li>/rpgadmin reload classes - 職業クラスYAMLを再読み込み</li>
  *   <li>/rpgadmin reload skills - スキルYAMLを再読み込み</li>
  *   <li>/rpgadmin reload all - 全てのYAMLを再読み込み</li>
+ *   <li>/rpgadmin cache [reset] - キャッシュ統計を表示（resetで計測値をリセット）</li>
  * </ul>
  *
  * <p>設計原則:</p>
@@ -41,6 +45,7 @@ public class RPGAdminCommand implements CommandExecutor, TabCompleter {
     private final SkillManager skillManager;
     private final ClassLoader classLoader;
     private final SkillLoader skillLoader;
+    private final StorageManager storageManager;
 
     /**
      * コンストラクタ
@@ -53,11 +58,27 @@ public class RPGAdminCommand implements CommandExecutor, TabCompleter {
      */
     public RPGAdminCommand(RPGPlugin plugin, ClassManager classManager, SkillManager skillManager,
                           ClassLoader classLoader, SkillLoader skillLoader) {
+        this(plugin, classManager, skillManager, classLoader, skillLoader, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin         プラグインインスタンス
+     * @param classManager   クラスマネージャー
+     * @param skillManager   スキルマネージャー
+     * @param classLoader    クラスローダー
+     * @param skillLoader    スキルローダー
+     * @param storageManager ストレージマネージャー（nullの場合はcacheサブコマンド無効）
+     */
+    public RPGAdminCommand(RPGPlugin plugin, ClassManager classManager, SkillManager skillManager,
+                          ClassLoader classLoader, SkillLoader skillLoader, StorageManager storageManager) {
         this.logger = plugin.getLogger();
         this.classManager = classManager;
         this.skillManager = skillManager;
         this.classLoader = classLoader;
         this.skillLoader = skillLoader;
+        this.storageManager = storageManager;
     }
 
     @Override
@@ -81,6 +102,10 @@ public class RPGAdminCommand implements CommandExecutor, TabCompleter {
                 handleReload(sender, args);
                 break;
 
+            case "cache":
+                handleCache(sender, args);
+                break;
+
             case "help":
                 showHelp(sender);
                 break;
@@ -247,6 +272,48 @@ public class RPGAdminCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    /**
+     * キャッシュ統計コマンドを処理
+     *
+     * @param sender コマンド送信者
+     * @param args   引数
+     */
+    private void handleCache(CommandSender sender, String[] args) {
+        if (storageManager == null) {
+            sender.sendMessage("§cキャッシュ統計は利用できません。");
+            return;
+        }
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            storageManager.resetCacheStatistics();
+            sender.sendMessage("§aキャッシュ統計をリセットしました。");
+            logger.info("Cache statistics reset by " + sender.getName());
+            return;
+        }
+
+        CacheRepository.CacheStatistics stats = storageManager.getCacheStatisticsForceRefresh();
+        if (stats == null) {
+            sender.sendMessage("§cストレージが初期化されていません。");
+            return;
+        }
+
+        sender.sendMessage("§6=== キャッシュ統計 ===");
+        sender.sendMessage(String.format("§7総リクエスト: §f%d §7ヒット率: §f%.2f%%",
+                stats.totalRequests(), stats.overallHitRate()));
+        sender.sendMessage(String.format("§7L1: §f%d §7L2: §f%d §7L3: §f%d §7未登録: §f%d",
+                stats.l1Hits(), stats.l2Hits(), stats.l3Hits(), stats.l3Misses()));
+        sender.sendMessage(String.format("§7L1サイズ: §f%d §7L2サイズ: §f%d §7L2追い出し: §f%d",
+                stats.l1Size(), stats.l2Size(), stats.l2EvictionCount()));
+        sendLatency(sender, "L1", stats.l1Latency());
+        sendLatency(sender, "L2", stats.l2Latency());
+        sendLatency(sender, "L3", stats.l3Latency());
+        sendLatency(sender, "DBロード", stats.dbLoadLatency());
+    }
+
+    private void sendLatency(CommandSender sender, String label, LatencyHistogram.Snapshot snapshot) {
+        sender.sendMessage("§e" + label + " §7" + snapshot.format());
+    }
+
     /**
      * ヘルプを表示
      *
@@ -257,6 +324,9 @@ public class RPGAdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§e/rpgadmin reload classes §7- 職業クラスYAMLを再読み込み");
         sender.sendMessage("§e/rpgadmin reload skills §7- スキルYAMLを再読み込み");
         sender.sendMessage("§e/rpgadmin reload all §7- 全てのYAMLを再読み込み");
+        if (storageManager != null) {
+            sender.sendMessage("§e/rpgadmin cache [reset] §7- キャッシュ統計を表示");
+        }
         sender.sendMessage("§e/rpgadmin help §7- このヘルプを表示");
     }
 
@@ -267,9 +337,14 @@ public class RPGAdminCommand implements CommandExecutor, TabCompleter {
         if (args.length == 1) {
             // 第一引数: サブコマンド
             completions.addAll(Arrays.asList("reload", "help"));
+            if (storageManager != null) {
+                completions.add("cache");
+            }
         } else if (args.length == 2 && args[0].equalsIgnoreCase("reload")) {
             // 第二引数: リロードターゲット
             completions.addAll(Arrays.asList("classes", "skills", "all"));
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("cache") && storageManager != null) {
+            completions.add("reset");
         }
 
         // 入力された文字でフィルタリング
@@ -0,0 +1,152 @@
+package com.example.rpgplugin.core.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * config.yml のイベント処理向けスナップショット
+ *
+ * <p>経験値・レベルアップなど頻繁に発火するイベントのハンドラーが参照する値を、
+ * セクションごとの不変レコードにまとめたものです。
+ * {@link YamlConfigManager} が読み込み・リロード時に再構築し、volatile参照で公開します。
+ * ハンドラーはパス文字列による検索を行わず、フィールドを直接読み取ります。</p>
+ *
+ * @param expDiminish 経験値減衰設定（exp_diminish）
+ * @param levelUp レベルアップ演出設定（level_up）
+ * @param debug デバッグ設定（debug）
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+public record MainSettings(
+        @NotNull ExpDiminish expDiminish,
+        @NotNull LevelUp levelUp,
+        @NotNull Debug debug
+) {
+
+    /**
+     * 設定未読み込み時に使用するデフォルト値（config.yml の既定値と同じ）
+     */
+    public static final MainSettings DEFAULTS = new MainSettings(
+            ExpDiminish.DEFAULTS, LevelUp.DEFAULTS, Debug.DEFAULTS);
+
+    /**
+     * 設定からスナップショットを構築します
+     *
+     * @param config 設定（nullの場合はデフォルト値）
+     * @return スナップショット
+     */
+    @NotNull
+    public static MainSettings from(@Nullable ConfigurationSection config) {
+        if (config == null) {
+            return DEFAULTS;
+        }
+        return new MainSettings(
+                ExpDiminish.from(config.getConfigurationSection("exp_diminish")),
+                LevelUp.from(config.getConfigurationSection("level_up")),
+                Debug.from(config.getConfigurationSection("debug"))
+        );
+    }
+
+    /**
+     * 経験値減衰設定
+     *
+     * @param enabled 減衰システムが有効か
+     * @param exemptPlayerKills プレイヤーキルの経験値を除外するか
+     * @param exemptBossMobs ボスモブの経験値を除外するか
+     * @param exemptEventRewards イベント報酬を除外するか
+     */
+    public record ExpDiminish(
+            boolean enabled,
+            boolean exemptPlayerKills,
+            boolean exemptBossMobs,
+            boolean exemptEventRewards
+    ) {
+
+        /**
+         * デフォルト値
+         */
+        public static final ExpDiminish DEFAULTS = new ExpDiminish(true, true, true, true);
+
+        /**
+         * exp_diminish セクションから構築します
+         *
+         * @param section セクション（nullの場合はデフォルト値）
+         * @return 設定
+         */
+        @NotNull
+        public static ExpDiminish from(@Nullable ConfigurationSection section) {
+            if (section == null) {
+                return DEFAULTS;
+            }
+            return new ExpDiminish(
+                    section.getBoolean("enabled", DEFAULTS.enabled),
+                    section.getBoolean("exemptions.player_kills", DEFAULTS.exemptPlayerKills),
+                    section.getBoolean("exemptions.boss_mobs", DEFAULTS.exemptBossMobs),
+                    section.getBoolean("exemptions.event_rewards", DEFAULTS.exemptEventRewards)
+            );
+        }
+    }
+
+    /**
+     * レベルアップ演出設定
+     *
+     * @param showTitle タイトルを表示するか
+     * @param playSound サウンドを再生するか
+     */
+    public record LevelUp(boolean showTitle, boolean playSound) {
+
+        /**
+         * デフォルト値
+         */
+        public static final LevelUp DEFAULTS = new LevelUp(true, true);
+
+        /**
+         * level_up セクションから構築します
+         *
+         * @param section セクション（nullの場合はデフォルト値）
+         * @return 設定
+         */
+        @NotNull
+        public static LevelUp from(@Nullable ConfigurationSection section) {
+            if (section == null) {
+                return DEFAULTS;
+            }
+            return new LevelUp(
+                    section.getBoolean("show_title", DEFAULTS.showTitle),
+                    section.getBoolean("play_sound", DEFAULTS.playSound)
+            );
+        }
+    }
+
+    /**
+     * デバッグ設定
+     *
+     * @param logExpChanges 経験値変化をログ出力するか
+     * @param logExpDiminish 経験値減衰をログ出力するか
+     */
+    public record Debug(boolean logExpChanges, boolean logExpDiminish) {
+
+        /**
+         * デフォルト値
+         */
+        public static final Debug DEFAULTS = new Debug(false, false);
+
+        /**
+         * debug セクションから構築します
+         *
+         * @param section セクション（nullの場合はデフォルト値）
+         * @return 設定
+         */
+        @NotNull
+        public static Debug from(@Nullable ConfigurationSection section) {
+            if (section == null) {
+                return DEFAULTS;
+            }
+            return new Debug(
+                    section.getBoolean("log_exp_changes", DEFAULTS.logExpChanges),
+                    section.getBoolean("log_exp_diminish", DEFAULTS.logExpDiminish)
+            );
+        }
+    }
+}
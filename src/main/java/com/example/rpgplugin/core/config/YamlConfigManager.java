@@ -24,6 +24,11 @@ import java.util.logging.Logger;
  */
 public class YamlConfigManager {
 
+    /**
+     * メイン設定（config.yml）の設定名
+     */
+    public static final String MAIN = "main";
+
     private final Plugin plugin;
     private final Logger logger;
     private final File dataFolder;
@@ -36,6 +41,9 @@ public class YamlConfigManager {
     // リロードリスナー
     private final Map<String, List<Consumer<FileConfiguration>>> reloadListeners;
 
+    // メイン設定のスナップショット（読み込み・リロード時に差し替え）
+    private volatile MainSettings mainSettings = MainSettings.DEFAULTS;
+
     /**
      * コンストラクタ
      *
@@ -115,6 +123,7 @@ public class YamlConfigManager {
 
         configs.put(name, config);
         configFiles.put(name, file);
+        refreshSnapshot(name);
 
         logger.info("Loaded config: " + name + " from " + path);
         return true;
@@ -141,6 +150,7 @@ public class YamlConfigManager {
         }
 
         configs.put(name, newConfig);
+        refreshSnapshot(name);
 
         // リロードリスナーを通知
         notifyReloadListeners(name, newConfig);
@@ -207,6 +217,7 @@ public class YamlConfigManager {
 
             mergeSections(target, source, "");
         }
+        refreshSnapshot(targetName);
 
         logger.info("Merged configs into: " + targetName);
         return true;
@@ -356,6 +367,7 @@ public class YamlConfigManager {
         FileConfiguration config = configs.get(name);
         if (config != null) {
             config.set(path, value);
+            refreshSnapshot(name);
         }
     }
 
@@ -384,6 +396,30 @@ public class YamlConfigManager {
         return config != null ? config.getKeys(deep) : new HashSet<>();
     }
 
+    /**
+     * メイン設定のスナップショットを取得します
+     *
+     * <p>イベントハンドラーなど頻繁に呼ばれる箇所では、
+     * {@link #getBoolean(String, String, boolean)} によるパス検索の代わりにこちらを使用してください。</p>
+     *
+     * @return メイン設定のスナップショット、未読み込みの場合はデフォルト値
+     */
+    @NotNull
+    public MainSettings getMainSettings() {
+        return mainSettings;
+    }
+
+    /**
+     * 設定名に対応するスナップショットを再構築します
+     *
+     * @param name 設定名
+     */
+    private void refreshSnapshot(@NotNull String name) {
+        if (MAIN.equals(name)) {
+            mainSettings = MainSettings.from(configs.get(name));
+        }
+    }
+
     /**
      * リロードリスナーを登録します
      *
@@ -433,6 +469,7 @@ public class YamlConfigManager {
         configs.remove(name);
         configFiles.remove(name);
         reloadListeners.remove(name);
+        refreshSnapshot(name);
         logger.info("Unloaded config: " + name);
     }
 
@@ -443,6 +480,7 @@ public class YamlConfigManager {
         configs.clear();
         configFiles.clear();
         reloadListeners.clear();
+        mainSettings = MainSettings.DEFAULTS;
         logger.info("Unloaded all configs");
     }
 
@@ -0,0 +1,422 @@
+package com.example.rpgplugin.core.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * YAML解析結果のバイナリキャッシュ
+ *
+ * <p>YAMLファイルの内容をSHA-256でハッシュ化し、解析済みのツリー（セクション・リスト・スカラー）を
+ * 独自のバイナリ形式で保存します。内容が変わっていないファイルはSnakeYAMLによる解析を行わず、
+ * キャッシュからFileConfigurationを復元します。</p>
+ *
+ * <p>{@link #load(File)} は複数スレッドから同時に呼び出せます。
+ * 文字列・数値・真偽値・マップ・リスト以外の値を含むファイルはキャッシュ対象外となり、毎回解析されます。</p>
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+public class YamlParseCache {
+
+    private static final int MAGIC = 0x52504743;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_BOOLEAN = 5;
+    private static final byte TAG_MAP = 6;
+    private static final byte TAG_LIST = 7;
+
+    /** キャッシュできない値を示すマーカー */
+    private static final Object UNSUPPORTED = new Object();
+
+    private final Logger logger;
+    private final File cacheFile;
+
+    /** 内容ハッシュ → 解析済みツリー（前回保存分を含む） */
+    private final Map<String, Map<String, Object>> entries = new ConcurrentHashMap<>();
+
+    /** 今回の読み込みで参照されたハッシュ（保存時にこれ以外は破棄） */
+    private final Set<String> used = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * コンストラクタ
+     *
+     * @param logger ロガー
+     * @param cacheFile キャッシュファイル
+     */
+    public YamlParseCache(@NotNull Logger logger, @NotNull File cacheFile) {
+        this.logger = logger;
+        this.cacheFile = cacheFile;
+        readCacheFile();
+    }
+
+    /**
+     * YAMLファイルを読み込みます
+     *
+     * <p>内容ハッシュがキャッシュに存在すれば解析を省略して復元します。</p>
+     *
+     * @param file YAMLファイル
+     * @return FileConfiguration、読み込みまたは解析に失敗した場合はnull
+     */
+    @Nullable
+    public FileConfiguration load(@NotNull File file) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Failed to read YAML file: " + file.getPath(), e);
+            return null;
+        }
+
+        String hash = hash(content);
+        used.add(hash);
+
+        Map<String, Object> cached = entries.get(hash);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return fromTree(cached);
+        }
+
+        misses.incrementAndGet();
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(new String(content, StandardCharsets.UTF_8));
+        } catch (InvalidConfigurationException e) {
+            logger.log(Level.SEVERE, "Failed to load YAML file: " + file.getPath(), e);
+            return null;
+        }
+
+        Map<String, Object> tree = toTree(config);
+        if (tree != null) {
+            entries.put(hash, tree);
+        }
+        return config;
+    }
+
+    /**
+     * 今回参照されたエントリーのみをキャッシュファイルへ書き出します
+     *
+     * <p>削除・変更されたファイルの古いエントリーはここで破棄されます。</p>
+     *
+     * @return 成功した場合はtrue
+     */
+    public boolean save() {
+        entries.keySet().retainAll(used);
+
+        Path target = cacheFile.toPath();
+        Path temp = target.resolveSibling(cacheFile.getName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                List<Map.Entry<String, Map<String, Object>>> snapshot = new ArrayList<>(entries.entrySet());
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Map<String, Object>> entry : snapshot) {
+                    writeString(out, entry.getKey());
+                    writeValue(out, entry.getValue());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write parse cache: " + cacheFile.getPath(), e);
+            return false;
+        }
+    }
+
+    /**
+     * キャッシュから復元された件数を取得します
+     *
+     * @return ヒット数
+     */
+    public int getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * YAMLを解析した件数を取得します
+     *
+     * @return ミス数
+     */
+    public int getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * 保持しているエントリー数を取得します
+     *
+     * @return エントリー数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    // ============================================================
+    // ツリー変換
+    // ============================================================
+
+    /**
+     * セクションをキャッシュ可能なツリーに変換します
+     *
+     * @param section セクション
+     * @return ツリー、キャッシュできない値を含む場合はnull
+     */
+    @Nullable
+    private static Map<String, Object> toTree(@NotNull ConfigurationSection section) {
+        Map<String, Object> tree = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : section.getValues(false).entrySet()) {
+            Object value = toTreeValue(entry.getValue());
+            if (value == UNSUPPORTED) {
+                return null;
+            }
+            tree.put(entry.getKey(), value);
+        }
+        return tree;
+    }
+
+    private static Object toTreeValue(Object value) {
+        if (value instanceof ConfigurationSection section) {
+            Map<String, Object> tree = toTree(section);
+            return tree != null ? tree : UNSUPPORTED;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> tree = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object converted = toTreeValue(entry.getValue());
+                if (!(entry.getKey() instanceof String key) || converted == UNSUPPORTED) {
+                    return UNSUPPORTED;
+                }
+                tree.put(key, converted);
+            }
+            return tree;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> tree = new ArrayList<>(list.size());
+            for (Object element : list) {
+                Object converted = toTreeValue(element);
+                if (converted == UNSUPPORTED) {
+                    return UNSUPPORTED;
+                }
+                tree.add(converted);
+            }
+            return tree;
+        }
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof Boolean) {
+            return value;
+        }
+        return UNSUPPORTED;
+    }
+
+    /**
+     * ツリーからFileConfigurationを復元します
+     *
+     * <p>セクション直下のマップは {@link ConfigurationSection#createSection(String)} でセクションとして
+     * 再構築し、リスト内のマップは生のマップのまま保持します（YAMLから直接読み込んだ場合と同じ構造）。
+     * {@code set(path, Map)} はマップをセクションに変換しないため使用しません。</p>
+     *
+     * @param tree ツリー
+     * @return 復元した設定
+     */
+    @NotNull
+    private static FileConfiguration fromTree(@NotNull Map<String, Object> tree) {
+        YamlConfiguration config = new YamlConfiguration();
+        restoreSection(config, tree);
+        return config;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void restoreSection(@NotNull ConfigurationSection section, @NotNull Map<String, Object> tree) {
+        for (Map.Entry<String, Object> entry : tree.entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> child) {
+                restoreSection(section.createSection(entry.getKey()), (Map<String, Object>) child);
+            } else {
+                section.set(entry.getKey(), copyValue(entry.getValue()));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) map).entrySet()) {
+                copy.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    // ============================================================
+    // バイナリ入出力
+    // ============================================================
+
+    private void readCacheFile() {
+        if (!cacheFile.isFile()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                logger.info("Ignoring parse cache with unknown format: " + cacheFile.getPath());
+                return;
+            }
+            int count = in.readInt();
+            Map<String, Map<String, Object>> loaded = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String hash = readString(in);
+                if (!(readValue(in) instanceof Map<?, ?> tree)) {
+                    throw new IOException("Corrupt entry at index " + i);
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> typed = (Map<String, Object>) tree;
+                loaded.put(hash, typed);
+            }
+            entries.putAll(loaded);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Discarding unreadable parse cache: " + cacheFile.getPath(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(TAG_STRING);
+            writeString(out, s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(TAG_INT);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Double d) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) map).entrySet()) {
+                writeString(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else {
+            throw new IOException("Unsupported value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_INT:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_MAP: {
+                int size = in.readInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+                    map.put(key, readValue(in));
+                }
+                return map;
+            }
+            case TAG_LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            default:
+                throw new IOException("Unknown tag: " + tag);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.rpgplugin.core.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 期限管理サービス
+ *
+ * <p>時限ステータス修正値・テンポラリ変数・パッシブ効果の更新など、
+ * 期限付きの処理を1つの {@link TimingWheel} にまとめて管理します。
+ * 要素ごとにBukkitタスクを作らず、サーバーティックごとに {@link #tick()} を1回呼び出します。</p>
+ *
+ * <p>登録とキャンセルは任意のスレッドから行えます。期限切れタスクは {@link #tick()} を呼んだスレッドで、
+ * ホイールのロックを解放してから実行されます。</p>
+ */
+public final class ExpiryService {
+
+    /** 1ティックのミリ秒 */
+    public static final long MILLIS_PER_TICK = 50L;
+
+    private final Logger logger;
+    private final TimingWheel wheel = new TimingWheel();
+    private final List<TimingWheel.Timeout> expired = new ArrayList<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param logger ロガー
+     */
+    public ExpiryService(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * ミリ秒をティックに変換します（切り上げ）
+     *
+     * @param millis ミリ秒
+     * @return ティック数（最小1）
+     */
+    public static long millisToTicks(long millis) {
+        return Math.max(1L, (millis + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK);
+    }
+
+    /**
+     * ティック数を指定してタスクを登録します
+     *
+     * @param delayTicks 遅延（ティック）
+     * @param task タスク
+     * @return キャンセル用のハンドル
+     */
+    public TimingWheel.Timeout schedule(long delayTicks, Runnable task) {
+        return wheel.schedule(delayTicks, task);
+    }
+
+    /**
+     * ミリ秒を指定してタスクを登録します
+     *
+     * <p>ティック境界に切り上げるため、実行は指定時間の経過後になります。</p>
+     *
+     * @param delayMillis 遅延（ミリ秒）
+     * @param task タスク
+     * @return キャンセル用のハンドル
+     */
+    public TimingWheel.Timeout scheduleMillis(long delayMillis, Runnable task) {
+        return wheel.schedule(millisToTicks(delayMillis), task);
+    }
+
+    /**
+     * 1ティック進め、期限切れのタスクを実行します
+     *
+     * <p>サーバーのメインスレッドから毎ティック呼び出してください。</p>
+     */
+    public void tick() {
+        wheel.advance(expired::add);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        for (TimingWheel.Timeout timeout : expired) {
+            try {
+                timeout.getTask().run();
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Expiry task failed", e);
+            }
+        }
+        expired.clear();
+    }
+
+    /**
+     * 登録中のタスク数を取得します
+     *
+     * @return タスク数
+     */
+    public int size() {
+        return wheel.size();
+    }
+
+    /**
+     * 全タスクを破棄します
+     */
+    public void clear() {
+        wheel.clear();
+    }
+}
@@ -0,0 +1,376 @@
+package com.example.rpgplugin.core.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * スキル実行スケジューラー
+ *
+ * <p>遅延メカニックやチャネリング完了、スキル発動時のダメージ適用などを
+ * ティック単位でキューに積み、1ティックあたりの時間予算内で実行します。</p>
+ *
+ * <ul>
+ *   <li>遅延付きのタスクは {@link TimingWheel} で管理し、期限到達で実行キューへ移す</li>
+ *   <li>実行キューは優先度別。ダメージ→効果の順に処理する</li>
+ *   <li>予算を超えた分は次のティックへ持ち越す（同じ優先度の中では登録順に処理される）</li>
+ *   <li>各ティックで最低1件は実行するため、予算が極端に小さくても処理は止まらない</li>
+ *   <li>{@link #runOrSubmit(Priority, Runnable)} は予算が残っていればその場で実行し、超過分だけを持ち越す</li>
+ * </ul>
+ *
+ * <p>登録とキャンセルは任意のスレッドから行えます。タスクは {@link #tick()} を呼んだスレッドで実行されます。
+ * {@link #tick()} と {@link #runOrSubmit(Priority, Runnable)} はメインスレッドから呼び出してください。</p>
+ */
+public final class SkillScheduler {
+
+    private final Logger logger;
+    private final long budgetNanos;
+    private final LongSupplier nanoClock;
+    private final TimingWheel wheel = new TimingWheel();
+    private final List<TimingWheel.Timeout> expired = new ArrayList<>();
+    private final ArrayDeque<ScheduledTask>[] queues;
+
+    /** 前回の {@link #tick()} 以降に使った時間（メインスレッドのみ） */
+    private long spentNanos;
+
+    private long executedCount;
+    private long inlineCount;
+    private long deferredCount;
+    private int lastDeferred;
+    private long lastTickNanos;
+
+    /**
+     * コンストラクタ
+     *
+     * @param logger ロガー
+     * @param budgetNanos 1ティックあたりの予算（ナノ秒）
+     */
+    public SkillScheduler(Logger logger, long budgetNanos) {
+        this(logger, budgetNanos, System::nanoTime);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param logger ロガー
+     * @param budgetNanos 1ティックあたりの予算（ナノ秒）
+     * @param nanoClock 経過時間の計測に使うクロック
+     */
+    @SuppressWarnings("unchecked")
+    public SkillScheduler(Logger logger, long budgetNanos, LongSupplier nanoClock) {
+        this.logger = logger;
+        this.budgetNanos = Math.max(0L, budgetNanos);
+        this.nanoClock = nanoClock;
+        this.queues = new ArrayDeque[Priority.values().length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 次の {@link #tick()} で実行するタスクを登録します
+     *
+     * @param priority 優先度
+     * @param task タスク
+     * @return キャンセル用のハンドル
+     */
+    public ScheduledTask submit(Priority priority, Runnable task) {
+        ScheduledTask scheduled = new ScheduledTask(priority, task);
+        enqueue(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * 現在のティックの予算が残っていればタスクをその場で実行し、超過していれば次の {@link #tick()} へ持ち越します
+     *
+     * <p>同じ優先度以上のタスクが持ち越し中の場合は、順序を保つため実行せずに登録します。
+     * その場で実行した時間は現在のティックの予算から差し引かれます。</p>
+     *
+     * @param priority 優先度
+     * @param task タスク
+     * @return その場で実行した場合はtrue、持ち越した場合はfalse
+     */
+    public boolean runOrSubmit(Priority priority, Runnable task) {
+        if (spentNanos >= budgetNanos || hasPending(priority)) {
+            submit(priority, task);
+            return false;
+        }
+
+        long start = nanoClock.getAsLong();
+        try {
+            task.run();
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Skill task failed (" + priority + ")", e);
+        } finally {
+            spentNanos += nanoClock.getAsLong() - start;
+        }
+        synchronized (this) {
+            executedCount++;
+            inlineCount++;
+        }
+        return true;
+    }
+
+    /**
+     * ティック数を指定してタスクを登録します
+     *
+     * @param delayTicks 遅延（ティック）、1未満は次のティック
+     * @param priority 優先度
+     * @param task タスク
+     * @return キャンセル用のハンドル
+     */
+    public ScheduledTask schedule(long delayTicks, Priority priority, Runnable task) {
+        ScheduledTask scheduled = new ScheduledTask(priority, task);
+        scheduled.timeout = wheel.schedule(delayTicks, () -> enqueue(scheduled));
+        return scheduled;
+    }
+
+    /**
+     * 1ティック進め、期限到達分と持ち越し分のタスクを予算内で実行します
+     *
+     * <p>サーバーのメインスレッドから毎ティック呼び出してください。</p>
+     */
+    public void tick() {
+        wheel.advance(expired::add);
+        for (TimingWheel.Timeout timeout : expired) {
+            timeout.getTask().run();
+        }
+        expired.clear();
+
+        long start = nanoClock.getAsLong();
+        int executed = 0;
+        for (;;) {
+            ScheduledTask task = poll();
+            if (task == null) {
+                break;
+            }
+            if (task.cancelled) {
+                continue;
+            }
+            task.done = true;
+            try {
+                task.task.run();
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Skill task failed (" + task.priority + ")", e);
+            }
+            executed++;
+            if (nanoClock.getAsLong() - start >= budgetNanos) {
+                break;
+            }
+        }
+        long elapsed = nanoClock.getAsLong() - start;
+        spentNanos = elapsed;
+
+        synchronized (this) {
+            int remaining = pendingCount();
+            executedCount += executed;
+            lastDeferred = remaining;
+            deferredCount += remaining;
+            lastTickNanos = elapsed;
+        }
+    }
+
+    /**
+     * 実行待ちのタスク数を取得します（遅延中のタスクは含まない）
+     *
+     * @return 実行キューの長さ
+     */
+    public synchronized int getQueueDepth() {
+        return pendingCount();
+    }
+
+    /**
+     * 優先度別の実行待ちタスク数を取得します
+     *
+     * @param priority 優先度
+     * @return 実行キューの長さ
+     */
+    public synchronized int getQueueDepth(Priority priority) {
+        return queues[priority.ordinal()].size();
+    }
+
+    /**
+     * 遅延中のタスク数を取得します
+     *
+     * @return 期限待ちのタスク数
+     */
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    /**
+     * 累計の実行タスク数を取得します
+     *
+     * @return 実行タスク数
+     */
+    public synchronized long getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * 累計のその場で実行したタスク数を取得します
+     *
+     * @return {@link #runOrSubmit(Priority, Runnable)} で持ち越さずに実行したタスク数
+     */
+    public synchronized long getInlineCount() {
+        return inlineCount;
+    }
+
+    /**
+     * 累計の持ち越しタスク数を取得します
+     *
+     * <p>予算超過で次のティックへ持ち越したタスク数を、ティックごとに加算した値です。</p>
+     *
+     * @return 持ち越しタスク数
+     */
+    public synchronized long getDeferredCount() {
+        return deferredCount;
+    }
+
+    /**
+     * 直前のティックで持ち越したタスク数を取得します
+     *
+     * @return 持ち越しタスク数
+     */
+    public synchronized int getLastDeferred() {
+        return lastDeferred;
+    }
+
+    /**
+     * 直前のティックでタスク実行に使った時間を取得します
+     *
+     * @return 経過時間（ナノ秒）
+     */
+    public synchronized long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * 実行統計をログに出力します
+     *
+     * <p>{@code debug.performance_logging} が有効な場合に定期的に呼び出されます。</p>
+     */
+    public void logStats() {
+        String stats;
+        synchronized (this) {
+            stats = String.format("executed=%d (inline=%d), deferred=%d, lastDeferred=%d, queue=%d, lastTick=%.2fms",
+                    executedCount, inlineCount, deferredCount, lastDeferred, pendingCount(), lastTickNanos / 1_000_000.0);
+        }
+        logger.info("[SkillScheduler] " + stats + ", scheduled=" + getScheduledCount());
+    }
+
+    /**
+     * 全タスクを破棄します
+     */
+    public void clear() {
+        wheel.clear();
+        synchronized (this) {
+            for (ArrayDeque<ScheduledTask> queue : queues) {
+                for (ScheduledTask task : queue) {
+                    task.cancelled = true;
+                }
+                queue.clear();
+            }
+        }
+    }
+
+    private synchronized void enqueue(ScheduledTask task) {
+        if (!task.cancelled) {
+            queues[task.priority.ordinal()].addLast(task);
+        }
+    }
+
+    private synchronized ScheduledTask poll() {
+        for (ArrayDeque<ScheduledTask> queue : queues) {
+            ScheduledTask task = queue.pollFirst();
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private synchronized boolean hasPending(Priority priority) {
+        for (int i = 0; i <= priority.ordinal(); i++) {
+            if (!queues[i].isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int pendingCount() {
+        int count = 0;
+        for (ArrayDeque<ScheduledTask> queue : queues) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    /**
+     * タスクの優先度（宣言順に実行）
+     */
+    public enum Priority {
+        /** ダメージ適用 */
+        DAMAGE,
+        /** ダメージ以外の効果（遅延・チャネリング後の子コンポーネントなど） */
+        EFFECT
+    }
+
+    /**
+     * 登録済みタスクのハンドル
+     */
+    public static final class ScheduledTask {
+        private final Priority priority;
+        private final Runnable task;
+        private volatile TimingWheel.Timeout timeout;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+
+        private ScheduledTask(Priority priority, Runnable task) {
+            if (priority == null || task == null) {
+                throw new IllegalArgumentException("Priority and task cannot be null");
+            }
+            this.priority = priority;
+            this.task = task;
+        }
+
+        /**
+         * タスクをキャンセルします
+         *
+         * @return キャンセルできた場合はtrue（実行済み・キャンセル済みの場合はfalse）
+         */
+        public boolean cancel() {
+            if (cancelled || done) {
+                return false;
+            }
+            cancelled = true;
+            TimingWheel.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+            return true;
+        }
+
+        /**
+         * 未実行かつ未キャンセルか確認します
+         *
+         * @return 待機中の場合はtrue
+         */
+        public boolean isPending() {
+            return !cancelled && !done;
+        }
+
+        /**
+         * 優先度を取得します
+         *
+         * @return 優先度
+         */
+        public Priority getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.rpgplugin.core.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * 階層タイミングホイール
+ *
+ * <p>期限（ティック）付きのタスクを64スロット×4階層のホイールで管理します。</p>
+ *
+ * <ul>
+ *   <li>登録・キャンセルはO(1)（スロット内は双方向リンク）</li>
+ *   <li>1ティックの進行で処理するのは現在スロットのみ。上位階層は下位が一周したときに下位へ振り直す</li>
+ *   <li>最上位（2^24ティック ≒ 9.7日）を超える期限は最上位に置き、振り直しのたびに再配置する</li>
+ * </ul>
+ *
+ * <p>全操作はこのインスタンスで同期するため、任意のスレッドから登録・キャンセルできます。
+ * 期限切れタスクはロック外で実行できるよう、{@link #advance(Consumer)} の呼び出し元へ渡します。</p>
+ */
+public final class TimingWheel {
+
+    private static final int LEVEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final Timeout[][] slots = new Timeout[LEVELS][WHEEL_SIZE];
+    private long currentTick;
+    private int size;
+
+    /**
+     * タスクを登録します
+     *
+     * @param delayTicks 遅延（ティック）、1未満は次のティック
+     * @param task 期限到達時に実行するタスク
+     * @return キャンセル用のハンドル
+     */
+    public synchronized Timeout schedule(long delayTicks, Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        Timeout timeout = new Timeout(this, currentTick + Math.max(1L, delayTicks), task);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 1ティック進めます
+     *
+     * @param expired 期限切れタスクを受け取るコンシューマー（ロック保持中に呼ばれるため、実行はしないこと）
+     */
+    public synchronized void advance(Consumer<Timeout> expired) {
+        currentTick++;
+
+        // 下位ホイールが一周した階層を上位から順に振り直す
+        int topLevel = 0;
+        while (topLevel + 1 < LEVELS && (currentTick & ((1L << (LEVEL_BITS * (topLevel + 1))) - 1)) == 0) {
+            topLevel++;
+        }
+        for (int level = topLevel; level >= 1; level--) {
+            cascade(level, (int) ((currentTick >>> (LEVEL_BITS * level)) & SLOT_MASK));
+        }
+
+        int slot = (int) (currentTick & SLOT_MASK);
+        Timeout timeout = detach(0, slot);
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            if (timeout.deadline <= currentTick) {
+                timeout.state = Timeout.EXPIRED;
+                size--;
+                expired.accept(timeout);
+            } else {
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * 全タスクを破棄します
+     */
+    public synchronized void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                Timeout timeout = detach(level, slot);
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    timeout.prev = null;
+                    timeout.next = null;
+                    timeout.state = Timeout.CANCELLED;
+                    timeout = next;
+                }
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * 登録中のタスク数を取得します
+     *
+     * @return タスク数
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 現在のティックを取得します
+     *
+     * @return 現在のティック
+     */
+    public synchronized long getCurrentTick() {
+        return currentTick;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout timeout = detach(level, slot);
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long delta = Math.max(0L, timeout.deadline - currentTick);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (LEVEL_BITS * (level + 1)))) {
+            level++;
+        }
+
+        // 振り直し時に期限が現在ティック以前のものは、このティックのスロットで処理
+        long target = Math.max(timeout.deadline, currentTick);
+        int slot = (int) ((target >>> (LEVEL_BITS * level)) & SLOT_MASK);
+
+        Timeout head = slots[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+    }
+
+    private Timeout detach(int level, int slot) {
+        Timeout head = slots[level][slot];
+        slots[level][slot] = null;
+        return head;
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return false;
+        }
+        timeout.state = Timeout.CANCELLED;
+
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else if (slots[timeout.level][timeout.slot] == timeout) {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * 登録済みタスクのハンドル
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimingWheel wheel;
+        private final long deadline;
+        private final Runnable task;
+        private Timeout prev;
+        private Timeout next;
+        private int level;
+        private int slot;
+        private int state = PENDING;
+
+        private Timeout(TimingWheel wheel, long deadline, Runnable task) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * タスクをキャンセルします
+         *
+         * @return キャンセルできた場合はtrue（期限切れ・キャンセル済みの場合はfalse）
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        /**
+         * 期限のティックを取得します
+         *
+         * @return 期限のティック
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * 期限切れ時に実行するタスクを取得します
+         *
+         * @return タスク
+         */
+        public Runnable getTask() {
+            return task;
+        }
+
+        /**
+         * 未実行かつ未キャンセルか確認します
+         *
+         * @return 待機中の場合はtrue
+         */
+        public boolean isPending() {
+            synchronized (wheel) {
+                return state == PENDING;
+            }
+        }
+    }
+}
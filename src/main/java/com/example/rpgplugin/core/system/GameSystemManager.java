@@ -7,7 +7,12 @@ import com.example.rpgplugin.skill.SkillManager;
 import com.example.rpgplugin.rpgclass.ClassManager;
 import com.example.rpgplugin.damage.DamageManager;
 import com.example.rpgplugin.player.exp.ExpManager;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
+import com.example.rpgplugin.core.scheduler.SkillScheduler;
 import com.example.rpgplugin.core.validation.ConsistencyValidator;
+import com.example.rpgplugin.skill.component.mechanic.CosmeticBatcher;
+import com.example.rpgplugin.skill.target.EntitySpatialIndex;
+import org.bukkit.Bukkit;
 
 import java.util.Map;
 
@@ -21,6 +26,7 @@ import java.util.Map;
  * - クラスシステム（ClassManager）
  * - ダメージシステム（DamageManager）
  * - 経験値システム（ExpManager）
+ * - ティック駆動サービス（ExpiryService、SkillScheduler、CosmeticBatcher、EntitySpatialIndex）
  *
  * Single Responsibility: ゲームプレイ関連機能の統合管理
  *
@@ -35,6 +41,9 @@ import java.util.Map;
 public class GameSystemManager {
     private final RPGPlugin plugin;
 
+    // 時限修正値・テンポラリ変数・パッシブ更新の期限管理
+    private final ExpiryService expiryService;
+
     // プレイヤーシステム
     private final PlayerManager playerManager;
 
@@ -44,6 +53,15 @@ public class GameSystemManager {
     // クラスシステム
     private final ClassManager classManager;
 
+    // 遅延・チャネリング・ダメージ適用をティック予算内で実行するスケジューラー
+    private final SkillScheduler skillScheduler;
+
+    // パーティクル・サウンドの一括送信（ティック終了時に送信）
+    private final CosmeticBatcher cosmeticBatcher;
+
+    // ターゲット選択用の空間インデックス
+    private final EntitySpatialIndex entitySpatialIndex;
+
     // スキルシステム
     private final SkillManager skillManager;
     private final com.example.rpgplugin.model.skill.SkillConfig skillConfig;
@@ -73,21 +91,39 @@ public class GameSystemManager {
         this.plugin = plugin;
 
         // 依存関係を考慮してインスタンス化
+        // 0. 期限管理サービス・スキル実行スケジューラー・演出バッチャー（ティック駆動はRPGPluginが登録）
+        this.expiryService = new ExpiryService(plugin.getLogger());
+        long skillTickBudgetNanos =
+                (long) (plugin.getConfig().getDouble("skills.scheduler.tick_budget_ms", 5.0) * 1_000_000L);
+        this.skillScheduler = new SkillScheduler(plugin.getLogger(), skillTickBudgetNanos);
+        this.cosmeticBatcher = new CosmeticBatcher(
+                plugin.getLogger(), plugin.getConfig().getDouble("skills.effects.view_distance", 32.0));
+
         // 1. PlayerManager（最初に初期化）
-        this.playerManager = new PlayerManager(plugin, coreSystem.getStorageManager().getPlayerDataRepository());
-        this.statManager = new StatManager();
+        this.playerManager = new PlayerManager(
+                plugin,
+                coreSystem.getStorageManager().getPlayerDataRepository(),
+                coreSystem.getStorageManager().getWriteBehindFlusher(),
+                coreSystem.getStorageManager().getCacheRepository(),
+                expiryService);
+        this.statManager = new StatManager(10, 0, expiryService);
         this.classManager = new ClassManager(playerManager);
 
         // 2. ExpManager（PlayerManagerとClassManagerに依存）
         this.expManager = new ExpManager(plugin, playerManager, classManager);
 
         // 3. その他のマネージャー
-        this.skillManager = new SkillManager(plugin, playerManager);
+        // ティックごとに最初の検索で再構築される
+        this.entitySpatialIndex = new EntitySpatialIndex(Bukkit::getCurrentTick);
+        this.skillManager = new SkillManager(
+                plugin, playerManager, coreSystem.getStorageManager().getPlayerSkillRepository(), entitySpatialIndex);
         this.skillConfig = new com.example.rpgplugin.model.skill.SkillConfig(plugin, skillManager);
-        this.activeSkillExecutor = new com.example.rpgplugin.skill.executor.ActiveSkillExecutor(plugin, skillManager, playerManager);
-        this.passiveSkillExecutor = new com.example.rpgplugin.skill.executor.PassiveSkillExecutor(plugin, skillManager, playerManager);
+        this.activeSkillExecutor = new com.example.rpgplugin.skill.executor.ActiveSkillExecutor(
+                plugin, skillManager, playerManager, entitySpatialIndex, skillScheduler);
+        this.passiveSkillExecutor = new com.example.rpgplugin.skill.executor.PassiveSkillExecutor(
+                plugin, skillManager, playerManager, expiryService);
         // DamageManagerはPlayerManagerに依存するため、初期化順序を考慮して渡す
-        this.damageManager = new DamageManager(plugin, playerManager);
+        this.damageManager = new DamageManager(plugin, playerManager, expiryService);
 
         // 4. ローダー（リロード用）
         this.classLoader = new com.example.rpgplugin.rpgclass.ClassLoader(plugin, playerManager);
@@ -142,11 +178,24 @@ public class GameSystemManager {
     public void shutdown() {
         plugin.getLogger().info("[GameSystem] シャットダウンを開始します");
         expManager.shutdown();
+        skillManager.saveAllPlayerData();
+        expiryService.clear();
+        skillScheduler.clear();
+        cosmeticBatcher.clear();
         plugin.getLogger().info("[GameSystem] シャットダウンが完了しました");
     }
 
     // Getter メソッド（後方互換性）
 
+    /**
+     * 期限管理サービスを取得する
+     *
+     * @return ExpiryService 期限管理サービス
+     */
+    public ExpiryService getExpiryService() {
+        return expiryService;
+    }
+
     /**
      * プレイヤーマネージャーを取得する
      *
@@ -174,6 +223,33 @@ public class GameSystemManager {
         return classManager;
     }
 
+    /**
+     * スキル実行スケジューラーを取得する
+     *
+     * @return SkillScheduler スキル実行スケジューラー
+     */
+    public SkillScheduler getSkillScheduler() {
+        return skillScheduler;
+    }
+
+    /**
+     * パーティクル・サウンドの一括送信を取得する
+     *
+     * @return CosmeticBatcher 演出バッチャー
+     */
+    public CosmeticBatcher getCosmeticBatcher() {
+        return cosmeticBatcher;
+    }
+
+    /**
+     * ターゲット選択用の空間インデックスを取得する
+     *
+     * @return EntitySpatialIndex 空間インデックス
+     */
+    public EntitySpatialIndex getEntitySpatialIndex() {
+        return entitySpatialIndex;
+    }
+
     /**
      * スキルマネージャーを取得する
      *
@@ -1,6 +1,7 @@
 package com.example.rpgplugin.damage;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
 import com.example.rpgplugin.damage.config.DamageConfig;
 import com.example.rpgplugin.damage.config.DamageConfigLoader;
 import com.example.rpgplugin.damage.config.VariableScopeManager;
@@ -68,6 +69,17 @@ public class DamageManager implements Listener {
      * @param playerManager プレイヤーマネージャー
      */
     public DamageManager(RPGPlugin plugin, PlayerManager playerManager) {
+        this(plugin, playerManager, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param playerManager プレイヤーマネージャー
+     * @param expiryService テンポラリ変数の期限管理サービス（nullの場合は期限で自動削除しない）
+     */
+    public DamageManager(RPGPlugin plugin, PlayerManager playerManager, ExpiryService expiryService) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.playerDamageHandler = new PlayerDamageHandler(playerManager, logger);
@@ -75,7 +87,7 @@ public class DamageManager implements Listener {
         this.enabled = true;
 
         // YAMLダメージ設定を初期化
-        this.scopeManager = new VariableScopeManager();
+        this.scopeManager = new VariableScopeManager(null, expiryService);
         this.configLoader = new DamageConfigLoader(logger, plugin.getDataFolder());
         this.yamlCalculator = null; // loadConfig()で初期化
     }
@@ -1,5 +1,6 @@
 package com.example.rpgplugin.damage.config;
 
+import com.example.rpgplugin.skill.evaluator.ConstantTable;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.*;
@@ -9,6 +10,9 @@ import java.util.*;
  *
  * <p>damage_config.ymlから読み込んだ設定を保持します。</p>
  *
+ * <p>構築時にクラスごとの {@link ClassView}（イベント設定・定数をマージ済み）を作成するため、
+ * ダメージ計算時にマップのコピーや多段の検索は発生しません。</p>
+ *
  * <p>設計原則:</p>
  * <ul>
  *   <li>SOLID-S: 設定データの保持のみ担当</li>
@@ -36,6 +40,12 @@ public class DamageConfig {
     /** 武器タイプ設定 */
     private final Map<String, WeaponTypeConfig> weaponTypes;
 
+    /** クラス別のマージ済みビュー (クラス名 -> ビュー) */
+    private final Map<String, ClassView> classViews;
+
+    /** クラス未設定・上書きなしのクラス用ビュー */
+    private final ClassView defaultView;
+
     /**
      * コンストラクタ
      *
@@ -56,15 +66,67 @@ public class DamageConfig {
         this.classOverrides = Collections.unmodifiableMap(new HashMap<>(classOverrides));
         this.damageTypes = Collections.unmodifiableMap(new HashMap<>(damageTypes));
         this.weaponTypes = Collections.unmodifiableMap(new HashMap<>(weaponTypes));
+
+        // 全クラスで共通の定数スロットを割り当て、数式は定数名を一度だけスロットへ解決する
+        Map<String, Double> defaultConstants = toNumericConstants(this.globalConstants, null);
+        Map<String, Map<String, Double>> classConstants = new HashMap<>();
+        Set<String> constantNames = new LinkedHashSet<>(defaultConstants.keySet());
+        for (Map.Entry<String, ClassOverrideConfig> entry : this.classOverrides.entrySet()) {
+            if (entry.getValue() != null) {
+                Map<String, Double> merged = toNumericConstants(this.globalConstants, entry.getValue().constants);
+                classConstants.put(entry.getKey(), merged);
+                constantNames.addAll(merged.keySet());
+            }
+        }
+        ConstantTable.Layout constantLayout = ConstantTable.layout(constantNames);
+
+        this.defaultView = new ClassView(this.events, defaultConstants, constantLayout.bind(defaultConstants),
+                this.damageTypes, this.weaponTypes);
+        Map<String, ClassView> views = new HashMap<>();
+        for (Map.Entry<String, Map<String, Double>> entry : classConstants.entrySet()) {
+            Map<String, EventConfig> mergedEvents = new HashMap<>(this.events);
+            mergedEvents.putAll(this.classOverrides.get(entry.getKey()).eventOverrides);
+            views.put(entry.getKey(), new ClassView(
+                    Collections.unmodifiableMap(mergedEvents),
+                    entry.getValue(), constantLayout.bind(entry.getValue()),
+                    this.damageTypes, this.weaponTypes));
+        }
+        this.classViews = Collections.unmodifiableMap(views);
+    }
+
+    /**
+     * グローバル定数とクラス定数から数値定数テーブルを作成します
+     *
+     * <p>クラス定数がグローバル定数を上書きします。数値以外の値は数式で使用できないため除外します。</p>
+     *
+     * @param globals グローバル定数
+     * @param classConstants クラス定数（null可）
+     * @return 数値定数テーブル（不変）
+     */
+    private static Map<String, Double> toNumericConstants(Map<String, Object> globals, Map<String, Object> classConstants) {
+        Map<String, Double> merged = new HashMap<>();
+        putNumeric(merged, globals);
+        if (classConstants != null) {
+            putNumeric(merged, classConstants);
+        }
+        return Collections.unmodifiableMap(merged);
+    }
+
+    private static void putNumeric(Map<String, Double> target, Map<String, Object> source) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            if (entry.getValue() instanceof Number number) {
+                target.put(entry.getKey(), number.doubleValue());
+            }
+        }
     }
 
     /**
      * グローバル定数を取得します
      *
-     * @return グローバル定数マップ（コピー）
+     * @return グローバル定数マップ（読み取り専用）
      */
     public Map<String, Object> getGlobalConstants() {
-        return new HashMap<>(globalConstants);
+        return globalConstants;
     }
 
     /**
@@ -90,10 +152,10 @@ public class DamageConfig {
     /**
      * 全イベント設定を取得します
      *
-     * @return イベント設定マップ（コピー）
+     * @return イベント設定マップ（読み取り専用）
      */
     public Map<String, EventConfig> getAllEvents() {
-        return new HashMap<>(events);
+        return events;
     }
 
     /**
@@ -106,6 +168,20 @@ public class DamageConfig {
         return classOverrides.get(className);
     }
 
+    /**
+     * クラス用のマージ済みビューを取得します
+     *
+     * @param className クラス名（null可）
+     * @return クラス別上書きがあればそのビュー、なければデフォルトのビュー
+     */
+    public ClassView getClassView(String className) {
+        if (className == null) {
+            return defaultView;
+        }
+        ClassView view = classViews.get(className);
+        return view != null ? view : defaultView;
+    }
+
     /**
      * クラス用のイベント設定を取得します
      *
@@ -116,14 +192,32 @@ public class DamageConfig {
      * @return イベント設定、存在しない場合はnull
      */
     public EventConfig getEventConfigForClass(String className, String eventName) {
-        ClassOverrideConfig classOverride = classOverrides.get(className);
-        if (classOverride != null) {
-            EventConfig overridden = classOverride.getEventConfig(eventName);
-            if (overridden != null) {
-                return overridden;
-            }
-        }
-        return events.get(eventName);
+        return getClassView(className).getEventConfig(eventName);
+    }
+
+    /**
+     * クラス用の数値定数テーブルを取得します
+     *
+     * <p>グローバル定数にクラス定数を上書きした、数式評価用のテーブルです。</p>
+     *
+     * @param className クラス名（null可）
+     * @return 数値定数テーブル（読み取り専用）
+     */
+    public Map<String, Double> getConstantsForClass(String className) {
+        return getClassView(className).getConstants();
+    }
+
+    /**
+     * クラス用の定数テーブル（スロット形式）を取得します
+     *
+     * <p>全クラスのテーブルが同じレイアウトを共有するため、コンパイル済み数式は
+     * 設定の読み込みごとに一度だけ定数名をスロットへ解決します。</p>
+     *
+     * @param className クラス名（null可）
+     * @return 定数テーブル
+     */
+    public ConstantTable getConstantTableForClass(String className) {
+        return getClassView(className).getConstantTable();
     }
 
     /**
@@ -280,7 +374,7 @@ public class DamageConfig {
         }
 
         public Map<String, Object> getConstants() {
-            return new HashMap<>(constants);
+            return constants;
         }
 
         public Object getConstant(String key) {
@@ -292,7 +386,7 @@ public class DamageConfig {
         }
 
         public Map<String, EventConfig> getAllEventOverrides() {
-            return new HashMap<>(eventOverrides);
+            return eventOverrides;
         }
 
         /**
@@ -331,6 +425,82 @@ public class DamageConfig {
         }
     }
 
+    /**
+     * クラス別のマージ済みビュー
+     *
+     * <p>デフォルトのイベント設定にクラス別上書きを適用したもの、グローバル定数にクラス定数を適用した数値定数、
+     * ダメージタイプ・武器タイプをまとめた不変オブジェクトです。設定の読み込み時に一度だけ作成されます。</p>
+     */
+    public static final class ClassView {
+
+        private final Map<String, EventConfig> events;
+        private final Map<String, Double> constants;
+        private final ConstantTable constantTable;
+        private final Map<String, DamageTypeConfig> damageTypes;
+        private final Map<String, WeaponTypeConfig> weaponTypes;
+
+        private ClassView(
+                Map<String, EventConfig> events,
+                Map<String, Double> constants,
+                ConstantTable constantTable,
+                Map<String, DamageTypeConfig> damageTypes,
+                Map<String, WeaponTypeConfig> weaponTypes) {
+            this.events = events;
+            this.constants = constants;
+            this.constantTable = constantTable;
+            this.damageTypes = damageTypes;
+            this.weaponTypes = weaponTypes;
+        }
+
+        /**
+         * イベント設定を取得します
+         *
+         * @param eventName イベント名
+         * @return イベント設定（クラス別上書き適用済み）、存在しない場合はnull
+         */
+        public EventConfig getEventConfig(String eventName) {
+            return events.get(eventName);
+        }
+
+        /**
+         * 数値定数テーブルを取得します
+         *
+         * @return 数値定数テーブル（読み取り専用）
+         */
+        public Map<String, Double> getConstants() {
+            return constants;
+        }
+
+        /**
+         * 数式評価用の定数テーブルを取得します
+         *
+         * @return 定数テーブル（全クラス共通のレイアウト）
+         */
+        public ConstantTable getConstantTable() {
+            return constantTable;
+        }
+
+        /**
+         * ダメージタイプ設定を取得します
+         *
+         * @param damageType ダメージタイプ
+         * @return ダメージタイプ設定、存在しない場合はnull
+         */
+        public DamageTypeConfig getDamageType(String damageType) {
+            return damageTypes.get(damageType);
+        }
+
+        /**
+         * 武器タイプ設定を取得します
+         *
+         * @param weaponType 武器タイプ
+         * @return 武器タイプ設定、存在しない場合はnull
+         */
+        public WeaponTypeConfig getWeaponType(String weaponType) {
+            return weaponTypes.get(weaponType);
+        }
+    }
+
     /**
      * ダメージタイプ設定
      */
@@ -1,11 +1,14 @@
 package com.example.rpgplugin.damage.config;
 
+import com.example.rpgplugin.core.scheduler.ExpiryService;
+import com.example.rpgplugin.core.scheduler.TimingWheel;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.skill.evaluator.VariableContext;
 import com.example.rpgplugin.stats.Stat;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 変数スコープマネージャー
@@ -34,6 +37,10 @@ public class VariableScopeManager {
     /** テンポラリ変数ストレージ (プレイヤーUUID -> 変数マップ) */
     private final Map<java.util.UUID, Map<String, Object>> temporaryVariables;
 
+    /** 期限付きテンポラリ変数の削除ハンドル (プレイヤーUUID -> 変数名 -> ハンドル) */
+    private final Map<java.util.UUID, Map<String, AtomicReference<TimingWheel.Timeout>>> temporaryExpiries =
+            new ConcurrentHashMap<>();
+
     /** プレイヤー永続変数ストレージ (プレイヤーUUID -> 変数マップ) */
     private final Map<java.util.UUID, Map<String, Object>> playerVariables;
 
@@ -43,6 +50,9 @@ public class VariableScopeManager {
     /** クラス定数キャッシュ (クラス名 -> 定数マップ) */
     private final Map<String, Map<String, Object>> classConstantsCache;
 
+    /** テンポラリ変数の期限管理サービス（nullの場合は呼び出し元で削除） */
+    private final ExpiryService expiryService;
+
     /** DamageConfigへの参照 */
     private DamageConfig damageConfig;
 
@@ -50,10 +60,7 @@ public class VariableScopeManager {
      * コンストラクタ
      */
     public VariableScopeManager() {
-        this.temporaryVariables = new ConcurrentHashMap<>();
-        this.playerVariables = new ConcurrentHashMap<>();
-        this.globalConstants = new ConcurrentHashMap<>();
-        this.classConstantsCache = new ConcurrentHashMap<>();
+        this(null, null);
     }
 
     /**
@@ -62,7 +69,21 @@ public class VariableScopeManager {
      * @param globalConstants 初期グローバル定数
      */
     public VariableScopeManager(Map<String, Object> globalConstants) {
-        this();
+        this(globalConstants, null);
+    }
+
+    /**
+     * コンストラクタ（初期グローバル定数・期限管理サービス付き）
+     *
+     * @param globalConstants 初期グローバル定数（null可）
+     * @param expiryService テンポラリ変数の期限管理サービス（nullの場合は呼び出し元で削除）
+     */
+    public VariableScopeManager(Map<String, Object> globalConstants, ExpiryService expiryService) {
+        this.expiryService = expiryService;
+        this.temporaryVariables = new ConcurrentHashMap<>();
+        this.playerVariables = new ConcurrentHashMap<>();
+        this.globalConstants = new ConcurrentHashMap<>();
+        this.classConstantsCache = new ConcurrentHashMap<>();
         if (globalConstants != null) {
             this.globalConstants.putAll(globalConstants);
         }
@@ -89,6 +110,9 @@ public class VariableScopeManager {
      *
      * <p>スコープ順に変数を検索し、最初に見つかった値を返します。</p>
      *
+     * <p>名前指定のAPI・コマンド向けで、名前ごとのマップ参照を行います。ダメージ数式の評価は
+     * {@link DamageConfig#getConstantTableForClass(String)} のスロット形式テーブルを使用し、この経路を通りません。</p>
+     *
      * @param variableName 変数名
      * @param rpgPlayer RPGプレイヤー
      * @return 変数値、見つからない場合はnull
@@ -144,6 +168,9 @@ public class VariableScopeManager {
         temporaryVariables.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>())
                 .put(variableName, value);
 
+        // 上書き時は前回の期限を破棄
+        cancelTemporaryExpiry(playerId, variableName);
+
         if (durationTicks > 0) {
             // 期限付きテンポラリ変数のスケジュール
             scheduleTemporaryVariableRemoval(playerId, variableName, durationTicks);
@@ -172,6 +199,7 @@ public class VariableScopeManager {
      * @param variableName 変数名
      */
     public void removeTemporaryVariable(java.util.UUID playerId, String variableName) {
+        cancelTemporaryExpiry(playerId, variableName);
         Map<String, Object> playerTemps = temporaryVariables.get(playerId);
         if (playerTemps != null) {
             playerTemps.remove(variableName);
@@ -188,6 +216,7 @@ public class VariableScopeManager {
      */
     public void clearTemporaryVariables(java.util.UUID playerId) {
         temporaryVariables.remove(playerId);
+        cancelAllTemporaryExpiries(temporaryExpiries.remove(playerId));
     }
 
     /**
@@ -239,7 +268,8 @@ public class VariableScopeManager {
         if (damageConfig != null) {
             DamageConfig.ClassOverrideConfig classOverride = damageConfig.getClassOverride(className);
             if (classOverride != null) {
-                return new HashMap<>(classOverride.getConstants());
+                // 設定側で不変マップとして保持しているため、そのまま参照する
+                return classOverride.getConstants();
             }
         }
         return Collections.emptyMap();
@@ -311,9 +341,57 @@ public class VariableScopeManager {
      * @param durationTicks 持続時間（ティック）
      */
     private void scheduleTemporaryVariableRemoval(java.util.UUID playerId, String variableName, long durationTicks) {
-        // Note: 実際のスケジューリングは呼び出し元で行う必要があります
-        // ここではインターフェースのみ提供
-        // RPGPluginのスケジューラーを使用してください
+        // 期限管理サービスがない場合（テスト等）は呼び出し元で削除する
+        if (expiryService == null) {
+            return;
+        }
+
+        Map<String, AtomicReference<TimingWheel.Timeout>> playerExpiries =
+                temporaryExpiries.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
+        // 登録直後に期限が来ても自分のハンドルか判定できるよう、参照をマップに入れてから登録する
+        AtomicReference<TimingWheel.Timeout> handle = new AtomicReference<>();
+        cancelHandle(playerExpiries.put(variableName, handle));
+        handle.set(expiryService.schedule(durationTicks, () -> {
+            // 再設定で置き換えられていない場合のみ削除
+            if (playerExpiries.remove(variableName, handle)) {
+                removeTemporaryValue(playerId, variableName);
+                temporaryExpiries.computeIfPresent(playerId, (id, expiries) -> expiries.isEmpty() ? null : expiries);
+            }
+        }));
+    }
+
+    private void cancelTemporaryExpiry(java.util.UUID playerId, String variableName) {
+        Map<String, AtomicReference<TimingWheel.Timeout>> playerExpiries = temporaryExpiries.get(playerId);
+        if (playerExpiries == null) {
+            return;
+        }
+        cancelHandle(playerExpiries.remove(variableName));
+    }
+
+    private void cancelAllTemporaryExpiries(Map<String, AtomicReference<TimingWheel.Timeout>> playerExpiries) {
+        if (playerExpiries == null) {
+            return;
+        }
+        for (AtomicReference<TimingWheel.Timeout> handle : playerExpiries.values()) {
+            cancelHandle(handle);
+        }
+    }
+
+    private static void cancelHandle(AtomicReference<TimingWheel.Timeout> handle) {
+        if (handle == null) {
+            return;
+        }
+        TimingWheel.Timeout timeout = handle.get();
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void removeTemporaryValue(java.util.UUID playerId, String variableName) {
+        temporaryVariables.computeIfPresent(playerId, (id, playerTemps) -> {
+            playerTemps.remove(variableName);
+            return playerTemps.isEmpty() ? null : playerTemps;
+        });
     }
 
     /**
@@ -330,6 +408,10 @@ public class VariableScopeManager {
      */
     public void clearAllTemporaryVariables() {
         temporaryVariables.clear();
+        for (Map<String, AtomicReference<TimingWheel.Timeout>> playerExpiries : temporaryExpiries.values()) {
+            cancelAllTemporaryExpiries(playerExpiries);
+        }
+        temporaryExpiries.clear();
     }
 
     /**
@@ -1,8 +1,10 @@
 package com.example.rpgplugin.damage.config;
 
 import com.example.rpgplugin.player.RPGPlayer;
-import com.example.rpgplugin.skill.evaluator.ExpressionParser;
-import com.example.rpgplugin.skill.evaluator.VariableContext;
+import com.example.rpgplugin.skill.evaluator.ConstantTable;
+import com.example.rpgplugin.skill.evaluator.EvaluationFrame;
+import com.example.rpgplugin.skill.evaluator.FormulaEvaluator;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
 
 import java.util.*;
 
@@ -14,7 +16,7 @@ import java.util.*;
  * <p>設計原則:</p>
  * <ul>
  *   <li>SOLID-S: YAML設定に基づくダメージ計算の単一責務</li>
- *   <li>DRY: VariableContext/ExpressionParserを活用</li>
+ *   <li>DRY: EvaluationFrame/FormulaEvaluatorを活用（数式はコンパイル済みキャッシュを再利用）</li>
  *   <li>KISS: シンプルな計算フロー</li>
  * </ul>
  *
@@ -29,6 +31,9 @@ public class YamlDamageCalculator {
     /** 変数スコープマネージャー */
     private final VariableScopeManager scopeManager;
 
+    /** 数式エバリュエーター（コンパイル済み数式のキャッシュを保持） */
+    private final FormulaEvaluator formulaEvaluator = new FormulaEvaluator();
+
     /**
      * コンストラクタ
      *
@@ -233,6 +238,17 @@ public class YamlDamageCalculator {
         return damage;
     }
 
+    /**
+     * プレイヤーのクラスに対応する定数テーブルを取得します
+     *
+     * <p>設定読み込み時にマージ済みのスロット形式テーブルを参照するだけで、コピーは行いません。
+     * 定数が設定されていない場合は空のテーブルを返します。</p>
+     */
+    private ConstantTable constantsFor(RPGPlayer player) {
+        ConstantTable constants = damageConfig.getConstantTableForClass(player != null ? player.getClassId() : null);
+        return constants != null ? constants : ConstantTable.EMPTY;
+    }
+
     /**
      * 数式を評価します（BASE_DAMAGE変数付き）
      */
@@ -243,39 +259,18 @@ public class YamlDamageCalculator {
             Integer skillLevel,
             Map<String, Double> additionalVariables) {
 
+        // スレッドごとのフレームを再利用し、追加変数はコピーせず参照する
+        EvaluationFrame frame = EvaluationFrame.acquire(player, skillLevel != null ? skillLevel : 1, additionalVariables)
+                .withBaseDamage(baseDamage)
+                .withConstants(constantsFor(player));
         try {
-            // VariableContextを構築
-            VariableContext context = scopeManager != null && player != null
-                    ? scopeManager.buildVariableContext(player, skillLevel)
-                    : new VariableContext(player);
-
-            // 追加変数を設定
-            Map<String, Double> vars = new HashMap<>();
-            vars.put("BASE_DAMAGE", baseDamage);
-            vars.put("DAMAGE", baseDamage);
-            if (additionalVariables != null) {
-                vars.putAll(additionalVariables);
-            }
-            context.setCustomVariables(vars);
-
-            // 数式を解析・評価
-            ExpressionParser parser = new ExpressionParser(formula);
-            Object result = parser.evaluate(context);
-
-            if (result instanceof Number) {
-                return ((Number) result).doubleValue();
-            }
-
-            // Booleanの場合は1.0または0.0に変換
-            if (result instanceof Boolean) {
-                return ((Boolean) result) ? 1.0 : 0.0;
-            }
-
-            return baseDamage;
+            return formulaEvaluator.compile(formula).evaluate(frame);
 
         } catch (Exception e) {
             // 数式評価エラー時は基本ダメージを返す
             return baseDamage;
+        } finally {
+            frame.release();
         }
     }
 
@@ -283,26 +278,15 @@ public class YamlDamageCalculator {
      * 数値数式を評価します（BASE_DAMAGEなし）
      */
     private double evaluateNumericFormula(String formula, RPGPlayer player, Integer skillLevel) {
+        EvaluationFrame frame = EvaluationFrame.acquire(player, skillLevel != null ? skillLevel : 1, null)
+                .withConstants(constantsFor(player));
         try {
-            VariableContext context = scopeManager != null && player != null
-                    ? scopeManager.buildVariableContext(player, skillLevel)
-                    : new VariableContext(player);
-
-            ExpressionParser parser = new ExpressionParser(formula);
-            Object result = parser.evaluate(context);
-
-            if (result instanceof Number) {
-                return ((Number) result).doubleValue();
-            }
-
-            if (result instanceof Boolean) {
-                return ((Boolean) result) ? 1.0 : 0.0;
-            }
-
-            return 0.0;
+            return formulaEvaluator.compile(formula).evaluate(frame);
 
         } catch (Exception e) {
             return 0.0;
+        } finally {
+            frame.release();
         }
     }
 
@@ -470,11 +454,12 @@ public class YamlDamageCalculator {
 
         // ステータス値を収集
         if (attacker != null) {
-            vars.put("STR", attacker.getStatManager().getFinalStat(com.example.rpgplugin.stats.Stat.STRENGTH));
-            vars.put("INT", attacker.getStatManager().getFinalStat(com.example.rpgplugin.stats.Stat.INTELLIGENCE));
-            vars.put("SPI", attacker.getStatManager().getFinalStat(com.example.rpgplugin.stats.Stat.SPIRIT));
-            vars.put("VIT", attacker.getStatManager().getFinalStat(com.example.rpgplugin.stats.Stat.VITALITY));
-            vars.put("DEX", attacker.getStatManager().getFinalStat(com.example.rpgplugin.stats.Stat.DEXTERITY));
+            DerivedAttributes attributes = attacker.getStatManager().getDerivedAttributes();
+            vars.put("STR", attributes.strength());
+            vars.put("INT", attributes.intelligence());
+            vars.put("SPI", attributes.spirit());
+            vars.put("VIT", attributes.vitality());
+            vars.put("DEX", attributes.dexterity());
             vars.put("LV", attacker.getLevel());
             vars.put("CLASS_RANK", attacker.getClassRank());
         }
@@ -5,6 +5,7 @@ import com.example.rpgplugin.damage.config.YamlDamageCalculator;
 import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.entity.Entity;
@@ -154,16 +155,14 @@ public class EntityDamageHandler {
      * @return 軽減後のダメージ
      */
     private double calculateDamageTakenLegacy(RPGPlayer rpgPlayer, double damage, boolean isPhysical) {
-        Map<Stat, Integer> stats = rpgPlayer.getStatManager().getAllFinalStats();
+        DerivedAttributes attributes = rpgPlayer.getStatManager().getDerivedAttributes();
 
         if (isPhysical) {
             // 物理防御（VIT依存）
-            int vitality = stats.getOrDefault(Stat.VITALITY, 0);
-            return DamageModifier.calculateDefenseCut(damage, vitality);
+            return DamageModifier.calculateDefenseCut(damage, attributes.vitality());
         } else {
             // 魔法防御（SPI依存）
-            int spirit = stats.getOrDefault(Stat.SPIRIT, 0);
-            return DamageModifier.calculateMagicDefenseCut(damage, spirit);
+            return DamageModifier.calculateMagicDefenseCut(damage, attributes.spirit());
         }
     }
 
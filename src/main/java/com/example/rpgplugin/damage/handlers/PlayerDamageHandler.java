@@ -5,6 +5,10 @@ import com.example.rpgplugin.damage.config.YamlDamageCalculator;
 import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
@@ -12,7 +16,8 @@ import org.bukkit.event.entity.EntityDamageEvent;
 
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.logging.Logger;
 
 /**
@@ -31,7 +36,7 @@ import java.util.logging.Logger;
  * <p>パフォーマンス最適化:</p>
  * <ul>
  *   <li>ダメージ計算結果を1秒間キャッシュ</li>
- *   <li>同じターゲットへの連続攻撃で計算を省略</li>
+ *   <li>攻撃者・基本ダメージ・ダメージ種別・ステータスバージョンが同じ連続攻撃で計算を省略</li>
  * </ul>
  *
  * @author RPGPlugin Team
@@ -48,18 +53,26 @@ public class PlayerDamageHandler {
     // デバッグログフラグ
     private final boolean DEBUG = false;
 
-    // ダメージ計算キャッシュ（1秒間有効）
-    private final Map<UUID, CachedDamage> damageCache;
+    // ダメージ計算キャッシュ（1秒間有効、上限を超えた分は古いものから退避）
+    private final Cache<DamageKey, Double> damageCache;
     private static final long DAMAGE_CACHE_MILLIS = 1000; // 1秒
     private static final int MAX_CACHE_SIZE = 1000; // 最大キャッシュ数
 
     /**
-     * キャッシュされたダメージ計算結果
+     * ダメージ計算キャッシュのキー
      *
-     * @param damage 計算されたダメージ値
-     * @param timestamp キャッシュ時刻（ミリ秒）
+     * <p>計算結果に影響する入力をすべて含めます。
+     * ステータスの変更は {@link StatManager#getFinalStatVersion()} で検出します。</p>
+     *
+     * @param attacker 攻撃者UUID
+     * @param baseDamage 基本ダメージ
+     * @param physical 物理ダメージか
+     * @param statVersion 最終ステータスのバージョン
+     * @param level レベル
+     * @param classId クラスID（YAML設定のクラス別上書き用）
      */
-    private record CachedDamage(double damage, long timestamp) {}
+    private record DamageKey(UUID attacker, double baseDamage, boolean physical,
+                             long statVersion, int level, String classId) {}
 
     /**
      * コンストラクタ
@@ -68,22 +81,35 @@ public class PlayerDamageHandler {
      * @param logger ロガー
      */
     public PlayerDamageHandler(PlayerManager playerManager, Logger logger) {
+        this(playerManager, logger, System::currentTimeMillis);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param playerManager プレイヤーマネージャー
+     * @param logger ロガー
+     * @param clock 現在時刻（ミリ秒）の取得元
+     */
+    public PlayerDamageHandler(PlayerManager playerManager, Logger logger, LongSupplier clock) {
         this.playerManager = playerManager;
         this.logger = logger;
-        this.damageCache = new ConcurrentHashMap<>();
+        // 同一スレッドで退避処理を行い、サイズ上限を即座に反映する
+        this.damageCache = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHE_SIZE)
+                .expireAfterWrite(DAMAGE_CACHE_MILLIS, TimeUnit.MILLISECONDS)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+                .executor(Runnable::run)
+                .build();
     }
 
     /**
      * キャッシュをクリア
      *
-     * <p>定期的な呼び出しでメモリ使用量を抑制します。</p>
+     * <p>期限切れのエントリを削除します。定期的な呼び出しでメモリ使用量を抑制します。</p>
      */
     public void clearCache() {
-        long now = System.currentTimeMillis();
-        damageCache.entrySet().removeIf(entry -> {
-            boolean expired = (now - entry.getValue().timestamp()) > DAMAGE_CACHE_MILLIS;
-            return expired;
-        });
+        damageCache.cleanUp();
     }
 
     /**
@@ -92,16 +118,19 @@ public class PlayerDamageHandler {
      * @return 現在のキャッシュサイズ
      */
     public int getCacheSize() {
-        return damageCache.size();
+        return (int) damageCache.estimatedSize();
     }
 
     /**
      * YAMLダメージ計算機を設定します
      *
+     * <p>計算方式が変わるため、キャッシュ済みの計算結果は破棄されます。</p>
+     *
      * @param yamlCalculator YAMLダメージ計算機、nullでYAML計算を無効化
      */
     public void setYamlCalculator(YamlDamageCalculator yamlCalculator) {
         this.yamlCalculator = yamlCalculator;
+        damageCache.invalidateAll();
     }
 
     /**
@@ -116,7 +145,8 @@ public class PlayerDamageHandler {
     /**
      * プレイヤーからエンティティへのダメージを計算・適用
      *
-     * <p>ダメージ計算結果を1秒間キャッシュし、連続攻撃時の計算コストを削減します。</p>
+     * <p>ダメージ計算結果を1秒間キャッシュし、連続攻撃時の計算コストを削減します。
+     * 攻撃者・基本ダメージ・ダメージ種別・ステータスが同じ場合のみキャッシュ値を使用します。</p>
      *
      * <p>YAML設定が有効な場合はYamlDamageCalculatorを使用し、
      * それ以外の場合はレガシーなDamageModifierを使用します。</p>
@@ -143,34 +173,26 @@ public class PlayerDamageHandler {
             return -1;
         }
 
-        // キャッシュチェック
-        CachedDamage cached = damageCache.get(playerId);
-        long now = System.currentTimeMillis();
-
-        // キャッシュが有効な場合はキャッシュ値を使用（ただし基本ダメージが同じ場合のみ）
+        // キャッシュチェック（YAML・レガシーどちらの計算結果も共通のキーで保持）
         double baseDamage = event.getDamage();
-        if (cached != null && (now - cached.timestamp()) < DAMAGE_CACHE_MILLIS) {
-            int finalDamage = DamageModifier.roundDamage(cached.damage());
-            event.setDamage(finalDamage);
-            return finalDamage;
-        }
+        DamageKey key = createKey(playerId, rpgPlayer, baseDamage, isPhysicalDamage(event.getCause()));
+        Double cached = damageCache.getIfPresent(key);
 
-        // YAML計算機が利用可能な場合はYAMLベースで計算
         double calculatedDamage;
-        if (yamlCalculator != null) {
+        if (cached != null) {
+            calculatedDamage = cached;
+        } else if (yamlCalculator != null) {
+            // YAML計算機が利用可能な場合はYAMLベースで計算
             calculatedDamage = calculateDamageWithYaml(rpgPlayer, baseDamage, event);
+            damageCache.put(key, calculatedDamage);
         } else {
             calculatedDamage = calculateDamageLegacy(rpgPlayer, baseDamage, event);
+            damageCache.put(key, calculatedDamage);
         }
 
         // 整数に丸める
         int finalDamage = DamageModifier.roundDamage(calculatedDamage);
 
-        // キャッシュに保存（最大サイズチェック）
-        if (damageCache.size() < MAX_CACHE_SIZE) {
-            damageCache.put(playerId, new CachedDamage(calculatedDamage, now));
-        }
-
         // ダメージ設定
         event.setDamage(finalDamage);
 
@@ -182,6 +204,22 @@ public class PlayerDamageHandler {
         return finalDamage;
     }
 
+    /**
+     * キャッシュキーを作成します
+     *
+     * @param playerId 攻撃者UUID
+     * @param rpgPlayer RPGプレイヤー
+     * @param baseDamage 基本ダメージ
+     * @param physical 物理ダメージか
+     * @return キャッシュキー
+     */
+    private DamageKey createKey(UUID playerId, RPGPlayer rpgPlayer, double baseDamage, boolean physical) {
+        StatManager statManager = rpgPlayer.getStatManager();
+        long statVersion = statManager != null ? statManager.getFinalStatVersion() : 0L;
+        return new DamageKey(playerId, baseDamage, physical, statVersion,
+                rpgPlayer.getLevel(), rpgPlayer.getClassId());
+    }
+
     /**
      * YAML設定を使用してダメージを計算します
      *
@@ -215,7 +253,7 @@ public class PlayerDamageHandler {
      * @return 計算後のダメージ
      */
     private double calculateDamageLegacy(RPGPlayer rpgPlayer, double baseDamage, EntityDamageByEntityEvent event) {
-        Map<Stat, Integer> stats = rpgPlayer.getStatManager().getAllFinalStats();
+        DerivedAttributes attributes = rpgPlayer.getStatManager().getDerivedAttributes();
         EntityDamageEvent.DamageCause cause = event.getCause();
         boolean isPhysical = isPhysicalDamage(cause);
 
@@ -224,12 +262,10 @@ public class PlayerDamageHandler {
 
         if (isPhysical) {
             // 物理ダメージ計算
-            int strength = stats.getOrDefault(Stat.STRENGTH, 0);
-            return DamageModifier.calculatePhysicalDamage(baseDamage, strength, classMultiplier);
+            return DamageModifier.calculatePhysicalDamage(baseDamage, attributes.strength(), classMultiplier);
         } else {
             // 魔法ダメージ計算
-            int intelligence = stats.getOrDefault(Stat.INTELLIGENCE, 0);
-            return DamageModifier.calculateMagicDamage(baseDamage, intelligence, classMultiplier);
+            return DamageModifier.calculateMagicDamage(baseDamage, attributes.intelligence(), classMultiplier);
         }
     }
 
@@ -1,6 +1,7 @@
 package com.example.rpgplugin.player;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.config.MainSettings;
 import com.example.rpgplugin.player.config.DiminishConfig;
 import com.example.rpgplugin.rpgclass.ClassManager;
 import com.example.rpgplugin.rpgclass.RPGClass;
@@ -131,8 +132,10 @@ public class ExpDiminisher {
      * @param event 経験値変更イベント
      */
     public void applyDiminishment(PlayerExpChangeEvent event) {
+        MainSettings settings = plugin.getConfigManager().getMainSettings();
+
         // 減衰機能が有効か確認
-        if (!isDiminishmentEnabled()) {
+        if (!settings.expDiminish().enabled()) {
             return;
         }
 
@@ -140,7 +143,7 @@ public class ExpDiminisher {
         int originalExp = event.getAmount();
 
         // 除外条件のチェック
-        if (isExempted(player, event)) {
+        if (isExempted(player, settings.expDiminish())) {
             logDiminishment(player, originalExp, originalExp, 0.0, "Exempted");
             return;
         }
@@ -154,7 +157,7 @@ public class ExpDiminisher {
         }
 
         // ログ出力（デバッグ用）
-        if (plugin.getConfigManager().getBoolean("main", "debug.log_exp_diminish", false)) {
+        if (settings.debug().logExpDiminish()) {
             double reductionRate = originalExp > 0 ? 1.0 - (double) diminishedExp / originalExp : 0.0;
             logDiminishment(player, originalExp, diminishedExp, reductionRate, "Applied");
         }
@@ -195,34 +198,17 @@ public class ExpDiminisher {
         return (int) diminishedExp;
     }
 
-    /**
-     * 減衰機能が有効か確認します
-     *
-     * @return 有効な場合はtrue
-     */
-    private boolean isDiminishmentEnabled() {
-        return plugin.getConfigManager().getBoolean("main", "exp_diminish.enabled", true);
-    }
-
     /**
      * 除外条件に該当するか確認します
      *
      * <p>プレイヤーのPersistentDataContainerに設定された経験値ソースを確認し、
      * 設定で除外が有効な場合はtrueを返します。</p>
      *
-     * @param player プレイヤー
-     * @param event  経験値イベント
+     * @param player   プレイヤー
+     * @param settings 経験値減衰設定
      * @return 除外される場合はtrue
      */
-    private boolean isExempted(Player player, PlayerExpChangeEvent event) {
-        // 設定から除外条件を読み込み
-        boolean playerKillsExempt = plugin.getConfigManager()
-                .getBoolean("main", "exp_diminish.exemptions.player_kills", true);
-        boolean bossMobsExempt = plugin.getConfigManager()
-                .getBoolean("main", "exp_diminish.exemptions.boss_mobs", true);
-        boolean eventRewardsExempt = plugin.getConfigManager()
-                .getBoolean("main", "exp_diminish.exemptions.event_rewards", true);
-
+    private boolean isExempted(Player player, MainSettings.ExpDiminish settings) {
         // 経験値ソースを取得
         ExpSource source = getExpSource(player);
         if (source == null) {
@@ -235,11 +221,11 @@ public class ExpDiminisher {
         // 除外判定
         switch (source) {
             case PLAYER_KILL:
-                return playerKillsExempt;
+                return settings.exemptPlayerKills();
             case BOSS_MOB:
-                return bossMobsExempt;
+                return settings.exemptBossMobs();
             case EVENT_REWARD:
-                return eventRewardsExempt;
+                return settings.exemptEventRewards();
             case NORMAL:
             default:
                 return false;
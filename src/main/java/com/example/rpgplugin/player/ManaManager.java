@@ -9,9 +9,15 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 import java.util.logging.Logger;
 
 /**
@@ -23,6 +29,10 @@ import java.util.logging.Logger;
  *   <li>スキルによる特殊回復の外部制御</li>
  *   <li>クラスごとの回復量設定に基づく回復処理</li>
  * </ul>
+ *
+ * <p>回復処理はプレイヤーをセッション中固定のスロット番号に割り当て、
+ * 回復量・満タン判定・回復結果をスロット番号で引くプリミティブ配列とビットセットで管理します。
+ * 回復量はカスタム設定・ボーナス・クラスが変わったときだけ再計算します。</p>
  */
 public class ManaManager {
 
@@ -40,12 +50,24 @@ public class ManaManager {
     /** 一時回復ボーナス（プレイヤーUUID -> ボーナス量/秒） */
     private final Map<UUID, Double> temporaryBonus;
 
+    /** 回復量設定の世代（変更のたびに加算し、クラス定義の世代と合わせてスロットの回復量キャッシュを無効化） */
+    private final AtomicInteger rateEpoch = new AtomicInteger();
+
+    /** 回復処理用のプレイヤースロット（メインスレッド専用） */
+    private final RegenSlots slots = new RegenSlots();
+
+    /** 回復インジケーターのコンポーネントキャッシュ（回復量 -> コンポーネント） */
+    private final Component[] indicatorCache = new Component[INDICATOR_CACHE_SIZE];
+
     /** デフォルトMP回復量/秒 */
     private static final double DEFAULT_MANA_REGEN = 1.0;
 
     /** 回復タスクの実行間隔（tick） */
     private static final long REGEN_TASK_INTERVAL = 20L; // 1秒
 
+    /** キャッシュする回復インジケーターの回復量上限 */
+    private static final int INDICATOR_CACHE_SIZE = 64;
+
     /**
      * コンストラクタ
      *
@@ -58,8 +80,8 @@ public class ManaManager {
         this.logger = plugin.getLogger();
         this.playerManager = playerManager;
         this.classManager = classManager;
-        this.customRegenRates = new HashMap<>();
-        this.temporaryBonus = new HashMap<>();
+        this.customRegenRates = new ConcurrentHashMap<>();
+        this.temporaryBonus = new ConcurrentHashMap<>();
     }
 
     /**
@@ -71,16 +93,8 @@ public class ManaManager {
             return;
         }
 
-        regenerationTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            for (RPGPlayer rpgPlayer : playerManager.getOnlinePlayers().values()) {
-                try {
-                    regenerateMana(rpgPlayer);
-                } catch (Exception e) {
-                    logger.warning("Failed to regenerate mana for player: " + rpgPlayer.getUsername());
-                    e.printStackTrace();
-                }
-            }
-        }, REGEN_TASK_INTERVAL, REGEN_TASK_INTERVAL);
+        regenerationTask = Bukkit.getScheduler().runTaskTimer(plugin, this::regenerateAll,
+                REGEN_TASK_INTERVAL, REGEN_TASK_INTERVAL);
 
         logger.info("Mana regeneration task started");
     }
@@ -97,33 +111,57 @@ public class ManaManager {
     }
 
     /**
-     * プレイヤーのMPを回復します
+     * オンラインプレイヤー全員のMPを回復します
      *
-     * @param rpgPlayer RPGプレイヤー
+     * <p>スロットの同期、満タン判定、回復、アクションバー送信の順に、それぞれ1回のループで処理します。</p>
      */
-    private void regenerateMana(RPGPlayer rpgPlayer) {
-        Player player = rpgPlayer.getBukkitPlayer();
-        if (player == null || !player.isOnline()) {
-            return;
+    private void regenerateAll() {
+        slots.sync(playerManager.getOnlinePlayers());
+
+        // 満タン・オフラインのスロットを除外
+        BitSet idle = slots.idle;
+        for (int slot = slots.used.nextSetBit(0); slot >= 0; slot = slots.used.nextSetBit(slot + 1)) {
+            RPGPlayer rpgPlayer = slots.players[slot];
+            try {
+                Player player = slots.bukkitPlayer(slot);
+                idle.set(slot, player == null || !player.isOnline() || rpgPlayer.isFullMana());
+            } catch (Exception e) {
+                idle.set(slot);
+                logger.warning("Failed to regenerate mana for player: " + rpgPlayer.getUsername());
+                e.printStackTrace();
+            }
         }
 
-        // 最大MPに達している場合は回復しない
-        if (rpgPlayer.isFullMana()) {
-            return;
-        }
+        // 回復（クラスのリロードで同じIDのまま定義が変わった場合も再計算する）
+        int epoch = rateEpoch.get() + (classManager != null ? classManager.getVersion() : 0);
+        BitSet indicators = slots.indicators;
+        indicators.clear();
+        for (int slot = slots.used.nextSetBit(0); slot >= 0; slot = slots.used.nextSetBit(slot + 1)) {
+            if (idle.get(slot)) {
+                continue;
+            }
+            RPGPlayer rpgPlayer = slots.players[slot];
+            try {
+                double regenAmount = slots.rate(slot, epoch, this::calculateRegenAmount);
+                if (regenAmount <= 0) {
+                    continue;
+                }
+                int actualRegen = rpgPlayer.regenerateMana(regenAmount);
+                slots.regenerated[slot] = actualRegen;
 
-        // 回復量の計算
-        double regenAmount = calculateRegenAmount(rpgPlayer);
-        if (regenAmount <= 0) {
-            return;
+                // 回復量が0でない場合はアクションバーで表示（オプション）
+                if (actualRegen > 0 && shouldShowRegenIndicator(rpgPlayer)) {
+                    indicators.set(slot);
+                }
+            } catch (Exception e) {
+                logger.warning("Failed to regenerate mana for player: " + rpgPlayer.getUsername());
+                e.printStackTrace();
+            }
         }
 
-        // 回復実行
-        int actualRegen = rpgPlayer.regenerateMana(regenAmount);
-
-        // 回復量が0でない場合はアクションバーで表示（オプション）
-        if (actualRegen > 0 && shouldShowRegenIndicator(rpgPlayer)) {
-            showRegenIndicator(player, actualRegen);
+        // アクションバーはまとめて送信
+        for (int slot = indicators.nextSetBit(0); slot >= 0; slot = indicators.nextSetBit(slot + 1)) {
+            showRegenIndicator(slots.bukkitPlayers[slot], slots.regenerated[slot]);
         }
     }
 
@@ -179,8 +217,18 @@ public class ManaManager {
      * @param amount 回復量
      */
     private void showRegenIndicator(Player player, int amount) {
-        // アクションバーメッセージ（Adventure API）
-        player.sendActionBar(Component.text("+" + amount + " MP", NamedTextColor.AQUA));
+        // アクションバーメッセージ（Adventure API）、よく使う回復量のコンポーネントは使い回す
+        Component message;
+        if (amount < INDICATOR_CACHE_SIZE) {
+            message = indicatorCache[amount];
+            if (message == null) {
+                message = Component.text("+" + amount + " MP", NamedTextColor.AQUA);
+                indicatorCache[amount] = message;
+            }
+        } else {
+            message = Component.text("+" + amount + " MP", NamedTextColor.AQUA);
+        }
+        player.sendActionBar(message);
     }
 
     // ==================== 外部制御メソッド ====================
@@ -199,6 +247,7 @@ public class ManaManager {
         } else {
             customRegenRates.put(uuid, regenAmount);
         }
+        rateEpoch.incrementAndGet();
     }
 
     /**
@@ -208,6 +257,7 @@ public class ManaManager {
      */
     public void clearCustomRegenRate(UUID uuid) {
         customRegenRates.remove(uuid);
+        rateEpoch.incrementAndGet();
     }
 
     /**
@@ -221,6 +271,7 @@ public class ManaManager {
     @SuppressWarnings("null")
     public void addTemporaryBonus(UUID uuid, double bonus) {
         temporaryBonus.merge(uuid, bonus, Double::sum);
+        rateEpoch.incrementAndGet();
     }
 
     /**
@@ -235,6 +286,7 @@ public class ManaManager {
         } else {
             temporaryBonus.put(uuid, bonus);
         }
+        rateEpoch.incrementAndGet();
     }
 
     /**
@@ -244,6 +296,7 @@ public class ManaManager {
      */
     public void clearTemporaryBonus(UUID uuid) {
         temporaryBonus.remove(uuid);
+        rateEpoch.incrementAndGet();
     }
 
     /**
@@ -291,6 +344,150 @@ public class ManaManager {
         stop();
         customRegenRates.clear();
         temporaryBonus.clear();
+        rateEpoch.incrementAndGet();
+        slots.clear();
         logger.info("ManaManager shut down");
     }
+
+    /**
+     * 回復処理用のプレイヤースロット
+     *
+     * <p>オンラインプレイヤーを密なスロット番号に割り当て、スロットごとの値を配列で保持します。
+     * 退出したプレイヤーのスロットは次に参加したプレイヤーが再利用します。</p>
+     */
+    private static final class RegenSlots {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final Map<UUID, Integer> slotByUuid = new HashMap<>();
+        private final BitSet used = new BitSet();
+        private final BitSet seen = new BitSet();
+        private final BitSet idle = new BitSet();
+        private final BitSet indicators = new BitSet();
+        private final BitSet rateResolved = new BitSet();
+
+        private UUID[] uuids = new UUID[INITIAL_CAPACITY];
+        private RPGPlayer[] players = new RPGPlayer[INITIAL_CAPACITY];
+        private Player[] bukkitPlayers = new Player[INITIAL_CAPACITY];
+        private String[] classIds = new String[INITIAL_CAPACITY];
+        private double[] rates = new double[INITIAL_CAPACITY];
+        private int[] rateEpochs = new int[INITIAL_CAPACITY];
+        private int[] regenerated = new int[INITIAL_CAPACITY];
+
+        /**
+         * オンラインプレイヤーとスロットを同期します
+         *
+         * @param online オンラインプレイヤー
+         */
+        void sync(Map<UUID, RPGPlayer> online) {
+            seen.clear();
+            for (Map.Entry<UUID, RPGPlayer> entry : online.entrySet()) {
+                RPGPlayer rpgPlayer = entry.getValue();
+                Integer existing = slotByUuid.get(entry.getKey());
+                int slot;
+                if (existing == null) {
+                    slot = allocate(entry.getKey(), rpgPlayer);
+                } else {
+                    slot = existing;
+                    if (players[slot] != rpgPlayer) {
+                        // 再ログインなどでインスタンスが変わった場合は初期化
+                        reset(slot, rpgPlayer);
+                    }
+                }
+                seen.set(slot);
+            }
+
+            for (int slot = used.nextSetBit(0); slot >= 0; slot = used.nextSetBit(slot + 1)) {
+                if (!seen.get(slot)) {
+                    slotByUuid.remove(uuids[slot]);
+                    release(slot);
+                }
+            }
+        }
+
+        /**
+         * スロットのBukkitプレイヤーを取得します（初回のみ解決）
+         *
+         * @param slot スロット
+         * @return Bukkitプレイヤー、見つからない場合はnull
+         */
+        Player bukkitPlayer(int slot) {
+            Player player = bukkitPlayers[slot];
+            if (player == null) {
+                player = players[slot].getBukkitPlayer();
+                bukkitPlayers[slot] = player;
+            }
+            return player;
+        }
+
+        /**
+         * スロットの回復量を取得します（設定またはクラスが変わった場合のみ再計算）
+         *
+         * @param slot スロット
+         * @param epoch 現在の回復量設定の世代
+         * @param calculator 回復量の計算関数
+         * @return 回復量/秒
+         */
+        double rate(int slot, int epoch, ToDoubleFunction<RPGPlayer> calculator) {
+            RPGPlayer rpgPlayer = players[slot];
+            String classId = rpgPlayer.getClassId();
+            if (!rateResolved.get(slot) || rateEpochs[slot] != epoch
+                    || !Objects.equals(classIds[slot], classId)) {
+                rates[slot] = calculator.applyAsDouble(rpgPlayer);
+                rateEpochs[slot] = epoch;
+                classIds[slot] = classId;
+                rateResolved.set(slot);
+            }
+            return rates[slot];
+        }
+
+        void clear() {
+            slotByUuid.clear();
+            used.clear();
+            seen.clear();
+            idle.clear();
+            indicators.clear();
+            rateResolved.clear();
+            Arrays.fill(uuids, null);
+            Arrays.fill(players, null);
+            Arrays.fill(bukkitPlayers, null);
+            Arrays.fill(classIds, null);
+        }
+
+        private int allocate(UUID uuid, RPGPlayer rpgPlayer) {
+            int slot = used.nextClearBit(0);
+            if (slot >= players.length) {
+                int capacity = players.length * 2;
+                uuids = Arrays.copyOf(uuids, capacity);
+                players = Arrays.copyOf(players, capacity);
+                bukkitPlayers = Arrays.copyOf(bukkitPlayers, capacity);
+                classIds = Arrays.copyOf(classIds, capacity);
+                rates = Arrays.copyOf(rates, capacity);
+                rateEpochs = Arrays.copyOf(rateEpochs, capacity);
+                regenerated = Arrays.copyOf(regenerated, capacity);
+            }
+            used.set(slot);
+            slotByUuid.put(uuid, slot);
+            uuids[slot] = uuid;
+            reset(slot, rpgPlayer);
+            return slot;
+        }
+
+        private void reset(int slot, RPGPlayer rpgPlayer) {
+            players[slot] = rpgPlayer;
+            bukkitPlayers[slot] = null;
+            classIds[slot] = null;
+            rateResolved.clear(slot);
+            regenerated[slot] = 0;
+        }
+
+        private void release(int slot) {
+            used.clear(slot);
+            idle.clear(slot);
+            rateResolved.clear(slot);
+            uuids[slot] = null;
+            players[slot] = null;
+            bukkitPlayers[slot] = null;
+            classIds[slot] = null;
+        }
+    }
 }
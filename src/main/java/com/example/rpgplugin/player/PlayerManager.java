@@ -1,19 +1,31 @@
 package com.example.rpgplugin.player;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
 import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.storage.WriteBehindFlusher;
 import com.example.rpgplugin.storage.models.PlayerData;
+import com.example.rpgplugin.storage.repository.CacheRepository;
 import com.example.rpgplugin.storage.repository.PlayerDataRepository;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import java.util.Collections;
@@ -46,6 +58,14 @@ import java.util.Map;
  *   <li>外部同期なしで複数スレッドからアクセス可能</li>
  * </ul>
  *
+ * <p>非同期ロード（CacheRepository指定時）:</p>
+ * <ul>
+ *   <li>AsyncPlayerPreLoginEventでデータベースから先読み（メインスレッドをブロックしない）</li>
+ *   <li>参加時は先読み結果を割り当てるのみ</li>
+ *   <li>先読みが間に合わない場合はロード中として扱い、完了後にメインスレッドで割り当て</li>
+ *   <li>ロード中は {@link #getRPGPlayer(UUID)} がnullを返す</li>
+ * </ul>
+ *
  * @author RPGPlugin Team
  * @version 1.0.0
  * @see RPGPlayer
@@ -55,7 +75,14 @@ public class PlayerManager implements Listener {
     private final RPGPlugin plugin;
     private final Logger logger;
     private final PlayerDataRepository playerDataRepository;
+    private final WriteBehindFlusher writeBehindFlusher;
+    private final CacheRepository cacheRepository;
+    private final ExpiryService expiryService;
     private final Map<UUID, RPGPlayer> onlinePlayers;
+    private final Set<UUID> loadingPlayers;
+
+    /** ログイン前の先読みを待機する最大時間（ミリ秒） */
+    private static final long PREFETCH_WAIT_MILLIS = 3000L;
 
     /**
      * コンストラクタ
@@ -64,10 +91,54 @@ public class PlayerManager implements Listener {
      * @param playerDataRepository プレイヤーデータリポジトリ
      */
     public PlayerManager(RPGPlugin plugin, PlayerDataRepository playerDataRepository) {
+        this(plugin, playerDataRepository, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param playerDataRepository プレイヤーデータリポジトリ
+     * @param writeBehindFlusher 書き込み遅延フラッシャー（nullの場合は全カラムを保存）
+     */
+    public PlayerManager(RPGPlugin plugin, PlayerDataRepository playerDataRepository,
+                         WriteBehindFlusher writeBehindFlusher) {
+        this(plugin, playerDataRepository, writeBehindFlusher, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param playerDataRepository プレイヤーデータリポジトリ
+     * @param writeBehindFlusher 書き込み遅延フラッシャー（nullの場合は全カラムを保存）
+     * @param cacheRepository キャッシュリポジトリ（nullの場合は参加時に同期ロード）
+     */
+    public PlayerManager(RPGPlugin plugin, PlayerDataRepository playerDataRepository,
+                         WriteBehindFlusher writeBehindFlusher, CacheRepository cacheRepository) {
+        this(plugin, playerDataRepository, writeBehindFlusher, cacheRepository, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param playerDataRepository プレイヤーデータリポジトリ
+     * @param writeBehindFlusher 書き込み遅延フラッシャー（nullの場合は全カラムを保存）
+     * @param cacheRepository キャッシュリポジトリ（nullの場合は参加時に同期ロード）
+     * @param expiryService 時限ステータス修正値の期限管理サービス（nullの場合は読み取り時に期限を判定）
+     */
+    public PlayerManager(RPGPlugin plugin, PlayerDataRepository playerDataRepository,
+                         WriteBehindFlusher writeBehindFlusher, CacheRepository cacheRepository,
+                         ExpiryService expiryService) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.playerDataRepository = playerDataRepository;
+        this.writeBehindFlusher = writeBehindFlusher;
+        this.cacheRepository = cacheRepository;
+        this.expiryService = expiryService;
         this.onlinePlayers = new ConcurrentHashMap<>();
+        this.loadingPlayers = ConcurrentHashMap.newKeySet();
     }
 
     // ==================== ライフサイクル ====================
@@ -101,6 +172,21 @@ public class PlayerManager implements Listener {
     public void shutdown() {
         logger.info("Shutting down PlayerManager...");
 
+        // ロード中のプレイヤーは割り当てない
+        loadingPlayers.clear();
+
+        // 書き込み遅延モード: 変更のあるプレイヤーのみ最終フラッシュ
+        if (writeBehindFlusher != null) {
+            try {
+                int saved = writeBehindFlusher.flush();
+                logger.info("PlayerManager shutdown complete. Flushed: " + saved);
+            } catch (Exception e) {
+                logger.warning("Failed to flush player data: " + e.getMessage());
+            }
+            onlinePlayers.clear();
+            return;
+        }
+
         int successCount = 0;
         int failCount = 0;
 
@@ -121,6 +207,45 @@ public class PlayerManager implements Listener {
 
     // ==================== イベントハンドラー ====================
 
+    /**
+     * ログイン前イベント（非同期スレッド）
+     *
+     * <p>プレイヤーデータを先読みし、一定時間まで完了を待機します。
+     * 待機がタイムアウトしてもログインは拒否せず、参加時にロード中として扱います。
+     * 先読みキューが満杯の場合はメインスレッドでのロードを避けるためログインを拒否します
+     * （結果を変更するためMONITORではなくHIGHESTで処理します）。</p>
+     *
+     * @param event ログイン前イベント
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (cacheRepository == null || event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        UUID uuid = event.getUniqueId();
+        CompletableFuture<PlayerData> future = cacheRepository.prefetch(uuid, event.getName());
+
+        try {
+            future.get(PREFETCH_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.fine("Prefetch still running at login: " + event.getName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                        Component.text("サーバーが混雑しています。しばらくしてから再接続してください"));
+                return;
+            }
+            // 失敗は参加時に再試行される
+            logger.warning("Failed to prefetch player " + event.getName() + ": " + e.getMessage());
+        } catch (Exception e) {
+            // 失敗は参加時に再試行される
+            logger.warning("Failed to prefetch player " + event.getName() + ": " + e.getMessage());
+        }
+    }
+
     /**
      * プレイヤー参加イベント
      *
@@ -131,6 +256,11 @@ public class PlayerManager implements Listener {
         Player player = event.getPlayer();
         UUID uuid = player.getUniqueId();
 
+        if (cacheRepository != null) {
+            attachPrefetched(player);
+            return;
+        }
+
         try {
             loadPlayer(uuid);
             logger.fine("Player joined: " + player.getName());
@@ -201,13 +331,92 @@ public class PlayerManager implements Listener {
             playerData.updateLastLogin();
         }
 
+        return attach(player, playerData);
+    }
+
+    /**
+     * 先読み済みのプレイヤーデータを割り当てます
+     *
+     * <p>先読みが完了していれば即座に割り当て、未完了の場合はロード中として
+     * 完了後にメインスレッドで割り当てます。</p>
+     *
+     * @param player 参加したプレイヤー
+     */
+    private void attachPrefetched(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (onlinePlayers.containsKey(uuid)) {
+            return;
+        }
+
+        CompletableFuture<PlayerData> future = cacheRepository.takePrefetched(uuid);
+        if (future == null || future.isCompletedExceptionally()) {
+            // 先読みされていない、または失敗した場合はここで開始
+            future = cacheRepository.prefetch(uuid, player.getName());
+            cacheRepository.takePrefetched(uuid);
+        }
+
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            attachLoaded(player, future.join());
+            return;
+        }
+
+        loadingPlayers.add(uuid);
+        future.whenComplete((playerData, error) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            // 退出済み、またはシャットダウン済み
+            if (!loadingPlayers.remove(uuid)) {
+                return;
+            }
+
+            Player online = Bukkit.getPlayer(uuid);
+            if (online == null) {
+                return;
+            }
+
+            if (error != null) {
+                logger.severe("Failed to load player " + online.getName() + ": " + error.getMessage());
+                return;
+            }
+
+            attachLoaded(online, playerData);
+        }));
+    }
+
+    /**
+     * ロード済みのプレイヤーデータを割り当てます（メインスレッド）
+     */
+    private void attachLoaded(Player player, PlayerData playerData) {
+        if (onlinePlayers.containsKey(player.getUniqueId())) {
+            return;
+        }
+
+        playerData.setUsername(player.getName());
+        playerData.updateLastLogin();
+        attach(player, playerData);
+        cacheRepository.persistCreated(playerData);
+        logger.fine("Player joined: " + player.getName());
+    }
+
+    /**
+     * RPGPlayerを作成してオンラインプレイヤーに登録します
+     *
+     * @param player プレイヤー
+     * @param playerData プレイヤーデータ
+     * @return 作成されたRPGPlayer
+     */
+    private RPGPlayer attach(Player player, PlayerData playerData) {
+        UUID uuid = player.getUniqueId();
+
         // ステータスマネージャーを作成（初期値は10、手動配分ポイントは0）
-        StatManager statManager = new StatManager(10, 0);
+        StatManager statManager = new StatManager(10, 0, expiryService);
 
         // RPGPlayerを作成
         RPGPlayer rpgPlayer = new RPGPlayer(playerData, statManager);
         onlinePlayers.put(uuid, rpgPlayer);
 
+        if (writeBehindFlusher != null) {
+            writeBehindFlusher.track(playerData);
+        }
+
         logger.fine("Loaded player: " + player.getName() + " (Class: " + playerData.getClassId() + ")");
 
         return rpgPlayer;
@@ -226,10 +435,16 @@ public class PlayerManager implements Listener {
             throw new IllegalArgumentException("UUID cannot be null");
         }
 
+        loadingPlayers.remove(uuid);
         RPGPlayer rpgPlayer = onlinePlayers.remove(uuid);
 
         if (rpgPlayer != null) {
-            savePlayer(uuid);
+            if (writeBehindFlusher != null) {
+                // 変更のあるカラムのみ非同期で保存して追跡を終了（メインスレッドで待機しない）
+                writeBehindFlusher.untrack(uuid);
+            } else {
+                savePlayer(uuid);
+            }
 
             logger.fine("Unloaded player: " + rpgPlayer.getUsername());
         }
@@ -267,6 +482,18 @@ public class PlayerManager implements Listener {
      * </ul>
      */
     public void saveAllAsync() {
+        if (writeBehindFlusher != null) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    int saved = writeBehindFlusher.flush();
+                    logger.info("Async save complete: " + saved + " changed players saved");
+                } catch (Exception e) {
+                    logger.warning("Failed to flush player data: " + e.getMessage());
+                }
+            });
+            return;
+        }
+
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             int successCount = 0;
             int failCount = 0;
@@ -323,6 +550,21 @@ public class PlayerManager implements Listener {
         return onlinePlayers.get(uuid);
     }
 
+    /**
+     * プレイヤーデータをロード中か確認します
+     *
+     * <p>ロード中のプレイヤーは {@link #getRPGPlayer(UUID)} がnullを返します。</p>
+     *
+     * @param uuid プレイヤーUUID
+     * @return ロード中の場合はtrue
+     */
+    public boolean isLoading(UUID uuid) {
+        if (uuid == null) {
+            return false;
+        }
+        return loadingPlayers.contains(uuid);
+    }
+
     /**
      * 指定した名前のRPGPlayerを取得します
      *
@@ -145,6 +145,24 @@ public class RPGPlayer {
         return dataContainer.getPlayerData();
     }
 
+    /**
+     * 未保存の変更があるか確認します
+     *
+     * @return 未保存の変更がある場合はtrue
+     */
+    public boolean hasUnsavedChanges() {
+        return dataContainer.getPlayerData().isDirty();
+    }
+
+    /**
+     * 未保存のフィールドを取得します
+     *
+     * @return 未保存フィールドのセット
+     */
+    public java.util.Set<PlayerData.DirtyField> getUnsavedFields() {
+        return dataContainer.getPlayerData().getDirtyFields();
+    }
+
     /**
      * データコンテナを取得します
      *
@@ -1,6 +1,7 @@
 package com.example.rpgplugin.player;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.config.MainSettings;
 import com.example.rpgplugin.skill.SkillManager;
 import com.example.rpgplugin.stats.Stat;
 import net.kyori.adventure.text.Component;
@@ -124,7 +125,7 @@ public class VanillaExpHandler implements Listener {
         expDiminisher.applyDiminishment(event);
 
         // デバッグログ出力
-        if (plugin.getConfigManager().getBoolean("main", "debug.log_exp_changes", false)) {
+        if (plugin.getConfigManager().getMainSettings().debug().logExpChanges()) {
             Player player = event.getPlayer();
             int amount = event.getAmount();
             plugin.getLogger().fine("Player " + player.getName() + " gained " + amount + " exp");
@@ -204,8 +205,10 @@ public class VanillaExpHandler implements Listener {
         player.sendMessage("§7§o/rpg stats §r§7でステータスを確認できます");
         player.sendMessage("§6§l================================");
 
+        MainSettings.LevelUp levelUpSettings = plugin.getConfigManager().getMainSettings().levelUp();
+
         // タイトル表示（オプション）
-        if (plugin.getConfigManager().getBoolean("main", "level_up.show_title", true)) {
+        if (levelUpSettings.showTitle()) {
             Component titleText = Component.text("LEVEL UP!", NamedTextColor.GOLD)
                     .decorate(TextDecoration.BOLD);
             Component subtitleText = Component.text("レベル " + newLevel, NamedTextColor.YELLOW);
@@ -222,7 +225,7 @@ public class VanillaExpHandler implements Listener {
         }
 
         // サウンド効果（オプション）
-        if (plugin.getConfigManager().getBoolean("main", "level_up.play_sound", true)) {
+        if (levelUpSettings.playSound()) {
             player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
         }
     }
@@ -1,6 +1,8 @@
 package com.example.rpgplugin.rpgclass;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.config.ParallelFileLoader;
+import com.example.rpgplugin.core.config.YamlParseCache;
 import com.example.rpgplugin.rpgclass.growth.StatGrowth;
 import com.example.rpgplugin.rpgclass.requirements.*;
 import com.example.rpgplugin.player.PlayerManager;
@@ -18,7 +20,11 @@ import java.util.logging.Logger;
  */
 public class ClassLoader {
 
+    /** 解析キャッシュの保存先（データフォルダからの相対パス） */
+    static final String CACHE_PATH = "cache/classes.bin";
+
     private final Logger logger;
+    private final File dataFolder;
     private final File classesDirectory;
     private final PlayerManager playerManager;
 
@@ -31,6 +37,7 @@ public class ClassLoader {
     public ClassLoader(RPGPlugin plugin, PlayerManager playerManager) {
         this.logger = plugin.getLogger();
         this.playerManager = playerManager;
+        this.dataFolder = plugin.getDataFolder();
         this.classesDirectory = new File(plugin.getDataFolder(), "classes");
 
         // ディレクトリが存在しない場合は作成
@@ -42,6 +49,9 @@ public class ClassLoader {
     /**
      * すべてのクラス設定をロード
      *
+     * <p>ファイルの解析は上限付きスレッドプールで並列に行い、登録はファイル順に行います。
+     * 内容が前回から変わっていないファイルは {@link YamlParseCache} からYAMLの解析結果を復元します。</p>
+     *
      * @return クラスID → RPGClassのマップ
      */
     public Map<String, RPGClass> loadAllClasses() {
@@ -54,20 +64,27 @@ public class ClassLoader {
             return classes;
         }
 
-        for (File file : files) {
+        YamlParseCache cache = new YamlParseCache(logger, new File(dataFolder, CACHE_PATH));
+        List<RPGClass> loaded = ParallelFileLoader.loadAll(files, file -> {
             try {
-                RPGClass rpgClass = loadClass(file);
-                if (rpgClass != null) {
-                    classes.put(rpgClass.getId(), rpgClass);
-                    logger.info("Loaded class: " + rpgClass.getId() + " (" + rpgClass.getName() + ")");
-                }
+                ConfigurationSection config = cache.load(file);
+                return config != null ? parseClass(config, file) : null;
             } catch (Exception e) {
                 logger.severe("Failed to load class from " + file.getName() + ": " + e.getMessage());
                 e.printStackTrace();
+                return null;
+            }
+        });
+        for (RPGClass rpgClass : loaded) {
+            if (rpgClass != null) {
+                classes.put(rpgClass.getId(), rpgClass);
+                logger.info("Loaded class: " + rpgClass.getId() + " (" + rpgClass.getName() + ")");
             }
         }
+        cache.save();
 
-        logger.info("Loaded " + classes.size() + " classes");
+        logger.info("Loaded " + classes.size() + " classes (cached: " + cache.getHitCount()
+                + ", parsed: " + cache.getMissCount() + ")");
         return classes;
     }
 
@@ -78,8 +95,17 @@ public class ClassLoader {
      * @return RPGClassインスタンス（失敗時はnull）
      */
     public RPGClass loadClass(File file) {
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        return parseClass(YamlConfiguration.loadConfiguration(file), file);
+    }
 
+    /**
+     * 読み込み済みの設定からクラスを構築
+     *
+     * @param config 設定
+     * @param file 読み込み元ファイル
+     * @return RPGClassインスタンス（失敗時はnull）
+     */
+    private RPGClass parseClass(ConfigurationSection config, File file) {
         // 基本情報の読み込み
         String id = config.getString("id");
         if (id == null || id.isEmpty()) {
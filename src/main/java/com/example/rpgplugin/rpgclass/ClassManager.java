@@ -7,6 +7,7 @@ import org.bukkit.entity.Player;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -36,6 +37,9 @@ public class ClassManager {
     /** すべてのクラス */
     private final Map<String, RPGClass> classes;
 
+    /** クラス定義の世代（登録・リロードのたびに加算） */
+    private final AtomicInteger version = new AtomicInteger();
+
     private final Logger logger;
     private final PlayerManager playerManager;
 
@@ -61,6 +65,7 @@ public class ClassManager {
         }
 
         classes.put(rpgClass.getId(), rpgClass);
+        version.incrementAndGet();
         logger.info("Registered class: " + rpgClass.getId());
     }
 
@@ -302,6 +307,7 @@ public class ClassManager {
     public void reload(Map<String, RPGClass> newClasses) {
         classes.clear();
         classes.putAll(newClasses);
+        version.incrementAndGet();
         logger.info("Reloaded " + classes.size() + " classes");
     }
 
@@ -342,6 +348,7 @@ public class ClassManager {
         // 新しいクラスマップを適用
         classes.clear();
         classes.putAll(newClasses);
+        version.incrementAndGet();
 
         logger.info("Reloaded " + classes.size() + " classes (removed: " + removedClasses.size() + ", affected players: " + affectedPlayers + ")");
 
@@ -419,6 +426,18 @@ public class ClassManager {
         return classes.size();
     }
 
+    /**
+     * クラス定義の世代を取得します
+     *
+     * <p>同じIDのままクラスが差し替えられた場合も値が変わるため、
+     * クラス設定から導出した値のキャッシュ無効化に使用します。</p>
+     *
+     * @return 世代
+     */
+    public int getVersion() {
+        return version.get();
+    }
+
     /**
      * プレイヤーのクラスを変更します
      *
@@ -50,6 +50,9 @@ public class Skill {
 
     // Phase11-6: 新YAMLフォーマット対応フィールド
     private final java.util.List<VariableDefinition> variables;
+
+    /** カスタム変数マップ（変数名 → 値、不変） */
+    private final java.util.Map<String, Double> variableMap;
     private final FormulaDamageConfig formulaDamage;
     private final TargetingConfig targeting;
 
@@ -59,6 +62,13 @@ public class Skill {
     // コンポーネントベーススキルシステム
     private final com.example.rpgplugin.skill.component.SkillEffect componentEffect;
 
+    /** 事前計算の対象となるコンポーネントのキー */
+    private static final String[] PRECOMPUTED_KEYS = {"damage", "cost", "cooldown", "target"};
+
+    // コンポーネント由来のレベル別値（構築時に事前計算し、構成・設定の変更時に再計算）
+    private final int componentLevels;
+    private volatile ComponentValues componentValues;
+
     /**
      * コンストラクタ（レベル依存パラメータ対応版）
      *
@@ -138,12 +148,27 @@ public class Skill {
         this.requiredSkills = new ArrayList<>();  // デフォルトは空リスト
         // Phase11-6: 新フィールドの初期化
         this.variables = variables != null ? new ArrayList<>(variables) : new ArrayList<>();
+        java.util.Map<String, Double> varMap = new java.util.HashMap<>();
+        for (VariableDefinition var : this.variables) {
+            varMap.put(var.getName(), var.getValue());
+        }
+        this.variableMap = java.util.Collections.unmodifiableMap(varMap);
         this.formulaDamage = formulaDamage;
         this.targeting = targeting;
         // Phase11-4: スキルターゲット設定の初期化
         this.skillTarget = skillTarget;
         // コンポーネントベーススキルシステム
         this.componentEffect = componentEffect;
+        // プレイヤー非依存のパラメータをレベル別テーブルに事前計算し、トリガーハンドラーをコンパイル
+        if (componentEffect != null) {
+            componentEffect.precomputeLevelTables(maxLevel, variableMap);
+            componentEffect.compileTriggerHandlers();
+        }
+        // damage/cost/cooldownコンポーネントの値をレベル別に事前計算（範囲外のレベルは都度計算）
+        this.componentLevels = componentEffect != null ? Math.max(0, maxLevel) + 1 : 0;
+        this.componentValues = componentEffect != null
+                ? computeComponentValues(componentEffect.getPlan())
+                : ComponentValues.EMPTY;
     }
 
     /**
@@ -468,11 +493,7 @@ public class Skill {
 
         // カスタム変数を設定
         if (hasVariables()) {
-            java.util.Map<String, Double> varMap = new java.util.HashMap<>();
-            for (VariableDefinition var : variables) {
-                varMap.put(var.getName(), var.getValue());
-            }
-            calculator.setCustomVariables(varMap);
+            calculator.setCustomVariables(variableMap);
         }
 
         try {
@@ -504,16 +525,12 @@ public class Skill {
     /**
      * カスタム変数をマップとして取得します
      *
-     * @return 変数名と値のマップ
+     * <p>構築時に一度だけ作成した不変マップを返します。数式評価のたびにコピーしないでください。</p>
+     *
+     * @return 変数名と値のマップ（変更不可）
      */
     public java.util.Map<String, Double> getVariableMap() {
-        java.util.Map<String, Double> map = new java.util.HashMap<>();
-        if (variables != null) {
-            for (VariableDefinition var : variables) {
-                map.put(var.getName(), var.getValue());
-            }
-        }
-        return map;
+        return variableMap;
     }
 
     // ==================== コンポーネントベース統合 ====================
@@ -521,7 +538,8 @@ public class Skill {
     /**
      * コンポーネントツリーから指定されたキーのコンポーネントを検索します
      *
-     * <p>再帰的に全てのコンポーネントを探索します。</p>
+     * <p>構築時に作成した実行計画の索引を引くため、ツリーの深さに依存しません。
+     * 同じキーが複数ある場合は前順で最初のコンポーネントを返します。</p>
      *
      * @param key コンポーネントのキー（例: "damage", "cost", "cooldown"）
      * @return 見つかったコンポーネント、見つからない場合はnull
@@ -531,43 +549,27 @@ public class Skill {
         if (componentEffect == null) {
             return null;
         }
-        return findComponentByKeyRecursive(key, componentEffect.getComponents());
-    }
-
-    /**
-     * 再帰的にコンポーネントを検索します
-     *
-     * @param key  検索するキー
-     * @param components コンポーネントリスト
-     * @return 見つかったコンポーネント、見つからない場合はnull
-     */
-    private com.example.rpgplugin.skill.component.EffectComponent findComponentByKeyRecursive(
-            String key, java.util.List<com.example.rpgplugin.skill.component.EffectComponent> components) {
-        for (com.example.rpgplugin.skill.component.EffectComponent component : components) {
-            // 現在のコンポーネントをチェック
-            if (key.equals(component.getKey())) {
-                return component;
-            }
-            // 子コンポーネントを再帰的に探索
-            com.example.rpgplugin.skill.component.EffectComponent found =
-                    findComponentByKeyRecursive(key, component.getChildren());
-            if (found != null) {
-                return found;
-            }
-        }
-        return null;
+        return componentEffect.getPlan().find(key);
     }
 
     /**
      * コンポーネントからダメージ値を取得します
      *
-     * <p>damageコンポーネントの設定からダメージ値を計算します。</p>
+     * <p>damageコンポーネントの設定からダメージ値を計算します。最大レベルまでは事前計算した値を返します（設定変更後は再計算）。</p>
      *
      * @param level スキルレベル
      * @return ダメージ値
      * @since 1.5.0
      */
     public double getDamageFromComponents(int level) {
+        double[] damageByLevel = componentValues().damageByLevel;
+        if (level >= 0 && level < damageByLevel.length) {
+            return damageByLevel[level];
+        }
+        return computeDamageFromComponents(level);
+    }
+
+    private double computeDamageFromComponents(int level) {
         com.example.rpgplugin.skill.component.EffectComponent damageComponent =
                 findComponentByKey("damage");
 
@@ -594,13 +596,21 @@ public class Skill {
     /**
      * コンポーネントからコスト値を取得します
      *
-     * <p>costコンポーネントの設定からコスト値を計算します。</p>
+     * <p>costコンポーネントの設定からコスト値を計算します。最大レベルまでは事前計算した値を返します（設定変更後は再計算）。</p>
      *
      * @param level スキルレベル
      * @return コスト値
      * @since 1.5.0
      */
     public int getCostFromComponents(int level) {
+        int[] costByLevel = componentValues().costByLevel;
+        if (level >= 0 && level < costByLevel.length) {
+            return costByLevel[level];
+        }
+        return computeCostFromComponents(level);
+    }
+
+    private int computeCostFromComponents(int level) {
         com.example.rpgplugin.skill.component.EffectComponent costComponent =
                 findComponentByKey("cost");
 
@@ -627,13 +637,21 @@ public class Skill {
     /**
      * コンポーネントからクールダウン値を取得します
      *
-     * <p>cooldownコンポーネントの設定からクールダウン値を計算します。</p>
+     * <p>cooldownコンポーネントの設定からクールダウン値を計算します。最大レベルまでは事前計算した値を返します（設定変更後は再計算）。</p>
      *
      * @param level スキルレベル
      * @return クールダウン（秒）
      * @since 1.5.0
      */
     public double getCooldownFromComponents(int level) {
+        double[] cooldownByLevel = componentValues().cooldownByLevel;
+        if (level >= 0 && level < cooldownByLevel.length) {
+            return cooldownByLevel[level];
+        }
+        return computeCooldownFromComponents(level);
+    }
+
+    private double computeCooldownFromComponents(int level) {
         com.example.rpgplugin.skill.component.EffectComponent cooldownComponent =
                 findComponentByKey("cooldown");
 
@@ -660,12 +678,16 @@ public class Skill {
     /**
      * コンポーネントからターゲット設定を取得します
      *
-     * <p>targetコンポーネントの設定を使用します。</p>
+     * <p>targetコンポーネントの設定を使用します。設定が変更されるまで同じインスタンスを返します。</p>
      *
      * @return ターゲット設定、見つからない場合はnull
      * @since 1.5.0
      */
     public com.example.rpgplugin.skill.target.SkillTarget getTargetFromComponents() {
+        return componentValues().target;
+    }
+
+    private com.example.rpgplugin.skill.target.SkillTarget computeTargetFromComponents() {
         // targetコンポーネントを検索
         com.example.rpgplugin.skill.component.EffectComponent targetComponent =
                 findComponentByKey("target");
@@ -720,6 +742,88 @@ public class Skill {
         return null;
     }
 
+    /**
+     * コンポーネント由来の事前計算値を取得します
+     *
+     * <p>コンポーネント構成（実行計画）、またはdamage/cost/cooldown/targetの設定が
+     * 事前計算後に変更されていれば再計算します。</p>
+     *
+     * @return 事前計算値
+     */
+    private ComponentValues componentValues() {
+        ComponentValues current = componentValues;
+        if (componentEffect == null) {
+            return current;
+        }
+        com.example.rpgplugin.skill.component.ComponentPlan plan = componentEffect.getPlan();
+        if (current.plan != plan || current.isModified()) {
+            current = computeComponentValues(plan);
+            componentValues = current;
+        }
+        return current;
+    }
+
+    private ComponentValues computeComponentValues(com.example.rpgplugin.skill.component.ComponentPlan plan) {
+        com.example.rpgplugin.skill.component.ComponentSettings[] watched =
+                new com.example.rpgplugin.skill.component.ComponentSettings[PRECOMPUTED_KEYS.length];
+        int[] modCounts = new int[PRECOMPUTED_KEYS.length];
+        for (int i = 0; i < PRECOMPUTED_KEYS.length; i++) {
+            com.example.rpgplugin.skill.component.EffectComponent component = plan.find(PRECOMPUTED_KEYS[i]);
+            watched[i] = component != null ? component.getSettings() : null;
+            modCounts[i] = watched[i] != null ? watched[i].getModCount() : 0;
+        }
+
+        double[] damageByLevel = new double[componentLevels];
+        int[] costByLevel = new int[componentLevels];
+        double[] cooldownByLevel = new double[componentLevels];
+        for (int level = 0; level < componentLevels; level++) {
+            damageByLevel[level] = computeDamageFromComponents(level);
+            costByLevel[level] = computeCostFromComponents(level);
+            cooldownByLevel[level] = computeCooldownFromComponents(level);
+        }
+        return new ComponentValues(plan, watched, modCounts,
+                damageByLevel, costByLevel, cooldownByLevel, computeTargetFromComponents());
+    }
+
+    /**
+     * コンポーネント由来の事前計算値（インデックス=スキルレベル）
+     */
+    private static final class ComponentValues {
+        static final ComponentValues EMPTY = new ComponentValues(null,
+                new com.example.rpgplugin.skill.component.ComponentSettings[0], new int[0],
+                new double[0], new int[0], new double[0], null);
+
+        final com.example.rpgplugin.skill.component.ComponentPlan plan;
+        final com.example.rpgplugin.skill.component.ComponentSettings[] watched;
+        final int[] modCounts;
+        final double[] damageByLevel;
+        final int[] costByLevel;
+        final double[] cooldownByLevel;
+        final com.example.rpgplugin.skill.target.SkillTarget target;
+
+        ComponentValues(com.example.rpgplugin.skill.component.ComponentPlan plan,
+                        com.example.rpgplugin.skill.component.ComponentSettings[] watched, int[] modCounts,
+                        double[] damageByLevel, int[] costByLevel, double[] cooldownByLevel,
+                        com.example.rpgplugin.skill.target.SkillTarget target) {
+            this.plan = plan;
+            this.watched = watched;
+            this.modCounts = modCounts;
+            this.damageByLevel = damageByLevel;
+            this.costByLevel = costByLevel;
+            this.cooldownByLevel = cooldownByLevel;
+            this.target = target;
+        }
+
+        boolean isModified() {
+            for (int i = 0; i < watched.length; i++) {
+                if (watched[i] != null && watched[i].getModCount() != modCounts[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * 簡易数式を解析します
      *
@@ -2,6 +2,8 @@ package com.example.rpgplugin.skill;
 
 import com.example.rpgplugin.RPGPlugin;
 import com.example.rpgplugin.core.config.ConfigLoader;
+import com.example.rpgplugin.core.config.ParallelFileLoader;
+import com.example.rpgplugin.core.config.YamlParseCache;
 import com.example.rpgplugin.skill.parser.SkillParserFactory;
 import org.bukkit.configuration.file.FileConfiguration;
 
@@ -27,6 +29,9 @@ import java.util.logging.Level;
  */
 public class SkillLoader extends ConfigLoader {
 
+    /** 解析キャッシュの保存先（データフォルダからの相対パス） */
+    static final String CACHE_PATH = "cache/skills.bin";
+
     private final RPGPlugin plugin;
     private final SkillParserFactory parserFactory;
 
@@ -44,6 +49,9 @@ public class SkillLoader extends ConfigLoader {
     /**
      * スキルディレクトリから全スキルを読み込みます
      *
+     * <p>ファイルの解析は上限付きスレッドプールで並列に行い、結果はファイル順に並べます。
+     * 内容が前回から変わっていないファイルは {@link YamlParseCache} からYAMLの解析結果を復元します。</p>
+     *
      * @return 読み込んだスキルのリスト
      */
     public List<Skill> loadAllSkills() {
@@ -62,14 +70,18 @@ public class SkillLoader extends ConfigLoader {
             return skills;
         }
 
-        for (File file : yamlFiles) {
-            Skill skill = loadSkill(file);
+        YamlParseCache cache = new YamlParseCache(getLogger(), new File(plugin.getDataFolder(), CACHE_PATH));
+        List<Skill> loaded = ParallelFileLoader.loadAll(yamlFiles,
+                file -> parseSkill(cache.load(file), file));
+        for (Skill skill : loaded) {
             if (skill != null) {
                 skills.add(skill);
             }
         }
+        cache.save();
 
-        plugin.getLogger().info(skills.size() + " 個のスキルを読み込みました");
+        plugin.getLogger().info(skills.size() + " 個のスキルを読み込みました (キャッシュ: "
+                + cache.getHitCount() + " 件, 解析: " + cache.getMissCount() + " 件)");
         return skills;
     }
 
@@ -80,7 +92,17 @@ public class SkillLoader extends ConfigLoader {
      * @return パースされたスキル、失敗した場合はnull
      */
     public Skill loadSkill(File file) {
-        FileConfiguration config = loadYaml(file);
+        return parseSkill(loadYaml(file), file);
+    }
+
+    /**
+     * 読み込み済みの設定からスキルをパースします
+     *
+     * @param config 設定（読み込み失敗時はnull）
+     * @param file 読み込み元ファイル
+     * @return パースされたスキル、失敗した場合はnull
+     */
+    private Skill parseSkill(FileConfiguration config, File file) {
         if (config == null) {
             return null;
         }
@@ -9,12 +9,20 @@ import com.example.rpgplugin.skill.repository.PlayerSkillService;
 import com.example.rpgplugin.skill.repository.SkillExecutor;
 import com.example.rpgplugin.skill.repository.SkillRepository;
 import com.example.rpgplugin.skill.result.SkillExecutionResult;
+import com.example.rpgplugin.skill.target.EntitySpatialIndex;
+import com.example.rpgplugin.storage.repository.PlayerSkillRepository;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.*;
 import java.util.logging.Logger;
@@ -41,7 +49,7 @@ import java.util.stream.Collectors;
  * @author RPGPlugin Team
  * @version 2.0.0
  */
-public class SkillManager implements SkillEventListener {
+public class SkillManager implements SkillEventListener, Listener {
 
     private static final Logger LOGGER = Logger.getLogger(SkillManager.class.getName());
 
@@ -58,11 +66,35 @@ public class SkillManager implements SkillEventListener {
      * @param playerManager プレイヤーマネージャー
      */
     public SkillManager(RPGPlugin plugin, PlayerManager playerManager) {
+        this(plugin, playerManager, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param playerManager プレイヤーマネージャー
+     * @param playerSkillRepository スキルデータ永続化リポジトリ（nullの場合はメモリ上のみ）
+     */
+    public SkillManager(RPGPlugin plugin, PlayerManager playerManager, PlayerSkillRepository playerSkillRepository) {
+        this(plugin, playerManager, playerSkillRepository, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param playerManager プレイヤーマネージャー
+     * @param playerSkillRepository スキルデータ永続化リポジトリ（nullの場合はメモリ上のみ）
+     * @param spatialIndex ターゲット検索用の空間インデックス（nullの場合はワールド検索）
+     */
+    public SkillManager(RPGPlugin plugin, PlayerManager playerManager, PlayerSkillRepository playerSkillRepository,
+                        EntitySpatialIndex spatialIndex) {
         this.plugin = plugin;
         this.playerManager = playerManager;
         this.skillRepository = new SkillRepository();
-        this.playerSkillService = new PlayerSkillService();
-        this.skillExecutor = new SkillExecutor(skillRepository, playerSkillService, playerManager);
+        this.playerSkillService = new PlayerSkillService(playerSkillRepository);
+        this.skillExecutor = new SkillExecutor(skillRepository, playerSkillService, playerManager, spatialIndex);
     }
 
     // ==================== スキル登録・取得 ====================
@@ -104,7 +136,7 @@ public class SkillManager implements SkillEventListener {
     /**
      * 全スキルを取得します
      *
-     * @return 全スキルのマップ（コピー）
+     * @return 全スキルのマップ（変更不可のスナップショット）
      */
     public Map<String, Skill> getAllSkills() {
         return skillRepository.getAllSkills();
@@ -113,7 +145,7 @@ public class SkillManager implements SkillEventListener {
     /**
      * 全スキルIDを取得します
      *
-     * @return スキルIDのセット
+     * @return スキルIDのセット（変更不可のスナップショット）
      */
     public Set<String> getAllSkillIds() {
         return skillRepository.getAllSkillIds();
@@ -123,7 +155,7 @@ public class SkillManager implements SkillEventListener {
      * 指定されたクラスで使用可能なスキルを取得します
      *
      * @param classId クラスID
-     * @return 使用可能なスキルリスト
+     * @return 使用可能なスキルリスト（変更不可のスナップショット）
      */
     public List<Skill> getSkillsForClass(String classId) {
         return skillRepository.getSkillsForClass(classId);
@@ -234,15 +266,71 @@ public class SkillManager implements SkillEventListener {
         return playerSkillService.upgradeSkill(player, skillId, skill.getMaxLevel(), skill.getColoredDisplayName());
     }
 
+    /**
+     * 保存済みのプレイヤーデータをロードします
+     *
+     * @param uuid プレイヤーUUID
+     */
+    public void loadPlayerData(UUID uuid) {
+        playerSkillService.loadPlayerData(uuid);
+    }
+
     /**
      * プレイヤーデータをアンロードします
      *
+     * <p>未保存の変更は非同期で保存されます（完了まで同じプレイヤーのロードは待機します）。</p>
+     *
      * @param uuid プレイヤーUUID
      */
     public void unloadPlayerData(UUID uuid) {
         playerSkillService.unloadPlayerData(uuid);
     }
 
+    /**
+     * 全プレイヤーの未保存のスキルデータを保存します
+     *
+     * @return 保存したプレイヤー数
+     */
+    public int saveAllPlayerData() {
+        return playerSkillService.saveAllPlayerData();
+    }
+
+    /**
+     * ログイン前（非同期スレッド）にスキルデータを先読みします
+     *
+     * <p>先読みしたデータは参加時まで別に保持され、ログインが拒否された場合は期限切れで破棄されます。</p>
+     *
+     * @param event ログイン前イベント
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            playerSkillService.preloadPlayerData(event.getUniqueId());
+        }
+    }
+
+    /**
+     * プレイヤー参加時にスキルデータをロードします
+     *
+     * <p>ログイン前に先読み済みの場合はそのデータを有効にし、データベースにアクセスしません。</p>
+     *
+     * @param event プレイヤー参加イベント
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        loadPlayerData(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * プレイヤー退出時にスキルデータを保存してアンロードします
+     *
+     * @param event プレイヤー退出イベント
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        unloadPlayerData(event.getPlayer().getUniqueId());
+    }
+
     /**
      * 全プレイヤーデータをクリアします
      */
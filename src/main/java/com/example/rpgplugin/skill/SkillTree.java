@@ -79,19 +79,19 @@ public class SkillTree {
     /**
      * 全ノードを取得します
      *
-     * @return 全ノードのマップ（コピー）
+     * @return 全ノードのマップ（変更不可のビュー）
      */
     public Map<String, SkillNode> getAllNodes() {
-        return new HashMap<>(nodes);
+        return Collections.unmodifiableMap(nodes);
     }
 
     /**
      * ルートノードを取得します
      *
-     * @return ルートノードのリスト（コピー）
+     * @return ルートノードのリスト（変更不可のビュー）
      */
     public List<SkillNode> getRootNodes() {
-        return new ArrayList<>(rootNodes);
+        return Collections.unmodifiableList(rootNodes);
     }
 
     /**
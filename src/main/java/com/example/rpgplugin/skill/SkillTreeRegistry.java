@@ -134,10 +134,10 @@ public class SkillTreeRegistry {
     /**
      * 全スキルを取得します
      *
-     * @return 全スキルのマップ（コピー）
+     * @return 全スキルのマップ（変更不可のビュー）
      */
     public Map<String, Skill> getAllSkills() {
-        return new HashMap<>(registeredSkills);
+        return Collections.unmodifiableMap(registeredSkills);
     }
 
     /**
@@ -2,10 +2,8 @@ package com.example.rpgplugin.skill.component;
 
 import com.example.rpgplugin.RPGPlugin;
 import com.example.rpgplugin.skill.Skill;
-import com.example.rpgplugin.skill.component.trigger.Trigger;
 import com.example.rpgplugin.skill.component.trigger.TriggerHandler;
 import com.example.rpgplugin.skill.component.trigger.TriggerManager;
-import com.example.rpgplugin.skill.component.trigger.TriggerSettings;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.entity.LivingEntity;
@@ -102,25 +100,18 @@ public class ComponentEffectExecutor {
      * @return 実行成功の場合はtrue
      */
     public boolean castWithTriggers(LivingEntity caster, Skill skill, int level, int duration) {
-        // トリガーを持つコンポーネントを検索
-        List<TriggerHandler> triggerHandlers = collectTriggerHandlers(skill, level);
-
-        if (triggerHandlers.isEmpty()) {
+        SkillEffect skillEffect = skill.getComponentEffect();
+        if (skillEffect == null) {
             return false;
         }
 
-        boolean hasCastTrigger = false;
-        List<TriggerHandler> delayedHandlers = new ArrayList<>();
-
-        // CASTトリガーは即時実行、それ以外は遅延実行
-        for (TriggerHandler handler : triggerHandlers) {
-            if ("CAST".equals(handler.getTrigger().getKey())) {
-                // CASTトリガーは即時実行
-                handler.handleImmediate(caster, level, caster);
-                hasCastTrigger = true;
-            } else {
-                delayedHandlers.add(handler);
-            }
+        // スキル登録時にコンパイル済みのハンドラーを使用（発動者ごとの状態はTriggerManagerが保持）
+        List<TriggerHandler> castHandlers = skillEffect.getCastTriggerHandlers();
+        List<TriggerHandler> delayedHandlers = skillEffect.getDelayedTriggerHandlers();
+
+        // CASTトリガーは即時実行
+        for (TriggerHandler handler : castHandlers) {
+            handler.handleImmediate(caster, level, caster);
         }
 
         // 他のトリガーをアクティブ化（効果はトリガー発火時に実行される）
@@ -128,109 +119,7 @@ public class ComponentEffectExecutor {
             triggerManager.activateSkill(skill.getId(), caster, level, duration, delayedHandlers);
         }
 
-        return hasCastTrigger || !delayedHandlers.isEmpty();
-    }
-
-    /**
-     * トリガーハンドラーを収集します
-     *
-     * @param skill スキル
-     * @param level スキルレベル
-     * @return トリガーハンドラーリスト
-     */
-    private List<TriggerHandler> collectTriggerHandlers(Skill skill, int level) {
-        List<TriggerHandler> handlers = new ArrayList<>();
-        SkillEffect skillEffect = skill.getComponentEffect();
-
-        if (skillEffect != null) {
-            for (EffectComponent component : skillEffect.getComponents()) {
-                collectTriggerHandlersRecursive(component, handlers, skill, level);
-            }
-        }
-
-        return handlers;
-    }
-
-    /**
-     * 再帰的にトリガーハンドラーを収集します
-     *
-     * @param component コンポーネント
-     * @param handlers  ハンドラーリスト
-     * @param skill     スキル
-     * @param level     スキルレベル
-     */
-
-    private void collectTriggerHandlersRecursive(EffectComponent component,
-                                                 List<TriggerHandler> handlers,
-                                                 Skill skill,
-                                                 int level) {
-        if (component == null) {
-            return;
-        }
-
-        // このコンポーネントがトリガーの場合
-        if (component.getType() == ComponentType.TRIGGER && component instanceof Trigger<?>) {
-            Trigger<?> trigger = (Trigger<?>) component;
-
-            // トリガー設定を作成（ComponentSettingsのデータをコピー）
-            TriggerSettings settings = new TriggerSettings();
-            ComponentSettings componentSettings = component.getSettings();
-            if (componentSettings != null) {
-                // ComponentSettingsのデータをTriggerSettingsにコピー
-                for (String key : componentSettings.getKeys()) {
-                    Object value = getSettingValue(componentSettings, key);
-                    if (value != null) {
-                        settings.put(key, value);
-                    }
-                }
-            }
-
-            // デフォルトの効果時間を取得（設定にdurationがある場合は使用）
-            int duration = settings.getInt("duration", 0);
-
-            // トリガーハンドラーを作成
-            TriggerHandler handler = new TriggerHandler(
-                    skill.getId(),
-                    trigger,
-                    settings,
-                    component,
-                    duration
-            );
-            handlers.add(handler);
-        }
-
-        // 子コンポーネントを再帰的に検索
-        for (EffectComponent child : component.getChildren()) {
-            collectTriggerHandlersRecursive(child, handlers, skill, level);
-        }
-    }
-
-    /**
-     * ComponentSettingsから値を取得します
-     *
-     * @param settings 設定
-     * @param key      キー
-     * @return 値
-     */
-    private Object getSettingValue(ComponentSettings settings, String key) {
-        // 文字列、整数、小数、真偽値の順で試す
-        if (settings.has(key)) {
-            String strValue = settings.getString(key, null);
-            if (strValue != null) {
-                // 数値 possibly parse
-                try {
-                    if (strValue.contains(".")) {
-                        return Double.parseDouble(strValue);
-                    } else {
-                        return Integer.parseInt(strValue);
-                    }
-                } catch (NumberFormatException e) {
-                    // 文字列として返す
-                    return strValue;
-                }
-            }
-        }
-        return null;
+        return !castHandlers.isEmpty() || !delayedHandlers.isEmpty();
     }
 
     /**
@@ -0,0 +1,103 @@
+package com.example.rpgplugin.skill.component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * コンポーネントツリーの平坦化済み実行計画
+ *
+ * <p>スキル構築時にコンポーネントツリーを1回だけ走査し、以下を保持する不変オブジェクトです。</p>
+ * <ul>
+ *   <li>前順（親→子）に並べたコンポーネント配列</li>
+ *   <li>キー→コンポーネントの索引（同一キーは前順で最初のもの）</li>
+ * </ul>
+ *
+ * <p>検索や走査のコストがツリーの深さに依存しなくなります。
+ * コンポーネントの実行自体はターゲットの受け渡しや条件分岐があるため、各コンポーネントの {@code execute} に委ねます。</p>
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ * @see SkillEffect#getPlan()
+ */
+public final class ComponentPlan {
+
+    /** 空の実行計画 */
+    public static final ComponentPlan EMPTY = new ComponentPlan(new EffectComponent[0], Map.of());
+
+    private final EffectComponent[] components;
+    private final Map<String, EffectComponent> byKey;
+
+    private ComponentPlan(EffectComponent[] components, Map<String, EffectComponent> byKey) {
+        this.components = components;
+        this.byKey = byKey;
+    }
+
+    /**
+     * ルートコンポーネントから実行計画を作成します
+     *
+     * @param roots ルートコンポーネントリスト
+     * @return 実行計画
+     */
+    public static ComponentPlan of(List<EffectComponent> roots) {
+        if (roots == null || roots.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<EffectComponent> ordered = new ArrayList<>();
+        for (EffectComponent root : roots) {
+            flatten(root, ordered);
+        }
+
+        EffectComponent[] components = ordered.toArray(new EffectComponent[0]);
+        Map<String, EffectComponent> byKey = new HashMap<>();
+        for (EffectComponent component : components) {
+            String key = component.getKey();
+            if (key != null) {
+                byKey.putIfAbsent(key, component);
+            }
+        }
+        return new ComponentPlan(components, Collections.unmodifiableMap(byKey));
+    }
+
+    private static void flatten(EffectComponent component, List<EffectComponent> ordered) {
+        if (component == null) {
+            return;
+        }
+        ordered.add(component);
+        for (EffectComponent child : component.getChildren()) {
+            flatten(child, ordered);
+        }
+    }
+
+    /**
+     * キーに一致する最初のコンポーネントを取得します
+     *
+     * @param key コンポーネントのキー
+     * @return コンポーネント、見つからない場合はnull
+     */
+    public EffectComponent find(String key) {
+        return key != null ? byKey.get(key) : null;
+    }
+
+    /**
+     * コンポーネント数を取得します
+     *
+     * @return コンポーネント数
+     */
+    public int size() {
+        return components.length;
+    }
+
+    /**
+     * 前順のインデックスでコンポーネントを取得します
+     *
+     * @param index インデックス
+     * @return コンポーネント
+     */
+    public EffectComponent get(int index) {
+        return components[index];
+    }
+}
@@ -17,6 +17,12 @@ public class ComponentSettings {
 
     private final Map<String, Object> data = new HashMap<>();
 
+    /** レベル別事前計算テーブル（設定変更時に破棄） */
+    private LevelParameterTable levelTable = LevelParameterTable.EMPTY;
+
+    /** 変更回数（設定から導出した値のキャッシュ判定用） */
+    private volatile int modCount;
+
     private Object getValue(String key) {
         if (key == null) {
             return null;
@@ -50,6 +56,7 @@ public class ComponentSettings {
                 data.put(key, value);
             }
         }
+        invalidate();
     }
 
     /**
@@ -169,6 +176,7 @@ public class ComponentSettings {
      */
     public void set(String key, Object value) {
         data.put(key, value);
+        invalidate();
     }
 
     /**
@@ -191,6 +199,7 @@ public class ComponentSettings {
     public void putAll(ComponentSettings other) {
         if (other != null) {
             data.putAll(other.data);
+            invalidate();
         }
     }
 
@@ -199,5 +208,42 @@ public class ComponentSettings {
      */
     public void clear() {
         data.clear();
+        invalidate();
+    }
+
+    private void invalidate() {
+        levelTable = LevelParameterTable.EMPTY;
+        modCount++;
+    }
+
+    /**
+     * 変更回数を取得します
+     *
+     * <p>値が変わっていればキャッシュを作り直す、という判定に使用します。</p>
+     *
+     * @return 変更回数
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * レベル別事前計算テーブルを取得します
+     *
+     * @return テーブル、未計算または設定変更後は {@link LevelParameterTable#EMPTY}
+     */
+    public LevelParameterTable getLevelTable() {
+        return levelTable;
+    }
+
+    /**
+     * レベル別事前計算テーブルを設定します
+     *
+     * <p>以降に設定値が変更された場合、テーブルは自動的に破棄されます。</p>
+     *
+     * @param levelTable テーブル
+     */
+    void setLevelTable(LevelParameterTable levelTable) {
+        this.levelTable = levelTable != null ? levelTable : LevelParameterTable.EMPTY;
     }
 }
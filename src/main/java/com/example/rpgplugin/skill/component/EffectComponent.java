@@ -4,7 +4,11 @@ import com.example.rpgplugin.RPGPlugin;
 import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.skill.Skill;
+import com.example.rpgplugin.skill.evaluator.CompiledExpression;
+import com.example.rpgplugin.skill.evaluator.EvaluationFrame;
+import com.example.rpgplugin.skill.evaluator.ExpressionParser;
 import com.example.rpgplugin.skill.evaluator.FormulaEvaluator;
+import com.example.rpgplugin.skill.evaluator.VariableContext;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
@@ -92,21 +96,31 @@ public abstract class EffectComponent {
     /**
      * スキルを設定します
      *
+     * <p>スキルへ追加される前に組み立てた子孫にも設定します。</p>
+     *
      * @param skill スキル
      */
     public void setSkill(SkillEffect skill) {
         this.skill = skill;
+        for (EffectComponent child : children) {
+            child.setSkill(skill);
+        }
     }
 
     /**
      * 子コンポーネントを追加します
      *
+     * <p>スキルに追加済みの場合は、スキルの実行計画とコンパイル済みトリガーハンドラーを破棄します。</p>
+     *
      * @param child 子コンポーネント
      */
     public void addChild(EffectComponent child) {
         if (child != null) {
             children.add(child);
             child.setSkill(this.skill);
+            if (skill != null) {
+                skill.invalidateStructure();
+            }
         }
     }
 
@@ -172,6 +186,10 @@ public abstract class EffectComponent {
      * @return パースされた数値
      */
     protected double parseValues(LivingEntity caster, String key, int level, double fallback) {
+        double[] table = settings != null ? settings.getLevelTable().scaled(key) : null;
+        if (LevelParameterTable.covers(table, level)) {
+            return table[level - 1];
+        }
         double base = resolveNumber(caster, key + "-base", level, fallback);
         double scale = resolveNumber(caster, key + "-scale", level, 0);
         return base + (level - 1) * scale;
@@ -235,6 +253,10 @@ public abstract class EffectComponent {
         if (settings == null) {
             return fallback;
         }
+        double[] table = settings.getLevelTable().value(key);
+        if (LevelParameterTable.covers(table, skillLevel)) {
+            return table[skillLevel - 1];
+        }
         Object raw = settings.getRaw(key);
         if (raw == null) {
             return fallback;
@@ -265,11 +287,12 @@ public abstract class EffectComponent {
                 }
             }
 
-            Map<String, Double> variables = new HashMap<>();
+            // スキル変数は不変Mapをそのまま参照する（評価ごとのコピーを行わない）
+            Map<String, Double> variables = null;
             if (plugin != null && skill != null) {
                 Skill skillObj = plugin.getSkillManager().getSkill(skill.getSkillId());
                 if (skillObj != null) {
-                    variables.putAll(skillObj.getVariableMap());
+                    variables = skillObj.getVariableMap();
                 }
             }
 
@@ -283,6 +306,139 @@ public abstract class EffectComponent {
         }
     }
 
+    /**
+     * プレイヤーに依存しない数値設定をレベル別テーブルに事前計算します
+     *
+     * <p>数値、数値文字列、および {@code Lv} とスキル変数のみを参照する数式が対象です。
+     * ステータス（STR等）やプレイヤーレベル（LV）を参照する設定は実行時評価のまま残ります。</p>
+     * <p>子コンポーネントにも再帰的に適用されます。</p>
+     *
+     * @param maxLevel 最大スキルレベル
+     * @param skillVariables スキル変数（null可）
+     */
+    public void precomputeLevelTables(int maxLevel, Map<String, Double> skillVariables) {
+        if (settings != null && maxLevel > 0) {
+            Map<String, double[]> values = new HashMap<>();
+            Map<String, double[]> scaled = new HashMap<>();
+
+            for (String settingKey : settings.getKeys()) {
+                double[] table = buildLevelTable(settings.getRaw(settingKey), maxLevel, skillVariables);
+                if (table != null) {
+                    putWithAliases(values, settingKey, table);
+                }
+            }
+
+            for (String settingKey : settings.getKeys()) {
+                if (!settingKey.endsWith("-base") && !settingKey.endsWith("_base")) {
+                    continue;
+                }
+                String prefix = settingKey.substring(0, settingKey.length() - "-base".length());
+                double[] base = values.get(settingKey);
+                if (base == null) {
+                    continue;
+                }
+                double[] scale = null;
+                if (settings.getRaw(prefix + "-scale") != null) {
+                    scale = lookupWithAliases(values, prefix + "-scale");
+                    if (scale == null) {
+                        // スケールが動的な場合はテーブル化しない
+                        continue;
+                    }
+                }
+                double[] table = new double[maxLevel];
+                for (int level = 1; level <= maxLevel; level++) {
+                    table[level - 1] = base[level - 1] + (level - 1) * (scale != null ? scale[level - 1] : 0);
+                }
+                putWithAliases(scaled, prefix, table);
+            }
+
+            settings.setLevelTable(values.isEmpty() && scaled.isEmpty()
+                    ? LevelParameterTable.EMPTY
+                    : new LevelParameterTable(values, scaled));
+        }
+
+        for (EffectComponent child : children) {
+            child.precomputeLevelTables(maxLevel, skillVariables);
+        }
+    }
+
+    /**
+     * 設定値のレベル別テーブルを作成します
+     *
+     * @return テーブル、プレイヤー依存または数値でない場合はnull
+     */
+    private static double[] buildLevelTable(Object raw, int maxLevel, Map<String, Double> skillVariables) {
+        if (raw == null) {
+            return null;
+        }
+
+        double[] table = new double[maxLevel];
+        if (raw instanceof Number) {
+            java.util.Arrays.fill(table, ((Number) raw).doubleValue());
+            return table;
+        }
+        if (!(raw instanceof String)) {
+            return null;
+        }
+
+        String str = ((String) raw).trim();
+        if (str.isEmpty()) {
+            return null;
+        }
+
+        try {
+            java.util.Arrays.fill(table, Double.parseDouble(str));
+            return table;
+        } catch (NumberFormatException ignored) {
+            // 数式として扱う
+        }
+
+        try {
+            CompiledExpression compiled = FORMULA_EVALUATOR.compile(str);
+            for (String variable : compiled.getVariableNames()) {
+                boolean skillVariable = skillVariables != null && skillVariables.containsKey(variable);
+                if (!skillVariable && !VariableContext.SKILL_LEVEL.equals(variable)) {
+                    return null;
+                }
+            }
+            for (int level = 1; level <= maxLevel; level++) {
+                EvaluationFrame frame = EvaluationFrame.acquire(null, level, skillVariables);
+                try {
+                    table[level - 1] = compiled.evaluate(frame);
+                } finally {
+                    frame.release();
+                }
+            }
+            return table;
+        } catch (FormulaEvaluator.FormulaEvaluationException | ExpressionParser.FormulaEvaluationException e) {
+            // 実行時評価に任せる（従来通り警告とフォールバックが適用される）
+            return null;
+        }
+    }
+
+    /**
+     * kebab-case/snake_case のいずれかのキーでテーブルを検索します
+     */
+    private static double[] lookupWithAliases(Map<String, double[]> tables, String key) {
+        double[] table = tables.get(key);
+        if (table == null) {
+            table = tables.get(key.replace('-', '_'));
+        }
+        if (table == null) {
+            table = tables.get(key.replace('_', '-'));
+        }
+        return table;
+    }
+
+    /**
+     * kebab-case/snake_case の両方のキーでテーブルを登録します
+     */
+    private static void putWithAliases(Map<String, double[]> tables, String key, double[] table) {
+        tables.put(key, table);
+        tables.putIfAbsent(key.replace('-', '_'), table);
+        tables.putIfAbsent(key.replace('_', '-'), table);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
@@ -0,0 +1,84 @@
+package com.example.rpgplugin.skill.component;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * レベル別パラメータテーブル
+ *
+ * <p>プレイヤーに依存しない数値設定を、スキルロード時にレベル1〜最大レベル分だけ
+ * 事前計算して保持します。実行時の参照は配列アクセス1回になります。</p>
+ *
+ * <ul>
+ *   <li>値テーブル: 設定キー → レベル別の値</li>
+ *   <li>スケールテーブル: キー接頭辞 → {@code key-base + (Lv - 1) * key-scale}</li>
+ * </ul>
+ *
+ * <p>STR等のステータスやプレイヤーレベル（LV）を参照する設定は含まれず、従来通り実行時に評価されます。</p>
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+public final class LevelParameterTable {
+
+    /** 空のテーブル */
+    public static final LevelParameterTable EMPTY =
+            new LevelParameterTable(Collections.emptyMap(), Collections.emptyMap());
+
+    /** 設定キー → レベル別の値 */
+    private final Map<String, double[]> values;
+
+    /** キー接頭辞 → レベル別の base + (Lv - 1) * scale */
+    private final Map<String, double[]> scaled;
+
+    /**
+     * コンストラクタ
+     *
+     * @param values 設定キー → レベル別の値
+     * @param scaled キー接頭辞 → レベル別のスケール済み値
+     */
+    LevelParameterTable(Map<String, double[]> values, Map<String, double[]> scaled) {
+        this.values = values;
+        this.scaled = scaled;
+    }
+
+    /**
+     * 設定キーのレベル別テーブルを取得します
+     *
+     * @param key 設定キー
+     * @return テーブル（インデックス = レベル - 1）、事前計算されていない場合はnull
+     */
+    public double[] value(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * キー接頭辞のスケール済みテーブルを取得します
+     *
+     * @param key キー接頭辞（{@code -base}/{@code -scale}を除いたもの）
+     * @return テーブル（インデックス = レベル - 1）、事前計算されていない場合はnull
+     */
+    public double[] scaled(String key) {
+        return scaled.get(key);
+    }
+
+    /**
+     * テーブルが空か確認します
+     *
+     * @return 事前計算された設定が無い場合はtrue
+     */
+    public boolean isEmpty() {
+        return values.isEmpty() && scaled.isEmpty();
+    }
+
+    /**
+     * テーブルからレベルに対応する値を取得できるか確認します
+     *
+     * @param table テーブル（null可）
+     * @param level スキルレベル
+     * @return 範囲内の場合はtrue
+     */
+    public static boolean covers(double[] table, int level) {
+        return table != null && level >= 1 && level <= table.length;
+    }
+}
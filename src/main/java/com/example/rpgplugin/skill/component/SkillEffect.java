@@ -1,8 +1,12 @@
 package com.example.rpgplugin.skill.component;
 
+import com.example.rpgplugin.skill.component.trigger.Trigger;
+import com.example.rpgplugin.skill.component.trigger.TriggerHandler;
+import com.example.rpgplugin.skill.component.trigger.TriggerSettings;
 import org.bukkit.entity.LivingEntity;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +24,12 @@ public class SkillEffect {
     private final List<EffectComponent> components = new ArrayList<>();
     private final Map<Integer, ActiveSkillData> activeSkills = new HashMap<>();
 
+    /** 平坦化済み実行計画（コンポーネント・子コンポーネント追加時に破棄） */
+    private volatile ComponentPlan plan;
+
+    /** コンパイル済みトリガーハンドラー（コンポーネント・子コンポーネント追加時に破棄、トリガーの設定変更時に再作成） */
+    private volatile TriggerTemplates triggerTemplates;
+
     /**
      * コンストラクタ
      *
@@ -47,9 +57,21 @@ public class SkillEffect {
         if (component != null) {
             components.add(component);
             component.setSkill(this);
+            invalidateStructure();
         }
     }
 
+    /**
+     * コンポーネントツリーの構成変更を通知します
+     *
+     * <p>実行計画とコンパイル済みトリガーハンドラーを破棄し、次回参照時に作り直します。
+     * 子コンポーネントの追加時は {@link EffectComponent#addChild(EffectComponent)} から呼ばれます。</p>
+     */
+    void invalidateStructure() {
+        plan = null;
+        triggerTemplates = null;
+    }
+
     /**
      * コンポーネントリストを取得します
      *
@@ -59,6 +81,103 @@ public class SkillEffect {
         return components;
     }
 
+    /**
+     * 平坦化済み実行計画を取得します（未作成の場合は作成）
+     *
+     * @return 実行計画
+     */
+    public ComponentPlan getPlan() {
+        ComponentPlan current = plan;
+        if (current == null) {
+            current = ComponentPlan.of(components);
+            plan = current;
+        }
+        return current;
+    }
+
+    /**
+     * 全コンポーネントのレベル別パラメータテーブルを事前計算します
+     *
+     * @param maxLevel 最大スキルレベル
+     * @param skillVariables スキル変数（null可）
+     * @see EffectComponent#precomputeLevelTables(int, Map)
+     */
+    public void precomputeLevelTables(int maxLevel, Map<String, Double> skillVariables) {
+        for (EffectComponent component : components) {
+            component.precomputeLevelTables(maxLevel, skillVariables);
+        }
+    }
+
+    /**
+     * トリガーハンドラーをコンパイルします
+     *
+     * <p>実行計画を走査し、トリガーごとに型変換済みの設定を持つハンドラーを作成します。
+     * ハンドラーは発動者に依存しないため、全発動で共有されます。
+     * コンパイル後にトリガーの設定が変更された場合は、次回参照時に作り直します。</p>
+     */
+    public void compileTriggerHandlers() {
+        List<TriggerHandler> castHandlers = new ArrayList<>();
+        List<TriggerHandler> delayedHandlers = new ArrayList<>();
+        List<ComponentSettings> watched = new ArrayList<>();
+        ComponentPlan current = getPlan();
+        for (int i = 0; i < current.size(); i++) {
+            EffectComponent component = current.get(i);
+            if (component.getType() != ComponentType.TRIGGER || !(component instanceof Trigger<?> trigger)) {
+                continue;
+            }
+            watched.add(component.getSettings());
+            TriggerSettings settings = TriggerSettings.from(component.getSettings());
+            TriggerHandler handler = new TriggerHandler(
+                    skillId,
+                    trigger,
+                    settings,
+                    component,
+                    settings.getInt("duration", 0)
+            );
+            if ("CAST".equals(trigger.getKey())) {
+                castHandlers.add(handler);
+            } else {
+                delayedHandlers.add(handler);
+            }
+        }
+        int[] modCounts = new int[watched.size()];
+        for (int i = 0; i < modCounts.length; i++) {
+            modCounts[i] = watched.get(i).getModCount();
+        }
+        triggerTemplates = new TriggerTemplates(
+                Collections.unmodifiableList(castHandlers),
+                Collections.unmodifiableList(delayedHandlers),
+                watched.toArray(new ComponentSettings[0]),
+                modCounts);
+    }
+
+    /**
+     * CASTトリガーのハンドラーを取得します（未コンパイルの場合はコンパイル）
+     *
+     * @return 即時実行するハンドラーリスト（読み取り専用）
+     */
+    public List<TriggerHandler> getCastTriggerHandlers() {
+        return triggerTemplates().castHandlers();
+    }
+
+    /**
+     * CAST以外のトリガーのハンドラーを取得します（未コンパイルの場合はコンパイル）
+     *
+     * @return トリガー発火時に実行するハンドラーリスト（読み取り専用）
+     */
+    public List<TriggerHandler> getDelayedTriggerHandlers() {
+        return triggerTemplates().delayedHandlers();
+    }
+
+    private TriggerTemplates triggerTemplates() {
+        TriggerTemplates templates = triggerTemplates;
+        if (templates == null || templates.isModified()) {
+            compileTriggerHandlers();
+            templates = triggerTemplates;
+        }
+        return templates;
+    }
+
     /**
      * スキルを実行します
      *
@@ -168,6 +287,24 @@ public class SkillEffect {
         CastDataManager.clearCastData(caster);
     }
 
+    /**
+     * コンパイル済みトリガーハンドラー
+     *
+     * <p>コンパイル時点の各トリガーの設定の変更回数を保持し、設定変更を検出します。</p>
+     */
+    private record TriggerTemplates(List<TriggerHandler> castHandlers, List<TriggerHandler> delayedHandlers,
+                                    ComponentSettings[] watched, int[] modCounts) {
+
+        boolean isModified() {
+            for (int i = 0; i < watched.length; i++) {
+                if (watched[i].getModCount() != modCounts[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * アクティブスキルデータ
      */
@@ -1,5 +1,7 @@
 package com.example.rpgplugin.skill.component.mechanic;
 
+import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.SkillScheduler;
 import com.example.rpgplugin.skill.component.ComponentSettings;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -19,7 +21,7 @@ public class ChannelMechanic extends MechanicComponent {
     private static final String TICKS = "ticks";
 
     private static final Map<UUID, ChannelTask> activeChannels = new HashMap<>();
-    private com.example.rpgplugin.RPGPlugin plugin;
+    private RPGPlugin plugin;
 
     /**
      * コンストラクタ
@@ -31,15 +33,18 @@ public class ChannelMechanic extends MechanicComponent {
     /**
      * プラグインを設定します
      *
+     * <p>未設定の場合は実行時に {@link RPGPlugin#getInstance()} を使用します。</p>
+     *
      * @param plugin プラグインインスタンス
      */
-    public void setPlugin(com.example.rpgplugin.RPGPlugin plugin) {
+    public void setPlugin(RPGPlugin plugin) {
         this.plugin = plugin;
     }
 
     @Override
     protected boolean apply(LivingEntity caster, int level, LivingEntity target) {
         ComponentSettings settings = getSettings();
+        RPGPlugin plugin = this.plugin != null ? this.plugin : RPGPlugin.getInstance();
         if (settings == null || plugin == null) {
             return false;
         }
@@ -56,7 +61,13 @@ public class ChannelMechanic extends MechanicComponent {
         // 新しいチャネリングを開始
         ChannelTask task = new ChannelTask(caster, level, target, durationTicks);
         activeChannels.put(targetId, task);
-        task.runTaskLater(plugin, durationTicks);
+        SkillScheduler scheduler = plugin.getSkillScheduler();
+        if (scheduler != null) {
+            // スキルスケジューラーが有効ならティック予算内で完了処理を実行
+            task.scheduled = scheduler.schedule(durationTicks, SkillScheduler.Priority.EFFECT, task::run);
+        } else {
+            task.runTaskLater(plugin, durationTicks);
+        }
 
         return true;
     }
@@ -69,7 +80,11 @@ public class ChannelMechanic extends MechanicComponent {
     public static void cancelChannel(UUID targetId) {
         ChannelTask task = activeChannels.remove(targetId);
         if (task != null) {
-            task.cancel();
+            if (task.scheduled != null) {
+                task.scheduled.cancel();
+            } else {
+                task.cancel();
+            }
             // 中断時の子コンポーネントを実行しない
         }
     }
@@ -81,6 +96,7 @@ public class ChannelMechanic extends MechanicComponent {
         private final LivingEntity caster;
         private final int level;
         private final LivingEntity target;
+        private SkillScheduler.ScheduledTask scheduled;
 
         ChannelTask(LivingEntity caster, int level, LivingEntity target, long durationTicks) {
             this.caster = caster;
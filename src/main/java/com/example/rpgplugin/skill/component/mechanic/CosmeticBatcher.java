@@ -0,0 +1,237 @@
+package com.example.rpgplugin.skill.component.mechanic;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * パーティクル・サウンドの一括送信
+ *
+ * <p>{@link ParticleMechanic} と {@link SoundMechanic} の演出要求をティック中に溜め、
+ * ティック終了時にまとめて送信します。</p>
+ *
+ * <ul>
+ *   <li>同じティック・同じ位置（1/4ブロック単位）・同じ内容の要求は1回にまとめる</li>
+ *   <li>送信先は表示距離内のプレイヤーのみ（サウンドは可聴範囲とのいずれか短い方）</li>
+ *   <li>プレイヤー位置はワールドごとに送信時に1回だけ取得する</li>
+ * </ul>
+ *
+ * <p>Bukkit APIを扱うため、メインスレッドからのみ使用してください。</p>
+ */
+public final class CosmeticBatcher implements Listener {
+
+    /** 位置を同一とみなす単位（1ブロックあたりの分割数） */
+    private static final double CELLS_PER_BLOCK = 4.0;
+
+    /** 音量1.0あたりの可聴距離（バニラと同じ） */
+    private static final double SOUND_RANGE_PER_VOLUME = 16.0;
+
+    private final Logger logger;
+    private final double viewDistance;
+    private final Map<EmissionKey, Location> pending = new LinkedHashMap<>();
+
+    private long requestedCount;
+    private long deduplicatedCount;
+    private long sentCount;
+
+    /**
+     * コンストラクタ
+     *
+     * @param logger ロガー
+     * @param viewDistance 表示距離（ブロック）
+     */
+    public CosmeticBatcher(Logger logger, double viewDistance) {
+        this.logger = logger;
+        this.viewDistance = Math.max(0.0, viewDistance);
+    }
+
+    /**
+     * パーティクルの表示を要求します
+     *
+     * @param location 位置
+     * @param particle パーティクル
+     * @param count 数
+     * @param offset 拡散（XYZ共通）
+     * @param speed 速度
+     * @return 受け付けた場合はtrue（追加データが必要なパーティクルは受け付けない）
+     */
+    public boolean particle(Location location, Particle particle, int count, double offset, double speed) {
+        if (location == null || location.getWorld() == null || particle == null
+                || particle.getDataType() != Void.class) {
+            return false;
+        }
+        enqueue(new EmissionKey(location, particle, count, offset, speed, null, 0f, 0f), location);
+        return true;
+    }
+
+    /**
+     * サウンドの再生を要求します
+     *
+     * @param location 位置
+     * @param sound サウンド
+     * @param volume 音量
+     * @param pitch ピッチ
+     * @return 受け付けた場合はtrue
+     */
+    public boolean sound(Location location, Sound sound, float volume, float pitch) {
+        if (location == null || location.getWorld() == null || sound == null) {
+            return false;
+        }
+        enqueue(new EmissionKey(location, null, 0, 0.0, 0.0, sound, volume, pitch), location);
+        return true;
+    }
+
+    /**
+     * ティック終了時に溜めた演出を送信します
+     *
+     * @param event ティック終了イベント
+     */
+    @EventHandler
+    public void onTickEnd(ServerTickEndEvent event) {
+        flush();
+    }
+
+    /**
+     * 溜めた演出を送信します
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<World, List<Receiver>> receiversByWorld = new HashMap<>();
+        for (Map.Entry<EmissionKey, Location> entry : pending.entrySet()) {
+            EmissionKey key = entry.getKey();
+            Location location = entry.getValue();
+            List<Receiver> receivers = receiversByWorld.computeIfAbsent(location.getWorld(), CosmeticBatcher::receiversOf);
+            if (receivers.isEmpty()) {
+                continue;
+            }
+
+            double range = key.sound != null
+                    ? Math.min(viewDistance, SOUND_RANGE_PER_VOLUME * Math.max(1.0f, key.volume))
+                    : viewDistance;
+            double rangeSquared = range * range;
+            for (Receiver receiver : receivers) {
+                if (receiver.distanceSquared(location) > rangeSquared) {
+                    continue;
+                }
+                try {
+                    if (key.particle != null) {
+                        receiver.player.spawnParticle(key.particle, location, key.count,
+                                key.offset, key.offset, key.offset, key.speed);
+                    } else {
+                        receiver.player.playSound(location, key.sound, key.volume, key.pitch);
+                    }
+                    sentCount++;
+                } catch (RuntimeException e) {
+                    logger.log(Level.FINE, "Failed to send cosmetic effect", e);
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * 未送信の要求数を取得します
+     *
+     * @return 重複をまとめた後の要求数
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 累計の要求数を取得します
+     *
+     * @return 要求数
+     */
+    public long getRequestedCount() {
+        return requestedCount;
+    }
+
+    /**
+     * 重複としてまとめた累計の要求数を取得します
+     *
+     * @return まとめた要求数
+     */
+    public long getDeduplicatedCount() {
+        return deduplicatedCount;
+    }
+
+    /**
+     * 累計の送信数（要求×受信プレイヤー）を取得します
+     *
+     * @return 送信数
+     */
+    public long getSentCount() {
+        return sentCount;
+    }
+
+    /**
+     * 未送信の要求を破棄します
+     */
+    public void clear() {
+        pending.clear();
+    }
+
+    private void enqueue(EmissionKey key, Location location) {
+        requestedCount++;
+        if (pending.putIfAbsent(key, location.clone()) != null) {
+            deduplicatedCount++;
+        }
+    }
+
+    private static List<Receiver> receiversOf(World world) {
+        List<Player> players = world.getPlayers();
+        List<Receiver> receivers = new ArrayList<>(players.size());
+        for (Player player : players) {
+            Location location = player.getLocation();
+            receivers.add(new Receiver(player, location.getX(), location.getY(), location.getZ()));
+        }
+        return receivers;
+    }
+
+    /**
+     * 送信先プレイヤーと送信時点の位置
+     */
+    private record Receiver(Player player, double x, double y, double z) {
+
+        double distanceSquared(Location location) {
+            double dx = location.getX() - x;
+            double dy = location.getY() - y;
+            double dz = location.getZ() - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * 重複判定用のキー（位置は1/4ブロック単位に丸める）
+     */
+    private record EmissionKey(World world, long cellX, long cellY, long cellZ,
+                               Particle particle, int count, double offset, double speed,
+                               Sound sound, float volume, float pitch) {
+
+        EmissionKey(Location location, Particle particle, int count, double offset, double speed,
+                    Sound sound, float volume, float pitch) {
+            this(location.getWorld(),
+                    Math.round(location.getX() * CELLS_PER_BLOCK),
+                    Math.round(location.getY() * CELLS_PER_BLOCK),
+                    Math.round(location.getZ() * CELLS_PER_BLOCK),
+                    particle, count, offset, speed, sound, volume, pitch);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.rpgplugin.skill.component.mechanic;
 
+import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.SkillScheduler;
 import com.example.rpgplugin.skill.component.ComponentSettings;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -18,7 +20,7 @@ public class DelayMechanic extends MechanicComponent {
     private static final String DELAY = "delay";
     private static final String TICKS = "ticks";
 
-    private com.example.rpgplugin.RPGPlugin plugin;
+    private RPGPlugin plugin;
 
     /**
      * コンストラクタ
@@ -30,15 +32,18 @@ public class DelayMechanic extends MechanicComponent {
     /**
      * プラグインを設定します
      *
+     * <p>未設定の場合は実行時に {@link RPGPlugin#getInstance()} を使用します。</p>
+     *
      * @param plugin プラグインインスタンス
      */
-    public void setPlugin(com.example.rpgplugin.RPGPlugin plugin) {
+    public void setPlugin(RPGPlugin plugin) {
         this.plugin = plugin;
     }
 
     @Override
     protected boolean apply(LivingEntity caster, int level, LivingEntity target) {
         ComponentSettings settings = getSettings();
+        RPGPlugin plugin = this.plugin != null ? this.plugin : RPGPlugin.getInstance();
         if (settings == null || plugin == null) {
             return false;
         }
@@ -48,7 +53,14 @@ public class DelayMechanic extends MechanicComponent {
 
         long delayTicks = useTicks ? (long) delay : (long) (delay * 20);
 
-        // 子コンポーネントを遅延実行
+        // 子コンポーネントを遅延実行（スキルスケジューラーが有効ならティック予算内で実行）
+        SkillScheduler scheduler = plugin.getSkillScheduler();
+        if (scheduler != null) {
+            scheduler.schedule(delayTicks, SkillScheduler.Priority.EFFECT,
+                    () -> executeChildren(caster, level, List.of(target)));
+            return true;
+        }
+
         new BukkitRunnable() {
             @Override
             public void run() {
@@ -1,5 +1,6 @@
 package com.example.rpgplugin.skill.component.mechanic;
 
+import com.example.rpgplugin.RPGPlugin;
 import com.example.rpgplugin.skill.component.ComponentSettings;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -41,6 +42,14 @@ public class ParticleMechanic extends MechanicComponent {
         try {
             Particle particle = Particle.valueOf(particleName);
             Location loc = target.getLocation().add(0, 1, 0);
+
+            // 一括送信が有効ならティック終了時にまとめて表示
+            RPGPlugin plugin = RPGPlugin.getInstance();
+            CosmeticBatcher batcher = plugin != null ? plugin.getCosmeticBatcher() : null;
+            if (batcher != null) {
+                return batcher.particle(loc, particle, count, offset, speed);
+            }
+
             target.getWorld().spawnParticle(particle, loc, count, offset, offset, offset, speed);
             return true;
         } catch (IllegalArgumentException e) {
@@ -1,5 +1,6 @@
 package com.example.rpgplugin.skill.component.mechanic;
 
+import com.example.rpgplugin.RPGPlugin;
 import com.example.rpgplugin.skill.component.ComponentSettings;
 import org.bukkit.Sound;
 import org.bukkit.entity.LivingEntity;
@@ -44,6 +45,13 @@ public class SoundMechanic extends MechanicComponent {
             volume = Math.max(0, volume);
             pitch = Math.min(2, Math.max(0.5f, pitch));
 
+            // 一括送信が有効ならティック終了時にまとめて再生
+            RPGPlugin plugin = RPGPlugin.getInstance();
+            CosmeticBatcher batcher = plugin != null ? plugin.getCosmeticBatcher() : null;
+            if (batcher != null) {
+                return batcher.sound(target.getLocation(), sound, volume, pitch);
+            }
+
             target.getWorld().playSound(target.getLocation(), sound, volume, pitch);
             return true;
         } catch (IllegalArgumentException e) {
@@ -1,8 +1,6 @@
 package com.example.rpgplugin.skill.component.target;
 
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.Location;
-import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,36 +48,8 @@ public class ConeTargetComponent extends TargetComponent {
         double range = getRange(level, 10.0);
         int maxTargets = getMaxTargets(level, 5);
 
-        // 近くのエンティティを取得
-        List<LivingEntity> nearby = getNearbyEntities(caster, range);
-
-        // 視線方向を取得
-        Vector direction = caster.getEyeLocation().getDirection();
-        Location casterLoc = caster.getEyeLocation();
-
-        // コーン内のエンティティをフィルタ
-        for (LivingEntity entity : nearby) {
-            if (entity.equals(caster)) {
-                continue;
-            }
-
-            Vector toEntity = entity.getLocation().toVector().subtract(casterLoc.toVector());
-            double distance = toEntity.length();
-
-            if (distance > range) {
-                continue;
-            }
-
-            // 角度を計算
-            toEntity.normalize();
-            double angleDiff = Math.toDegrees(Math.acos(
-                    Math.max(-1.0, Math.min(1.0, direction.dot(toEntity)))
-            ));
-
-            if (angleDiff <= angle / 2.0) {
-                targets.add(entity);
-            }
-        }
+        // コーン内のエンティティを取得
+        collectEntitiesInCone(caster, range, angle, targets);
 
         // 最大ターゲット数で制限
         return limitTargets(targets, maxTargets);
@@ -100,36 +70,8 @@ public class ConeTargetComponent extends TargetComponent {
         double range = getRange(level, 10.0);
         int maxTargets = getMaxTargets(level, 5);
 
-        // 近くのエンティティを取得
-        List<LivingEntity> nearby = getNearbyEntities(reference, range);
-
-        // 視線方向を取得（基準エンティティの視線）
-        Vector direction = reference.getEyeLocation().getDirection();
-        Location referenceLoc = reference.getEyeLocation();
-
-        // コーン内のエンティティをフィルタ
-        for (LivingEntity entity : nearby) {
-            if (entity.equals(reference)) {
-                continue;
-            }
-
-            Vector toEntity = entity.getLocation().toVector().subtract(referenceLoc.toVector());
-            double distance = toEntity.length();
-
-            if (distance > range) {
-                continue;
-            }
-
-            // 角度を計算
-            toEntity.normalize();
-            double angleDiff = Math.toDegrees(Math.acos(
-                    Math.max(-1.0, Math.min(1.0, direction.dot(toEntity)))
-            ));
-
-            if (angleDiff <= angle / 2.0) {
-                targets.add(entity);
-            }
-        }
+        // コーン内のエンティティを取得
+        collectEntitiesInCone(reference, range, angle, targets);
 
         return limitTargets(targets, maxTargets);
     }
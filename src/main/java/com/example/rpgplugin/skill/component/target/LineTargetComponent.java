@@ -1,8 +1,6 @@
 package com.example.rpgplugin.skill.component.target;
 
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.Location;
-import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,40 +48,8 @@ public class LineTargetComponent extends TargetComponent {
         double width = getWidth(level, 2.0);
         int maxTargets = getMaxTargets(level, 5);
 
-        // 視線方向に基づいて直線上のエンティティを検索
-        Location casterLoc = caster.getEyeLocation();
-        Vector direction = casterLoc.getDirection().normalize();
-
-        // 範囲内のエンティティを取得（長さ+幅の余裕を持つ）
-        double searchRange = length + width;
-        List<LivingEntity> nearby = getNearbyEntities(caster, searchRange);
-
-        for (LivingEntity entity : nearby) {
-            if (entity.equals(caster)) {
-                continue;
-            }
-
-            // キャスターからエンティティへのベクトル
-            Vector toEntity = entity.getLocation().toVector().subtract(casterLoc.toVector());
-
-            // 視線方向への投影
-            double projection = toEntity.dot(direction);
-
-            // 直線の長さ範囲内かチェック
-            if (projection < 0 || projection > length) {
-                continue;
-            }
-
-            // 直線からの距離を計算
-            Vector projectedPoint = direction.clone().multiply(projection);
-            Vector perpendicular = toEntity.clone().subtract(projectedPoint);
-            double distanceFromLine = perpendicular.length();
-
-            // 幅の範囲内かチェック
-            if (distanceFromLine <= width) {
-                targets.add(entity);
-            }
-        }
+        // 視線方向に基づいて直線上のエンティティを取得
+        collectEntitiesOnLine(caster, length, width, targets);
 
         // 距離順にソート
         targets.sort((a, b) -> {
@@ -111,40 +77,8 @@ public class LineTargetComponent extends TargetComponent {
         double width = getWidth(level, 2.0);
         int maxTargets = getMaxTargets(level, 5);
 
-        // 視線方向に基づいて直線上のエンティティを検索
-        Location referenceLoc = reference.getEyeLocation();
-        Vector direction = referenceLoc.getDirection().normalize();
-
-        // 範囲内のエンティティを取得（長さ+幅の余裕を持つ）
-        double searchRange = length + width;
-        List<LivingEntity> nearby = getNearbyEntities(reference, searchRange);
-
-        for (LivingEntity entity : nearby) {
-            if (entity.equals(reference)) {
-                continue;
-            }
-
-            // 基準エンティティからエンティティへのベクトル
-            Vector toEntity = entity.getLocation().toVector().subtract(referenceLoc.toVector());
-
-            // 視線方向への投影
-            double projection = toEntity.dot(direction);
-
-            // 直線の長さ範囲内かチェック
-            if (projection < 0 || projection > length) {
-                continue;
-            }
-
-            // 直線からの距離を計算
-            Vector projectedPoint = direction.clone().multiply(projection);
-            Vector perpendicular = toEntity.clone().subtract(projectedPoint);
-            double distanceFromLine = perpendicular.length();
-
-            // 幅の範囲内かチェック
-            if (distanceFromLine <= width) {
-                targets.add(entity);
-            }
-        }
+        // 視線方向に基づいて直線上のエンティティを取得
+        collectEntitiesOnLine(reference, length, width, targets);
 
         // 距離順にソート
         targets.sort((a, b) -> {
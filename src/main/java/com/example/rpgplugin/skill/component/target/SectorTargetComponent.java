@@ -1,8 +1,6 @@
 package com.example.rpgplugin.skill.component.target;
 
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.Location;
-import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -52,36 +50,8 @@ public class SectorTargetComponent extends TargetComponent {
         double radius = getRadius(level, 8.0);
         int maxTargets = getMaxTargets(level, 8);
 
-        // 近くのエンティティを取得
-        List<LivingEntity> nearby = getNearbyEntities(caster, radius);
-
-        // 視線方向を取得
-        Vector direction = caster.getEyeLocation().getDirection();
-        Location casterLoc = caster.getEyeLocation();
-
-        // 扇形内のエンティティをフィルタ
-        for (LivingEntity entity : nearby) {
-            if (entity.equals(caster)) {
-                continue;
-            }
-
-            Vector toEntity = entity.getLocation().toVector().subtract(casterLoc.toVector());
-            double distance = toEntity.length();
-
-            if (distance > radius) {
-                continue;
-            }
-
-            // 角度を計算
-            toEntity.normalize();
-            double angleDiff = Math.toDegrees(Math.acos(
-                    Math.max(-1.0, Math.min(1.0, direction.dot(toEntity)))
-            ));
-
-            if (angleDiff <= angle / 2.0) {
-                targets.add(entity);
-            }
-        }
+        // 扇形内のエンティティを取得
+        collectEntitiesInCone(caster, radius, angle, targets);
 
         // 最大ターゲット数で制限
         return limitTargets(targets, maxTargets);
@@ -102,36 +72,8 @@ public class SectorTargetComponent extends TargetComponent {
         double radius = getRadius(level, 8.0);
         int maxTargets = getMaxTargets(level, 8);
 
-        // 近くのエンティティを取得
-        List<LivingEntity> nearby = getNearbyEntities(reference, radius);
-
-        // 視線方向を取得（基準エンティティの視線）
-        Vector direction = reference.getEyeLocation().getDirection();
-        Location referenceLoc = reference.getEyeLocation();
-
-        // 扇形内のエンティティをフィルタ
-        for (LivingEntity entity : nearby) {
-            if (entity.equals(reference)) {
-                continue;
-            }
-
-            Vector toEntity = entity.getLocation().toVector().subtract(referenceLoc.toVector());
-            double distance = toEntity.length();
-
-            if (distance > radius) {
-                continue;
-            }
-
-            // 角度を計算
-            toEntity.normalize();
-            double angleDiff = Math.toDegrees(Math.acos(
-                    Math.max(-1.0, Math.min(1.0, direction.dot(toEntity)))
-            ));
-
-            if (angleDiff <= angle / 2.0) {
-                targets.add(entity);
-            }
-        }
+        // 扇形内のエンティティを取得
+        collectEntitiesInCone(reference, radius, angle, targets);
 
         return limitTargets(targets, maxTargets);
     }
@@ -1,11 +1,15 @@
 package com.example.rpgplugin.skill.component.target;
 
+import com.example.rpgplugin.RPGPlugin;
 import com.example.rpgplugin.skill.component.ComponentType;
 import com.example.rpgplugin.skill.component.EffectComponent;
 import com.example.rpgplugin.skill.target.TargetType;
 import com.example.rpgplugin.skill.target.AreaShape;
+import com.example.rpgplugin.skill.target.EntitySpatialIndex;
+import org.bukkit.Location;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -193,9 +197,22 @@ public abstract class TargetComponent extends EffectComponent {
         return base + (perLevel * (level - 1));
     }
 
+    /**
+     * プラグインが保持する空間インデックスを取得します
+     *
+     * @return 空間インデックス、プラグインが未初期化の場合はnull
+     */
+    private static EntitySpatialIndex getSpatialIndex() {
+        RPGPlugin plugin = RPGPlugin.getInstance();
+        return plugin != null ? plugin.getEntitySpatialIndex() : null;
+    }
+
     /**
      * 近くのエンティティを取得します
      *
+     * <p>プラグインの {@link EntitySpatialIndex} が利用できる場合はインデックスから取得し、
+     * 利用できない場合はBukkitのワールド検索を使用します。</p>
+     *
      * @param caster 発動者
      * @param range 範囲
      * @return 近くのエンティティリスト
@@ -206,6 +223,12 @@ public abstract class TargetComponent extends EffectComponent {
             return entities;
         }
 
+        EntitySpatialIndex index = getSpatialIndex();
+        if (index != null) {
+            index.collectNearby(caster, range, entities);
+            return entities;
+        }
+
         for (org.bukkit.entity.Entity entity : caster.getNearbyEntities(range, range, range)) {
             if (entity instanceof LivingEntity && entity.isValid()) {
                 entities.add((LivingEntity) entity);
@@ -215,6 +238,94 @@ public abstract class TargetComponent extends EffectComponent {
         return entities;
     }
 
+    /**
+     * 基準エンティティの視線方向のコーン内にいるエンティティを収集します
+     *
+     * @param reference 基準エンティティ（頂点は目の位置）
+     * @param range 距離
+     * @param angle コーンの全角（度数法）
+     * @param out 結果を追加するリスト
+     */
+    protected void collectEntitiesInCone(LivingEntity reference, double range, double angle, List<LivingEntity> out) {
+        Location apex = reference.getEyeLocation();
+        Vector direction = apex.getDirection();
+
+        EntitySpatialIndex index = getSpatialIndex();
+        if (index != null) {
+            index.collectInCone(apex, direction, range, angle, reference, out);
+            return;
+        }
+
+        for (LivingEntity entity : getNearbyEntities(reference, range)) {
+            if (entity.equals(reference)) {
+                continue;
+            }
+
+            Vector toEntity = entity.getLocation().toVector().subtract(apex.toVector());
+            double distance = toEntity.length();
+
+            if (distance > range) {
+                continue;
+            }
+
+            // 角度を計算
+            toEntity.normalize();
+            double angleDiff = Math.toDegrees(Math.acos(
+                    Math.max(-1.0, Math.min(1.0, direction.dot(toEntity)))
+            ));
+
+            if (angleDiff <= angle / 2.0) {
+                out.add(entity);
+            }
+        }
+    }
+
+    /**
+     * 基準エンティティの視線方向の直線上にいるエンティティを収集します
+     *
+     * @param reference 基準エンティティ（始点は目の位置）
+     * @param length 直線の長さ
+     * @param width 直線からの許容距離
+     * @param out 結果を追加するリスト
+     */
+    protected void collectEntitiesOnLine(LivingEntity reference, double length, double width, List<LivingEntity> out) {
+        Location start = reference.getEyeLocation();
+        Vector direction = start.getDirection().normalize();
+
+        EntitySpatialIndex index = getSpatialIndex();
+        if (index != null) {
+            index.collectOnLine(start, direction, length, width, reference, out);
+            return;
+        }
+
+        // 範囲内のエンティティを取得（長さ+幅の余裕を持つ）
+        for (LivingEntity entity : getNearbyEntities(reference, length + width)) {
+            if (entity.equals(reference)) {
+                continue;
+            }
+
+            // 基準エンティティからエンティティへのベクトル
+            Vector toEntity = entity.getLocation().toVector().subtract(start.toVector());
+
+            // 視線方向への投影
+            double projection = toEntity.dot(direction);
+
+            // 直線の長さ範囲内かチェック
+            if (projection < 0 || projection > length) {
+                continue;
+            }
+
+            // 直線からの距離を計算
+            Vector projectedPoint = direction.clone().multiply(projection);
+            Vector perpendicular = toEntity.clone().subtract(projectedPoint);
+
+            // 幅の範囲内かチェック
+            if (perpendicular.length() <= width) {
+                out.add(entity);
+            }
+        }
+    }
+
     /**
      * 敵対的エンティティをフィルタリングします
      *
@@ -1,6 +1,8 @@
 package com.example.rpgplugin.skill.component.trigger;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
+import com.example.rpgplugin.core.scheduler.TimingWheel;
 import com.example.rpgplugin.skill.component.SkillEffect;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -12,14 +14,22 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.ProjectileLaunchEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerToggleSneakEvent;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * トリガーマネージャー
  * <p>スキル発動後にトリガーリスナーを登録・管理します</p>
  *
+ * <ul>
+ *   <li>アクティブトリガーはエンティティID → スキルID で保持し、各データはトリガーキーごとにハンドラーを索引化</li>
+ *   <li>発動者はアクティブ化時に保持するため、イベント処理時にオンラインプレイヤーを走査しない</li>
+ *   <li>期限付きトリガーは期限管理サービスに登録し、イベントの有無にかかわらず期限で削除</li>
+ * </ul>
+ *
  * @author RPGPlugin Team
  * @version 1.0.0
  */
@@ -28,11 +38,13 @@ public class TriggerManager implements Listener {
     private static TriggerManager instance;
 
     private final RPGPlugin plugin;
-    private final Map<String, SkillEffect> skillEffects = new HashMap<>();
-    private final Map<Integer, Map<String, ActiveTriggerData>> activeTriggers = new HashMap<>();
+    private final Map<String, SkillEffect> skillEffects = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<String, ActiveTriggerData>> activeTriggers = new ConcurrentHashMap<>();
+    private final ExpiryService expiryService;
 
     private TriggerManager(RPGPlugin plugin) {
         this.plugin = plugin;
+        this.expiryService = plugin.getExpiryService();
     }
 
     /**
@@ -79,8 +91,13 @@ public class TriggerManager implements Listener {
     public void unregisterSkill(String skillId) {
         skillEffects.remove(skillId);
         // 全てのアクティブトリガーをクリア
-        for (Map<String, ActiveTriggerData> entityTriggers : activeTriggers.values()) {
-            entityTriggers.remove(skillId);
+        for (Integer entityId : activeTriggers.keySet()) {
+            Map<String, ActiveTriggerData> entityTriggers = activeTriggers.get(entityId);
+            ActiveTriggerData data = entityTriggers != null ? entityTriggers.remove(skillId) : null;
+            if (data != null) {
+                data.cancelExpiry();
+                removeIfEmpty(entityId);
+            }
         }
     }
 
@@ -100,11 +117,20 @@ public class TriggerManager implements Listener {
         // 全トリガーが期限切れであればアクティブデータを削除
         cleanupExpired(entityId);
 
-        Map<String, ActiveTriggerData> entityTriggers = activeTriggers
-                .computeIfAbsent(entityId, k -> new HashMap<>());
-
-        ActiveTriggerData data = new ActiveTriggerData(duration, handlers);
-        entityTriggers.put(skillId, data);
+        ActiveTriggerData data = new ActiveTriggerData(caster, duration, handlers);
+        activeTriggers.compute(entityId, (id, entityTriggers) -> {
+            Map<String, ActiveTriggerData> triggers = entityTriggers != null
+                    ? entityTriggers
+                    : new ConcurrentHashMap<>();
+            ActiveTriggerData previous = triggers.put(skillId, data);
+            if (previous != null) {
+                previous.cancelExpiry();
+            }
+            return triggers;
+        });
+        if (duration > 0 && expiryService != null) {
+            data.expiry = expiryService.scheduleMillis(duration * 1000L, () -> expire(entityId, skillId, data));
+        }
 
         // スキル効果をアクティブ化
         SkillEffect effect = skillEffects.get(skillId);
@@ -126,11 +152,13 @@ public class TriggerManager implements Listener {
         if (entityTriggers != null) {
             ActiveTriggerData data = entityTriggers.remove(skillId);
             if (data != null) {
+                data.cancelExpiry();
                 // コンポーネントのクリーンアップ
                 for (TriggerHandler handler : data.handlers) {
                     handler.getRootComponent().cleanUp(caster);
                 }
             }
+            removeIfEmpty(entityId);
         }
 
         // スキル効果を非アクティブ化
@@ -158,34 +186,57 @@ public class TriggerManager implements Listener {
             ActiveTriggerData data = entry.getValue();
             if (data.duration > 0 && data.expiryTime <= now) {
                 // 期限切れ
-                LivingEntity entity = getEntity(entityId);
-                if (entity != null) {
-                    for (TriggerHandler handler : data.handlers) {
-                        handler.getRootComponent().cleanUp(entity);
-                    }
-                }
+                data.cancelExpiry();
+                cleanUpComponents(data);
                 it.remove();
             }
         }
 
-        if (entityTriggers.isEmpty()) {
-            activeTriggers.remove(entityId);
+        removeIfEmpty(entityId);
+    }
+
+    /**
+     * 期限を迎えたトリガーを削除します
+     *
+     * <p>期限管理サービスから呼ばれます。非アクティブ化や再アクティブ化で
+     * 既に置き換えられたデータの場合は何もしません。</p>
+     *
+     * @param entityId エンティティID
+     * @param skillId  スキルID
+     * @param data     登録時のアクティブトリガーデータ
+     */
+    private void expire(int entityId, String skillId, ActiveTriggerData data) {
+        Map<String, ActiveTriggerData> entityTriggers = activeTriggers.get(entityId);
+        if (entityTriggers != null && entityTriggers.remove(skillId, data)) {
+            cleanUpComponents(data);
+            removeIfEmpty(entityId);
         }
     }
 
     /**
-     * エンティティを取得します
+     * エンティティの全トリガーを削除します
      *
      * @param entityId エンティティID
-     * @return エンティティ、存在しない場合はnull
      */
-    private LivingEntity getEntity(int entityId) {
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            if (player.getEntityId() == entityId) {
-                return player;
-            }
+    private void clearEntity(int entityId) {
+        Map<String, ActiveTriggerData> entityTriggers = activeTriggers.remove(entityId);
+        if (entityTriggers == null) {
+            return;
+        }
+        for (ActiveTriggerData data : entityTriggers.values()) {
+            data.cancelExpiry();
+            cleanUpComponents(data);
         }
-        return null;
+    }
+
+    private void cleanUpComponents(ActiveTriggerData data) {
+        for (TriggerHandler handler : data.handlers) {
+            handler.getRootComponent().cleanUp(data.caster);
+        }
+    }
+
+    private void removeIfEmpty(int entityId) {
+        activeTriggers.computeIfPresent(entityId, (id, triggers) -> triggers.isEmpty() ? null : triggers);
     }
 
     // ==================== イベントハンドラー ====================
@@ -202,6 +253,16 @@ public class TriggerManager implements Listener {
             int entityId = event.getEntity().getKiller().getEntityId();
             handleTrigger(event, entityId, "KILL");
         }
+
+        // プレイヤー以外は死亡で消滅するため、保持している発動者を解放
+        if (!(event.getEntity() instanceof Player)) {
+            clearEntity(event.getEntity().getEntityId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        clearEntity(event.getPlayer().getEntityId());
     }
 
     @EventHandler(priority = EventPriority.NORMAL)
@@ -270,17 +331,15 @@ public class TriggerManager implements Listener {
         }
 
         for (ActiveTriggerData data : entityTriggers.values()) {
-            for (TriggerHandler handler : data.handlers) {
-                if (handler.getTrigger().getKey().equals(triggerKey)) {
-                    LivingEntity caster = getEntity(entityId);
-                    if (caster == null) {
-                        continue;
-                    }
-
-                    SkillEffect effect = skillEffects.get(handler.getSkillId());
-                    if (effect != null && effect.isActive(caster)) {
-                        handler.handle(event, effect);
-                    }
+            List<TriggerHandler> handlers = data.handlersByKey.get(triggerKey);
+            if (handlers == null) {
+                continue;
+            }
+
+            for (TriggerHandler handler : handlers) {
+                SkillEffect effect = skillEffects.get(handler.getSkillId());
+                if (effect != null && effect.isActive(data.caster)) {
+                    handler.handle(event, effect);
                 }
             }
         }
@@ -290,14 +349,37 @@ public class TriggerManager implements Listener {
      * アクティブトリガーデータ
      */
     private static class ActiveTriggerData {
+        final LivingEntity caster;
         final int duration;
         final long expiryTime;
         final List<TriggerHandler> handlers;
+        final Map<String, List<TriggerHandler>> handlersByKey;
+        volatile TimingWheel.Timeout expiry;
 
-        ActiveTriggerData(int duration, List<TriggerHandler> handlers) {
+        ActiveTriggerData(LivingEntity caster, int duration, List<TriggerHandler> handlers) {
+            this.caster = caster;
             this.duration = duration;
             this.expiryTime = duration > 0 ? System.currentTimeMillis() + duration * 1000L : Long.MAX_VALUE;
             this.handlers = handlers;
+            this.handlersByKey = indexByKey(handlers);
+        }
+
+        void cancelExpiry() {
+            TimingWheel.Timeout timeout = expiry;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        private static Map<String, List<TriggerHandler>> indexByKey(List<TriggerHandler> handlers) {
+            Map<String, List<TriggerHandler>> index = new HashMap<>();
+            for (TriggerHandler handler : handlers) {
+                Trigger<?> trigger = handler.getTrigger();
+                if (trigger != null) {
+                    index.computeIfAbsent(trigger.getKey(), k -> new ArrayList<>(1)).add(handler);
+                }
+            }
+            return index;
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.example.rpgplugin.skill.component.trigger;
 
+import com.example.rpgplugin.skill.component.ComponentSettings;
 import org.bukkit.configuration.ConfigurationSection;
 
 import java.util.HashMap;
@@ -17,6 +18,45 @@ public class TriggerSettings {
 
     private final Map<String, Object> data = new HashMap<>();
 
+    /**
+     * コンポーネント設定から型変換済みのトリガー設定を作成します
+     *
+     * <p>数値・真偽値はそのまま保持し、文字列は数値として解釈できる場合に数値へ変換します。
+     * スキル登録時に1回だけ呼び出し、発動のたびに再変換しないようにします。</p>
+     *
+     * @param componentSettings コンポーネント設定（null可）
+     * @return トリガー設定
+     */
+    public static TriggerSettings from(ComponentSettings componentSettings) {
+        TriggerSettings settings = new TriggerSettings();
+        if (componentSettings == null) {
+            return settings;
+        }
+        for (String key : componentSettings.getKeys()) {
+            Object value = parseValue(componentSettings.getRaw(key));
+            if (value != null) {
+                settings.data.put(key, value);
+            }
+        }
+        return settings;
+    }
+
+    private static Object parseValue(Object raw) {
+        if (raw == null || raw instanceof Number || raw instanceof Boolean) {
+            return raw;
+        }
+        String strValue = raw.toString();
+        try {
+            if (strValue.contains(".")) {
+                return Double.parseDouble(strValue);
+            }
+            return Integer.parseInt(strValue);
+        } catch (NumberFormatException e) {
+            // 文字列として保持
+            return strValue;
+        }
+    }
+
     /**
      * 設定をロードします
      *
@@ -0,0 +1,357 @@
+package com.example.rpgplugin.skill.evaluator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * コンパイル済み数式
+ *
+ * <p>{@link ExpressionParser#compile()} によって一度だけパースされた不変のノードツリーです。</p>
+ * <p>変数はコンパイル時にスロット番号へ解決されるため、評価時は文字列の再トークン化を行いません。</p>
+ *
+ * <p>設計原則:</p>
+ * <ul>
+ *   <li>SOLID-S: 評価処理の単一責務（パースは {@link ExpressionParser} が担当）</li>
+ *   <li>KISS: 不変ノードツリーによるシンプルな再帰評価</li>
+ *   <li>スレッドセーフ: 状態を持たないため複数スレッドから共有可能</li>
+ * </ul>
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+public final class CompiledExpression {
+
+    /** 元の数式文字列 */
+    private final String source;
+
+    /** ルートノード */
+    private final Node root;
+
+    /** スロット番号順の変数名 */
+    private final String[] variableNames;
+
+    /** 各変数が最初に出現した位置（エラーメッセージ用） */
+    private final int[] variablePositions;
+
+    /** 各スロットの予約変数番号（{@link EvaluationFrame} 用） */
+    private final int[] builtinIndices;
+
+    /** 定数レイアウトごとの定数スロット番号（レイアウトが変わった場合のみ再解決） */
+    private volatile ConstantBinding constantBinding;
+
+    /**
+     * コンストラクタ
+     *
+     * @param source 元の数式文字列
+     * @param root ルートノード
+     * @param variableNames スロット番号順の変数名
+     * @param variablePositions 各変数の出現位置
+     */
+    CompiledExpression(String source, Node root, String[] variableNames, int[] variablePositions) {
+        this.source = source;
+        this.root = root;
+        this.variableNames = variableNames;
+        this.variablePositions = variablePositions;
+        this.builtinIndices = new int[variableNames.length];
+        for (int i = 0; i < variableNames.length; i++) {
+            builtinIndices[i] = EvaluationFrame.builtinIndexOf(variableNames[i]);
+        }
+    }
+
+    /**
+     * 変数コンテキストを使用して評価します
+     *
+     * <p>参照される変数をスロットへ一括で解決してからノードツリーを評価します。</p>
+     *
+     * @param context 変数コンテキスト
+     * @return 評価結果
+     * @throws ExpressionParser.FormulaEvaluationException 未定義変数またはゼロ除算の場合
+     */
+    public double evaluate(VariableContext context) throws ExpressionParser.FormulaEvaluationException {
+        double[] slots = new double[variableNames.length];
+        for (int i = 0; i < variableNames.length; i++) {
+            Double value = context.getVariable(variableNames[i]);
+            if (value == null) {
+                throw new ExpressionParser.FormulaEvaluationException(
+                        "未定義の変数: " + variableNames[i] + " (位置: " + variablePositions[i] + ")");
+            }
+            slots[i] = value;
+        }
+        return root.eval(slots);
+    }
+
+    /**
+     * 再利用可能なフレームを使用して評価します
+     *
+     * <p>変数は予約番号とカスタム変数Mapから直接解決され、評価中にオブジェクトを割り当てません。</p>
+     *
+     * @param frame 束縛済みフレーム
+     * @return 評価結果
+     * @throws ExpressionParser.FormulaEvaluationException 未定義変数またはゼロ除算の場合
+     */
+    public double evaluate(EvaluationFrame frame) throws ExpressionParser.FormulaEvaluationException {
+        int[] constantSlots = constantSlots(frame.constantLayout());
+        double[] slots = frame.slots(variableNames.length);
+        for (int i = 0; i < variableNames.length; i++) {
+            int constantSlot = constantSlots != null ? constantSlots[i] : ConstantTable.UNDEFINED;
+            slots[i] = frame.resolve(builtinIndices[i], constantSlot, variableNames[i], variablePositions[i]);
+        }
+        return root.eval(slots);
+    }
+
+    /**
+     * 変数名を定数スロット番号へ解決します
+     *
+     * <p>設定の読み込みごとにレイアウトが一つ作られるため、通常は最初の評価で一度だけ解決されます。</p>
+     *
+     * @param layout 定数レイアウト（null可）
+     * @return 変数スロット順の定数スロット番号、レイアウトがない場合はnull
+     */
+    private int[] constantSlots(ConstantTable.Layout layout) {
+        if (layout == null) {
+            return null;
+        }
+        ConstantBinding binding = constantBinding;
+        if (binding == null || binding.layout() != layout) {
+            int[] resolved = new int[variableNames.length];
+            for (int i = 0; i < variableNames.length; i++) {
+                resolved[i] = layout.slotOf(variableNames[i]);
+            }
+            binding = new ConstantBinding(layout, resolved);
+            constantBinding = binding;
+        }
+        return binding.slots();
+    }
+
+    /**
+     * 解決済みスロット値を使用して評価します
+     *
+     * @param slots スロット番号順の変数値（長さは {@link #getSlotCount()} 以上）
+     * @return 評価結果
+     * @throws ExpressionParser.FormulaEvaluationException ゼロ除算の場合
+     */
+    public double evaluate(double[] slots) throws ExpressionParser.FormulaEvaluationException {
+        return root.eval(slots);
+    }
+
+    /**
+     * 変数名に対応するスロット番号を取得します
+     *
+     * @param variableName 変数名
+     * @return スロット番号、参照されていない場合は-1
+     */
+    public int slotOf(String variableName) {
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableNames[i].equals(variableName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 参照する変数名をスロット番号順で取得します
+     *
+     * @return 変数名リスト（変更不可）
+     */
+    public List<String> getVariableNames() {
+        return Collections.unmodifiableList(Arrays.asList(variableNames));
+    }
+
+    /**
+     * スロット数を取得します
+     *
+     * @return 参照する変数の種類数
+     */
+    public int getSlotCount() {
+        return variableNames.length;
+    }
+
+    /**
+     * 変数を参照しない定数式か判定します
+     *
+     * @return 定数式の場合はtrue
+     */
+    public boolean isConstant() {
+        return root instanceof Constant;
+    }
+
+    /**
+     * 元の数式文字列を取得します
+     *
+     * @return 数式文字列
+     */
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledExpression{" +
+                "source='" + source + '\'' +
+                ", variables=" + Arrays.toString(variableNames) +
+                '}';
+    }
+
+    // ===== ノード定義 =====
+
+    /**
+     * 評価ノード
+     */
+    interface Node {
+        /**
+         * ノードを評価します
+         *
+         * @param slots スロット値
+         * @return 評価結果
+         * @throws ExpressionParser.FormulaEvaluationException 評価エラー
+         */
+        double eval(double[] slots) throws ExpressionParser.FormulaEvaluationException;
+    }
+
+    /** 二項演算子 */
+    enum BinaryOperator {
+        ADD, SUBTRACT, MULTIPLY, DIVIDE, MODULO, POWER,
+        LESS_THAN, LESS_EQUAL, GREATER_THAN, GREATER_EQUAL, EQUAL, NOT_EQUAL,
+        LOGICAL_AND, LOGICAL_OR
+    }
+
+    /** 単項演算子 */
+    enum UnaryOperator {
+        NEGATE, LOGICAL_NOT
+    }
+
+    /**
+     * 定数ノード
+     */
+    static final class Constant implements Node {
+        final double value;
+
+        Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double eval(double[] slots) {
+            return value;
+        }
+    }
+
+    /**
+     * 変数ノード
+     */
+    static final class Variable implements Node {
+        final int slot;
+
+        Variable(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public double eval(double[] slots) {
+            return slots[slot];
+        }
+    }
+
+    /**
+     * 単項演算ノード
+     */
+    static final class Unary implements Node {
+        final UnaryOperator operator;
+        final Node operand;
+
+        Unary(UnaryOperator operator, Node operand) {
+            this.operator = operator;
+            this.operand = operand;
+        }
+
+        @Override
+        public double eval(double[] slots) throws ExpressionParser.FormulaEvaluationException {
+            double value = operand.eval(slots);
+            return operator == UnaryOperator.NEGATE ? -value : (isTruthy(value) ? 0.0 : 1.0);
+        }
+    }
+
+    /**
+     * 二項演算ノード
+     *
+     * <p>論理演算子も従来のパーサーと同様に両辺を評価します（短絡評価なし）。</p>
+     */
+    static final class Binary implements Node {
+        final BinaryOperator operator;
+        final Node left;
+        final Node right;
+        final int position;
+
+        Binary(BinaryOperator operator, Node left, Node right, int position) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.position = position;
+        }
+
+        @Override
+        public double eval(double[] slots) throws ExpressionParser.FormulaEvaluationException {
+            double l = left.eval(slots);
+            double r = right.eval(slots);
+            switch (operator) {
+                case ADD:
+                    return l + r;
+                case SUBTRACT:
+                    return l - r;
+                case MULTIPLY:
+                    return l * r;
+                case DIVIDE:
+                    if (r == 0.0) {
+                        throw new ExpressionParser.FormulaEvaluationException("ゼロ除算エラー (位置: " + position + ")");
+                    }
+                    return l / r;
+                case MODULO:
+                    if (r == 0.0) {
+                        throw new ExpressionParser.FormulaEvaluationException("ゼロ剰余エラー (位置: " + position + ")");
+                    }
+                    return l % r;
+                case POWER:
+                    return Math.pow(l, r);
+                case LESS_THAN:
+                    return l < r ? 1.0 : 0.0;
+                case LESS_EQUAL:
+                    return l <= r ? 1.0 : 0.0;
+                case GREATER_THAN:
+                    return l > r ? 1.0 : 0.0;
+                case GREATER_EQUAL:
+                    return l >= r ? 1.0 : 0.0;
+                case EQUAL:
+                    return Math.abs(l - r) < 1e-9 ? 1.0 : 0.0;
+                case NOT_EQUAL:
+                    return Math.abs(l - r) >= 1e-9 ? 1.0 : 0.0;
+                case LOGICAL_AND:
+                    return (isTruthy(l) && isTruthy(r)) ? 1.0 : 0.0;
+                case LOGICAL_OR:
+                    return (isTruthy(l) || isTruthy(r)) ? 1.0 : 0.0;
+                default:
+                    throw new IllegalStateException("Unknown operator: " + operator);
+            }
+        }
+    }
+
+    /**
+     * 値が真か判定します
+     *
+     * @param value 判定する値
+     * @return 非ゼロの場合はtrue
+     */
+    static boolean isTruthy(double value) {
+        return Math.abs(value) > 1e-9;
+    }
+
+    /**
+     * 定数レイアウトと解決済みスロット番号の組
+     *
+     * @param layout 定数レイアウト
+     * @param slots 変数スロット順の定数スロット番号
+     */
+    private record ConstantBinding(ConstantTable.Layout layout, int[] slots) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.rpgplugin.skill.evaluator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * 数式用の定数テーブル
+ *
+ * <p>定数名をスロット番号へ割り当てた {@link Layout} と、スロット順の値を保持する不変オブジェクトです。
+ * 同じレイアウトから作成したテーブル（クラス別の定数等）は同じスロット番号を共有するため、
+ * {@link CompiledExpression} はレイアウトごとに一度だけ定数名をスロットへ解決し、
+ * 評価時は配列参照のみで定数を取得します。</p>
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+public final class ConstantTable {
+
+    /** 定数が存在しないスロット番号 */
+    public static final int UNDEFINED = -1;
+
+    /** 空のテーブル */
+    public static final ConstantTable EMPTY = layout(Collections.emptySet()).bind(Collections.emptyMap());
+
+    private final Layout layout;
+    private final double[] values;
+    private final boolean[] defined;
+
+    private ConstantTable(Layout layout, double[] values, boolean[] defined) {
+        this.layout = layout;
+        this.values = values;
+        this.defined = defined;
+    }
+
+    /**
+     * 定数名の一覧からレイアウトを作成します
+     *
+     * @param names 定数名
+     * @return レイアウト
+     */
+    public static Layout layout(Collection<String> names) {
+        return new Layout(names);
+    }
+
+    /**
+     * 単独のレイアウトでテーブルを作成します
+     *
+     * @param constants 定数（名前 -> 値）
+     * @return 定数テーブル
+     */
+    public static ConstantTable of(Map<String, Double> constants) {
+        return layout(constants.keySet()).bind(constants);
+    }
+
+    /**
+     * レイアウトを取得します
+     *
+     * @return レイアウト
+     */
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * スロットに定数が定義されているか確認します
+     *
+     * @param slot スロット番号（{@link #UNDEFINED} 可）
+     * @return 定義されている場合はtrue
+     */
+    public boolean isDefined(int slot) {
+        return slot >= 0 && defined[slot];
+    }
+
+    /**
+     * スロットの値を取得します
+     *
+     * @param slot スロット番号
+     * @return 定数値
+     */
+    public double get(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * 定数名からスロット番号への割り当て
+     *
+     * <p>設定の読み込み時に一度だけ作成します。評価時の参照はインスタンスの同一性で比較します。</p>
+     */
+    public static final class Layout {
+
+        private final Map<String, Integer> slots;
+
+        private Layout(Collection<String> names) {
+            Map<String, Integer> assigned = new HashMap<>();
+            for (String name : new LinkedHashSet<>(names)) {
+                assigned.put(name, assigned.size());
+            }
+            this.slots = Collections.unmodifiableMap(assigned);
+        }
+
+        /**
+         * 定数名のスロット番号を取得します
+         *
+         * @param name 定数名
+         * @return スロット番号、レイアウトに含まれない場合は {@link #UNDEFINED}
+         */
+        public int slotOf(String name) {
+            Integer slot = slots.get(name);
+            return slot != null ? slot : UNDEFINED;
+        }
+
+        /**
+         * スロット数を取得します
+         *
+         * @return スロット数
+         */
+        public int size() {
+            return slots.size();
+        }
+
+        /**
+         * このレイアウトで定数テーブルを作成します
+         *
+         * @param constants 定数（名前 -> 値）。レイアウトに含まれない名前は使用できません
+         * @return 定数テーブル
+         * @throws IllegalArgumentException レイアウトに含まれない名前がある場合
+         */
+        public ConstantTable bind(Map<String, Double> constants) {
+            double[] values = new double[slots.size()];
+            boolean[] defined = new boolean[slots.size()];
+            for (Map.Entry<String, Double> entry : constants.entrySet()) {
+                int slot = slotOf(entry.getKey());
+                if (slot == UNDEFINED) {
+                    throw new IllegalArgumentException("Constant not in layout: " + entry.getKey());
+                }
+                values[slot] = entry.getValue();
+                defined[slot] = true;
+            }
+            return new ConstantTable(this, values, defined);
+        }
+    }
+}
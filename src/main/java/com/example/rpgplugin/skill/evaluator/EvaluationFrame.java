@@ -0,0 +1,238 @@
+package com.example.rpgplugin.skill.evaluator;
+
+import com.example.rpgplugin.player.RPGPlayer;
+import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.StatManager;
+
+import java.util.Map;
+
+/**
+ * 数式評価用の再利用可能な変数フレーム
+ *
+ * <p>{@link VariableContext} と同じ変数解決規則を、割り当てなしで提供します。</p>
+ * <ul>
+ *   <li>予約変数（STR/INT/SPI/VIT/DEX, Lv, LV, BASE_DAMAGE, DAMAGE）はコンパイル時に固定番号へ解決</li>
+ *   <li>カスタム変数（スキル変数等）は呼び出し元のMapを参照のみ（コピーしない）</li>
+ *   <li>定数テーブル（ダメージ設定の定数等）は予約変数で解決できない名前のみに使用し、コンパイル済みのスロット番号で参照</li>
+ *   <li>評価用スロットは {@code double[]} をスレッドごとに使い回す</li>
+ * </ul>
+ *
+ * <p>使用例:</p>
+ * <pre>{@code
+ * EvaluationFrame frame = EvaluationFrame.acquire(rpgPlayer, skillLevel, skill.getVariableMap());
+ * try {
+ *     return compiled.evaluate(frame);
+ * } finally {
+ *     frame.release();
+ * }
+ * }</pre>
+ *
+ * <p>スレッドセーフではありません。取得したスレッド内でのみ使用し、必ず {@link #release()} してください。</p>
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+public final class EvaluationFrame {
+
+    /** ステータス一覧（予約番号 0〜STAT_COUNT-1 に対応） */
+    private static final Stat[] STATS = Stat.values();
+
+    /** カスタム変数のみで解決される変数 */
+    static final int CUSTOM = -1;
+
+    /** スキルレベル（Lv）の予約番号 */
+    static final int SKILL_LEVEL = STATS.length;
+
+    /** プレイヤーレベル（LV）の予約番号 */
+    static final int PLAYER_LEVEL = SKILL_LEVEL + 1;
+
+    /** 基本ダメージ（BASE_DAMAGE）の予約番号 */
+    static final int BASE_DAMAGE = PLAYER_LEVEL + 1;
+
+    /** 基本ダメージ別名（DAMAGE）の予約番号 */
+    static final int DAMAGE = BASE_DAMAGE + 1;
+
+    /** 基本ダメージ変数名 */
+    public static final String BASE_DAMAGE_NAME = "BASE_DAMAGE";
+
+    /** 基本ダメージ別名 */
+    public static final String DAMAGE_NAME = "DAMAGE";
+
+    /** スレッドごとのフレーム */
+    private static final ThreadLocal<EvaluationFrame> LOCAL = ThreadLocal.withInitial(EvaluationFrame::new);
+
+    /** RPGプレイヤー（null可） */
+    private RPGPlayer rpgPlayer;
+
+    /** スキルレベル */
+    private int skillLevel = 1;
+
+    /** カスタム変数（参照のみ、null可） */
+    private Map<String, Double> customVariables;
+
+    /** 定数テーブル（null可） */
+    private ConstantTable constants;
+
+    /** 基本ダメージ */
+    private double baseDamage;
+
+    /** 基本ダメージが設定されているか */
+    private boolean hasBaseDamage;
+
+    /** 評価用スロット */
+    private double[] slots = new double[16];
+
+    /** 使用中フラグ（再入時は新規フレームを返す） */
+    private boolean inUse;
+
+    private EvaluationFrame() {
+    }
+
+    /**
+     * 現在のスレッドのフレームを取得し、変数を束縛します
+     *
+     * @param rpgPlayer RPGプレイヤー（null可）
+     * @param skillLevel スキルレベル
+     * @param customVariables カスタム変数（コピーせず参照します、null可）
+     * @return 束縛済みフレーム
+     */
+    public static EvaluationFrame acquire(RPGPlayer rpgPlayer, int skillLevel, Map<String, Double> customVariables) {
+        EvaluationFrame frame = LOCAL.get();
+        if (frame.inUse) {
+            frame = new EvaluationFrame();
+        }
+        frame.inUse = true;
+        frame.rpgPlayer = rpgPlayer;
+        frame.skillLevel = skillLevel;
+        frame.customVariables = customVariables;
+        frame.constants = null;
+        frame.hasBaseDamage = false;
+        return frame;
+    }
+
+    /**
+     * 定数テーブルを束縛します
+     *
+     * <p>カスタム変数・予約変数のいずれでも解決できない変数の最終的な参照先になります。</p>
+     *
+     * @param constants 定数テーブル（null可）
+     * @return このフレーム
+     */
+    public EvaluationFrame withConstants(ConstantTable constants) {
+        this.constants = constants;
+        return this;
+    }
+
+    /**
+     * 基本ダメージ（BASE_DAMAGE / DAMAGE）を束縛します
+     *
+     * @param baseDamage 基本ダメージ
+     * @return このフレーム
+     */
+    public EvaluationFrame withBaseDamage(double baseDamage) {
+        this.baseDamage = baseDamage;
+        this.hasBaseDamage = true;
+        return this;
+    }
+
+    /**
+     * フレームを解放します
+     *
+     * <p>プレイヤー参照等を破棄し、同スレッドで再利用可能にします。</p>
+     */
+    public void release() {
+        rpgPlayer = null;
+        customVariables = null;
+        constants = null;
+        hasBaseDamage = false;
+        inUse = false;
+    }
+
+    /**
+     * 束縛中の定数テーブルのレイアウトを取得します
+     *
+     * @return レイアウト、定数テーブルがない場合はnull
+     */
+    ConstantTable.Layout constantLayout() {
+        return constants != null ? constants.getLayout() : null;
+    }
+
+    /**
+     * 必要な長さ以上の評価用スロットを取得します
+     *
+     * @param length 必要なスロット数
+     * @return スロット配列
+     */
+    double[] slots(int length) {
+        if (slots.length < length) {
+            slots = new double[Math.max(length, slots.length * 2)];
+        }
+        return slots;
+    }
+
+    /**
+     * 変数名を予約番号へ解決します
+     *
+     * @param name 変数名
+     * @return 予約番号、予約変数でない場合は {@link #CUSTOM}
+     */
+    static int builtinIndexOf(String name) {
+        if (VariableContext.SKILL_LEVEL.equals(name)) {
+            return SKILL_LEVEL;
+        }
+        if (VariableContext.PLAYER_LEVEL.equals(name)) {
+            return PLAYER_LEVEL;
+        }
+        if (BASE_DAMAGE_NAME.equals(name)) {
+            return BASE_DAMAGE;
+        }
+        if (DAMAGE_NAME.equals(name)) {
+            return DAMAGE;
+        }
+        Stat stat = Stat.fromShortName(name);
+        return stat != null ? stat.ordinal() : CUSTOM;
+    }
+
+    /**
+     * 変数値を解決します
+     *
+     * <p>優先順位は {@link VariableContext#getVariable(String)} と同じく、カスタム変数が最優先です。</p>
+     *
+     * @param builtin 予約番号（{@link #builtinIndexOf(String)} の結果）
+     * @param constantSlot 定数スロット番号（{@link #constantLayout()} で解決済み、なければ {@link ConstantTable#UNDEFINED}）
+     * @param name 変数名
+     * @param position 数式内の位置（エラーメッセージ用）
+     * @return 変数値
+     * @throws ExpressionParser.FormulaEvaluationException 未定義変数の場合
+     */
+    double resolve(int builtin, int constantSlot, String name, int position) throws ExpressionParser.FormulaEvaluationException {
+        if (customVariables != null) {
+            Double custom = customVariables.get(name);
+            if (custom != null) {
+                return custom;
+            }
+        }
+
+        if (builtin == SKILL_LEVEL) {
+            return skillLevel;
+        }
+        if (builtin == PLAYER_LEVEL) {
+            return rpgPlayer != null ? rpgPlayer.getVanillaLevel() : 1.0;
+        }
+        if ((builtin == BASE_DAMAGE || builtin == DAMAGE) && hasBaseDamage) {
+            return baseDamage;
+        }
+        if (builtin >= 0 && builtin < STATS.length && rpgPlayer != null) {
+            StatManager statManager = rpgPlayer.getStatManager();
+            if (statManager != null) {
+                return statManager.getFinalStat(STATS[builtin]);
+            }
+        }
+        if (constants != null && constants.isDefined(constantSlot)) {
+            return constants.get(constantSlot);
+        }
+
+        throw new ExpressionParser.FormulaEvaluationException(
+                "未定義の変数: " + name + " (位置: " + position + ")");
+    }
+}
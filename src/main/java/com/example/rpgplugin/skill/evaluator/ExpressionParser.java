@@ -1,12 +1,14 @@
 package com.example.rpgplugin.skill.evaluator;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 数式パーサー
  *
- * <p>文字列から数式をトークン化・解析し、評価可能な形式に変換します。</p>
+ * <p>文字列から数式をトークン化・解析し、評価可能な形式（{@link CompiledExpression}）に変換します。</p>
  * <p>サポートされる演算子:</p>
  * <ul>
  *   <li>算術演算子: +, -, *, /, %, ^</li>
@@ -103,6 +105,15 @@ public class ExpressionParser {
     /** 現在のトークンインデックス */
     private int tokenIndex;
 
+    /** 変数名 → スロット番号（出現順） */
+    private final Map<String, Integer> variableSlots;
+
+    /** 各スロットの変数が最初に出現した位置 */
+    private final List<Integer> variablePositions;
+
+    /** 定数畳み込み用の空スロット */
+    private static final double[] NO_SLOTS = new double[0];
+
     /**
      * コンストラクタ
      *
@@ -113,11 +124,16 @@ public class ExpressionParser {
         this.position = 0;
         this.tokens = new ArrayList<>();
         this.tokenIndex = 0;
+        this.variableSlots = new LinkedHashMap<>();
+        this.variablePositions = new ArrayList<>();
     }
 
     /**
      * 数式をパースして評価結果を取得します
      *
+     * <p>一度だけ評価する場合の簡易メソッドです。繰り返し評価する場合は
+     * {@link #compile()} の結果を再利用してください。</p>
+     *
      * @param context 変数コンテキスト
      * @return 評価結果
      * @throws FormulaEvaluationException 評価エラー
@@ -126,11 +142,30 @@ public class ExpressionParser {
         if (expression.isEmpty()) {
             return 0.0;
         }
+        return compile().evaluate(context);
+    }
 
+    /**
+     * 数式をパースして不変のノードツリーにコンパイルします
+     *
+     * <p>変数はこの時点でスロット番号に解決されます。</p>
+     *
+     * @return コンパイル済み数式
+     * @throws FormulaEvaluationException 字句解析・構文解析エラー
+     */
+    public CompiledExpression compile() throws FormulaEvaluationException {
+        variableSlots.clear();
+        variablePositions.clear();
+
+        if (expression.isEmpty()) {
+            return new CompiledExpression(expression, new CompiledExpression.Constant(0.0), new String[0], new int[0]);
+        }
+
+        position = 0;
         tokenize();
         tokenIndex = 0;
 
-        double result = parseExpression(context);
+        CompiledExpression.Node root = parseExpression();
 
         // EOFトークン以外が残っていないかチェック
         while (tokenIndex < tokens.size()) {
@@ -142,7 +177,12 @@ public class ExpressionParser {
             tokenIndex++;
         }
 
-        return result;
+        String[] names = variableSlots.keySet().toArray(new String[0]);
+        int[] positions = new int[variablePositions.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = variablePositions.get(i);
+        }
+        return new CompiledExpression(expression, root, names, positions);
     }
 
     /**
@@ -394,20 +434,19 @@ public class ExpressionParser {
     /**
      * 式を解析します（論理ORレベル）
      */
-    private double parseExpression(VariableContext context) throws FormulaEvaluationException {
-        return parseLogicalOr(context);
+    private CompiledExpression.Node parseExpression() throws FormulaEvaluationException {
+        return parseLogicalOr();
     }
 
     /**
      * 論理和を解析します
      */
-    private double parseLogicalOr(VariableContext context) throws FormulaEvaluationException {
-        double left = parseLogicalAnd(context);
+    private CompiledExpression.Node parseLogicalOr() throws FormulaEvaluationException {
+        CompiledExpression.Node left = parseLogicalAnd();
 
         while (currentToken().type == TokenType.LOGICAL_OR) {
-            consumeToken();
-            double right = parseLogicalAnd(context);
-            left = (isTruthy(left) || isTruthy(right)) ? 1.0 : 0.0;
+            Token op = consumeToken();
+            left = binary(CompiledExpression.BinaryOperator.LOGICAL_OR, left, parseLogicalAnd(), op);
         }
 
         return left;
@@ -416,13 +455,12 @@ public class ExpressionParser {
     /**
      * 論理積を解析します
      */
-    private double parseLogicalAnd(VariableContext context) throws FormulaEvaluationException {
-        double left = parseComparison(context);
+    private CompiledExpression.Node parseLogicalAnd() throws FormulaEvaluationException {
+        CompiledExpression.Node left = parseComparison();
 
         while (currentToken().type == TokenType.LOGICAL_AND) {
-            consumeToken();
-            double right = parseComparison(context);
-            left = (isTruthy(left) && isTruthy(right)) ? 1.0 : 0.0;
+            Token op = consumeToken();
+            left = binary(CompiledExpression.BinaryOperator.LOGICAL_AND, left, parseComparison(), op);
         }
 
         return left;
@@ -431,65 +469,62 @@ public class ExpressionParser {
     /**
      * 比較を解析します
      */
-    private double parseComparison(VariableContext context) throws FormulaEvaluationException {
-        double left = parseAdditive(context);
+    private CompiledExpression.Node parseComparison() throws FormulaEvaluationException {
+        CompiledExpression.Node left = parseAdditive();
 
         while (true) {
             Token op = currentToken();
+            CompiledExpression.BinaryOperator operator;
             switch (op.type) {
                 case LESS_THAN:
-                    consumeToken();
-                    left = (left < parseAdditive(context)) ? 1.0 : 0.0;
+                    operator = CompiledExpression.BinaryOperator.LESS_THAN;
                     break;
 
                 case LESS_EQUAL:
-                    consumeToken();
-                    left = (left <= parseAdditive(context)) ? 1.0 : 0.0;
+                    operator = CompiledExpression.BinaryOperator.LESS_EQUAL;
                     break;
 
                 case GREATER_THAN:
-                    consumeToken();
-                    left = (left > parseAdditive(context)) ? 1.0 : 0.0;
+                    operator = CompiledExpression.BinaryOperator.GREATER_THAN;
                     break;
 
                 case GREATER_EQUAL:
-                    consumeToken();
-                    left = (left >= parseAdditive(context)) ? 1.0 : 0.0;
+                    operator = CompiledExpression.BinaryOperator.GREATER_EQUAL;
                     break;
 
                 case EQUAL:
-                    consumeToken();
-                    left = (Math.abs(left - parseAdditive(context)) < 1e-9) ? 1.0 : 0.0;
+                    operator = CompiledExpression.BinaryOperator.EQUAL;
                     break;
 
                 case NOT_EQUAL:
-                    consumeToken();
-                    left = (Math.abs(left - parseAdditive(context)) >= 1e-9) ? 1.0 : 0.0;
+                    operator = CompiledExpression.BinaryOperator.NOT_EQUAL;
                     break;
 
                 default:
                     return left;
             }
+            consumeToken();
+            left = binary(operator, left, parseAdditive(), op);
         }
     }
 
     /**
      * 加算・減算を解析します
      */
-    private double parseAdditive(VariableContext context) throws FormulaEvaluationException {
-        double left = parseMultiplicative(context);
+    private CompiledExpression.Node parseAdditive() throws FormulaEvaluationException {
+        CompiledExpression.Node left = parseMultiplicative();
 
         while (true) {
             Token op = currentToken();
             switch (op.type) {
                 case PLUS:
                     consumeToken();
-                    left += parseMultiplicative(context);
+                    left = binary(CompiledExpression.BinaryOperator.ADD, left, parseMultiplicative(), op);
                     break;
 
                 case MINUS:
                     consumeToken();
-                    left -= parseMultiplicative(context);
+                    left = binary(CompiledExpression.BinaryOperator.SUBTRACT, left, parseMultiplicative(), op);
                     break;
 
                 default:
@@ -501,33 +536,25 @@ public class ExpressionParser {
     /**
      * 乗算・除算・剰余を解析します
      */
-    private double parseMultiplicative(VariableContext context) throws FormulaEvaluationException {
-        double left = parsePower(context);
+    private CompiledExpression.Node parseMultiplicative() throws FormulaEvaluationException {
+        CompiledExpression.Node left = parsePower();
 
         while (true) {
             Token op = currentToken();
             switch (op.type) {
                 case MULTIPLY:
                     consumeToken();
-                    left *= parsePower(context);
+                    left = binary(CompiledExpression.BinaryOperator.MULTIPLY, left, parsePower(), op);
                     break;
 
                 case DIVIDE:
                     consumeToken();
-                    double divisor = parsePower(context);
-                    if (divisor == 0.0) {
-                        throw new FormulaEvaluationException("ゼロ除算エラー (位置: " + op.position + ")");
-                    }
-                    left /= divisor;
+                    left = binary(CompiledExpression.BinaryOperator.DIVIDE, left, parsePower(), op);
                     break;
 
                 case MODULO:
                     consumeToken();
-                    double modulus = parsePower(context);
-                    if (modulus == 0.0) {
-                        throw new FormulaEvaluationException("ゼロ剰余エラー (位置: " + op.position + ")");
-                    }
-                    left %= modulus;
+                    left = binary(CompiledExpression.BinaryOperator.MODULO, left, parsePower(), op);
                     break;
 
                 default:
@@ -539,13 +566,13 @@ public class ExpressionParser {
     /**
      * べき乗を解析します
      */
-    private double parsePower(VariableContext context) throws FormulaEvaluationException {
-        double base = parseUnary(context);
+    private CompiledExpression.Node parsePower() throws FormulaEvaluationException {
+        CompiledExpression.Node base = parseUnary();
 
         if (currentToken().type == TokenType.POWER) {
-            consumeToken();
-            double exponent = parsePower(context); // 右結合
-            return Math.pow(base, exponent);
+            Token op = consumeToken();
+            CompiledExpression.Node exponent = parsePower(); // 右結合
+            return binary(CompiledExpression.BinaryOperator.POWER, base, exponent, op);
         }
 
         return base;
@@ -554,38 +581,38 @@ public class ExpressionParser {
     /**
      * 単項演算子を解析します
      */
-    private double parseUnary(VariableContext context) throws FormulaEvaluationException {
+    private CompiledExpression.Node parseUnary() throws FormulaEvaluationException {
         Token op = currentToken();
 
         switch (op.type) {
             case PLUS:
                 consumeToken();
-                return parsePrimary(context);
+                return parsePrimary();
 
             case MINUS:
                 consumeToken();
-                return -parsePrimary(context);
+                return unary(CompiledExpression.UnaryOperator.NEGATE, parsePrimary());
 
             case LOGICAL_NOT:
                 consumeToken();
-                return isTruthy(parseUnary(context)) ? 0.0 : 1.0;
+                return unary(CompiledExpression.UnaryOperator.LOGICAL_NOT, parseUnary());
 
             default:
-                return parsePrimary(context);
+                return parsePrimary();
         }
     }
 
     /**
      * 基本要素を解析します
      */
-    private double parsePrimary(VariableContext context) throws FormulaEvaluationException {
+    private CompiledExpression.Node parsePrimary() throws FormulaEvaluationException {
         Token token = currentToken();
 
         switch (token.type) {
             case NUMBER: {
                 consumeToken();
                 try {
-                    return Double.parseDouble(token.value);
+                    return new CompiledExpression.Constant(Double.parseDouble(token.value));
                 } catch (NumberFormatException e) {
                     throw new FormulaEvaluationException("数値パースエラー: " + token.value);
                 }
@@ -593,17 +620,18 @@ public class ExpressionParser {
 
             case VARIABLE: {
                 consumeToken();
-                Double value = context.getVariable(token.value);
-                if (value == null) {
-                    throw new FormulaEvaluationException(
-                            "未定義の変数: " + token.value + " (位置: " + token.position + ")");
+                Integer slot = variableSlots.get(token.value);
+                if (slot == null) {
+                    slot = variableSlots.size();
+                    variableSlots.put(token.value, slot);
+                    variablePositions.add(token.position);
                 }
-                return value;
+                return new CompiledExpression.Variable(slot);
             }
 
             case LEFT_PAREN: {
                 consumeToken();
-                double result = parseExpression(context);
+                CompiledExpression.Node result = parseExpression();
                 expectToken(TokenType.RIGHT_PAREN);
                 return result;
             }
@@ -618,13 +646,36 @@ public class ExpressionParser {
     }
 
     /**
-     * 値が真か判定します
+     * 二項演算ノードを生成します
      *
-     * @param value 判定する値
-     * @return 非ゼロの場合はtrue
+     * <p>両辺が定数の場合はコンパイル時に畳み込みます。ゼロ除算など評価時エラーとなる式は
+     * 畳み込まずに残し、従来通り評価時に例外を送出します。</p>
+     */
+    private CompiledExpression.Node binary(CompiledExpression.BinaryOperator operator,
+                                           CompiledExpression.Node left,
+                                           CompiledExpression.Node right,
+                                           Token op) {
+        CompiledExpression.Node node = new CompiledExpression.Binary(operator, left, right, op.position);
+        if (left instanceof CompiledExpression.Constant && right instanceof CompiledExpression.Constant) {
+            try {
+                return new CompiledExpression.Constant(node.eval(NO_SLOTS));
+            } catch (FormulaEvaluationException ignored) {
+                // 評価時エラーとして残す
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 単項演算ノードを生成します（定数の場合は畳み込み）
      */
-    private boolean isTruthy(double value) {
-        return Math.abs(value) > 1e-9;
+    private CompiledExpression.Node unary(CompiledExpression.UnaryOperator operator,
+                                          CompiledExpression.Node operand) throws FormulaEvaluationException {
+        CompiledExpression.Node node = new CompiledExpression.Unary(operator, operand);
+        if (operand instanceof CompiledExpression.Constant) {
+            return new CompiledExpression.Constant(node.eval(NO_SLOTS));
+        }
+        return node;
     }
 
     /**
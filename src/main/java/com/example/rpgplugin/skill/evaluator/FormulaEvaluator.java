@@ -1,9 +1,10 @@
 package com.example.rpgplugin.skill.evaluator;
 
 import com.example.rpgplugin.player.RPGPlayer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
@@ -17,7 +18,7 @@ import java.util.logging.Logger;
  *   <li>カスタム変数: YAML内で定義された独自変数のサポート</li>
  *   <li>レベル依存: レベルごとの数式または共通式の切り替え</li>
  *   <li>演算子: 四則演算、括弧、べき乗、比較演算子、論理演算子</li>
- *   <li>キャッシュ: パース結果のキャッシュによる高速化</li>
+ *   <li>キャッシュ: 数式文字列ごとに {@link CompiledExpression} をキャッシュし、再トークン化を省略</li>
  * </ul>
  *
  * <p>設計原則:</p>
@@ -34,24 +35,21 @@ public class FormulaEvaluator {
 
     private static final Logger LOGGER = Logger.getLogger(FormulaEvaluator.class.getName());
 
-    /** パース結果キャッシュ */
-    private final Map<String, CachedExpression> expressionCache;
-
     /** 最大キャッシュサイズ */
     private static final int MAX_CACHE_SIZE = 500;
 
-    /** キャッシュされた数式情報 */
-    private static class CachedExpression {
-        CachedExpression(String expression) {
-            // プレースホルダー: 将来的なキャッシュ拡張用
-        }
-    }
+    /** コンパイル済み数式キャッシュ（数式文字列 → コンパイル結果） */
+    private final Cache<String, CompiledExpression> expressionCache;
 
     /**
      * コンストラクタ
      */
     public FormulaEvaluator() {
-        this.expressionCache = new ConcurrentHashMap<>();
+        // 同一スレッドで退避処理を行い、サイズ上限を即座に反映する
+        this.expressionCache = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHE_SIZE)
+                .executor(Runnable::run)
+                .build();
     }
 
     /**
@@ -86,13 +84,36 @@ public class FormulaEvaluator {
             return 0.0;
         }
 
-        VariableContext context = new VariableContext(rpgPlayer, skillLevel);
+        // スレッドごとのフレームを再利用し、カスタム変数はコピーせず参照する
+        EvaluationFrame frame = EvaluationFrame.acquire(rpgPlayer, skillLevel, customVariables);
+        try {
+            return evaluateWithFrame(expression, frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    /**
+     * 束縛済みフレームを使用して数式を評価します
+     *
+     * @param expression 数式文字列
+     * @param frame 束縛済みフレーム
+     * @return 評価結果
+     * @throws FormulaEvaluationException 評価エラー
+     */
+    public double evaluateWithFrame(String expression, EvaluationFrame frame)
+            throws FormulaEvaluationException {
 
-        if (customVariables != null) {
-            context.setCustomVariables(customVariables);
+        if (expression == null || expression.trim().isEmpty()) {
+            return 0.0;
         }
 
-        return evaluateWithContext(expression, context);
+        try {
+            return compileCached(expression).evaluate(frame);
+
+        } catch (ExpressionParser.FormulaEvaluationException e) {
+            throw evaluationFailure(expression, e);
+        }
     }
 
     /**
@@ -111,21 +132,27 @@ public class FormulaEvaluator {
         }
 
         try {
-            ExpressionParser parser = new ExpressionParser(expression);
-            double result = parser.evaluate(context);
-
-            // キャッシュに追加
-            cacheExpression(expression);
-
-            return result;
+            return compileCached(expression).evaluate(context);
 
         } catch (ExpressionParser.FormulaEvaluationException e) {
-            String message = "[FormulaEvaluator] 数式評価エラー: '" + expression + "' - " + e.getMessage();
-            LOGGER.warning(message);
-            throw new FormulaEvaluationException(message, e);
+            throw evaluationFailure(expression, e);
         }
     }
 
+    /**
+     * 評価エラーをログ出力し、公開用の例外に変換します
+     *
+     * @param expression 数式文字列
+     * @param cause パーサー例外
+     * @return 変換後の例外
+     */
+    private FormulaEvaluationException evaluationFailure(String expression,
+                                                         ExpressionParser.FormulaEvaluationException cause) {
+        String message = "[FormulaEvaluator] 数式評価エラー: '" + expression + "' - " + cause.getMessage();
+        LOGGER.warning(message);
+        return new FormulaEvaluationException(message, cause);
+    }
+
     /**
      * レベル別数式設定から評価します
      *
@@ -219,8 +246,7 @@ public class FormulaEvaluator {
             dummyContext.setCustomVariable("Lv", 1.0);
             dummyContext.setCustomVariable("LV", 1.0);
 
-            ExpressionParser parser = new ExpressionParser(expression);
-            parser.evaluate(dummyContext);
+            compileCached(expression).evaluate(dummyContext);
             return true;
 
         } catch (ExpressionParser.FormulaEvaluationException e) {
@@ -230,24 +256,46 @@ public class FormulaEvaluator {
     }
 
     /**
-     * 式をキャッシュします
+     * 数式をコンパイルします（キャッシュ利用）
      *
-     * @param expression 数式
+     * <p>同じ数式文字列に対しては同一の {@link CompiledExpression} を返します。
+     * 呼び出し側で保持して繰り返し評価することもできます。</p>
+     *
+     * @param expression 数式文字列
+     * @return コンパイル済み数式
+     * @throws FormulaEvaluationException 構文エラー
+     */
+    public CompiledExpression compile(String expression) throws FormulaEvaluationException {
+        String source = expression != null ? expression : "";
+        try {
+            return compileCached(source);
+        } catch (ExpressionParser.FormulaEvaluationException e) {
+            throw new FormulaEvaluationException(
+                    "[FormulaEvaluator] 数式コンパイルエラー: '" + source + "' - " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * キャッシュからコンパイル済み数式を取得し、無ければコンパイルして登録します
+     *
+     * @param expression 数式文字列
+     * @return コンパイル済み数式
+     * @throws ExpressionParser.FormulaEvaluationException 構文エラー
      */
-    private void cacheExpression(String expression) {
-        // キャッシュサイズ制限
-        if (expressionCache.size() >= MAX_CACHE_SIZE) {
-            // 古いエントリを削除（簡易的実装）
-            expressionCache.clear();
+    private CompiledExpression compileCached(String expression) throws ExpressionParser.FormulaEvaluationException {
+        CompiledExpression compiled = expressionCache.getIfPresent(expression);
+        if (compiled == null) {
+            compiled = new ExpressionParser(expression).compile();
+            expressionCache.put(expression, compiled);
         }
-        expressionCache.put(expression, new CachedExpression(expression));
+        return compiled;
     }
 
     /**
      * キャッシュをクリアします
      */
     public void clearCache() {
-        expressionCache.clear();
+        expressionCache.invalidateAll();
     }
 
     /**
@@ -256,7 +304,8 @@ public class FormulaEvaluator {
      * @return キャッシュサイズ
      */
     public int getCacheSize() {
-        return expressionCache.size();
+        expressionCache.cleanUp();
+        return (int) expressionCache.estimatedSize();
     }
 
     /**
@@ -3,11 +3,13 @@ package com.example.rpgplugin.skill.executor;
 import com.example.rpgplugin.RPGPlugin;
 import com.example.rpgplugin.model.skill.DamageCalculation;
 import com.example.rpgplugin.api.skript.events.EvtRPGSkillCast.RPGSkillCastEvent;
+import com.example.rpgplugin.core.scheduler.SkillScheduler;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.skill.Skill;
 import com.example.rpgplugin.skill.SkillCostType;
 import com.example.rpgplugin.skill.SkillManager;
+import com.example.rpgplugin.skill.target.EntitySpatialIndex;
 import com.example.rpgplugin.skill.target.SkillTarget;
 import com.example.rpgplugin.skill.target.TargetSelector;
 import com.example.rpgplugin.stats.Stat;
@@ -54,6 +56,8 @@ public class ActiveSkillExecutor implements SkillExecutor {
     private final SkillManager skillManager;
     private final PlayerManager playerManager;
     private final com.example.rpgplugin.skill.component.ComponentEffectExecutor componentExecutor;
+    private final EntitySpatialIndex spatialIndex;
+    private final SkillScheduler skillScheduler;
 
     /**
      * コンストラクタ
@@ -63,10 +67,26 @@ public class ActiveSkillExecutor implements SkillExecutor {
      * @param playerManager プレイヤーマネージャー
      */
     public ActiveSkillExecutor(RPGPlugin plugin, SkillManager skillManager, PlayerManager playerManager) {
+        this(plugin, skillManager, playerManager, null, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param skillManager スキルマネージャー
+     * @param playerManager プレイヤーマネージャー
+     * @param spatialIndex ターゲット検索用の空間インデックス（nullの場合はワールド検索）
+     * @param skillScheduler ダメージ適用のスケジューラー（nullの場合はその場で適用）
+     */
+    public ActiveSkillExecutor(RPGPlugin plugin, SkillManager skillManager, PlayerManager playerManager,
+                               EntitySpatialIndex spatialIndex, SkillScheduler skillScheduler) {
         this.plugin = plugin;
         this.skillManager = skillManager;
         this.playerManager = playerManager;
         this.componentExecutor = new com.example.rpgplugin.skill.component.ComponentEffectExecutor(plugin);
+        this.spatialIndex = spatialIndex;
+        this.skillScheduler = skillScheduler;
     }
 
     @Override
@@ -97,24 +117,81 @@ public class ActiveSkillExecutor implements SkillExecutor {
         // ターゲットを取得
         Collection<LivingEntity> targets = getTargets(player, skill);
 
-        // ダメージ計算と適用（コンポーネントベース）
+        // ダメージ計算（コンポーネントベース）
         double damage = 0.0;
-        Entity firstTarget = null;
+        List<LivingEntity> enemies = List.of();
         com.example.rpgplugin.skill.component.EffectComponent damageComponent =
                 skill.findComponentByKey("damage");
         if (damageComponent != null) {
             damage = calculateDamageFromComponents(rpgPlayer, skill, level, damageComponent);
 
+            enemies = new java.util.ArrayList<>(targets.size());
             for (LivingEntity target : targets) {
                 if (isEnemy(target)) {
-                    target.damage(damage, player);
-                    if (firstTarget == null) {
-                        firstTarget = target;
-                    }
+                    enemies.add(target);
                 }
             }
         }
 
+        // クールダウン設定
+        SkillManager.PlayerSkillData data = skillManager.getPlayerSkillData(player);
+        data.setLastCastTime(skill.getId(), System.currentTimeMillis());
+
+        // ダメージ適用・イベント・トリガーを同じタイミングで実行
+        resolveCast(player, skill, level, enemies, damage);
+
+        return true;
+    }
+
+    /**
+     * 発動結果を適用します
+     *
+     * <p>ダメージ適用、Skriptイベント発火、CASTトリガー発火をまとめて1つのタスクとして実行します。
+     * スキルスケジューラーが指定された場合は、現在のティックの予算内ならその場で実行し、
+     * 超過している場合のみダメージ優先度で次のティックへ持ち越します。</p>
+     *
+     * @param player 発動者
+     * @param skill スキル
+     * @param level スキルレベル
+     * @param enemies 敵対ターゲット
+     * @param damage ダメージ
+     */
+    private void resolveCast(Player player, Skill skill, int level, List<LivingEntity> enemies, double damage) {
+        Runnable resolve = () -> applyCast(player, skill, level, enemies, damage);
+        if (skillScheduler == null) {
+            resolve.run();
+        } else {
+            skillScheduler.runOrSubmit(SkillScheduler.Priority.DAMAGE, resolve);
+        }
+    }
+
+    /**
+     * ダメージを適用し、Skriptイベントとトリガーを発火します
+     *
+     * @param player 発動者
+     * @param skill スキル
+     * @param level スキルレベル
+     * @param enemies 敵対ターゲット
+     * @param damage ダメージ
+     */
+    private void applyCast(Player player, Skill skill, int level, List<LivingEntity> enemies, double damage) {
+        // 持ち越し中に発動者が死亡・退出した場合は適用しない
+        if (player.isDead() || !player.isOnline()) {
+            return;
+        }
+
+        Entity firstTarget = null;
+        for (LivingEntity target : enemies) {
+            // 死亡・アンロード・削除されたターゲットは除外
+            if (target.isDead() || !target.isValid()) {
+                continue;
+            }
+            if (firstTarget == null) {
+                firstTarget = target;
+            }
+            target.damage(damage, player);
+        }
+
         // Skriptイベント発火
         try {
             org.bukkit.plugin.PluginManager pm = Bukkit.getPluginManager();
@@ -125,16 +202,10 @@ public class ActiveSkillExecutor implements SkillExecutor {
             // テスト環境などでPluginManagerが利用できない場合は無視
         }
 
-        // クールダウン設定
-        SkillManager.PlayerSkillData data = skillManager.getPlayerSkillData(player);
-        data.setLastCastTime(skill.getId(), System.currentTimeMillis());
-
         // コンポーネント効果を実行（トリガー発火）
         if (skill.getComponentEffect() != null) {
             componentExecutor.castWithTriggers(player, skill, level, 0);
         }
-
-        return true;
     }
 
     /**
@@ -151,7 +222,7 @@ public class ActiveSkillExecutor implements SkillExecutor {
 
         if (skillTarget != null) {
             List<Entity> candidates = TargetSelector.getNearbyEntities(
-                    player.getLocation(), skillTarget.getRange());
+                    player.getLocation(), skillTarget.getRange(), spatialIndex);
             List<Entity> selected = TargetSelector.selectTargets(player, skillTarget, candidates, null);
 
             Collection<LivingEntity> targets = new java.util.ArrayList<>();
@@ -532,16 +603,19 @@ public class ActiveSkillExecutor implements SkillExecutor {
             }
         }
 
-        // ターゲットを取得とダメージ適用
+        // ターゲットを取得
         Collection<LivingEntity> targets = getTargets(player, skill);
 
-        // ダメージ計算と適用
+        // ダメージ計算
+        double damage = 0.0;
+        List<LivingEntity> enemies = List.of();
         if (skill.getDamage() != null) {
-            double damage = calculateDamage(rpgPlayer, skill, level);
+            damage = calculateDamage(rpgPlayer, skill, level);
 
+            enemies = new java.util.ArrayList<>(targets.size());
             for (LivingEntity target : targets) {
                 if (isEnemy(target)) {
-                    target.damage(damage, player);
+                    enemies.add(target);
                 }
             }
         }
@@ -572,6 +646,9 @@ public class ActiveSkillExecutor implements SkillExecutor {
         SkillManager.PlayerSkillData data = skillManager.getPlayerSkillData(player);
         data.setLastCastTime(skill.getId(), System.currentTimeMillis());
 
+        // ダメージ適用・イベント・トリガーは通常の発動と同じくスケジューラーの予算内で実行
+        resolveCast(player, skill, level, enemies, damage);
+
         return true;
     }
 }
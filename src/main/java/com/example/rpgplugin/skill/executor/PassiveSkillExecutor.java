@@ -1,6 +1,7 @@
 package com.example.rpgplugin.skill.executor;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.skill.Skill;
@@ -16,6 +17,7 @@ import org.bukkit.scheduler.BukkitRunnable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * パッシブスキル実行エグゼキューター
@@ -33,9 +35,13 @@ import java.util.UUID;
  */
 public class PassiveSkillExecutor implements SkillExecutor {
 
+    /** パッシブ効果の更新間隔（ティック） */
+    private static final long UPDATE_INTERVAL_TICKS = 20L;
+
     private final RPGPlugin plugin;
     private final SkillManager skillManager;
     private final PlayerManager playerManager;
+    private final ExpiryService expiryService;
     private final Map<UUID, Map<String, PassiveEffect>> activeEffects;
 
     /**
@@ -83,6 +89,20 @@ public class PassiveSkillExecutor implements SkillExecutor {
      * @throws IllegalArgumentException 引数がnullの場合
      */
     public PassiveSkillExecutor(RPGPlugin plugin, SkillManager skillManager, PlayerManager playerManager) {
+        this(plugin, skillManager, playerManager, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plugin プラグインインスタンス
+     * @param skillManager スキルマネージャー
+     * @param playerManager プレイヤーマネージャー
+     * @param expiryService 期限管理サービス（nullの場合は専用のBukkitタスクで更新）
+     * @throws IllegalArgumentException plugin、skillManager、playerManagerがnullの場合
+     */
+    public PassiveSkillExecutor(RPGPlugin plugin, SkillManager skillManager, PlayerManager playerManager,
+                                ExpiryService expiryService) {
         if (plugin == null) {
             throw new IllegalArgumentException("plugin cannot be null");
         }
@@ -95,7 +115,8 @@ public class PassiveSkillExecutor implements SkillExecutor {
         this.plugin = plugin;
         this.skillManager = skillManager;
         this.playerManager = playerManager;
-        this.activeEffects = new HashMap<>();
+        this.expiryService = expiryService;
+        this.activeEffects = new ConcurrentHashMap<>();
 
         // 定期的な更新タスクを開始
         startUpdateTask();
@@ -118,7 +139,7 @@ public class PassiveSkillExecutor implements SkillExecutor {
      */
     public boolean applyPassive(Player player, Skill skill, int level) {
         UUID uuid = player.getUniqueId();
-        Map<String, PassiveEffect> playerEffects = activeEffects.computeIfAbsent(uuid, k -> new HashMap<>());
+        Map<String, PassiveEffect> playerEffects = activeEffects.computeIfAbsent(uuid, k -> new ConcurrentHashMap<>());
 
         // 既に適用されている場合は何もしない
         if (playerEffects.containsKey(skill.getId())) {
@@ -219,17 +240,39 @@ public class PassiveSkillExecutor implements SkillExecutor {
 
     /**
      * 定期的な更新タスクを開始します
+     *
+     * <p>期限管理サービスが指定された場合はそのホイールで再登録を繰り返し、専用のBukkitタスクを作りません。
+     * サービスが {@link ExpiryService#clear()} されると再登録は止まります。</p>
      */
     private void startUpdateTask() {
+        if (expiryService != null) {
+            scheduleUpdate();
+            return;
+        }
+
         new BukkitRunnable() {
             @Override
             public void run() {
-                // 全プレイヤーのパッシブスキルを更新
-                for (Player player : plugin.getServer().getOnlinePlayers()) {
-                    updatePassives(player);
-                }
+                updateAllPassives();
+            }
+        }.runTaskTimer(plugin, UPDATE_INTERVAL_TICKS, UPDATE_INTERVAL_TICKS); // 1秒ごとに更新
+    }
+
+    private void scheduleUpdate() {
+        expiryService.schedule(UPDATE_INTERVAL_TICKS, () -> {
+            try {
+                updateAllPassives();
+            } finally {
+                scheduleUpdate();
             }
-        }.runTaskTimer(plugin, 20L, 20L); // 1秒ごとに更新
+        });
+    }
+
+    private void updateAllPassives() {
+        // 全プレイヤーのパッシブスキルを更新
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            updatePassives(player);
+        }
     }
 
     /**
@@ -1,13 +1,21 @@
 package com.example.rpgplugin.skill.repository;
 
+import com.example.rpgplugin.storage.repository.PlayerSkillRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.entity.Player;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 /**
@@ -28,14 +36,48 @@ public class PlayerSkillService {
 
     private static final Logger LOGGER = Logger.getLogger(PlayerSkillService.class.getName());
 
+    /** ロード時に退出時保存の完了を待つ最大時間（秒） */
+    private static final long PENDING_SAVE_WAIT_SECONDS = 10;
+
+    /** 参加しなかったプレイヤーの先読みデータを保持する時間（秒） */
+    private static final long PRELOAD_TTL_SECONDS = 60;
+
     /** プレイヤーのスキルデータ */
     private final Map<UUID, PlayerSkillData> playerSkills;
 
+    /** 永続化リポジトリ（nullの場合はメモリ上のみ） */
+    private final PlayerSkillRepository repository;
+
+    /** 退出時に発行した非同期保存（完了まで同じUUIDのロードを待たせる） */
+    private final Map<UUID, CompletableFuture<Void>> pendingSaves;
+
+    /** ログイン前に先読みしたデータ（参加時に playerSkills へ移す。ログインが拒否された分は期限切れで破棄） */
+    private final Cache<UUID, PlayerSkillData> preloaded;
+
+    /** 退出時の保存に失敗したデータ（オンライン扱いにせず、一括保存で再試行して成功したら破棄） */
+    private final Map<UUID, PlayerSkillData> failedSaves;
+
     /**
      * コンストラクタ
      */
     public PlayerSkillService() {
+        this(null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param repository 永続化リポジトリ（nullの場合はメモリ上のみ）
+     */
+    public PlayerSkillService(PlayerSkillRepository repository) {
         this.playerSkills = new ConcurrentHashMap<>();
+        this.repository = repository;
+        this.pendingSaves = new ConcurrentHashMap<>();
+        this.failedSaves = new ConcurrentHashMap<>();
+        this.preloaded = Caffeine.newBuilder()
+                .expireAfterWrite(PRELOAD_TTL_SECONDS, TimeUnit.SECONDS)
+                .executor(Runnable::run)
+                .build();
     }
 
     /**
@@ -68,14 +110,180 @@ public class PlayerSkillService {
         return playerSkills.containsKey(uuid);
     }
 
+    /**
+     * 保存済みのスキルデータをロードします
+     *
+     * <p>既にメモリ上にデータがある場合（リロード時等）はそちらを優先し、
+     * 次に退出時の保存に失敗して未保存の変更を持つデータ、ログイン前に先読みしたデータの順に使います。
+     * 退出時の保存が完了していない場合は、古いデータを読まないよう完了を待ってから読み込みます。</p>
+     *
+     * @param uuid プレイヤーUUID
+     * @return プレイヤーのスキルデータ
+     */
+    public PlayerSkillData loadPlayerData(UUID uuid) {
+        if (repository == null) {
+            return getPlayerSkillData(uuid);
+        }
+
+        PlayerSkillData existing = playerSkills.get(uuid);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 保存失敗時は変更を戻したデータを再試行待ちとして保持している
+        awaitPendingSave(uuid);
+        PlayerSkillData loaded = failedSaves.remove(uuid);
+        if (loaded != null) {
+            preloaded.invalidate(uuid);
+        } else {
+            loaded = preloaded.asMap().remove(uuid);
+        }
+        if (loaded == null) {
+            loaded = readFromRepository(uuid);
+            if (loaded == null) {
+                return getPlayerSkillData(uuid);
+            }
+        }
+
+        PlayerSkillData previous = playerSkills.putIfAbsent(uuid, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * ログイン前（非同期スレッド）にスキルデータを先読みします
+     *
+     * <p>先読みしたデータは参加時の {@link #loadPlayerData(UUID)} で有効になるまで別に保持され、
+     * ログインが拒否されて参加しなかった場合は一定時間で破棄されます。</p>
+     *
+     * @param uuid プレイヤーUUID
+     */
+    public void preloadPlayerData(UUID uuid) {
+        if (repository == null || playerSkills.containsKey(uuid)) {
+            return;
+        }
+
+        PlayerSkillData loaded = readFromRepository(uuid);
+        if (loaded != null) {
+            preloaded.put(uuid, loaded);
+        }
+    }
+
+    /**
+     * 退出時の保存を待ってからリポジトリを読み込みます
+     *
+     * @param uuid プレイヤーUUID
+     * @return 読み込んだデータ、メモリ上のデータを使う場合（再試行待ちを含む）はnull
+     */
+    private PlayerSkillData readFromRepository(UUID uuid) {
+        awaitPendingSave(uuid);
+        if (playerSkills.containsKey(uuid) || failedSaves.containsKey(uuid)) {
+            return null;
+        }
+
+        try {
+            return repository.load(uuid);
+        } catch (Exception e) {
+            LOGGER.warning("Failed to load skill data for " + uuid + ": " + e.getMessage());
+            return new PlayerSkillData();
+        }
+    }
+
     /**
      * プレイヤーデータをアンロードします
      *
+     * <p>未保存の変更がある場合は非同期で保存します。保存が完了するまで同じUUIDの
+     * {@link #loadPlayerData(UUID)} は待機します。保存に失敗した場合は変更を未保存状態に戻して
+     * 再試行待ちとして保持し、再ログイン時はそのデータを使います。再ログインしない場合は次回の
+     * {@link #saveAllPlayerData()} で再試行し、成功した時点で破棄します。</p>
+     *
      * @param uuid プレイヤーUUID
      * @return アンロードされたデータ（nullの場合もあり）
      */
     public PlayerSkillData unloadPlayerData(UUID uuid) {
-        return playerSkills.remove(uuid);
+        preloaded.invalidate(uuid);
+        PlayerSkillData data = playerSkills.remove(uuid);
+        if (data != null && repository != null && data.isDirty()) {
+            PendingChanges changes = data.drainChanges();
+            CompletableFuture<Void> save = repository.saveChangesAsync(uuid, changes)
+                    .handle((result, error) -> {
+                        if (error != null) {
+                            LOGGER.severe("Failed to save skill data for " + uuid + ": " + error.getMessage());
+                            data.restoreChanges(changes);
+                            failedSaves.put(uuid, data);
+                        }
+                        return null;
+                    });
+            pendingSaves.put(uuid, save);
+            save.whenComplete((result, error) -> pendingSaves.remove(uuid, save));
+        }
+        return data;
+    }
+
+    /**
+     * 退出時の保存が完了するまで待機します
+     *
+     * @param uuid プレイヤーUUID
+     */
+    private void awaitPendingSave(UUID uuid) {
+        CompletableFuture<Void> pending = pendingSaves.get(uuid);
+        if (pending == null) {
+            return;
+        }
+        try {
+            pending.get(PENDING_SAVE_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warning("Pending skill data save did not finish for " + uuid + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 全プレイヤーの未保存の変更を同期保存します
+     *
+     * <p>退出時の保存に失敗したデータを先に再試行し、成功したものは破棄します。</p>
+     *
+     * @return 保存したプレイヤー数
+     */
+    public int saveAllPlayerData() {
+        if (repository == null) {
+            return 0;
+        }
+
+        // 再試行分は同じUUIDのオンラインデータより古いため先に書き込む
+        Map<UUID, PlayerSkillData> retries = new HashMap<>(failedSaves);
+        int retried = saveChanges(retries);
+        if (retried >= 0) {
+            retries.forEach(failedSaves::remove);
+        }
+        int saved = saveChanges(playerSkills);
+        return Math.max(retried, 0) + Math.max(saved, 0);
+    }
+
+    /**
+     * 未保存の変更を1トランザクションで同期保存します
+     *
+     * @param source 保存対象のデータ
+     * @return 保存したプレイヤー数、失敗時は-1
+     */
+    private int saveChanges(Map<UUID, PlayerSkillData> source) {
+        Map<UUID, PlayerSkillData> dirty = new HashMap<>();
+        Map<UUID, PendingChanges> changesByPlayer = new HashMap<>();
+        for (Map.Entry<UUID, PlayerSkillData> entry : source.entrySet()) {
+            if (entry.getValue().isDirty()) {
+                dirty.put(entry.getKey(), entry.getValue());
+                changesByPlayer.put(entry.getKey(), entry.getValue().drainChanges());
+            }
+        }
+
+        try {
+            repository.saveChanges(changesByPlayer);
+        } catch (Exception e) {
+            LOGGER.severe("Failed to save skill data: " + e.getMessage());
+            changesByPlayer.forEach((uuid, changes) -> dirty.get(uuid).restoreChanges(changes));
+            return -1;
+        }
+        return changesByPlayer.size();
     }
 
     /**
@@ -83,6 +291,8 @@ public class PlayerSkillService {
      */
     public void clearAllPlayerData() {
         playerSkills.clear();
+        preloaded.invalidateAll();
+        failedSaves.clear();
     }
 
     /**
@@ -283,11 +493,23 @@ public class PlayerSkillService {
 
     /**
      * プレイヤーのスキルデータ
+     *
+     * <p>変更されたスキルID・クールダウン・スキルポイントを記録し、
+     * 差分のみを保存できるようにします。</p>
      */
     public static class PlayerSkillData {
         private final Map<String, Integer> acquiredSkills; // skillId -> level
         private final Map<String, Long> cooldowns; // skillId -> lastCastTime
-        private int skillPoints;
+        private volatile int skillPoints;
+
+        /** 未保存のスキルID（削除を含む） */
+        private final Set<String> dirtySkills = ConcurrentHashMap.newKeySet();
+
+        /** 未保存のクールダウン */
+        private final Set<String> dirtyCooldowns = ConcurrentHashMap.newKeySet();
+
+        /** スキルポイントが未保存か */
+        private volatile boolean skillPointsDirty;
 
         public PlayerSkillData() {
             this.acquiredSkills = new ConcurrentHashMap<>();
@@ -316,6 +538,7 @@ public class PlayerSkillService {
             } else {
                 acquiredSkills.put(skillId, level);
             }
+            dirtySkills.add(skillId);
         }
 
         /**
@@ -324,7 +547,9 @@ public class PlayerSkillService {
          * @param skillId スキルID
          */
         public void removeSkill(String skillId) {
-            acquiredSkills.remove(skillId);
+            if (acquiredSkills.remove(skillId) != null) {
+                dirtySkills.add(skillId);
+            }
         }
 
         /**
@@ -337,6 +562,7 @@ public class PlayerSkillService {
             int count = 0;
             for (String skillId : skillIds) {
                 if (acquiredSkills.remove(skillId) != null) {
+                    dirtySkills.add(skillId);
                     count++;
                 }
             }
@@ -352,7 +578,7 @@ public class PlayerSkillService {
         }
 
         public void setLastCastTime(String skillId, long time) {
-            cooldowns.put(skillId, time);
+            setCooldown(skillId, time);
         }
 
         /**
@@ -363,6 +589,7 @@ public class PlayerSkillService {
          */
         public void setCooldown(String skillId, long time) {
             cooldowns.put(skillId, time);
+            dirtyCooldowns.add(skillId);
         }
 
         public int getSkillPoints() {
@@ -371,18 +598,126 @@ public class PlayerSkillService {
 
         public void setSkillPoints(int points) {
             this.skillPoints = Math.max(0, points);
+            this.skillPointsDirty = true;
         }
 
         public void addSkillPoints(int points) {
             this.skillPoints += points;
+            this.skillPointsDirty = true;
         }
 
         public boolean useSkillPoint() {
             if (skillPoints > 0) {
                 skillPoints--;
+                skillPointsDirty = true;
                 return true;
             }
             return false;
         }
+
+        // ==================== 永続化 ====================
+
+        /**
+         * 保存済みのスキルレベルを読み込みます（変更として記録しません）
+         *
+         * @param skillId スキルID
+         * @param level レベル
+         */
+        public void loadSkillLevel(String skillId, int level) {
+            if (level > 0) {
+                acquiredSkills.put(skillId, level);
+            }
+        }
+
+        /**
+         * 保存済みのクールダウンを読み込みます（変更として記録しません）
+         *
+         * @param skillId スキルID
+         * @param time 最終発動時刻（エポックミリ秒）
+         */
+        public void loadCooldown(String skillId, long time) {
+            cooldowns.put(skillId, time);
+        }
+
+        /**
+         * 保存済みのスキルポイントを読み込みます（変更として記録しません）
+         *
+         * @param points スキルポイント
+         */
+        public void loadSkillPoints(int points) {
+            this.skillPoints = Math.max(0, points);
+        }
+
+        /**
+         * 未保存の変更があるか確認します
+         *
+         * @return 未保存の変更がある場合はtrue
+         */
+        public boolean isDirty() {
+            return skillPointsDirty || !dirtySkills.isEmpty() || !dirtyCooldowns.isEmpty();
+        }
+
+        /**
+         * 未保存の変更を取得し、クリアします
+         *
+         * <p>保存に失敗した場合は {@link #restoreChanges(PendingChanges)} で戻してください。</p>
+         *
+         * @return 変更内容（レベル0のスキルは削除を表す）
+         */
+        public PendingChanges drainChanges() {
+            Map<String, Integer> skills = new java.util.HashMap<>();
+            for (java.util.Iterator<String> it = dirtySkills.iterator(); it.hasNext(); ) {
+                String skillId = it.next();
+                it.remove();
+                skills.put(skillId, getSkillLevel(skillId));
+            }
+
+            Map<String, Long> changedCooldowns = new java.util.HashMap<>();
+            for (java.util.Iterator<String> it = dirtyCooldowns.iterator(); it.hasNext(); ) {
+                String skillId = it.next();
+                it.remove();
+                changedCooldowns.put(skillId, getLastCastTime(skillId));
+            }
+
+            Integer points = null;
+            if (skillPointsDirty) {
+                skillPointsDirty = false;
+                points = skillPoints;
+            }
+
+            return new PendingChanges(skills, changedCooldowns, points);
+        }
+
+        /**
+         * 保存に失敗した変更を未保存状態に戻します
+         *
+         * @param changes {@link #drainChanges()} で取得した変更
+         */
+        public void restoreChanges(PendingChanges changes) {
+            dirtySkills.addAll(changes.skillLevels().keySet());
+            dirtyCooldowns.addAll(changes.cooldowns().keySet());
+            if (changes.skillPoints() != null) {
+                skillPointsDirty = true;
+            }
+        }
+    }
+
+    /**
+     * 未保存の変更内容
+     *
+     * @param skillLevels スキルID → レベル（0は削除）
+     * @param cooldowns スキルID → 最終発動時刻
+     * @param skillPoints スキルポイント（変更がない場合はnull）
+     */
+    public record PendingChanges(Map<String, Integer> skillLevels, Map<String, Long> cooldowns, Integer skillPoints) {
+
+        /**
+         * 変更がないか確認します
+         *
+         * @return 変更がない場合はtrue
+         */
+        public boolean isEmpty() {
+            return skillLevels.isEmpty() && cooldowns.isEmpty() && skillPoints == null;
+        }
     }
 }
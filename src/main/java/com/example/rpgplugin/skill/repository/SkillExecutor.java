@@ -7,6 +7,7 @@ import com.example.rpgplugin.skill.Skill;
 import com.example.rpgplugin.skill.SkillCostType;
 import com.example.rpgplugin.skill.SkillExecutionConfig;
 import com.example.rpgplugin.skill.evaluator.FormulaEvaluator;
+import com.example.rpgplugin.skill.target.EntitySpatialIndex;
 import com.example.rpgplugin.skill.target.TargetSelector;
 import com.example.rpgplugin.skill.result.SkillExecutionResult;
 import net.kyori.adventure.text.Component;
@@ -42,6 +43,7 @@ public class SkillExecutor {
     private final PlayerSkillService playerSkillService;
     private final PlayerManager playerManager;
     private final FormulaEvaluator formulaEvaluator;
+    private final EntitySpatialIndex spatialIndex;
 
     /**
      * コンストラクタ
@@ -53,10 +55,26 @@ public class SkillExecutor {
     public SkillExecutor(SkillRepository skillRepository,
                          PlayerSkillService playerSkillService,
                          PlayerManager playerManager) {
+        this(skillRepository, playerSkillService, playerManager, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param skillRepository スキルリポジトリ
+     * @param playerSkillService プレイヤースキルサービス
+     * @param playerManager プレイヤーマネージャー
+     * @param spatialIndex ターゲット検索用の空間インデックス（nullの場合はワールド検索）
+     */
+    public SkillExecutor(SkillRepository skillRepository,
+                         PlayerSkillService playerSkillService,
+                         PlayerManager playerManager,
+                         EntitySpatialIndex spatialIndex) {
         this.skillRepository = skillRepository;
         this.playerSkillService = playerSkillService;
         this.playerManager = playerManager;
         this.formulaEvaluator = new FormulaEvaluator();
+        this.spatialIndex = spatialIndex;
     }
 
     /**
@@ -393,7 +411,7 @@ public class SkillExecutor {
         // 範囲設定に基づいて検索半径を決定
         double searchRadius = getSearchRadius(skillTarget);
 
-        return new ArrayList<>(TargetSelector.getNearbyEntities(origin, searchRadius));
+        return TargetSelector.getNearbyEntities(origin, searchRadius, spatialIndex);
     }
 
     /**
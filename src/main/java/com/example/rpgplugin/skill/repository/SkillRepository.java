@@ -6,8 +6,8 @@ import com.example.rpgplugin.skill.SkillTreeRegistry;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * スキルリポジトリ
@@ -20,6 +20,10 @@ import java.util.stream.Collectors;
  *   <li>Thread-Safety: ConcurrentHashMapによるスレッドセーフ</li>
  * </ul>
  *
+ * <p>一覧・クラス別の読み取りは、登録内容から作成した不変のスナップショット（索引）を参照します。
+ * スナップショットは登録内容が変わった後の最初の読み取り時、またはリロード時に作り直して差し替えるため、
+ * 読み取りのたびに全スキルを走査・コピーしません。</p>
+ *
  * @author RPGPlugin Team
  * @version 1.0.0
  */
@@ -33,6 +37,12 @@ public class SkillRepository {
     /** スキルツリーレジストリ */
     private final SkillTreeRegistry treeRegistry;
 
+    /** 登録内容の世代（変更のたびに加算） */
+    private final AtomicLong version = new AtomicLong();
+
+    /** 読み取り用スナップショット */
+    private volatile SkillIndex index = SkillIndex.EMPTY;
+
     /**
      * コンストラクタ
      */
@@ -57,6 +67,7 @@ public class SkillRepository {
             return false;
         }
         skills.put(skill.getId(), skill);
+        version.incrementAndGet();
         LOGGER.info(() -> "Skill registered: " + skill.getId());
 
         // スキルツリーレジストリにも登録
@@ -81,6 +92,7 @@ public class SkillRepository {
 
         boolean wasExisting = skills.containsKey(skill.getId());
         skills.put(skill.getId(), skill);
+        version.incrementAndGet();
 
         // スキルツリーレジストリを更新
         treeRegistry.registerSkill(skill);
@@ -110,31 +122,29 @@ public class SkillRepository {
     /**
      * 全スキルを取得します
      *
-     * @return 全スキルのマップ（コピー）
+     * @return 全スキルのマップ（変更不可のスナップショット）
      */
     public Map<String, Skill> getAllSkills() {
-        return new HashMap<>(skills);
+        return index().skills;
     }
 
     /**
      * 全スキルIDを取得します
      *
-     * @return スキルIDのセット
+     * @return スキルIDのセット（変更不可のスナップショット）
      */
     public Set<String> getAllSkillIds() {
-        return new HashSet<>(skills.keySet());
+        return index().skills.keySet();
     }
 
     /**
      * 指定されたクラスで使用可能なスキルを取得します
      *
      * @param classId クラスID
-     * @return 使用可能なスキルリスト
+     * @return 使用可能なスキルリスト（変更不可のスナップショット）
      */
     public List<Skill> getSkillsForClass(String classId) {
-        return skills.values().stream()
-                .filter(skill -> skill.isAvailableForClass(classId))
-                .collect(Collectors.toList());
+        return index().skillsFor(classId);
     }
 
     /**
@@ -161,6 +171,7 @@ public class SkillRepository {
      */
     public void clearAllSkills() {
         skills.clear();
+        version.incrementAndGet();
     }
 
     /**
@@ -177,9 +188,11 @@ public class SkillRepository {
         Set<String> removedSkills = new HashSet<>(oldSkillIds);
         removedSkills.removeAll(newSkillIds);
 
-        // 新しいスキルマップを適用
-        skills.clear();
+        // 新しいスキルマップを適用（読み取り側が空の状態を見ないよう、追加してから削除）
         skills.putAll(newSkills);
+        skills.keySet().removeAll(removedSkills);
+        long newVersion = version.incrementAndGet();
+        index = SkillIndex.build(newVersion, skills.values());
 
         // スキルツリーキャッシュを全て無効化
         treeRegistry.invalidateAll();
@@ -222,6 +235,76 @@ public class SkillRepository {
         return skills.isEmpty();
     }
 
+    /**
+     * 現在の登録内容に対応するスナップショットを取得します
+     *
+     * @return スナップショット
+     */
+    private SkillIndex index() {
+        long current = version.get();
+        SkillIndex snapshot = index;
+        if (snapshot.version != current) {
+            snapshot = SkillIndex.build(current, skills.values());
+            index = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * スキルの不変スナップショット（クラス別索引付き）
+     */
+    private static final class SkillIndex {
+        static final SkillIndex EMPTY = new SkillIndex(0L, Collections.emptyMap(),
+                Collections.emptyMap(), Collections.emptyList());
+
+        final long version;
+        final Map<String, Skill> skills;
+        final Map<String, List<Skill>> byClass;
+        final List<Skill> common;
+
+        private SkillIndex(long version, Map<String, Skill> skills,
+                           Map<String, List<Skill>> byClass, List<Skill> common) {
+            this.version = version;
+            this.skills = skills;
+            this.byClass = byClass;
+            this.common = common;
+        }
+
+        static SkillIndex build(long version, Collection<Skill> source) {
+            Map<String, Skill> skills = new HashMap<>();
+            Map<String, List<Skill>> byClass = new HashMap<>();
+            List<Skill> common = new ArrayList<>();
+            for (Skill skill : source) {
+                skills.put(skill.getId(), skill);
+                List<String> availableClasses = skill.getAvailableClasses();
+                if (availableClasses.isEmpty()) {
+                    // 空リストは全クラスで利用可能
+                    common.add(skill);
+                    continue;
+                }
+                for (String classId : availableClasses) {
+                    byClass.computeIfAbsent(classId, k -> new ArrayList<>()).add(skill);
+                }
+            }
+
+            // クラス別リストには全クラス共通スキルも含める
+            Map<String, List<Skill>> merged = new HashMap<>();
+            for (Map.Entry<String, List<Skill>> entry : byClass.entrySet()) {
+                List<Skill> classSkills = entry.getValue();
+                classSkills.addAll(common);
+                merged.put(entry.getKey(), Collections.unmodifiableList(classSkills));
+            }
+
+            return new SkillIndex(version, Collections.unmodifiableMap(skills),
+                    Collections.unmodifiableMap(merged), Collections.unmodifiableList(common));
+        }
+
+        List<Skill> skillsFor(String classId) {
+            List<Skill> classSkills = byClass.get(classId);
+            return classSkills != null ? classSkills : common;
+        }
+    }
+
     /**
      * スキルリロード結果
      */
@@ -0,0 +1,320 @@
+package com.example.rpgplugin.skill.target;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * ターゲット選択用のエンティティ空間インデックス
+ *
+ * <p>ワールドごとに {@link LivingEntity} の座標をXZ平面のグリッド（16ブロック単位）に振り分けます。
+ * グリッドはそのティックで最初に検索されたときに1回だけ再構築され、
+ * 同一ティック内の検索はすべて同じグリッドを共有します。</p>
+ *
+ * <ul>
+ *   <li>座標は再構築時に配列へ保存するため、検索中に {@link Location} を生成しない</li>
+ *   <li>距離判定はすべて二乗距離で行う</li>
+ *   <li>検索結果は呼び出し元のリストに直接追加する（中間リストなし）</li>
+ *   <li>同一ティック内に死亡したエンティティは検索時に除外される</li>
+ * </ul>
+ *
+ * <p>Bukkitのエンティティを扱うため、メインスレッドからのみ使用してください。</p>
+ */
+public final class EntitySpatialIndex {
+
+    /** グリッドのセルサイズ（2^4 = 16ブロック） */
+    private static final int CELL_SHIFT = 4;
+
+    /** この期間（ティック）検索されなかったワールドのグリッドを破棄 */
+    private static final int IDLE_GRID_TICKS = 1200;
+
+    private final IntSupplier tickSource;
+    private final Map<UUID, WorldGrid> grids = new HashMap<>();
+    private final Location queryScratch = new Location(null, 0, 0, 0);
+    private final Location rebuildScratch = new Location(null, 0, 0, 0);
+    private int lastSweepTick;
+
+    /**
+     * コンストラクタ
+     *
+     * @param tickSource 現在のサーバーティックを返すサプライヤー
+     */
+    public EntitySpatialIndex(IntSupplier tickSource) {
+        this.tickSource = tickSource;
+    }
+
+    // ==================== 検索 ====================
+
+    /**
+     * 検索結果を受け取るビジター
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * @param entity エンティティ
+         * @param dx 中心からのX差分
+         * @param dy 中心からのY差分
+         * @param dz 中心からのZ差分
+         * @param distanceSquared 中心からの二乗距離
+         */
+        void accept(LivingEntity entity, double dx, double dy, double dz, double distanceSquared);
+    }
+
+    /**
+     * 中心から各軸 range 以内のエンティティを走査します
+     *
+     * @param world ワールド
+     * @param cx 中心X
+     * @param cy 中心Y
+     * @param cz 中心Z
+     * @param range 各軸の範囲
+     * @param visitor ビジター
+     */
+    public void forEachInBox(World world, double cx, double cy, double cz, double range, Visitor visitor) {
+        if (world == null || range < 0) {
+            return;
+        }
+
+        WorldGrid grid = grid(world);
+        int minCellX = cell(cx - range);
+        int maxCellX = cell(cx + range);
+        int minCellZ = cell(cz - range);
+        int maxCellZ = cell(cz + range);
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                Cell cell = grid.cells.get(key(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    double dx = cell.xs[i] - cx;
+                    double dy = cell.ys[i] - cy;
+                    double dz = cell.zs[i] - cz;
+                    if (Math.abs(dx) > range || Math.abs(dy) > range || Math.abs(dz) > range) {
+                        continue;
+                    }
+                    LivingEntity entity = cell.entities[i];
+                    if (!entity.isValid()) {
+                        continue;
+                    }
+                    visitor.accept(entity, dx, dy, dz, dx * dx + dy * dy + dz * dz);
+                }
+            }
+        }
+    }
+
+    /**
+     * 基準エンティティから各軸 range 以内のエンティティを収集します
+     *
+     * <p>{@link org.bukkit.entity.Entity#getNearbyEntities(double, double, double)} と同様に
+     * 基準エンティティ自身は含みません。</p>
+     *
+     * @param center 基準エンティティ
+     * @param range 各軸の範囲
+     * @param out 結果を追加するリスト
+     */
+    public void collectNearby(LivingEntity center, double range, List<? super LivingEntity> out) {
+        Location origin = center.getLocation(queryScratch);
+        forEachInBox(origin.getWorld(), origin.getX(), origin.getY(), origin.getZ(), range,
+                (entity, dx, dy, dz, distanceSquared) -> {
+                    if (entity != center) {
+                        out.add(entity);
+                    }
+                });
+    }
+
+    /**
+     * 球内のエンティティを収集します
+     *
+     * @param center 中心
+     * @param radius 半径
+     * @param exclude 除外するエンティティ（null可）
+     * @param out 結果を追加するリスト
+     */
+    public void collectInSphere(Location center, double radius, LivingEntity exclude,
+                                List<? super LivingEntity> out) {
+        double radiusSquared = radius * radius;
+        forEachInBox(center.getWorld(), center.getX(), center.getY(), center.getZ(), radius,
+                (entity, dx, dy, dz, distanceSquared) -> {
+                    if (entity != exclude && distanceSquared <= radiusSquared) {
+                        out.add(entity);
+                    }
+                });
+    }
+
+    /**
+     * コーン（扇形）内のエンティティを収集します
+     *
+     * @param apex 頂点
+     * @param direction 方向（正規化済み）
+     * @param range 距離
+     * @param angle 全角（度数法）
+     * @param exclude 除外するエンティティ（null可）
+     * @param out 結果を追加するリスト
+     */
+    public void collectInCone(Location apex, Vector direction, double range, double angle,
+                              LivingEntity exclude, List<? super LivingEntity> out) {
+        double rangeSquared = range * range;
+        double cosHalfAngle = Math.cos(Math.toRadians(angle / 2.0));
+        double dirX = direction.getX();
+        double dirY = direction.getY();
+        double dirZ = direction.getZ();
+
+        forEachInBox(apex.getWorld(), apex.getX(), apex.getY(), apex.getZ(), range,
+                (entity, dx, dy, dz, distanceSquared) -> {
+                    if (entity == exclude || distanceSquared > rangeSquared || distanceSquared == 0) {
+                        return;
+                    }
+                    double dot = dx * dirX + dy * dirY + dz * dirZ;
+                    if (dot >= cosHalfAngle * Math.sqrt(distanceSquared)) {
+                        out.add(entity);
+                    }
+                });
+    }
+
+    /**
+     * 直線上のエンティティを収集します
+     *
+     * @param start 始点
+     * @param direction 方向（正規化済み）
+     * @param length 長さ
+     * @param width 直線からの許容距離
+     * @param exclude 除外するエンティティ（null可）
+     * @param out 結果を追加するリスト
+     */
+    public void collectOnLine(Location start, Vector direction, double length, double width,
+                              LivingEntity exclude, List<? super LivingEntity> out) {
+        double widthSquared = width * width;
+        double dirX = direction.getX();
+        double dirY = direction.getY();
+        double dirZ = direction.getZ();
+
+        forEachInBox(start.getWorld(), start.getX(), start.getY(), start.getZ(), length + width,
+                (entity, dx, dy, dz, distanceSquared) -> {
+                    if (entity == exclude) {
+                        return;
+                    }
+                    double projection = dx * dirX + dy * dirY + dz * dirZ;
+                    if (projection < 0 || projection > length) {
+                        return;
+                    }
+                    // 直線からの二乗距離 = |v|^2 - (v・d)^2
+                    if (distanceSquared - projection * projection <= widthSquared) {
+                        out.add(entity);
+                    }
+                });
+    }
+
+    /**
+     * 全グリッドを破棄します
+     */
+    public void clear() {
+        grids.clear();
+    }
+
+    // ==================== グリッド管理 ====================
+
+    private WorldGrid grid(World world) {
+        int tick = tickSource.getAsInt();
+        sweepIdleGrids(tick);
+
+        WorldGrid grid = grids.computeIfAbsent(world.getUID(), id -> new WorldGrid());
+        if (grid.builtTick != tick || !grid.built) {
+            grid.rebuild(world.getLivingEntities(), rebuildScratch);
+            grid.builtTick = tick;
+            grid.built = true;
+        }
+        return grid;
+    }
+
+    private void sweepIdleGrids(int tick) {
+        if (tick - lastSweepTick < IDLE_GRID_TICKS) {
+            return;
+        }
+        lastSweepTick = tick;
+
+        Iterator<WorldGrid> iterator = grids.values().iterator();
+        while (iterator.hasNext()) {
+            if (tick - iterator.next().builtTick >= IDLE_GRID_TICKS) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static int cell(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> CELL_SHIFT;
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * ワールド単位のグリッド
+     */
+    private static final class WorldGrid {
+        private final Map<Long, Cell> cells = new HashMap<>();
+        private int builtTick;
+        private boolean built;
+
+        void rebuild(List<LivingEntity> entities, Location scratch) {
+            // セルは再利用し、空になったセルのみ削除
+            cells.values().removeIf(cell -> cell.size == 0);
+            for (Cell cell : cells.values()) {
+                cell.clear();
+            }
+
+            for (LivingEntity entity : entities) {
+                if (!entity.isValid()) {
+                    continue;
+                }
+                Location location = entity.getLocation(scratch);
+                double x = location.getX();
+                double z = location.getZ();
+                cells.computeIfAbsent(key(cell(x), cell(z)), k -> new Cell())
+                        .add(entity, x, location.getY(), z);
+            }
+        }
+    }
+
+    /**
+     * グリッドのセル（座標は配列で保持）
+     */
+    private static final class Cell {
+        private LivingEntity[] entities = new LivingEntity[8];
+        private double[] xs = new double[8];
+        private double[] ys = new double[8];
+        private double[] zs = new double[8];
+        private int size;
+
+        void add(LivingEntity entity, double x, double y, double z) {
+            if (size == entities.length) {
+                int capacity = size * 2;
+                entities = Arrays.copyOf(entities, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+            }
+            entities[size] = entity;
+            xs[size] = x;
+            ys[size] = y;
+            zs[size] = z;
+            size++;
+        }
+
+        void clear() {
+            Arrays.fill(entities, 0, size, null);
+            size = 0;
+        }
+    }
+}
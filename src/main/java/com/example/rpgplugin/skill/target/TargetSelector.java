@@ -312,9 +312,31 @@ public final class TargetSelector {
      * @return 近くのエンティティリスト
      */
     public static List<Entity> getNearbyEntities(Location origin, double radius) {
+        return getNearbyEntities(origin, radius, null);
+    }
+
+    /**
+     * 近くのエンティティを取得します
+     *
+     * <p>空間インデックスが指定された場合はインデックスから {@link LivingEntity} のみを取得します。</p>
+     *
+     * @param origin 中心位置
+     * @param radius 検索半径
+     * @param index 空間インデックス（nullの場合はワールド検索）
+     * @return 近くのエンティティリスト
+     */
+    public static List<Entity> getNearbyEntities(Location origin, double radius, EntitySpatialIndex index) {
         if (origin.getWorld() == null) {
             return List.of();
         }
+
+        if (index != null) {
+            List<Entity> result = new ArrayList<>();
+            index.forEachInBox(origin.getWorld(), origin.getX(), origin.getY(), origin.getZ(), radius,
+                    (entity, dx, dy, dz, distanceSquared) -> result.add(entity));
+            return result;
+        }
+
         return new ArrayList<>(origin.getWorld().getNearbyEntities(origin, radius, radius, radius));
     }
 
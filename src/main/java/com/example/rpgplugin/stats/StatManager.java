@@ -1,9 +1,15 @@
 package com.example.rpgplugin.stats;
 
+import com.example.rpgplugin.core.scheduler.ExpiryService;
+import com.example.rpgplugin.core.scheduler.TimingWheel;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -31,6 +37,14 @@ import java.util.stream.Collectors;
  *   <li>外部同期なしで複数スレッドからアクセス可能</li>
  * </ul>
  *
+ * <p>最終値のキャッシュ:</p>
+ * <ul>
+ *   <li>全ステータスの最終値を配列のスナップショットとして保持</li>
+ *   <li>基本値・修正値の変更でバージョンが進み、次回読み取り時に再計算</li>
+ *   <li>時限修正値がある場合は最も早い期限を過ぎた時点で再計算</li>
+ *   <li>{@link ExpiryService} が指定された場合、時限修正値は期限到達時に読み取りを待たず削除</li>
+ * </ul>
+ *
  * @author RPGPlugin Team
  * @version 1.0.0
  * @see Stat
@@ -43,6 +57,11 @@ public class StatManager {
     private final Map<Stat, List<StatModifier>> modifiers;
     private final AtomicInteger availablePoints;
     private final AtomicInteger totalLevel;
+    private final AtomicLong version = new AtomicLong();
+    private volatile FinalStatSnapshot snapshot;
+    private volatile DerivedSnapshot derived;
+    private final ExpiryService expiryService;
+    private final Map<Stat, Map<UUID, AtomicReference<TimingWheel.Timeout>>> expiryHandles;
 
     /**
      * デフォルトコンストラクタ
@@ -60,9 +79,22 @@ public class StatManager {
      * @param initialAvailablePoints 初期手動配分ポイント
      */
     public StatManager(int initialBaseValue, int initialAvailablePoints) {
+        this(initialBaseValue, initialAvailablePoints, null);
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param initialBaseValue 初期基本値（全ステータス共通）
+     * @param initialAvailablePoints 初期手動配分ポイント
+     * @param expiryService 時限修正値の期限管理サービス（nullの場合は読み取り時に期限を判定）
+     */
+    public StatManager(int initialBaseValue, int initialAvailablePoints, ExpiryService expiryService) {
+        this.expiryService = expiryService;
         this.logger = Logger.getLogger(StatManager.class.getName());
         this.baseStats = new ConcurrentHashMap<>();
         this.modifiers = new ConcurrentHashMap<>();
+        this.expiryHandles = new ConcurrentHashMap<>();
         this.availablePoints = new AtomicInteger(initialAvailablePoints);
         this.totalLevel = new AtomicInteger(1);
 
@@ -70,6 +102,7 @@ public class StatManager {
         for (Stat stat : Stat.values()) {
             baseStats.put(stat, initialBaseValue);
             modifiers.put(stat, new CopyOnWriteArrayList<>());
+            expiryHandles.put(stat, new ConcurrentHashMap<>());
         }
     }
 
@@ -104,6 +137,7 @@ public class StatManager {
             throw new IllegalArgumentException("Base stat value cannot be negative: " + value);
         }
         baseStats.put(stat, value);
+        version.incrementAndGet();
     }
 
     /**
@@ -132,32 +166,121 @@ public class StatManager {
         if (stat == null) {
             throw new IllegalArgumentException("Stat cannot be null");
         }
+        return snapshot().values[stat.ordinal()];
+    }
+
+    /**
+     * 全最終値を取得します
+     *
+     * @return 最終値のマップ（コピー）
+     */
+    public Map<Stat, Integer> getAllFinalStats() {
+        int[] values = snapshot().values;
+        Map<Stat, Integer> result = new EnumMap<>(Stat.class);
+        for (Stat stat : Stat.values()) {
+            result.put(stat, values[stat.ordinal()]);
+        }
+        return result;
+    }
 
-        int baseValue = getBaseStat(stat);
-        List<StatModifier> statModifiers = modifiers.get(stat);
+    /**
+     * 最終値のバージョンを取得します
+     *
+     * <p>基本値・修正値の変更や修正値の期限切れで値が変わります。
+     * 最終値から導出した値をキャッシュする場合の無効化判定に使用します。</p>
+     *
+     * @return 現在の最終値スナップショットのバージョン
+     */
+    public long getFinalStatVersion() {
+        return snapshot().version;
+    }
+
+    /**
+     * 戦闘用の導出パラメータを取得します
+     *
+     * <p>最終値スナップショットのバージョンとレベルが前回と同じであれば、
+     * 前回計算した値をそのまま返します。</p>
+     *
+     * @return 導出パラメータ
+     */
+    public DerivedAttributes getDerivedAttributes() {
+        long currentVersion = getFinalStatVersion();
+        int level = totalLevel.get();
+
+        DerivedSnapshot current = derived;
+        if (current != null && current.version == currentVersion && current.level == level) {
+            return current.attributes;
+        }
+
+        DerivedAttributes attributes = DerivedAttributes.from(this);
+        derived = new DerivedSnapshot(currentVersion, level, attributes);
+        return attributes;
+    }
+
+    /**
+     * 最新の最終値スナップショットを取得します
+     *
+     * @return スナップショット
+     */
+    private FinalStatSnapshot snapshot() {
+        FinalStatSnapshot current = snapshot;
+        if (current != null && current.version == version.get()
+                && (current.validUntil == Long.MAX_VALUE || System.currentTimeMillis() <= current.validUntil)) {
+            return current;
+        }
+
+        // 期限切れの修正値を削除してからバージョンを確定
+        cleanupAllExpiredModifiers();
+        long currentVersion = version.get();
+        long now = System.currentTimeMillis();
+
+        Stat[] stats = Stat.values();
+        int[] values = new int[stats.length];
+        long validUntil = Long.MAX_VALUE;
+        for (Stat stat : stats) {
+            List<StatModifier> statModifiers = modifiers.get(stat);
+            values[stat.ordinal()] = computeFinalStat(getBaseStat(stat), statModifiers, now);
+            for (StatModifier modifier : statModifiers) {
+                if (!modifier.isPermanent()) {
+                    validUntil = Math.min(validUntil, modifier.getExpiryTime());
+                }
+            }
+        }
 
-        // 期限切れの修正値を削除
-        cleanupExpiredModifiers(stat);
+        // 計算中に変更があった場合はバージョン不一致となり、次回読み取り時に再計算される
+        FinalStatSnapshot rebuilt = new FinalStatSnapshot(currentVersion, values, validUntil);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
 
+    /**
+     * 1ステータス分の最終値を計算します
+     *
+     * @param baseValue 基本値
+     * @param statModifiers 修正値リスト
+     * @param now 現在時刻（エポックミリ秒）
+     * @return 最終値（小数点以下切り捨て）
+     */
+    private static int computeFinalStat(int baseValue, List<StatModifier> statModifiers, long now) {
         double result = baseValue;
 
         // FLAT修正を適用
         for (StatModifier modifier : statModifiers) {
-            if (modifier.getType() == StatModifier.Type.FLAT && !modifier.isExpired()) {
+            if (modifier.getType() == StatModifier.Type.FLAT && isActiveAt(modifier, now)) {
                 result = modifier.applyTo(result);
             }
         }
 
         // MULTIPLIER修正を適用
         for (StatModifier modifier : statModifiers) {
-            if (modifier.getType() == StatModifier.Type.MULTIPLIER && !modifier.isExpired()) {
+            if (modifier.getType() == StatModifier.Type.MULTIPLIER && isActiveAt(modifier, now)) {
                 result = modifier.applyTo(result);
             }
         }
 
         // FINAL修正を適用
         for (StatModifier modifier : statModifiers) {
-            if (modifier.getType() == StatModifier.Type.FINAL && !modifier.isExpired()) {
+            if (modifier.getType() == StatModifier.Type.FINAL && isActiveAt(modifier, now)) {
                 result = modifier.applyTo(result);
             }
         }
@@ -165,17 +288,8 @@ public class StatManager {
         return (int) Math.floor(result);
     }
 
-    /**
-     * 全最終値を取得します
-     *
-     * @return 最終値のマップ（コピー）
-     */
-    public Map<Stat, Integer> getAllFinalStats() {
-        Map<Stat, Integer> result = new EnumMap<>(Stat.class);
-        for (Stat stat : Stat.values()) {
-            result.put(stat, getFinalStat(stat));
-        }
-        return result;
+    private static boolean isActiveAt(StatModifier modifier, long now) {
+        return modifier.isPermanent() || now <= modifier.getExpiryTime();
     }
 
     // ==================== 手動配分 ====================
@@ -289,6 +403,8 @@ public class StatManager {
 
         List<StatModifier> statModifiers = modifiers.get(stat);
         statModifiers.add(modifier);
+        version.incrementAndGet();
+        scheduleExpiry(stat, modifier);
 
         logger.fine("Added modifier to " + stat.getDisplayName() + ": " + modifier.toString());
     }
@@ -310,8 +426,10 @@ public class StatManager {
 
         List<StatModifier> statModifiers = modifiers.get(stat);
         boolean removed = statModifiers.removeIf(modifier -> modifier.getId().equals(modifierId));
+        cancelExpiry(stat, modifierId);
 
         if (removed) {
+            version.incrementAndGet();
             logger.fine("Removed modifier from " + stat.getDisplayName() + ": " + modifierId);
         }
 
@@ -335,10 +453,17 @@ public class StatManager {
 
         List<StatModifier> statModifiers = modifiers.get(stat);
         int beforeSize = statModifiers.size();
-        statModifiers.removeIf(modifier -> modifier.getSource().equals(source));
+        statModifiers.removeIf(modifier -> {
+            if (modifier.getSource().equals(source)) {
+                cancelExpiry(stat, modifier.getId());
+                return true;
+            }
+            return false;
+        });
         int removedCount = beforeSize - statModifiers.size();
 
         if (removedCount > 0) {
+            version.incrementAndGet();
             logger.fine("Removed " + removedCount + " modifiers from " + stat.getDisplayName() + " with source: " + source);
         }
 
@@ -357,7 +482,11 @@ public class StatManager {
 
         List<StatModifier> statModifiers = modifiers.get(stat);
         int count = statModifiers.size();
+        for (StatModifier modifier : statModifiers) {
+            cancelExpiry(stat, modifier.getId());
+        }
         statModifiers.clear();
+        version.incrementAndGet();
 
         logger.fine("Cleared " + count + " modifiers from " + stat.getDisplayName());
     }
@@ -369,8 +498,12 @@ public class StatManager {
         int totalCleared = 0;
         for (Stat stat : Stat.values()) {
             totalCleared += modifiers.get(stat).size();
+            for (StatModifier modifier : modifiers.get(stat)) {
+                cancelExpiry(stat, modifier.getId());
+            }
             modifiers.get(stat).clear();
         }
+        version.incrementAndGet();
 
         logger.fine("Cleared " + totalCleared + " modifiers from all stats.");
     }
@@ -388,16 +521,69 @@ public class StatManager {
 
         List<StatModifier> statModifiers = modifiers.get(stat);
         int beforeSize = statModifiers.size();
-        statModifiers.removeIf(StatModifier::isExpired);
+        statModifiers.removeIf(modifier -> {
+            if (modifier.isExpired()) {
+                cancelExpiry(stat, modifier.getId());
+                return true;
+            }
+            return false;
+        });
         int removedCount = beforeSize - statModifiers.size();
 
         if (removedCount > 0) {
+            version.incrementAndGet();
             logger.fine("Cleaned up " + removedCount + " expired modifiers from " + stat.getDisplayName());
         }
 
         return removedCount;
     }
 
+    /**
+     * 時限修正値の削除を期限管理サービスに登録します
+     *
+     * <p>同じ修正値が複数のステータスに追加される場合があるため、ハンドルはステータスごとに保持します。
+     * 登録直後に期限が来ても自分のハンドルか判定できるよう、参照をマップに入れてから登録します。</p>
+     *
+     * @param stat ステータス種別
+     * @param modifier 修正値
+     */
+    private void scheduleExpiry(Stat stat, StatModifier modifier) {
+        if (expiryService == null || modifier.isPermanent()) {
+            return;
+        }
+
+        // isExpired() は期限を過ぎてから true になるため1ティック遅らせる
+        long delayTicks = ExpiryService.millisToTicks(modifier.getRemainingTime()) + 1;
+        UUID id = modifier.getId();
+        Map<UUID, AtomicReference<TimingWheel.Timeout>> handles = expiryHandles.get(stat);
+        AtomicReference<TimingWheel.Timeout> handle = new AtomicReference<>();
+        cancelHandle(handles.put(id, handle));
+        handle.set(expiryService.schedule(delayTicks, () -> {
+            // 再追加・削除で置き換えられていない場合のみ掃除
+            if (handles.remove(id, handle)) {
+                cleanupExpiredModifiers(stat);
+            }
+        }));
+    }
+
+    private void cancelExpiry(Stat stat, UUID modifierId) {
+        Map<UUID, AtomicReference<TimingWheel.Timeout>> handles = expiryHandles.get(stat);
+        if (handles.isEmpty()) {
+            return;
+        }
+        cancelHandle(handles.remove(modifierId));
+    }
+
+    private static void cancelHandle(AtomicReference<TimingWheel.Timeout> handle) {
+        if (handle == null) {
+            return;
+        }
+        TimingWheel.Timeout timeout = handle.get();
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
     /**
      * 全ステータスの期限切れ修正値を削除します
      *
@@ -498,4 +684,36 @@ public class StatManager {
                 ", baseStats=" + baseStats +
                 '}';
     }
+
+    /**
+     * 最終値のスナップショット
+     *
+     * <p>生成後は変更しないため、ロックなしで共有できます。</p>
+     */
+    private static final class FinalStatSnapshot {
+        final long version;
+        final int[] values;
+        final long validUntil;
+
+        FinalStatSnapshot(long version, int[] values, long validUntil) {
+            this.version = version;
+            this.values = values;
+            this.validUntil = validUntil;
+        }
+    }
+
+    /**
+     * 導出パラメータのキャッシュ
+     */
+    private static final class DerivedSnapshot {
+        final long version;
+        final int level;
+        final DerivedAttributes attributes;
+
+        DerivedSnapshot(long version, int level, DerivedAttributes attributes) {
+            this.version = version;
+            this.level = level;
+            this.attributes = attributes;
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package com.example.rpgplugin.stats.calculator;
+
+import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.StatManager;
+
+import java.util.Map;
+
+/**
+ * 戦闘用の導出パラメータ
+ *
+ * <p>最終ステータスとレベルから {@link StatCalculator} の計算式で導出した値をまとめた不変オブジェクトです。
+ * {@link StatManager#getDerivedAttributes()} がプレイヤーごとにキャッシュし、
+ * ステータスまたはレベルが変わったときだけ再計算されます。</p>
+ *
+ * @param level レベル
+ * @param strength STR最終値
+ * @param intelligence INT最終値
+ * @param spirit SPI最終値
+ * @param vitality VIT最終値
+ * @param dexterity DEX最終値
+ * @param maxHp 最大HP
+ * @param maxMp 最大MP
+ * @param mpRegen 秒間MP回復量
+ * @param physicalAttack 物理攻撃力
+ * @param magicAttack 魔法攻撃力
+ * @param physicalDefense 物理防御力
+ * @param magicDefense 魔法防御力
+ * @param hitRate 命中率（%）
+ * @param dodgeRate 回避率（%）
+ * @param criticalRate クリティカル率（%）
+ * @param criticalDamage クリティカルダメージ倍率
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+public record DerivedAttributes(
+        int level,
+        int strength,
+        int intelligence,
+        int spirit,
+        int vitality,
+        int dexterity,
+        int maxHp,
+        int maxMp,
+        double mpRegen,
+        int physicalAttack,
+        int magicAttack,
+        int physicalDefense,
+        int magicDefense,
+        double hitRate,
+        double dodgeRate,
+        double criticalRate,
+        double criticalDamage
+) {
+
+    /**
+     * ステータスマネージャーの現在値から導出します
+     *
+     * @param statManager ステータスマネージャー
+     * @return 導出パラメータ
+     */
+    public static DerivedAttributes from(StatManager statManager) {
+        if (statManager == null) {
+            throw new IllegalArgumentException("StatManager cannot be null");
+        }
+
+        Map<Stat, Integer> stats = statManager.getAllFinalStats();
+        return of(
+                stats.getOrDefault(Stat.STRENGTH, 0),
+                stats.getOrDefault(Stat.INTELLIGENCE, 0),
+                stats.getOrDefault(Stat.SPIRIT, 0),
+                stats.getOrDefault(Stat.VITALITY, 0),
+                stats.getOrDefault(Stat.DEXTERITY, 0),
+                statManager.getTotalLevel()
+        );
+    }
+
+    /**
+     * 最終ステータスとレベルから導出します
+     *
+     * @param strength STR
+     * @param intelligence INT
+     * @param spirit SPI
+     * @param vitality VIT
+     * @param dexterity DEX
+     * @param level レベル
+     * @return 導出パラメータ
+     */
+    public static DerivedAttributes of(int strength, int intelligence, int spirit,
+                                       int vitality, int dexterity, int level) {
+        return new DerivedAttributes(
+                level,
+                strength,
+                intelligence,
+                spirit,
+                vitality,
+                dexterity,
+                StatCalculator.calculateMaxHp(vitality, level),
+                StatCalculator.calculateMaxMp(spirit, intelligence, level),
+                StatCalculator.calculateMpRegen(spirit),
+                StatCalculator.calculatePhysicalAttack(strength, dexterity),
+                StatCalculator.calculateMagicAttack(intelligence, spirit),
+                StatCalculator.calculatePhysicalDefense(vitality),
+                StatCalculator.calculateMagicDefense(spirit),
+                StatCalculator.calculateHitRate(dexterity, level),
+                StatCalculator.calculateDodgeRate(dexterity),
+                StatCalculator.calculateCriticalRate(dexterity),
+                StatCalculator.calculateCriticalDamage(dexterity)
+        );
+    }
+}
@@ -36,6 +36,7 @@ import com.example.rpgplugin.stats.StatManager;
  *
  * @author RPGPlugin Team
  * @version 1.0.0
+ * @see DerivedAttributes
  */
 public final class StatCalculator {
 
@@ -152,9 +153,17 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int vit = statManager.getFinalStat(Stat.VITALITY);
-        int level = statManager.getTotalLevel();
+        return calculateMaxHp(statManager.getFinalStat(Stat.VITALITY), statManager.getTotalLevel());
+    }
 
+    /**
+     * 最大HPを計算します
+     *
+     * @param vit VIT最終値
+     * @param level レベル
+     * @return 最大HP
+     */
+    public static int calculateMaxHp(int vit, int level) {
         double maxHp = (vit * HP_VIT_MULTIPLIER) + (level * HP_LEVEL_MULTIPLIER);
         return (int) Math.floor(maxHp);
     }
@@ -172,10 +181,19 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int spi = statManager.getFinalStat(Stat.SPIRIT);
-        int intVal = statManager.getFinalStat(Stat.INTELLIGENCE);
-        int level = statManager.getTotalLevel();
+        return calculateMaxMp(statManager.getFinalStat(Stat.SPIRIT),
+                statManager.getFinalStat(Stat.INTELLIGENCE), statManager.getTotalLevel());
+    }
 
+    /**
+     * 最大MPを計算します
+     *
+     * @param spi SPI最終値
+     * @param intVal INT最終値
+     * @param level レベル
+     * @return 最大MP
+     */
+    public static int calculateMaxMp(int spi, int intVal, int level) {
         double maxMp = (spi * MP_SPI_MULTIPLIER) + (intVal * MP_INT_MULTIPLIER) + (level * MP_LEVEL_MULTIPLIER);
         return (int) Math.floor(maxMp);
     }
@@ -193,7 +211,16 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int spi = statManager.getFinalStat(Stat.SPIRIT);
+        return calculateMpRegen(statManager.getFinalStat(Stat.SPIRIT));
+    }
+
+    /**
+     * MP自然回復量を計算します
+     *
+     * @param spi SPI最終値
+     * @return 秒間MP回復量
+     */
+    public static double calculateMpRegen(int spi) {
         return (spi * 0.1) + 1.0;
     }
 
@@ -212,9 +239,18 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int str = statManager.getFinalStat(Stat.STRENGTH);
-        int dex = statManager.getFinalStat(Stat.DEXTERITY);
+        return calculatePhysicalAttack(statManager.getFinalStat(Stat.STRENGTH),
+                statManager.getFinalStat(Stat.DEXTERITY));
+    }
 
+    /**
+     * 物理攻撃力を計算します
+     *
+     * @param str STR最終値
+     * @param dex DEX最終値
+     * @return 物理攻撃力
+     */
+    public static int calculatePhysicalAttack(int str, int dex) {
         double atk = (str * PHYSICAL_ATK_STR_MULTIPLIER) + (dex * PHYSICAL_ATK_DEX_MULTIPLIER);
         return (int) Math.floor(atk);
     }
@@ -232,9 +268,18 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int intVal = statManager.getFinalStat(Stat.INTELLIGENCE);
-        int spi = statManager.getFinalStat(Stat.SPIRIT);
+        return calculateMagicAttack(statManager.getFinalStat(Stat.INTELLIGENCE),
+                statManager.getFinalStat(Stat.SPIRIT));
+    }
 
+    /**
+     * 魔法攻撃力を計算します
+     *
+     * @param intVal INT最終値
+     * @param spi SPI最終値
+     * @return 魔法攻撃力
+     */
+    public static int calculateMagicAttack(int intVal, int spi) {
         double atk = (intVal * MAGIC_ATK_INT_MULTIPLIER) + (spi * MAGIC_ATK_SPI_MULTIPLIER);
         return (int) Math.floor(atk);
     }
@@ -254,7 +299,16 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int vit = statManager.getFinalStat(Stat.VITALITY);
+        return calculatePhysicalDefense(statManager.getFinalStat(Stat.VITALITY));
+    }
+
+    /**
+     * 物理防御力を計算します
+     *
+     * @param vit VIT最終値
+     * @return 物理防御力
+     */
+    public static int calculatePhysicalDefense(int vit) {
         double def = vit * PHYSICAL_DEF_VIT_MULTIPLIER;
         return (int) Math.floor(def);
     }
@@ -272,7 +326,16 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int spi = statManager.getFinalStat(Stat.SPIRIT);
+        return calculateMagicDefense(statManager.getFinalStat(Stat.SPIRIT));
+    }
+
+    /**
+     * 魔法防御力を計算します
+     *
+     * @param spi SPI最終値
+     * @return 魔法防御力
+     */
+    public static int calculateMagicDefense(int spi) {
         double def = spi * MAGIC_DEF_SPI_MULTIPLIER;
         return (int) Math.floor(def);
     }
@@ -292,9 +355,17 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int dex = statManager.getFinalStat(Stat.DEXTERITY);
-        int level = statManager.getTotalLevel();
+        return calculateHitRate(statManager.getFinalStat(Stat.DEXTERITY), statManager.getTotalLevel());
+    }
 
+    /**
+     * 命中率を計算します
+     *
+     * @param dex DEX最終値
+     * @param level レベル
+     * @return 命中率（%）[0-100]
+     */
+    public static double calculateHitRate(int dex, int level) {
         double baseHitRate = 85.0; // 基本命中率
         double bonus = (dex * HIT_RATE_DEX_MULTIPLIER) + (level * HIT_RATE_LEVEL_MULTIPLIER);
 
@@ -314,7 +385,16 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int dex = statManager.getFinalStat(Stat.DEXTERITY);
+        return calculateDodgeRate(statManager.getFinalStat(Stat.DEXTERITY));
+    }
+
+    /**
+     * 回避率を計算します
+     *
+     * @param dex DEX最終値
+     * @return 回避率（%）[0-75]
+     */
+    public static double calculateDodgeRate(int dex) {
         double dodge = dex * DODGE_RATE_DEX_MULTIPLIER;
         return Math.min(MAX_DODGE_RATE, dodge);
     }
@@ -332,7 +412,16 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int dex = statManager.getFinalStat(Stat.DEXTERITY);
+        return calculateCriticalRate(statManager.getFinalStat(Stat.DEXTERITY));
+    }
+
+    /**
+     * クリティカル率を計算します
+     *
+     * @param dex DEX最終値
+     * @return クリティカル率（%）[0-50]
+     */
+    public static double calculateCriticalRate(int dex) {
         double crit = dex * CRIT_RATE_DEX_MULTIPLIER;
         return Math.min(MAX_CRIT_RATE, crit);
     }
@@ -351,7 +440,16 @@ public final class StatCalculator {
             throw new IllegalArgumentException("StatManager cannot be null");
         }
 
-        int dex = statManager.getFinalStat(Stat.DEXTERITY);
+        return calculateCriticalDamage(statManager.getFinalStat(Stat.DEXTERITY));
+    }
+
+    /**
+     * クリティカルダメージ倍率を計算します
+     *
+     * @param dex DEX最終値
+     * @return クリティカルダメージ倍率
+     */
+    public static double calculateCriticalDamage(int dex) {
         // 基本倍率1.5 + DEXの0.1%
         double multiplier = 1.5 + (dex * 0.001);
         return multiplier;
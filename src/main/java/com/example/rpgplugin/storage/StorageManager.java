@@ -4,6 +4,7 @@ import com.example.rpgplugin.storage.database.DatabaseManager;
 import com.example.rpgplugin.storage.models.PlayerData;
 import com.example.rpgplugin.storage.repository.CacheRepository;
 import com.example.rpgplugin.storage.repository.PlayerDataRepository;
+import com.example.rpgplugin.storage.repository.PlayerSkillRepository;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.Plugin;
 
@@ -31,7 +32,9 @@ public class StorageManager {
 
     private DatabaseManager databaseManager;
     private PlayerDataRepository playerDataRepository;
+    private PlayerSkillRepository playerSkillRepository;
     private CacheRepository cacheRepository;
+    private WriteBehindFlusher writeBehindFlusher;
 
     private boolean initialized = false;
 
@@ -65,6 +68,13 @@ public class StorageManager {
         // プレイヤーデータリポジトリの初期化
         playerDataRepository = new PlayerDataRepository(databaseManager, logger);
 
+        // プレイヤースキルリポジトリの初期化
+        playerSkillRepository = new PlayerSkillRepository(databaseManager, logger);
+
+        // 書き込み遅延フラッシャーの初期化
+        writeBehindFlusher = new WriteBehindFlusher(playerDataRepository, logger);
+        writeBehindFlusher.start(plugin, plugin.getConfig().getInt("database.flush_interval", 30));
+
         // キャッシュ設定を読み込み
         ConfigurationSection cacheConfig = plugin.getConfig().getConfigurationSection("cache");
         if (cacheConfig == null) {
@@ -132,6 +142,11 @@ public class StorageManager {
 
         logger.info("Shutting down storage system...");
 
+        // 未保存の変更を最終フラッシュ
+        if (writeBehindFlusher != null) {
+            writeBehindFlusher.shutdown();
+        }
+
         // オンラインプレイヤーをすべて保存
         if (cacheRepository != null) {
             logger.info("Saving online players before shutdown...");
@@ -146,6 +161,9 @@ public class StorageManager {
 
             // 統計を出力
             cacheRepository.logStatistics();
+
+            // 先読みスレッドプールを停止
+            cacheRepository.shutdown();
         }
 
         // データベースをシャットダウン
@@ -257,6 +275,32 @@ public class StorageManager {
         return cacheRepository.getStatistics();
     }
 
+    /**
+     * キャッシュ統計を再計算して取得
+     *
+     * @return キャッシュ統計（未初期化時はnull）
+     */
+    public CacheRepository.CacheStatistics getCacheStatisticsForceRefresh() {
+        if (!initialized) {
+            logger.warning("StorageManager is not initialized");
+            return null;
+        }
+
+        return cacheRepository.getStatisticsForceRefresh();
+    }
+
+    /**
+     * キャッシュ統計をリセット
+     */
+    public void resetCacheStatistics() {
+        if (!initialized) {
+            logger.warning("StorageManager is not initialized");
+            return;
+        }
+
+        cacheRepository.resetStatistics();
+    }
+
     /**
      * キャッシュ統計をログに出力
      */
@@ -278,6 +322,24 @@ public class StorageManager {
         return playerDataRepository;
     }
 
+    /**
+     * プレイヤースキルリポジトリを取得
+     *
+     * @return プレイヤースキルリポジトリ
+     */
+    public PlayerSkillRepository getPlayerSkillRepository() {
+        return playerSkillRepository;
+    }
+
+    /**
+     * 書き込み遅延フラッシャーを取得
+     *
+     * @return 書き込み遅延フラッシャー
+     */
+    public WriteBehindFlusher getWriteBehindFlusher() {
+        return writeBehindFlusher;
+    }
+
     /**
      * キャッシュリポジトリを取得
      *
@@ -0,0 +1,205 @@
+package com.example.rpgplugin.storage;
+
+import com.example.rpgplugin.storage.models.PlayerData;
+import com.example.rpgplugin.storage.repository.PlayerDataRepository;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * 書き込み遅延フラッシャー
+ *
+ * <p>オンラインプレイヤーの {@link PlayerData} を追跡し、変更があったプレイヤーの
+ * 変更カラムのみを一定間隔でまとめて保存します。</p>
+ *
+ * <ul>
+ *   <li>UUIDごとに1エントリ: 間隔内の複数回の変更は1回の書き込みにまとめられる</li>
+ *   <li>変更のないプレイヤーは書き込まない</li>
+ *   <li>保存失敗時は変更フラグを戻し、次回のフラッシュで再試行</li>
+ *   <li>退出したプレイヤーは書き込みキュー経由で非同期に保存し、保存が成功するまで追跡を続ける</li>
+ *   <li>シャットダウン時は同期的に最終フラッシュ</li>
+ * </ul>
+ */
+public class WriteBehindFlusher {
+
+    private final PlayerDataRepository repository;
+    private final Logger logger;
+    private final Map<UUID, PlayerData> tracked = new ConcurrentHashMap<>();
+    private final Map<UUID, PlayerData> departing = new ConcurrentHashMap<>();  // 退出済みで保存待ち
+    private final Object flushLock = new Object();
+    private BukkitTask task;
+
+    /**
+     * コンストラクタ
+     *
+     * @param repository プレイヤーデータリポジトリ
+     * @param logger ロガー
+     */
+    public WriteBehindFlusher(PlayerDataRepository repository, Logger logger) {
+        this.repository = repository;
+        this.logger = logger;
+    }
+
+    /**
+     * 定期フラッシュタスクを開始
+     *
+     * @param plugin プラグインインスタンス
+     * @param intervalSeconds フラッシュ間隔（秒）
+     */
+    public void start(Plugin plugin, int intervalSeconds) {
+        if (task != null || intervalSeconds <= 0) {
+            return;
+        }
+
+        long intervalTicks = intervalSeconds * 20L;
+        task = plugin.getServer().getScheduler().runTaskTimerAsynchronously(
+                plugin, this::flushQuietly, intervalTicks, intervalTicks);
+
+        logger.info("Write-behind flush task started: interval=" + intervalSeconds + "s");
+    }
+
+    /**
+     * プレイヤーデータを追跡対象に追加
+     *
+     * @param playerData プレイヤーデータ
+     */
+    public void track(PlayerData playerData) {
+        tracked.put(playerData.getUuid(), playerData);
+        // 保存待ちのまま再参加した場合は通常の追跡に戻す
+        departing.remove(playerData.getUuid(), playerData);
+    }
+
+    /**
+     * プレイヤーの変更を非同期で保存し、追跡対象から除外
+     *
+     * <p>退出時にメインスレッドから呼ばれるため、保存は書き込みキューに追加するだけで待機しません。
+     * 保存が成功するまでは保存待ちとして追跡を続け、失敗した場合は変更フラグを戻して
+     * 次回のフラッシュで再試行します。</p>
+     *
+     * @param uuid プレイヤーUUID
+     * @return 保存完了時に完了するFuture
+     */
+    public CompletableFuture<Void> untrack(UUID uuid) {
+        PlayerData playerData = tracked.remove(uuid);
+        if (playerData == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        int mask = playerData.drainDirtyMask();
+        if (mask == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        departing.put(uuid, playerData);
+        return repository.submitSaveDirty(Map.of(playerData, mask)).whenComplete((result, error) -> {
+            if (error == null) {
+                departing.remove(uuid, playerData);
+                return;
+            }
+            playerData.restoreDirtyMask(mask);
+            logger.warning("Failed to save player on quit, will retry: " + uuid + " (" + error.getMessage() + ")");
+        });
+    }
+
+    /**
+     * 追跡中プレイヤーの変更をすべてフラッシュ
+     *
+     * <p>保存待ちの退出済みプレイヤーも含め、保存できたものは追跡を終了します。</p>
+     *
+     * @return 保存したプレイヤー数
+     * @throws SQLException 保存失敗時
+     */
+    public int flush() throws SQLException {
+        List<PlayerData> players = new ArrayList<>(departing.values());
+        players.addAll(tracked.values());
+
+        Collection<PlayerData> saved = flush(players);
+        for (PlayerData playerData : saved) {
+            departing.remove(playerData.getUuid(), playerData);
+        }
+        return saved.size();
+    }
+
+    /**
+     * 追跡中のプレイヤー数を取得
+     *
+     * @return 追跡中のプレイヤー数（保存待ちの退出済みプレイヤーを含む）
+     */
+    public int getTrackedCount() {
+        return tracked.size() + departing.size();
+    }
+
+    /**
+     * 定期タスクを停止し、最終フラッシュを行う
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        try {
+            int saved = flush();
+            logger.info("Write-behind final flush complete: " + saved + " players");
+        } catch (SQLException e) {
+            logger.severe("Write-behind final flush failed: " + e.getMessage());
+        }
+        tracked.clear();
+        departing.clear();
+    }
+
+    /**
+     * 定期タスク用のフラッシュ（例外をログに出力）
+     */
+    private void flushQuietly() {
+        try {
+            int saved = flush();
+            if (saved > 0) {
+                logger.fine("Write-behind flushed " + saved + " players");
+            }
+        } catch (SQLException e) {
+            logger.warning("Write-behind flush failed, will retry: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 変更のあるプレイヤーをフラッシュ
+     *
+     * @param players 対象プレイヤー
+     * @return 保存したプレイヤー
+     * @throws SQLException 保存失敗時
+     */
+    private Collection<PlayerData> flush(Collection<PlayerData> players) throws SQLException {
+        synchronized (flushLock) {
+            Map<PlayerData, Integer> dirtyMasks = new LinkedHashMap<>();
+            for (PlayerData playerData : players) {
+                int mask = playerData.drainDirtyMask();
+                if (mask != 0) {
+                    dirtyMasks.put(playerData, mask);
+                }
+            }
+
+            if (dirtyMasks.isEmpty()) {
+                return List.of();
+            }
+
+            try {
+                repository.saveDirty(dirtyMasks);
+            } catch (SQLException | RuntimeException e) {
+                dirtyMasks.forEach(PlayerData::restoreDirtyMask);
+                throw e;
+            }
+            return dirtyMasks.keySet();
+        }
+    }
+}
@@ -1,23 +1,41 @@
 package com.example.rpgplugin.storage.database;
 
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 /**
  * データベース接続マネージャー
  * SQLite接続プールを管理
+ *
+ * <p>{@code database.wal_mode} が有効な場合、WALと各種PRAGMAを適用し、
+ * 書き込みを単一ライタースレッド（{@link DatabaseWriter}）に集約します。
+ * 読み込みは従来通りコネクションプールを使用します。</p>
  */
 public class DatabaseManager {
 
+    private static final int DEFAULT_MMAP_SIZE_MB = 64;
+    private static final int DEFAULT_CACHE_SIZE_KB = 8192;
+    private static final int DEFAULT_BUSY_TIMEOUT_MS = 5000;
+    private static final int DEFAULT_WRITER_BATCH_SIZE = 256;
+
     private final Logger logger;
     private final Plugin plugin;
     private final File dataFolder;
     private ConnectionPool connectionPool;
     private SchemaManager schemaManager;
+    private DatabaseWriter writer;
+    private boolean walMode;
+    private int mmapSizeMb = DEFAULT_MMAP_SIZE_MB;
+    private int cacheSizeKb = DEFAULT_CACHE_SIZE_KB;
+    private int busyTimeoutMs = DEFAULT_BUSY_TIMEOUT_MS;
+    private int writerBatchSize = DEFAULT_WRITER_BATCH_SIZE;
 
     /**
      * コンストラクタ
@@ -52,18 +70,14 @@ public class DatabaseManager {
 
         logger.info("Initializing database: " + dbFile.getAbsolutePath());
 
+        // ストレージモード設定を読み込み
+        loadStorageSettings();
+
         // JDBC URL作成
         String url = "jdbc:sqlite:" + dbFile.getAbsolutePath();
 
         // コネクションプールの初期化
-        connectionPool = new ConnectionPool(() -> {
-            try {
-                return java.sql.DriverManager.getConnection(url);
-            } catch (SQLException e) {
-                logger.severe("Failed to create database connection: " + e.getMessage());
-                throw e;
-            }
-        }, 10, 30);
+        connectionPool = new ConnectionPool(() -> openConnection(url), 10, 30);
 
         // スキーママネージャの初期化
         schemaManager = new SchemaManager(this, logger);
@@ -71,9 +85,72 @@ public class DatabaseManager {
         // スキーマの初期化
         schemaManager.initializeSchema();
 
+        // 単一ライタースレッドの開始（スキーマ作成後）
+        if (walMode) {
+            writer = new DatabaseWriter(openConnection(url), logger, writerBatchSize);
+            writer.start();
+            logger.info("WAL mode enabled: mmap=" + mmapSizeMb + "MB, cache=" + cacheSizeKb
+                    + "KB, writer_batch=" + writerBatchSize);
+        }
+
         logger.info("Database initialized successfully");
     }
 
+    /**
+     * ストレージモード設定を読み込み
+     */
+    private void loadStorageSettings() {
+        FileConfiguration config = plugin.getConfig();
+        if (config == null) {
+            walMode = false;
+            return;
+        }
+
+        walMode = config.getBoolean("database.wal_mode", true);
+        mmapSizeMb = positiveOrDefault(config.getInt("database.mmap_size_mb", DEFAULT_MMAP_SIZE_MB), DEFAULT_MMAP_SIZE_MB);
+        cacheSizeKb = positiveOrDefault(config.getInt("database.cache_size_kb", DEFAULT_CACHE_SIZE_KB), DEFAULT_CACHE_SIZE_KB);
+        busyTimeoutMs = positiveOrDefault(config.getInt("database.busy_timeout_ms", DEFAULT_BUSY_TIMEOUT_MS), DEFAULT_BUSY_TIMEOUT_MS);
+        writerBatchSize = positiveOrDefault(config.getInt("database.writer_batch_size", DEFAULT_WRITER_BATCH_SIZE), DEFAULT_WRITER_BATCH_SIZE);
+    }
+
+    private static int positiveOrDefault(int value, int defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * コネクションを作成し、PRAGMAを適用
+     *
+     * @param url JDBC URL
+     * @return コネクション
+     * @throws SQLException 作成失敗時
+     */
+    private Connection openConnection(String url) throws SQLException {
+        Connection conn;
+        try {
+            conn = java.sql.DriverManager.getConnection(url);
+        } catch (SQLException e) {
+            logger.severe("Failed to create database connection: " + e.getMessage());
+            throw e;
+        }
+
+        if (walMode) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA journal_mode=WAL");
+                stmt.execute("PRAGMA synchronous=NORMAL");
+                stmt.execute("PRAGMA busy_timeout=" + busyTimeoutMs);
+                stmt.execute("PRAGMA mmap_size=" + (mmapSizeMb * 1024L * 1024L));
+                // 負の値はKiB単位の指定
+                stmt.execute("PRAGMA cache_size=-" + cacheSizeKb);
+                stmt.execute("PRAGMA temp_store=MEMORY");
+            } catch (SQLException e) {
+                conn.close();
+                logger.severe("Failed to apply database pragmas: " + e.getMessage());
+                throw e;
+            }
+        }
+        return conn;
+    }
+
     /**
      * コネクションを取得
      *
@@ -104,10 +181,92 @@ public class DatabaseManager {
         });
     }
 
+    /**
+     * 書き込みを非同期実行
+     *
+     * <p>WALモードではライタースレッドのキューに追加され、他の書き込みとまとめてコミットされます。
+     * それ以外の場合はプールのコネクションで1トランザクションとして非同期実行します。</p>
+     *
+     * @param task 書き込みタスク（コミット操作は不要）
+     * @return 書き込み完了時に完了するFuture
+     */
+    public CompletableFuture<Void> submitWrite(DatabaseWriter.WriteTask task) {
+        if (writer != null) {
+            return writer.submit(task);
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executeAsync(() -> {
+            try {
+                executeWrite(task);
+                future.complete(null);
+            } catch (SQLException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 書き込みを同期実行
+     *
+     * <p>WALモードではライタースレッドで実行されるまで待機します。</p>
+     *
+     * @param task 書き込みタスク（コミット操作は不要）
+     * @throws SQLException 書き込み失敗時
+     */
+    public void executeWrite(DatabaseWriter.WriteTask task) throws SQLException {
+        if (writer != null) {
+            writer.execute(task);
+            return;
+        }
+
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                task.execute(conn);
+                conn.commit();
+            } catch (Throwable e) {
+                // 実行時例外でもロールバックしないと、finallyのオートコミット復帰で途中までの書き込みが確定する
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackError) {
+                    e.addSuppressed(rollbackError);
+                }
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * WALモード（単一ライター）が有効か確認
+     *
+     * @return 有効な場合true
+     */
+    public boolean isWalMode() {
+        return writer != null;
+    }
+
+    /**
+     * ライタースレッドの未処理書き込み数を取得
+     *
+     * @return 未処理書き込み数（WALモードでない場合は0）
+     */
+    public int getPendingWriteCount() {
+        return writer != null ? writer.getPendingCount() : 0;
+    }
+
     /**
      * データベースをシャットダウン
      */
     public void shutdown() {
+        if (writer != null) {
+            writer.shutdown();
+            writer = null;
+            logger.info("Database writer shutdown");
+        }
         if (connectionPool != null) {
             connectionPool.shutdown();
             connectionPool = null;
@@ -0,0 +1,260 @@
+package com.example.rpgplugin.storage.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * 単一ライタースレッド
+ *
+ * <p>SQLiteはライターを直列化するため、書き込みを専用スレッド1本に集約します。
+ * キューに溜まった書き込みはまとめて1トランザクションで実行されます。</p>
+ *
+ * <ul>
+ *   <li>各書き込みはセーブポイント内で実行され、失敗しても同じバッチの他の書き込みは維持される</li>
+ *   <li>結果は {@link CompletableFuture} で通知</li>
+ *   <li>シャットダウン時はキューを空にしてから停止</li>
+ *   <li>コネクションはライタースレッドの終了時に閉じられる</li>
+ * </ul>
+ */
+public class DatabaseWriter {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final long EXECUTE_TIMEOUT_SECONDS = 30;
+
+    private final Connection connection;
+    private final Logger logger;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread thread;
+    private final Object stateLock = new Object();
+    private volatile boolean running;
+
+    /**
+     * コンストラクタ
+     *
+     * @param connection ライター専用コネクション（プール外）
+     * @param logger ロガー
+     * @param maxBatchSize 1トランザクションあたりの最大書き込み数
+     */
+    public DatabaseWriter(Connection connection, Logger logger, int maxBatchSize) {
+        this.connection = connection;
+        this.logger = logger;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.queue = new LinkedBlockingQueue<>();
+        this.thread = new Thread(this::run, "RPGPlugin-DB-Writer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * ライタースレッドを開始
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * 書き込みをキューに追加
+     *
+     * @param task 書き込みタスク
+     * @return 書き込み完了時に完了するFuture
+     */
+    public CompletableFuture<Void> submit(WriteTask task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        // 停止判定と追加をshutdown()と同じロックで行い、停止後にキューへ残る書き込みを作らない
+        synchronized (stateLock) {
+            if (running) {
+                queue.add(new PendingWrite(task, future));
+                return future;
+            }
+        }
+        future.completeExceptionally(new SQLException("Database writer has been shutdown"));
+        return future;
+    }
+
+    /**
+     * 書き込みを同期実行
+     *
+     * <p>ライタースレッド上から呼ばれた場合はキューを経由せず直接実行します。
+     * 待機がタイムアウトした場合は例外をスローしますが、書き込み自体はキューに残り後で実行されます。</p>
+     *
+     * @param task 書き込みタスク
+     * @throws SQLException 書き込み失敗時、またはタイムアウト時
+     */
+    public void execute(WriteTask task) throws SQLException {
+        if (Thread.currentThread() == thread) {
+            task.execute(connection);
+            return;
+        }
+
+        try {
+            submit(task).get(EXECUTE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for write", e);
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new SQLException("Timed out waiting for write, pending writes: " + queue.size(), e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("Write failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 未処理の書き込み数を取得
+     *
+     * @return キュー内の書き込み数
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * ライタースレッドを停止
+     *
+     * <p>キューに残った書き込みをすべて実行してからスレッドを停止します。
+     * 時間内に停止しなかった場合、コネクションは実行中の書き込みが終わった時点でライタースレッドが閉じます。</p>
+     */
+    public void shutdown() {
+        synchronized (stateLock) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+        thread.interrupt();
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (thread.isAlive()) {
+            // 書き込み中のコネクションは閉じず、ライタースレッドの終了時に閉じさせる
+            logger.warning("Database writer did not stop in time, pending writes: " + queue.size());
+        }
+
+        // 時間内に処理できなかった書き込みは失敗として通知し、Futureを未完了のまま残さない
+        List<PendingWrite> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        for (PendingWrite write : leftover) {
+            write.future.completeExceptionally(new SQLException("Database writer has been shutdown"));
+        }
+    }
+
+    /**
+     * ライタースレッドのメインループ
+     */
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingWrite first = running ? queue.take() : queue.poll();
+                    if (first == null) {
+                        break;
+                    }
+                    batch.add(first);
+                } catch (InterruptedException e) {
+                    // シャットダウン通知: 残りを処理して終了
+                    continue;
+                }
+
+                queue.drainTo(batch, maxBatchSize - 1);
+                writeBatch(batch);
+                batch.clear();
+            }
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.warning("Failed to close writer connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * バッチを1トランザクションで書き込み
+     *
+     * @param batch 書き込みバッチ
+     */
+    private void writeBatch(List<PendingWrite> batch) {
+        List<Throwable> results = new ArrayList<>(batch.size());
+
+        try {
+            connection.setAutoCommit(false);
+
+            for (PendingWrite write : batch) {
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    write.task.execute(connection);
+                    connection.releaseSavepoint(savepoint);
+                    results.add(null);
+                } catch (Throwable e) {
+                    // 想定外の例外でもライタースレッドを止めず、この書き込みだけを失敗させる
+                    connection.rollback(savepoint);
+                    results.add(e);
+                }
+            }
+
+            connection.commit();
+        } catch (Throwable e) {
+            logger.severe("Database writer batch failed: " + e.getMessage());
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackError) {
+                logger.severe("Rollback failed: " + rollbackError.getMessage());
+            }
+            for (PendingWrite write : batch) {
+                write.future.completeExceptionally(e);
+            }
+            return;
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                logger.warning("Failed to restore auto-commit: " + e.getMessage());
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Throwable error = results.get(i);
+            if (error == null) {
+                batch.get(i).future.complete(null);
+            } else {
+                batch.get(i).future.completeExceptionally(error);
+            }
+        }
+
+        logger.fine("Database writer committed " + batch.size() + " writes");
+    }
+
+    /**
+     * キュー内の書き込み
+     */
+    private record PendingWrite(WriteTask task, CompletableFuture<Void> future) {
+    }
+
+    /**
+     * 書き込みタスクインターフェース
+     *
+     * <p>トランザクション内で呼び出されるため、コミットやオートコミットの変更は行わないでください。</p>
+     */
+    @FunctionalInterface
+    public interface WriteTask {
+        void execute(Connection connection) throws SQLException;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.rpgplugin.storage.database;
 
+import com.example.rpgplugin.storage.migrations.Migration_v1_2_PlayerSkills;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -13,7 +15,7 @@ import java.util.logging.Logger;
  */
 public class SchemaManager {
 
-    private static final int CURRENT_SCHEMA_VERSION = 5;
+    private static final int CURRENT_SCHEMA_VERSION = 6;
 
     private final DatabaseManager dbManager;
     private final Logger logger;
@@ -75,7 +77,7 @@ public class SchemaManager {
     }
 
     /**
-     * 最新のスキーマ（バージョン5）を直接作成
+     * 最新のスキーマ（バージョン6）を直接作成
      * フレッシュインストール時に使用
      */
     private void createLatestSchema(Statement stmt) throws SQLException {
@@ -124,6 +126,9 @@ public class SchemaManager {
         stmt.execute("CREATE INDEX IF NOT EXISTS idx_player_data_username ON player_data(username)");
         stmt.execute("CREATE INDEX IF NOT EXISTS idx_player_data_class ON player_data(class_id)");
 
+        // スキル関連テーブル（V6）
+        Migration_v1_2_PlayerSkills.createTables(stmt);
+
         // V3以降の経済・MythicMobs関連テーブルは削除済み
         logger.info("Latest schema created successfully");
     }
@@ -210,6 +215,9 @@ public class SchemaManager {
             case 5:
                 applyMigrationV5(stmt);
                 break;
+            case 6:
+                applyMigrationV6(stmt);
+                break;
             default:
                 throw new SQLException("Unknown migration version: " + version);
         }
@@ -369,6 +377,15 @@ public class SchemaManager {
         logger.info("Version 5 migration completed successfully");
     }
 
+    /**
+     * バージョン6のマイグレーション: スキル・クールダウンテーブルを追加
+     */
+    private void applyMigrationV6(Statement stmt) throws SQLException {
+        logger.info("Applying version 6 migration: adding player skill tables");
+        Migration_v1_2_PlayerSkills.createTables(stmt);
+        logger.info("Version 6 migration completed successfully");
+    }
+
     /**
      * すべてのテーブルが存在することを確認
      */
@@ -391,6 +408,9 @@ public class SchemaManager {
             logger.warning("Some tables are missing, applying version 1 schema");
             applyMigrationV1(stmt);
         }
+
+        // スキル関連テーブル（既存の場合は何もしない）
+        Migration_v1_2_PlayerSkills.createTables(stmt);
     }
 
     /**
@@ -0,0 +1,112 @@
+package com.example.rpgplugin.storage.migrations;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+/**
+ * データベーススキーママイグレーション v1.2
+ *
+ * <p>プレイヤーの習得スキル・クールダウン・スキルポイントの永続化</p>
+ *
+ * <p>変更内容：</p>
+ * <ul>
+ *   <li>player_skillsテーブルを追加（uuid + skill_id → level）</li>
+ *   <li>player_cooldownsテーブルを追加（uuid + skill_id → last_cast）</li>
+ *   <li>player_skill_pointsテーブルを追加（uuid → points）</li>
+ * </ul>
+ *
+ * <p>各テーブルは (uuid, ...) を主キーとする WITHOUT ROWID テーブルのため、
+ * プレイヤー単位のロードは主キーの範囲検索1回で完結します。</p>
+ */
+public class Migration_v1_2_PlayerSkills {
+
+    private static final String MIGRATION_NAME = "v1.2_PlayerSkills";
+    private static final int TARGET_VERSION = 6;
+
+    /**
+     * マイグレーションを適用します
+     *
+     * @param conn データベース接続
+     * @param logger ロガー
+     * @throws SQLException マイグレーション失敗時
+     */
+    public static void apply(Connection conn, Logger logger) throws SQLException {
+        logger.info("Applying migration " + MIGRATION_NAME);
+
+        try (Statement stmt = conn.createStatement()) {
+            createTables(stmt);
+        }
+
+        logger.info("Migration " + MIGRATION_NAME + " completed successfully");
+    }
+
+    /**
+     * スキル関連テーブルを作成します（既存の場合は何もしません）
+     *
+     * @param stmt SQLステートメント
+     * @throws SQLException 作成失敗時
+     */
+    public static void createTables(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS player_skills (
+                uuid TEXT NOT NULL,
+                skill_id TEXT NOT NULL,
+                level INTEGER NOT NULL DEFAULT 1,
+                PRIMARY KEY (uuid, skill_id)
+            ) WITHOUT ROWID
+        """);
+
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS player_cooldowns (
+                uuid TEXT NOT NULL,
+                skill_id TEXT NOT NULL,
+                last_cast INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (uuid, skill_id)
+            ) WITHOUT ROWID
+        """);
+
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS player_skill_points (
+                uuid TEXT PRIMARY KEY,
+                points INTEGER NOT NULL DEFAULT 0
+            )
+        """);
+    }
+
+    /**
+     * マイグレーション名を取得します
+     *
+     * @return マイグレーション名
+     */
+    public static String getMigrationName() {
+        return MIGRATION_NAME;
+    }
+
+    /**
+     * 対象バージョンを取得します
+     *
+     * @return ターゲットバージョン
+     */
+    public static int getTargetVersion() {
+        return TARGET_VERSION;
+    }
+
+    /**
+     * ロールバック処理（追加したテーブルを削除します）
+     *
+     * @param conn データベース接続
+     * @param logger ロガー
+     * @throws SQLException ロールバック失敗時
+     */
+    public static void rollback(Connection conn, Logger logger) throws SQLException {
+        logger.warning("Rolling back migration " + MIGRATION_NAME);
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS player_skills");
+            stmt.execute("DROP TABLE IF EXISTS player_cooldowns");
+            stmt.execute("DROP TABLE IF EXISTS player_skill_points");
+        }
+    }
+}
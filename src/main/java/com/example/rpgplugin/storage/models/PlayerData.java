@@ -1,12 +1,57 @@
 package com.example.rpgplugin.storage.models;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * プレイヤーデータモデル
+ *
+ * <p>永続化対象フィールドの変更はダーティフラグとして記録され、
+ * 書き込み遅延フラッシュで変更されたカラムのみが保存されます。</p>
  */
 public class PlayerData {
 
+    /**
+     * 変更追跡対象のフィールド
+     */
+    public enum DirtyField {
+        USERNAME("username"),
+        CLASS_ID("class_id"),
+        CLASS_RANK("class_rank"),
+        CLASS_HISTORY("class_history"),
+        LAST_LOGIN("last_login"),
+        MAX_HEALTH("max_health"),
+        MAX_MANA("max_mana"),
+        CURRENT_MANA("current_mana"),
+        COST_TYPE("cost_type");
+
+        private final String column;
+
+        DirtyField(String column) {
+            this.column = column;
+        }
+
+        /**
+         * 対応するplayer_dataのカラム名を取得
+         *
+         * @return カラム名
+         */
+        public String getColumn() {
+            return column;
+        }
+
+        /**
+         * ビットマスクを取得
+         *
+         * @return このフィールドのビット
+         */
+        public int mask() {
+            return 1 << ordinal();
+        }
+    }
+
     private final UUID uuid;
     private String username;
     private String classId;
@@ -22,6 +67,9 @@ public class PlayerData {
     private int currentMana;      // 現在MP
     private String costType;      // コストタイプ（"mana" or "hp"）
 
+    /** 未保存フィールドのビットマスク（{@link DirtyField#mask()}） */
+    private final AtomicInteger dirtyMask = new AtomicInteger();
+
     /**
      * コンストラクタ
      *
@@ -100,7 +148,10 @@ public class PlayerData {
     }
 
     public void setUsername(String username) {
-        this.username = username;
+        if (!java.util.Objects.equals(this.username, username)) {
+            this.username = username;
+            markDirty(DirtyField.USERNAME);
+        }
     }
 
     public String getClassId() {
@@ -108,7 +159,10 @@ public class PlayerData {
     }
 
     public void setClassId(String classId) {
-        this.classId = classId;
+        if (!java.util.Objects.equals(this.classId, classId)) {
+            this.classId = classId;
+            markDirty(DirtyField.CLASS_ID);
+        }
     }
 
     public int getClassRank() {
@@ -116,7 +170,10 @@ public class PlayerData {
     }
 
     public void setClassRank(int classRank) {
-        this.classRank = classRank;
+        if (this.classRank != classRank) {
+            this.classRank = classRank;
+            markDirty(DirtyField.CLASS_RANK);
+        }
     }
 
     public String getClassHistory() {
@@ -124,7 +181,10 @@ public class PlayerData {
     }
 
     public void setClassHistory(String classHistory) {
-        this.classHistory = classHistory;
+        if (!java.util.Objects.equals(this.classHistory, classHistory)) {
+            this.classHistory = classHistory;
+            markDirty(DirtyField.CLASS_HISTORY);
+        }
     }
 
     /**
@@ -146,9 +206,9 @@ public class PlayerData {
      */
     public void setClassHistoryList(java.util.List<String> history) {
         if (history == null || history.isEmpty()) {
-            this.classHistory = null;
+            setClassHistory(null);
         } else {
-            this.classHistory = String.join(",", history);
+            setClassHistory(String.join(",", history));
         }
     }
 
@@ -174,14 +234,17 @@ public class PlayerData {
     }
 
     public void setLastLogin(long lastLogin) {
-        this.lastLogin = lastLogin;
+        if (this.lastLogin != lastLogin) {
+            this.lastLogin = lastLogin;
+            markDirty(DirtyField.LAST_LOGIN);
+        }
     }
 
     /**
      * 最終ログイン時刻を現在時刻に更新
      */
     public void updateLastLogin() {
-        this.lastLogin = System.currentTimeMillis();
+        setLastLogin(System.currentTimeMillis());
     }
 
     // ==================== MP/HP関連アクセサ ====================
@@ -201,7 +264,11 @@ public class PlayerData {
      * @param maxHealth 最大HP修飾子
      */
     public void setMaxHealth(int maxHealth) {
-        this.maxHealth = Math.max(0, maxHealth);
+        int value = Math.max(0, maxHealth);
+        if (this.maxHealth != value) {
+            this.maxHealth = value;
+            markDirty(DirtyField.MAX_HEALTH);
+        }
     }
 
     /**
@@ -219,10 +286,15 @@ public class PlayerData {
      * @param maxMana 最大MP
      */
     public void setMaxMana(int maxMana) {
-        this.maxMana = Math.max(0, maxMana);
+        int value = Math.max(0, maxMana);
+        if (this.maxMana != value) {
+            this.maxMana = value;
+            markDirty(DirtyField.MAX_MANA);
+        }
         // 現在MPが最大MPを超える場合は調整
         if (this.currentMana > this.maxMana) {
             this.currentMana = this.maxMana;
+            markDirty(DirtyField.CURRENT_MANA);
         }
     }
 
@@ -241,7 +313,11 @@ public class PlayerData {
      * @param currentMana 現在MP
      */
     public void setCurrentMana(int currentMana) {
-        this.currentMana = Math.min(Math.max(0, currentMana), maxMana);
+        int value = Math.min(Math.max(0, currentMana), maxMana);
+        if (this.currentMana != value) {
+            this.currentMana = value;
+            markDirty(DirtyField.CURRENT_MANA);
+        }
     }
 
     /**
@@ -294,8 +370,12 @@ public class PlayerData {
      * @param costType コストタイプ（"mana" or "hp"）
      */
     public void setCostType(String costType) {
-        this.costType = (costType != null && (costType.equalsIgnoreCase("hp") || costType.equalsIgnoreCase("health")))
+        String value = (costType != null && (costType.equalsIgnoreCase("hp") || costType.equalsIgnoreCase("health")))
                 ? "hp" : "mana";
+        if (!value.equals(this.costType)) {
+            this.costType = value;
+            markDirty(DirtyField.COST_TYPE);
+        }
     }
 
     /**
@@ -312,6 +392,65 @@ public class PlayerData {
      */
     public void toggleCostType() {
         this.costType = isManaCostType() ? "hp" : "mana";
+        markDirty(DirtyField.COST_TYPE);
+    }
+
+    // ==================== 変更追跡 ====================
+
+    /**
+     * フィールドを未保存としてマークします
+     *
+     * @param field 変更されたフィールド
+     */
+    public void markDirty(DirtyField field) {
+        dirtyMask.getAndUpdate(mask -> mask | field.mask());
+    }
+
+    /**
+     * 未保存の変更があるか確認します
+     *
+     * @return 未保存の変更がある場合はtrue
+     */
+    public boolean isDirty() {
+        return dirtyMask.get() != 0;
+    }
+
+    /**
+     * 未保存のフィールドを取得します
+     *
+     * @return 未保存フィールドのセット
+     */
+    public Set<DirtyField> getDirtyFields() {
+        int mask = dirtyMask.get();
+        Set<DirtyField> fields = EnumSet.noneOf(DirtyField.class);
+        for (DirtyField field : DirtyField.values()) {
+            if ((mask & field.mask()) != 0) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 未保存フィールドのマスクを取得し、クリアします
+     *
+     * <p>保存に失敗した場合は {@link #restoreDirtyMask(int)} で戻してください。</p>
+     *
+     * @return 取得時点の未保存フィールドのマスク
+     */
+    public int drainDirtyMask() {
+        return dirtyMask.getAndSet(0);
+    }
+
+    /**
+     * 保存に失敗したフィールドを未保存状態に戻します
+     *
+     * @param mask {@link #drainDirtyMask()} で取得したマスク
+     */
+    public void restoreDirtyMask(int mask) {
+        if (mask != 0) {
+            dirtyMask.getAndUpdate(current -> current | mask);
+        }
     }
 
     @Override
@@ -5,9 +5,16 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 /**
@@ -19,6 +26,15 @@ import java.util.logging.Logger;
  *
  * キャッシュヒット率目標: 95%以上
  *
+ * 統計:
+ * - ヒット数は {@link LongAdder} で集計（複数スレッドから呼び出しても欠落しない）
+ * - L1/L2/L3の検索と先読みのDBロードごとにレイテンシヒストグラムを記録
+ *
+ * 先読み（prefetch）:
+ * - ログイン前（AsyncPlayerPreLoginEvent）に専用の上限付きスレッドプールでL3から読み込み
+ * - 結果はUUIDごとに保留され、参加時に {@link #takePrefetched(UUID)} で受け取る
+ * - 新規プレイヤーのデータは参加時の {@link #persistCreated(PlayerData)} まで保存しない
+ *
  * 設計原則:
  * - SOLID-S: キャッシュ管理に特化
  * - DRY: 設定ロジックを一元管理
@@ -32,15 +48,30 @@ public class CacheRepository {
     private final PlayerDataRepository repository;
     private final Logger logger;
 
+    // 先読み
+    private static final int LOADER_THREADS = 4;
+    private static final int LOADER_QUEUE_SIZE = 256;
+    private static final long PREFETCH_TTL_SECONDS = 60;
+    private final Cache<UUID, CompletableFuture<PlayerData>> prefetched;  // 参加待ちのロード結果
+    private final Cache<UUID, PlayerData> created;  // 先読みで作成した未保存の新規データ
+    private final ThreadPoolExecutor loadExecutor;
+
     // キャッシュ統計
-    private long l1Hits = 0;
-    private long l2Hits = 0;
-    private long l3Hits = 0;
-    private long totalRequests = 0;
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l3Hits = new LongAdder();
+    private final LongAdder l3Misses = new LongAdder();
+    private final LongAdder totalRequests = new LongAdder();
+
+    // レイテンシ統計
+    private final LatencyHistogram l1Latency = new LatencyHistogram();
+    private final LatencyHistogram l2Latency = new LatencyHistogram();
+    private final LatencyHistogram l3Latency = new LatencyHistogram();
+    private final LatencyHistogram dbLoadLatency = new LatencyHistogram();
 
     // 統計キャッシュ（1分間キャッシュ）
-    private CacheStatistics cachedStats;
-    private long lastStatsUpdate = 0;
+    private volatile CacheStatistics cachedStats;
+    private volatile long lastStatsUpdate = 0;
     private static final long STATS_CACHE_MILLIS = 60000; // 1分
 
     // 統計ログ出力タスク
@@ -97,6 +128,32 @@ public class CacheRepository {
 
         logger.info("L2 cache initialized: max_size=" + l2MaxSize + ", ttl=" + l2TtlMinutes + "min");
 
+        // 先読み結果: 参加しなかったプレイヤーの分は一定時間で破棄
+        this.prefetched = Caffeine.newBuilder()
+                .expireAfterWrite(PREFETCH_TTL_SECONDS, TimeUnit.SECONDS)
+                .build();
+        this.created = Caffeine.newBuilder()
+                .expireAfterWrite(PREFETCH_TTL_SECONDS, TimeUnit.SECONDS)
+                .build();
+
+        // 先読み用スレッドプール（上限付き、溢れた場合は即座に拒否する。
+        // 呼び出し元で実行するとメインスレッドでDBアクセスが発生し得るため）
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.loadExecutor = new ThreadPoolExecutor(
+                LOADER_THREADS,
+                LOADER_THREADS,
+                30L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(LOADER_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "RPGPlugin-PlayerLoader-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.loadExecutor.allowCoreThreadTimeOut(true);
+
         // 統計ログ出力タスクを開始（間隔が0でない場合）
         if (statsLoggingInterval > 0) {
             startStatsLogging(statsLoggingInterval);
@@ -140,29 +197,35 @@ public class CacheRepository {
      * @return プレイヤーデータ（存在しない場合は空）
      */
     public Optional<PlayerData> findById(UUID uuid) {
-        totalRequests++;
+        totalRequests.increment();
 
         // L1キャッシュを検索
+        long start = System.nanoTime();
         PlayerData data = l1Cache.get(uuid);
         if (data != null) {
-            l1Hits++;
+            l1Hits.increment();
+            l1Latency.record(System.nanoTime() - start);
             logger.fine("L1 cache hit: " + uuid);
             return Optional.of(data);
         }
 
         // L2キャッシュを検索
+        start = System.nanoTime();
         data = l2Cache.getIfPresent(uuid);
         if (data != null) {
-            l2Hits++;
+            l2Hits.increment();
+            l2Latency.record(System.nanoTime() - start);
             logger.fine("L2 cache hit: " + uuid);
             return Optional.of(data);
         }
 
         // L3データベースを検索
+        start = System.nanoTime();
         try {
             Optional<PlayerData> result = repository.findById(uuid);
+            l3Latency.record(System.nanoTime() - start);
             if (result.isPresent()) {
-                l3Hits++;
+                l3Hits.increment();
                 data = result.get();
 
                 // L2キャッシュに格納
@@ -171,6 +234,7 @@ public class CacheRepository {
                 logger.fine("L3 database hit: " + uuid);
                 return Optional.of(data);
             }
+            l3Misses.increment();
         } catch (Exception e) {
             logger.severe("Failed to fetch player from database: " + e.getMessage());
             e.printStackTrace();
@@ -179,6 +243,121 @@ public class CacheRepository {
         return Optional.empty();
     }
 
+    /**
+     * プレイヤーデータの先読みを開始
+     *
+     * <p>L1/L2に無い場合は先読みスレッドでデータベースから読み込み、
+     * 存在しない場合は新規作成して保存します。同じUUIDの先読みが進行中の場合はそれを返します。</p>
+     *
+     * <p>先読みキューが満杯の場合は {@link RejectedExecutionException} で失敗したFutureを返し、
+     * 保留中の結果としては残しません。</p>
+     *
+     * @param uuid プレイヤーUUID
+     * @param username ユーザー名（新規作成時に使用）
+     * @return ロード完了時に完了するFuture
+     */
+    public CompletableFuture<PlayerData> prefetch(UUID uuid, String username) {
+        CompletableFuture<PlayerData> future = new CompletableFuture<>();
+        CompletableFuture<PlayerData> existing = prefetched.asMap().putIfAbsent(uuid, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        PlayerData cached = l1Cache.get(uuid);
+        if (cached == null) {
+            cached = l2Cache.getIfPresent(uuid);
+        }
+        if (cached != null) {
+            future.complete(cached);
+            return future;
+        }
+
+        try {
+            loadExecutor.execute(() -> {
+                try {
+                    future.complete(loadOrCreate(uuid, username));
+                } catch (Exception e) {
+                    logger.severe("Failed to prefetch player data: " + uuid + " (" + e.getMessage() + ")");
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            prefetched.asMap().remove(uuid, future);
+            logger.warning("Player loader queue is full, rejected prefetch: " + uuid);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 先読み結果を受け取る
+     *
+     * @param uuid プレイヤーUUID
+     * @return 先読みのFuture、先読みされていない場合はnull
+     */
+    public CompletableFuture<PlayerData> takePrefetched(UUID uuid) {
+        return prefetched.asMap().remove(uuid);
+    }
+
+    /**
+     * 先読みで新規作成したデータを保存
+     *
+     * <p>ログイン前の後続のハンドラーでログインが拒否される可能性があるため、新規データは
+     * 先読みの時点では保存せず、参加して割り当てられた時点で非同期に保存します。
+     * 既存データや保存済みのデータに対しては何もしません。</p>
+     *
+     * @param player 参加したプレイヤーのデータ
+     */
+    public void persistCreated(PlayerData player) {
+        if (player == null || !created.asMap().remove(player.getUuid(), player)) {
+            return;
+        }
+
+        l2Cache.put(player.getUuid(), player);
+        repository.saveAsync(player);
+        logger.fine("Saved new player data on join: " + player.getUuid());
+    }
+
+    /**
+     * データベースから読み込み、存在しない場合は未保存の新規データを作成
+     *
+     * <p>読み込み失敗時に新規データで上書きしないよう、例外はそのまま伝播します。</p>
+     */
+    private PlayerData loadOrCreate(UUID uuid, String username) throws SQLException {
+        long start = System.nanoTime();
+        Optional<PlayerData> result = repository.findById(uuid);
+        dbLoadLatency.record(System.nanoTime() - start);
+        if (result.isEmpty()) {
+            // ログインが拒否された場合に行を残さないよう、保存は参加時まで行わない
+            PlayerData data = new PlayerData(uuid, username);
+            created.put(uuid, data);
+            logger.fine("Created new player data on prefetch: " + uuid);
+            return data;
+        }
+
+        PlayerData data = result.get();
+        logger.fine("Prefetched from database: " + uuid);
+        l2Cache.put(uuid, data);
+        return data;
+    }
+
+    /**
+     * 先読みスレッドプールを停止
+     */
+    public void shutdown() {
+        loadExecutor.shutdown();
+        try {
+            if (!loadExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                loadExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            loadExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        prefetched.invalidateAll();
+        created.invalidateAll();
+    }
+
     /**
      * プレイヤーデータを保存
      * L1, L2キャッシュを更新し、非同期でデータベースにも保存
@@ -266,24 +445,53 @@ public class CacheRepository {
         // 統計を再計算
         CacheStats l2Stats = l2Cache.stats();
 
-        double hitRate = totalRequests > 0
-                ? ((double) (l1Hits + l2Hits) / totalRequests) * 100
+        long l1 = l1Hits.sum();
+        long l2 = l2Hits.sum();
+        long total = totalRequests.sum();
+        double hitRate = total > 0
+                ? ((double) (l1 + l2) / total) * 100
                 : 0.0;
 
-        cachedStats = new CacheStatistics(
-                l1Hits,
-                l2Hits,
-                l3Hits,
-                totalRequests,
+        CacheStatistics stats = new CacheStatistics(
+                l1,
+                l2,
+                l3Hits.sum(),
+                total,
                 hitRate,
                 l1Cache.size(),
                 l2Cache.estimatedSize(),
                 l2Stats.hitRate(),
-                l2Stats.missRate()
+                l2Stats.missRate(),
+                l3Misses.sum(),
+                l2Stats.evictionCount(),
+                l1Latency.snapshot(),
+                l2Latency.snapshot(),
+                l3Latency.snapshot(),
+                dbLoadLatency.snapshot()
         );
 
+        cachedStats = stats;
         lastStatsUpdate = now;
-        return cachedStats;
+        return stats;
+    }
+
+    /**
+     * ヒット数とレイテンシ統計をリセット
+     *
+     * <p>負荷試験の計測区間を区切る場合などに使用します。
+     * Caffeine側のL2統計はリセットされません。</p>
+     */
+    public void resetStatistics() {
+        l1Hits.reset();
+        l2Hits.reset();
+        l3Hits.reset();
+        l3Misses.reset();
+        totalRequests.reset();
+        l1Latency.reset();
+        l2Latency.reset();
+        l3Latency.reset();
+        dbLoadLatency.reset();
+        cachedStats = null;
     }
 
     /**
@@ -311,6 +519,11 @@ public class CacheRepository {
         logger.info(String.format("L1 Size: %d (Online players)", stats.l1Size()));
         logger.info(String.format("L2 Size: %d", stats.l2Size()));
         logger.info(String.format("L2 Hit Rate: %.2f%%", stats.l2HitRate() * 100));
+        logger.info(String.format("L2 Evictions: %d", stats.l2EvictionCount()));
+        logger.info("L1 Latency: " + stats.l1Latency().format());
+        logger.info("L2 Latency: " + stats.l2Latency().format());
+        logger.info("L3 Latency: " + stats.l3Latency().format());
+        logger.info("DB Load Latency: " + stats.dbLoadLatency().format());
         logger.info("========================");
     }
 
@@ -354,7 +567,13 @@ public class CacheRepository {
             long l1Size,
             long l2Size,
             double l2HitRate,
-            double l2MissRate
+            double l2MissRate,
+            long l3Misses,
+            long l2EvictionCount,
+            LatencyHistogram.Snapshot l1Latency,
+            LatencyHistogram.Snapshot l2Latency,
+            LatencyHistogram.Snapshot l3Latency,
+            LatencyHistogram.Snapshot dbLoadLatency
     ) {
     }
 }
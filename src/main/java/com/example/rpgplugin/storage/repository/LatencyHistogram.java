@@ -0,0 +1,132 @@
+package com.example.rpgplugin.storage.repository;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ロックフリーのレイテンシヒストグラム
+ *
+ * <p>ナノ秒単位の計測値を2のべき乗幅のバケットに集計します。
+ * 記録は {@link LongAdder} のみで行うため、複数スレッドから競合なく呼び出せます。</p>
+ *
+ * <p>パーセンタイルはバケット上限で近似するため、誤差は最大で2倍です。</p>
+ */
+public class LatencyHistogram {
+
+    /** バケット数（最上位バケットは 2^39ns ≒ 9分 以上をまとめて集計） */
+    private static final int BUCKET_COUNT = 40;
+
+    private final LongAdder[] buckets;
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+    public LatencyHistogram() {
+        this.buckets = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 計測値を記録
+     *
+     * @param nanos 経過時間（ナノ秒）
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketIndex(nanos)].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * 現在の集計値を取得
+     *
+     * <p>記録と並行して呼び出した場合、各値はわずかにずれることがあります。</p>
+     *
+     * @return スナップショット
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return Snapshot.EMPTY;
+        }
+
+        long max = maxNanos.get();
+        return new Snapshot(
+                total,
+                toMicros((double) totalNanos.sum() / total),
+                toMicros(percentile(counts, total, 0.50, max)),
+                toMicros(percentile(counts, total, 0.95, max)),
+                toMicros(percentile(counts, total, 0.99, max)),
+                toMicros(max)
+        );
+    }
+
+    /**
+     * 集計値をリセット
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    private static int bucketIndex(long nanos) {
+        if (nanos == 0) {
+            return 0;
+        }
+        return Math.min(BUCKET_COUNT - 1, 63 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long max) {
+        long threshold = (long) Math.ceil(total * quantile);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= threshold) {
+                long upperBound = (2L << i) - 1;
+                return Math.min(upperBound, max);
+            }
+        }
+        return max;
+    }
+
+    private static double toMicros(double nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * ヒストグラムのスナップショット（単位: マイクロ秒）
+     */
+    public record Snapshot(
+            long count,
+            double meanMicros,
+            double p50Micros,
+            double p95Micros,
+            double p99Micros,
+            double maxMicros
+    ) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0);
+
+        /**
+         * 1行の文字列に整形
+         *
+         * @return 整形済み文字列
+         */
+        public String format() {
+            return String.format("n=%d mean=%.1fus p50=%.1fus p95=%.1fus p99=%.1fus max=%.1fus",
+                    count, meanMicros, p50Micros, p95Micros, p99Micros, maxMicros);
+        }
+    }
+}
@@ -5,9 +5,12 @@ import com.example.rpgplugin.storage.models.PlayerData;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 /**
@@ -16,6 +19,12 @@ import java.util.logging.Logger;
  */
 public class PlayerDataRepository implements IRepository<PlayerData, UUID> {
 
+    private static final String UPSERT_SQL = """
+            INSERT OR REPLACE INTO player_data 
+            (uuid, username, class_id, class_rank, class_history, first_join, last_login, max_health, max_mana, current_mana, cost_type)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
     private final DatabaseManager dbManager;
     private final Logger logger;
 
@@ -26,30 +35,15 @@ public class PlayerDataRepository implements IRepository<PlayerData, UUID> {
 
     @Override
     public void save(PlayerData player) throws SQLException {
-        String sql = """
-            INSERT OR REPLACE INTO player_data 
-            (uuid, username, class_id, class_rank, class_history, first_join, last_login, max_health, max_mana, current_mana, cost_type)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
-
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, player.getUuid().toString());
-            stmt.setString(2, player.getUsername());
-            stmt.setString(3, player.getClassId());
-            stmt.setInt(4, player.getClassRank());
-            stmt.setString(5, player.getClassHistory());
-            stmt.setLong(6, player.getFirstJoin());
-            stmt.setLong(7, player.getLastLogin());
-            stmt.setInt(8, player.getMaxHealth());
-            stmt.setInt(9, player.getMaxMana());
-            stmt.setInt(10, player.getCurrentMana());
-            stmt.setString(11, player.getCostType());
-
-            stmt.executeUpdate();
-            logger.fine("Player data saved: " + player.getUuid());
+        // 全カラムを書き込むため、未保存フラグはここで消化する
+        int dirtyMask = player.drainDirtyMask();
+        try {
+            dbManager.executeWrite(conn -> writeOne(conn, player));
+        } catch (SQLException e) {
+            player.restoreDirtyMask(dirtyMask);
+            throw e;
         }
+        logger.fine("Player data saved: " + player.getUuid());
     }
 
     @Override
@@ -59,26 +53,36 @@ public class PlayerDataRepository implements IRepository<PlayerData, UUID> {
             return;
         }
 
-        dbManager.executeAsync(() -> {
-            try {
-                save(player);
+        submitSave(player).whenComplete((result, error) -> {
+            if (error == null) {
                 logger.fine("Player data saved asynchronously: " + player.getUuid());
-            } catch (SQLException e) {
-                logger.severe("Failed to save player data asynchronously: " + player.getUuid());
-                logger.severe("Error: " + e.getMessage());
-                e.printStackTrace();
-
-                // TODO: フォールバック処理の検討
-                // - 失敗したデータをキューに保存
-                // - 次回同期保存時にリトライ
-            } catch (Exception e) {
-                logger.severe("Unexpected error saving player data: " + player.getUuid());
-                logger.severe("Error: " + e.getMessage());
-                e.printStackTrace();
+                return;
             }
+
+            // 変更フラグはsubmitSaveで戻されるため、次回の保存で再度書き込まれる
+            logger.severe("Failed to save player data asynchronously: " + player.getUuid());
+            logger.severe("Error: " + error.getMessage());
         });
     }
 
+    /**
+     * プレイヤーデータの保存を書き込みキューに追加
+     *
+     * <p>WALモードでは他の書き込みと同じトランザクションにまとめられます。</p>
+     *
+     * @param player プレイヤーデータ
+     * @return 保存完了時に完了するFuture
+     */
+    public CompletableFuture<Void> submitSave(PlayerData player) {
+        int dirtyMask = player.drainDirtyMask();
+        return dbManager.submitWrite(conn -> writeOne(conn, player))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        player.restoreDirtyMask(dirtyMask);
+                    }
+                });
+    }
+
     @Override
     public Optional<PlayerData> findById(UUID uuid) throws SQLException {
         String sql = "SELECT * FROM player_data WHERE uuid = ?";
@@ -119,14 +123,14 @@ public class PlayerDataRepository implements IRepository<PlayerData, UUID> {
     public void deleteById(UUID uuid) throws SQLException {
         String sql = "DELETE FROM player_data WHERE uuid = ?";
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, uuid.toString());
-            stmt.executeUpdate();
+        dbManager.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, uuid.toString());
+                stmt.executeUpdate();
+            }
+        });
 
-            logger.info("Player data deleted: " + uuid);
-        }
+        logger.info("Player data deleted: " + uuid);
     }
 
     @Override
@@ -152,58 +156,189 @@ public class PlayerDataRepository implements IRepository<PlayerData, UUID> {
 
     @Override
     public void saveAll(List<PlayerData> players) throws SQLException {
-        String sql = """
-            INSERT OR REPLACE INTO player_data 
-            (uuid, username, class_id, class_rank, class_history, first_join, last_login, max_health, max_mana, current_mana, cost_type)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
+        dbManager.executeWrite(conn -> writeAll(conn, players));
+        logger.fine("Batch saved " + players.size() + " players");
+    }
 
-        try (Connection conn = dbManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+    @Override
+    public void saveAllAsync(List<PlayerData> players) {
+        dbManager.submitWrite(conn -> writeAll(conn, players)).whenComplete((result, error) -> {
+            if (error != null) {
+                logger.severe("Failed to batch save player data asynchronously: " + error.getMessage());
+            }
+        });
+    }
 
-            conn.setAutoCommit(false);
+    /**
+     * 変更されたカラムのみを保存
+     *
+     * <p>同じ変更マスクを持つプレイヤーごとに {@code UPDATE} をまとめ、1トランザクションで
+     * {@code executeBatch} します。行が存在しないプレイヤーは全カラムを書き込みます。</p>
+     *
+     * @param dirtyMasks プレイヤーデータ → 保存するフィールドのマスク（{@link PlayerData#drainDirtyMask()}）
+     * @throws SQLException 保存失敗時
+     */
+    public void saveDirty(Map<PlayerData, Integer> dirtyMasks) throws SQLException {
+        if (dirtyMasks.isEmpty()) {
+            return;
+        }
 
-            try {
-                for (PlayerData player : players) {
-                    stmt.setString(1, player.getUuid().toString());
-                    stmt.setString(2, player.getUsername());
-                    stmt.setString(3, player.getClassId());
-                    stmt.setInt(4, player.getClassRank());
-                    stmt.setString(5, player.getClassHistory());
-                    stmt.setLong(6, player.getFirstJoin());
-                    stmt.setLong(7, player.getLastLogin());
-                    stmt.setInt(8, player.getMaxHealth());
-                    stmt.setInt(9, player.getMaxMana());
-                    stmt.setInt(10, player.getCurrentMana());
-                    stmt.setString(11, player.getCostType());
+        Map<Integer, List<PlayerData>> byMask = groupByMask(dirtyMasks);
+        dbManager.executeWrite(conn -> writeDirty(conn, byMask));
+
+        logger.fine("Dirty-saved " + dirtyMasks.size() + " players in " + byMask.size() + " batches");
+    }
+
+    /**
+     * 変更されたカラムのみの保存を書き込みキューに追加
+     *
+     * <p>{@link #saveDirty(Map)} の非同期版です。失敗時の変更マスクの復元は呼び出し元で行ってください。</p>
+     *
+     * @param dirtyMasks プレイヤーデータ → 保存するフィールドのマスク（{@link PlayerData#drainDirtyMask()}）
+     * @return 保存完了時に完了するFuture
+     */
+    public CompletableFuture<Void> submitSaveDirty(Map<PlayerData, Integer> dirtyMasks) {
+        if (dirtyMasks.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<Integer, List<PlayerData>> byMask = groupByMask(dirtyMasks);
+        return dbManager.submitWrite(conn -> writeDirty(conn, byMask));
+    }
 
+    /**
+     * 変更マスクごとにグループ化（同じUPDATE文でバッチ化）
+     */
+    private Map<Integer, List<PlayerData>> groupByMask(Map<PlayerData, Integer> dirtyMasks) {
+        Map<Integer, List<PlayerData>> byMask = new HashMap<>();
+        for (Map.Entry<PlayerData, Integer> entry : dirtyMasks.entrySet()) {
+            if (entry.getValue() != 0) {
+                byMask.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        return byMask;
+    }
+
+    /**
+     * 変更カラムのUPDATEを実行し、行が存在しないプレイヤーは全カラムを書き込む
+     */
+    private void writeDirty(Connection conn, Map<Integer, List<PlayerData>> byMask) throws SQLException {
+        List<PlayerData> missing = new ArrayList<>();
+
+        for (Map.Entry<Integer, List<PlayerData>> group : byMask.entrySet()) {
+            PlayerData.DirtyField[] fields = fieldsOf(group.getKey());
+            List<PlayerData> players = group.getValue();
+
+            try (PreparedStatement stmt = conn.prepareStatement(buildUpdateSql(fields))) {
+                for (PlayerData player : players) {
+                    int index = 1;
+                    for (PlayerData.DirtyField field : fields) {
+                        bindField(stmt, index++, field, player);
+                    }
+                    stmt.setString(index, player.getUuid().toString());
                     stmt.addBatch();
-                    stmt.clearParameters();
                 }
 
-                stmt.executeBatch();
-                conn.commit();
+                int[] counts = stmt.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == 0) {
+                        missing.add(players.get(i));
+                    }
+                }
+            }
+        }
 
-                logger.fine("Batch saved " + players.size() + " players");
-            } catch (SQLException e) {
-                conn.rollback();
-                throw e;
-            } finally {
-                conn.setAutoCommit(true);
+        if (!missing.isEmpty()) {
+            writeAll(conn, missing);
+        }
+    }
+
+    /**
+     * マスクに含まれるフィールドを取得
+     */
+    private static PlayerData.DirtyField[] fieldsOf(int mask) {
+        List<PlayerData.DirtyField> fields = new ArrayList<>();
+        for (PlayerData.DirtyField field : PlayerData.DirtyField.values()) {
+            if ((mask & field.mask()) != 0) {
+                fields.add(field);
             }
         }
+        return fields.toArray(new PlayerData.DirtyField[0]);
     }
 
-    @Override
-    public void saveAllAsync(List<PlayerData> players) {
-        dbManager.executeAsync(() -> {
-            try {
-                saveAll(players);
-            } catch (SQLException e) {
-                logger.severe("Failed to batch save player data asynchronously: " + e.getMessage());
-                e.printStackTrace();
+    /**
+     * 変更カラムのみのUPDATE文を作成
+     */
+    private static String buildUpdateSql(PlayerData.DirtyField[] fields) {
+        StringBuilder sql = new StringBuilder("UPDATE player_data SET ");
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
             }
-        });
+            sql.append(fields[i].getColumn()).append(" = ?");
+        }
+        return sql.append(" WHERE uuid = ?").toString();
+    }
+
+    /**
+     * フィールド値をステートメントにバインド
+     */
+    private static void bindField(PreparedStatement stmt, int index, PlayerData.DirtyField field, PlayerData player)
+            throws SQLException {
+        switch (field) {
+            case USERNAME -> stmt.setString(index, player.getUsername());
+            case CLASS_ID -> stmt.setString(index, player.getClassId());
+            case CLASS_RANK -> stmt.setInt(index, player.getClassRank());
+            case CLASS_HISTORY -> stmt.setString(index, player.getClassHistory());
+            case LAST_LOGIN -> stmt.setLong(index, player.getLastLogin());
+            case MAX_HEALTH -> stmt.setInt(index, player.getMaxHealth());
+            case MAX_MANA -> stmt.setInt(index, player.getMaxMana());
+            case CURRENT_MANA -> stmt.setInt(index, player.getCurrentMana());
+            case COST_TYPE -> stmt.setString(index, player.getCostType());
+        }
+    }
+
+    /**
+     * プレイヤーデータを1件書き込み
+     */
+    private void writeOne(Connection conn, PlayerData player) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(UPSERT_SQL)) {
+            bindPlayerData(stmt, player);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * プレイヤーデータをバッチで書き込み
+     *
+     * <p>トランザクションは呼び出し元（{@link DatabaseManager}）が管理します。</p>
+     */
+    private void writeAll(Connection conn, List<PlayerData> players) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(UPSERT_SQL)) {
+            for (PlayerData player : players) {
+                bindPlayerData(stmt, player);
+                stmt.addBatch();
+                stmt.clearParameters();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * PlayerDataをステートメントにバインド
+     */
+    private void bindPlayerData(PreparedStatement stmt, PlayerData player) throws SQLException {
+        stmt.setString(1, player.getUuid().toString());
+        stmt.setString(2, player.getUsername());
+        stmt.setString(3, player.getClassId());
+        stmt.setInt(4, player.getClassRank());
+        stmt.setString(5, player.getClassHistory());
+        stmt.setLong(6, player.getFirstJoin());
+        stmt.setLong(7, player.getLastLogin());
+        stmt.setInt(8, player.getMaxHealth());
+        stmt.setInt(9, player.getMaxMana());
+        stmt.setInt(10, player.getCurrentMana());
+        stmt.setString(11, player.getCostType());
     }
 
     /**
@@ -0,0 +1,198 @@
+package com.example.rpgplugin.storage.repository;
+
+import com.example.rpgplugin.skill.repository.PlayerSkillService;
+import com.example.rpgplugin.storage.database.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+/**
+ * プレイヤースキルリポジトリ
+ *
+ * <p>習得スキル・クールダウン・スキルポイントを永続化します。</p>
+ *
+ * <ul>
+ *   <li>ロード: 3テーブルを {@code UNION ALL} で結合した1クエリ</li>
+ *   <li>保存: 変更されたキーのみをUPSERT/DELETE（全件書き換えなし）</li>
+ * </ul>
+ */
+public class PlayerSkillRepository {
+
+    /** プレイヤー単位のロード（種別, スキルID, 値） */
+    private static final String LOAD_SQL = """
+            SELECT 'S' AS kind, skill_id, level AS value FROM player_skills WHERE uuid = ?
+            UNION ALL
+            SELECT 'C' AS kind, skill_id, last_cast AS value FROM player_cooldowns WHERE uuid = ?
+            UNION ALL
+            SELECT 'P' AS kind, NULL AS skill_id, points AS value FROM player_skill_points WHERE uuid = ?
+        """;
+
+    private static final String UPSERT_SKILL_SQL = """
+            INSERT INTO player_skills (uuid, skill_id, level) VALUES (?, ?, ?)
+            ON CONFLICT(uuid, skill_id) DO UPDATE SET level = excluded.level
+        """;
+
+    private static final String DELETE_SKILL_SQL = "DELETE FROM player_skills WHERE uuid = ? AND skill_id = ?";
+
+    private static final String UPSERT_COOLDOWN_SQL = """
+            INSERT INTO player_cooldowns (uuid, skill_id, last_cast) VALUES (?, ?, ?)
+            ON CONFLICT(uuid, skill_id) DO UPDATE SET last_cast = excluded.last_cast
+        """;
+
+    private static final String UPSERT_POINTS_SQL = """
+            INSERT INTO player_skill_points (uuid, points) VALUES (?, ?)
+            ON CONFLICT(uuid) DO UPDATE SET points = excluded.points
+        """;
+
+    private final DatabaseManager dbManager;
+    private final Logger logger;
+
+    public PlayerSkillRepository(DatabaseManager dbManager, Logger logger) {
+        this.dbManager = dbManager;
+        this.logger = logger;
+    }
+
+    /**
+     * プレイヤーのスキルデータをロード
+     *
+     * @param uuid プレイヤーUUID
+     * @return ロードしたスキルデータ（保存データがない場合は空）
+     * @throws SQLException ロード失敗時
+     */
+    public PlayerSkillService.PlayerSkillData load(UUID uuid) throws SQLException {
+        PlayerSkillService.PlayerSkillData data = new PlayerSkillService.PlayerSkillData();
+        String key = uuid.toString();
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(LOAD_SQL)) {
+
+            stmt.setString(1, key);
+            stmt.setString(2, key);
+            stmt.setString(3, key);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String kind = rs.getString("kind");
+                    switch (kind) {
+                        case "S" -> data.loadSkillLevel(rs.getString("skill_id"), rs.getInt("value"));
+                        case "C" -> data.loadCooldown(rs.getString("skill_id"), rs.getLong("value"));
+                        case "P" -> data.loadSkillPoints(rs.getInt("value"));
+                        default -> logger.warning("Unknown skill row kind: " + kind);
+                    }
+                }
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * 変更内容を同期保存
+     *
+     * @param uuid プレイヤーUUID
+     * @param changes 変更内容
+     * @throws SQLException 保存失敗時
+     */
+    public void saveChanges(UUID uuid, PlayerSkillService.PendingChanges changes) throws SQLException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        dbManager.executeWrite(conn -> writeChanges(conn, uuid, changes));
+    }
+
+    /**
+     * 複数プレイヤーの変更内容を1トランザクションで同期保存
+     *
+     * @param changesByPlayer プレイヤーUUID → 変更内容
+     * @throws SQLException 保存失敗時
+     */
+    public void saveChanges(Map<UUID, PlayerSkillService.PendingChanges> changesByPlayer) throws SQLException {
+        if (changesByPlayer.isEmpty()) {
+            return;
+        }
+        dbManager.executeWrite(conn -> {
+            for (Map.Entry<UUID, PlayerSkillService.PendingChanges> entry : changesByPlayer.entrySet()) {
+                writeChanges(conn, entry.getKey(), entry.getValue());
+            }
+        });
+        logger.fine("Saved skill changes for " + changesByPlayer.size() + " players");
+    }
+
+    /**
+     * 変更内容を非同期保存
+     *
+     * @param uuid プレイヤーUUID
+     * @param changes 変更内容
+     * @return 保存完了時に完了するFuture
+     */
+    public CompletableFuture<Void> saveChangesAsync(UUID uuid, PlayerSkillService.PendingChanges changes) {
+        if (changes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return dbManager.submitWrite(conn -> writeChanges(conn, uuid, changes));
+    }
+
+    /**
+     * 変更内容を書き込み（トランザクションは呼び出し元が管理）
+     */
+    private void writeChanges(Connection conn, UUID uuid, PlayerSkillService.PendingChanges changes)
+            throws SQLException {
+        String key = uuid.toString();
+
+        if (!changes.skillLevels().isEmpty()) {
+            try (PreparedStatement upsert = conn.prepareStatement(UPSERT_SKILL_SQL);
+                 PreparedStatement delete = conn.prepareStatement(DELETE_SKILL_SQL)) {
+                boolean hasUpserts = false;
+                boolean hasDeletes = false;
+
+                for (Map.Entry<String, Integer> entry : changes.skillLevels().entrySet()) {
+                    if (entry.getValue() > 0) {
+                        upsert.setString(1, key);
+                        upsert.setString(2, entry.getKey());
+                        upsert.setInt(3, entry.getValue());
+                        upsert.addBatch();
+                        hasUpserts = true;
+                    } else {
+                        delete.setString(1, key);
+                        delete.setString(2, entry.getKey());
+                        delete.addBatch();
+                        hasDeletes = true;
+                    }
+                }
+
+                if (hasUpserts) {
+                    upsert.executeBatch();
+                }
+                if (hasDeletes) {
+                    delete.executeBatch();
+                }
+            }
+        }
+
+        if (!changes.cooldowns().isEmpty()) {
+            try (PreparedStatement stmt = conn.prepareStatement(UPSERT_COOLDOWN_SQL)) {
+                for (Map.Entry<String, Long> entry : changes.cooldowns().entrySet()) {
+                    stmt.setString(1, key);
+                    stmt.setString(2, entry.getKey());
+                    stmt.setLong(3, entry.getValue());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        }
+
+        if (changes.skillPoints() != null) {
+            try (PreparedStatement stmt = conn.prepareStatement(UPSERT_POINTS_SQL)) {
+                stmt.setString(1, key);
+                stmt.setInt(2, changes.skillPoints());
+                stmt.executeUpdate();
+            }
+        }
+    }
+}
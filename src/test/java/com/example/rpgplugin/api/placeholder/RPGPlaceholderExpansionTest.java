@@ -23,6 +23,7 @@ import org.mockito.quality.Strictness;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -470,6 +471,60 @@ class RPGPlaceholderExpansionTest {
         assertNull(result);
     }
 
+    // ========== メモ化のテスト ==========
+
+    @Test
+    @DisplayName("同一ティック内の同じ要求は前回の値を返す")
+    void sameTickRequestsAreMemoized() {
+        AtomicInteger tick = new AtomicInteger();
+        RPGPlaceholderExpansion memoized = new RPGPlaceholderExpansion(plugin, tick::get);
+        when(api.getStat(player, Stat.STRENGTH)).thenReturn(15, 20);
+
+        assertEquals("15", memoized.onPlaceholderRequest(player, "stat_STR"));
+        assertEquals("15", memoized.onPlaceholderRequest(player, "stat_STR"));
+        verify(api, times(1)).getStat(player, Stat.STRENGTH);
+
+        tick.incrementAndGet();
+        assertEquals("20", memoized.onPlaceholderRequest(player, "stat_STR"));
+        verify(api, times(2)).getStat(player, Stat.STRENGTH);
+    }
+
+    @Test
+    @DisplayName("クラスが変わった場合は同一ティック内でも再計算する")
+    void classChangeInvalidatesMemo() {
+        RPGPlaceholderExpansion memoized = new RPGPlaceholderExpansion(plugin, () -> 0);
+        when(rpgPlayer.getClassId()).thenReturn("warrior");
+        when(api.getClassId(player)).thenReturn("warrior");
+        assertEquals("warrior", memoized.onPlaceholderRequest(player, "class"));
+
+        when(rpgPlayer.getClassId()).thenReturn("mage");
+        when(api.getClassId(player)).thenReturn("mage");
+        assertEquals("mage", memoized.onPlaceholderRequest(player, "class"));
+    }
+
+    @Test
+    @DisplayName("レベルが変わった場合は同一ティック内でも再計算する")
+    void levelChangeInvalidatesMemo() {
+        RPGPlaceholderExpansion memoized = new RPGPlaceholderExpansion(plugin, () -> 0);
+        when(player.getLevel()).thenReturn(10);
+        when(api.getLevel(player)).thenReturn(10);
+        assertEquals("10", memoized.onPlaceholderRequest(player, "level"));
+
+        when(player.getLevel()).thenReturn(11);
+        when(api.getLevel(player)).thenReturn(11);
+        assertEquals("11", memoized.onPlaceholderRequest(player, "LEVEL"));
+    }
+
+    @Test
+    @DisplayName("メモ化ありでも不明なプレースホルダーはnullを返す")
+    void unknownPlaceholderIsNotMemoized() {
+        RPGPlaceholderExpansion memoized = new RPGPlaceholderExpansion(plugin, () -> 0);
+
+        assertNull(memoized.onPlaceholderRequest(player, "unknown_placeholder"));
+        assertNull(memoized.onPlaceholderRequest(player, "unknown_placeholder"));
+        verify(plugin.getPlayerManager(), never()).getRPGPlayer(any());
+    }
+
     // ========== 統合テスト ==========
 
     @Test
@@ -7,6 +7,9 @@ import com.example.rpgplugin.rpgclass.RPGClass;
 import com.example.rpgplugin.skill.Skill;
 import com.example.rpgplugin.skill.SkillLoader;
 import com.example.rpgplugin.skill.SkillManager;
+import com.example.rpgplugin.storage.StorageManager;
+import com.example.rpgplugin.storage.repository.CacheRepository;
+import com.example.rpgplugin.storage.repository.LatencyHistogram;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
@@ -391,4 +394,47 @@ class RPGAdminCommandTest {
         assertEquals(1, completions.size());
         assertTrue(completions.contains("reload"));
     }
+
+    // ==================== キャッシュ統計テスト ====================
+
+    @Test
+    @DisplayName("cache: ストレージ未指定の場合は利用不可メッセージ")
+    void testCache_WithoutStorageManager() {
+        when(mockSender.hasPermission("rpgplugin.admin")).thenReturn(true);
+
+        adminCommand.onCommand(mockSender, mockCommand, "rpgadmin", new String[]{"cache"});
+
+        verify(mockSender).sendMessage("§cキャッシュ統計は利用できません。");
+    }
+
+    @Test
+    @DisplayName("cache: 統計とレイテンシが表示される")
+    void testCache_ShowsStatistics() {
+        StorageManager mockStorageManager = mock(StorageManager.class);
+        LatencyHistogram.Snapshot empty = LatencyHistogram.Snapshot.EMPTY;
+        when(mockStorageManager.getCacheStatisticsForceRefresh()).thenReturn(new CacheRepository.CacheStatistics(
+                90, 5, 5, 100, 95.0, 10, 20, 0.5, 0.5, 0, 0, empty, empty, empty, empty));
+        when(mockSender.hasPermission("rpgplugin.admin")).thenReturn(true);
+
+        RPGAdminCommand command = new RPGAdminCommand(mockPlugin, mockClassManager, mockSkillManager,
+                mockClassLoader, mockSkillLoader, mockStorageManager);
+        command.onCommand(mockSender, mockCommand, "rpgadmin", new String[]{"cache"});
+
+        verify(mockSender).sendMessage(contains("キャッシュ統計"));
+        verify(mockSender).sendMessage(contains("95.00%"));
+        verify(mockSender).sendMessage(contains("DBロード"));
+    }
+
+    @Test
+    @DisplayName("cache reset: 統計がリセットされる")
+    void testCache_Reset() {
+        StorageManager mockStorageManager = mock(StorageManager.class);
+        when(mockSender.hasPermission("rpgplugin.admin")).thenReturn(true);
+
+        RPGAdminCommand command = new RPGAdminCommand(mockPlugin, mockClassManager, mockSkillManager,
+                mockClassLoader, mockSkillLoader, mockStorageManager);
+        command.onCommand(mockSender, mockCommand, "rpgadmin", new String[]{"cache", "reset"});
+
+        verify(mockStorageManager).resetCacheStatistics();
+    }
 }
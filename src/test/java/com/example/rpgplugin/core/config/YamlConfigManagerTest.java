@@ -627,6 +627,76 @@ class YamlConfigManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("getMainSettings")
+    class MainSettingsTests {
+
+        @Test
+        @DisplayName("未読み込み時はデフォルト値を返す")
+        void getMainSettings_NotLoaded_ReturnsDefaults() {
+            assertSame(MainSettings.DEFAULTS, configManager.getMainSettings());
+        }
+
+        @Test
+        @DisplayName("読み込み時にスナップショットが構築される")
+        void getMainSettings_Loaded_ReflectsConfig() throws IOException {
+            Files.writeString(tempDir.resolve("config.yml"),
+                    "exp_diminish:\n  enabled: false\n  exemptions:\n    boss_mobs: false\n"
+                            + "level_up:\n  play_sound: false\n"
+                            + "debug:\n  log_exp_changes: true\n");
+
+            configManager.loadConfig(YamlConfigManager.MAIN, "config.yml", null);
+            MainSettings settings = configManager.getMainSettings();
+
+            assertFalse(settings.expDiminish().enabled());
+            assertTrue(settings.expDiminish().exemptPlayerKills());
+            assertFalse(settings.expDiminish().exemptBossMobs());
+            assertTrue(settings.levelUp().showTitle());
+            assertFalse(settings.levelUp().playSound());
+            assertTrue(settings.debug().logExpChanges());
+            assertFalse(settings.debug().logExpDiminish());
+        }
+
+        @Test
+        @DisplayName("リロード・set時にスナップショットが差し替えられる")
+        void getMainSettings_ReloadAndSet_ReplacesSnapshot() throws IOException {
+            Path configPath = tempDir.resolve("config.yml");
+            Files.writeString(configPath, "level_up:\n  show_title: true\n");
+            configManager.loadConfig(YamlConfigManager.MAIN, "config.yml", null);
+            MainSettings before = configManager.getMainSettings();
+
+            Files.writeString(configPath, "level_up:\n  show_title: false\n");
+            configManager.reloadConfig(YamlConfigManager.MAIN);
+
+            assertTrue(before.levelUp().showTitle());
+            assertFalse(configManager.getMainSettings().levelUp().showTitle());
+
+            configManager.set(YamlConfigManager.MAIN, "level_up.show_title", true);
+            assertTrue(configManager.getMainSettings().levelUp().showTitle());
+        }
+
+        @Test
+        @DisplayName("他の設定の読み込みではスナップショットは変わらない")
+        void getMainSettings_OtherConfig_Unchanged() throws IOException {
+            Files.writeString(tempDir.resolve("other.yml"), "exp_diminish:\n  enabled: false\n");
+
+            configManager.loadConfig("other", "other.yml", null);
+
+            assertSame(MainSettings.DEFAULTS, configManager.getMainSettings());
+        }
+
+        @Test
+        @DisplayName("アンロード時はデフォルト値に戻る")
+        void getMainSettings_Unloaded_ReturnsDefaults() throws IOException {
+            Files.writeString(tempDir.resolve("config.yml"), "exp_diminish:\n  enabled: false\n");
+            configManager.loadConfig(YamlConfigManager.MAIN, "config.yml", null);
+
+            configManager.unloadConfig(YamlConfigManager.MAIN);
+
+            assertSame(MainSettings.DEFAULTS, configManager.getMainSettings());
+        }
+    }
+
     @Nested
     @DisplayName("getters")
     class GetterTests {
@@ -0,0 +1,247 @@
+package com.example.rpgplugin.core.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * YamlParseCache / ParallelFileLoader のテストクラス
+ */
+@DisplayName("YamlParseCache Tests")
+class YamlParseCacheTest {
+
+    private static final String SKILL_YAML = """
+            id: fireball
+            name: ファイアボール
+            max_level: 5
+            cooldown: 2.5
+            enabled: true
+            damage:
+              formula: "STR * 2"
+              levels:
+                1: 10
+            components:
+              - type: damage
+                value: 10
+              - type: burn
+                ticks: 40
+            tags:
+              - fire
+              - ranged
+            """;
+
+    private java.util.logging.Logger logger;
+    private File cacheFile;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        logger = java.util.logging.Logger.getLogger("TestLogger");
+        cacheFile = tempDir.resolve("cache").resolve("test.bin").toFile();
+    }
+
+    private File writeYaml(String name, String content) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.writeString(path, content);
+        return path.toFile();
+    }
+
+    private static void assertSkillValues(FileConfiguration config) {
+        assertEquals("fireball", config.getString("id"));
+        assertEquals("ファイアボール", config.getString("name"));
+        assertEquals(5, config.getInt("max_level"));
+        assertEquals(2.5, config.getDouble("cooldown"));
+        assertTrue(config.getBoolean("enabled"));
+        assertEquals("STR * 2", config.getString("damage.formula"));
+        assertEquals(10, config.getInt("damage.levels.1"));
+        assertTrue(config.isConfigurationSection("damage"));
+        assertNotNull(config.getConfigurationSection("damage"));
+        assertTrue(config.isConfigurationSection("damage.levels"));
+        assertFalse(config.getList("components").get(0) instanceof ConfigurationSection,
+                "リスト内のマップはセクションに変換しない");
+
+        List<Map<?, ?>> components = config.getMapList("components");
+        assertEquals(2, components.size());
+        assertEquals("damage", components.get(0).get("type"));
+        assertEquals(10, components.get(0).get("value"));
+        assertEquals(40, components.get(1).get("ticks"));
+        assertEquals(List.of("fire", "ranged"), config.getStringList("tags"));
+    }
+
+    @Nested
+    @DisplayName("load")
+    class LoadTests {
+
+        @Test
+        @DisplayName("初回はYAMLを解析する")
+        void load_FirstTime_Parses() throws IOException {
+            File file = writeYaml("fireball.yml", SKILL_YAML);
+            YamlParseCache cache = new YamlParseCache(logger, cacheFile);
+
+            FileConfiguration config = cache.load(file);
+
+            assertNotNull(config);
+            assertSkillValues(config);
+            assertEquals(0, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("保存後は内容が同じファイルをキャッシュから復元する")
+        void load_AfterSave_RestoresFromCache() throws IOException {
+            File file = writeYaml("fireball.yml", SKILL_YAML);
+            YamlParseCache first = new YamlParseCache(logger, cacheFile);
+            first.load(file);
+            assertTrue(first.save());
+            assertTrue(cacheFile.isFile());
+
+            YamlParseCache second = new YamlParseCache(logger, cacheFile);
+            FileConfiguration config = second.load(file);
+
+            assertNotNull(config);
+            assertSkillValues(config);
+            assertEquals(1, second.getHitCount());
+            assertEquals(0, second.getMissCount());
+        }
+
+        @Test
+        @DisplayName("内容が変わったファイルは再解析する")
+        void load_ChangedContent_Reparses() throws IOException {
+            File file = writeYaml("fireball.yml", SKILL_YAML);
+            YamlParseCache first = new YamlParseCache(logger, cacheFile);
+            first.load(file);
+            first.save();
+
+            writeYaml("fireball.yml", SKILL_YAML.replace("max_level: 5", "max_level: 8"));
+            YamlParseCache second = new YamlParseCache(logger, cacheFile);
+            FileConfiguration config = second.load(file);
+
+            assertNotNull(config);
+            assertEquals(8, config.getInt("max_level"));
+            assertEquals(0, second.getHitCount());
+            assertEquals(1, second.getMissCount());
+        }
+
+        @Test
+        @DisplayName("復元した設定を変更してもキャッシュに影響しない")
+        void load_ModifyRestored_DoesNotAffectCache() throws IOException {
+            File file = writeYaml("fireball.yml", SKILL_YAML);
+            YamlParseCache cache = new YamlParseCache(logger, cacheFile);
+            cache.load(file);
+
+            FileConfiguration restored = cache.load(file);
+            assertNotNull(restored);
+            restored.set("damage.formula", "INT * 3");
+
+            FileConfiguration again = cache.load(file);
+            assertNotNull(again);
+            assertEquals("STR * 2", again.getString("damage.formula"));
+        }
+
+        @Test
+        @DisplayName("不正なYAMLはnullを返しキャッシュしない")
+        void load_InvalidYaml_ReturnsNull() throws IOException {
+            File file = writeYaml("broken.yml", "id: [unclosed\n");
+            YamlParseCache cache = new YamlParseCache(logger, cacheFile);
+
+            assertNull(cache.load(file));
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("存在しないファイルはnullを返す")
+        void load_MissingFile_ReturnsNull() {
+            YamlParseCache cache = new YamlParseCache(logger, cacheFile);
+
+            assertNull(cache.load(tempDir.resolve("missing.yml").toFile()));
+        }
+    }
+
+    @Nested
+    @DisplayName("save")
+    class SaveTests {
+
+        @Test
+        @DisplayName("今回参照されなかったエントリーは破棄される")
+        void save_DropsUnusedEntries() throws IOException {
+            File fireball = writeYaml("fireball.yml", SKILL_YAML);
+            File heal = writeYaml("heal.yml", "id: heal\n");
+            YamlParseCache first = new YamlParseCache(logger, cacheFile);
+            first.load(fireball);
+            first.load(heal);
+            first.save();
+
+            YamlParseCache second = new YamlParseCache(logger, cacheFile);
+            assertEquals(2, second.size());
+            second.load(heal);
+            second.save();
+
+            YamlParseCache third = new YamlParseCache(logger, cacheFile);
+            assertEquals(1, third.size());
+        }
+
+        @Test
+        @DisplayName("破損したキャッシュファイルは無視される")
+        void corruptCacheFile_IsIgnored() throws IOException {
+            Files.createDirectories(cacheFile.toPath().getParent());
+            Files.write(cacheFile.toPath(), new byte[]{0x52, 0x50, 0x47, 0x43, 0, 0, 0, 1, 0, 0, 0, 5});
+            File file = writeYaml("fireball.yml", SKILL_YAML);
+
+            YamlParseCache cache = new YamlParseCache(logger, cacheFile);
+            FileConfiguration config = cache.load(file);
+
+            assertEquals(0, cache.getHitCount());
+            assertNotNull(config);
+            assertSkillValues(config);
+        }
+    }
+
+    @Nested
+    @DisplayName("ParallelFileLoader")
+    class ParallelFileLoaderTests {
+
+        @Test
+        @DisplayName("結果は入力ファイルの順序で返される")
+        void loadAll_PreservesOrder() throws IOException {
+            List<File> files = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                files.add(writeYaml("skill_" + i + ".yml", "id: skill_" + i + "\n"));
+            }
+            YamlParseCache cache = new YamlParseCache(logger, cacheFile);
+
+            List<String> ids = ParallelFileLoader.loadAll(files, file -> {
+                FileConfiguration config = cache.load(file);
+                return config != null ? config.getString("id") : null;
+            });
+
+            assertEquals(20, ids.size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals("skill_" + i, ids.get(i));
+            }
+            assertEquals(20, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("ローダーの例外は呼び出し元に伝播する")
+        void loadAll_LoaderThrows_Propagates() throws IOException {
+            List<File> files = List.of(writeYaml("a.yml", "id: a\n"), writeYaml("b.yml", "id: b\n"));
+
+            assertThrows(IllegalArgumentException.class, () -> ParallelFileLoader.loadAll(files, file -> {
+                throw new IllegalArgumentException("boom");
+            }));
+        }
+    }
+}
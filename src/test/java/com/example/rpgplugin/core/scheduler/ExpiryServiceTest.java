@@ -0,0 +1,60 @@
+package com.example.rpgplugin.core.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExpiryServiceの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("ExpiryService テスト")
+class ExpiryServiceTest {
+
+    private final ExpiryService service = new ExpiryService(Logger.getLogger("TestLogger"));
+
+    @Test
+    @DisplayName("ミリ秒はティックに切り上げられる")
+    void testMillisToTicks() {
+        assertEquals(1, ExpiryService.millisToTicks(0));
+        assertEquals(1, ExpiryService.millisToTicks(50));
+        assertEquals(2, ExpiryService.millisToTicks(51));
+        assertEquals(20, ExpiryService.millisToTicks(1000));
+    }
+
+    @Test
+    @DisplayName("期限に達したタスクだけが実行される")
+    void testTickRunsDueTasks() {
+        List<String> ran = new ArrayList<>();
+        service.schedule(1, () -> ran.add("first"));
+        service.schedule(3, () -> ran.add("third"));
+
+        service.tick();
+        assertEquals(List.of("first"), ran);
+
+        service.tick();
+        service.tick();
+        assertEquals(List.of("first", "third"), ran);
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    @DisplayName("タスクの例外は他のタスクの実行を妨げない")
+    void testFailingTaskDoesNotStopOthers() {
+        List<String> ran = new ArrayList<>();
+        service.schedule(1, () -> {
+            throw new IllegalStateException("boom");
+        });
+        service.schedule(1, () -> ran.add("ok"));
+
+        assertDoesNotThrow(service::tick);
+        assertEquals(List.of("ok"), ran);
+    }
+}
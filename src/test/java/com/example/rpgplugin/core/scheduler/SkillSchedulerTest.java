@@ -0,0 +1,172 @@
+package com.example.rpgplugin.core.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SkillSchedulerの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("SkillScheduler テスト")
+class SkillSchedulerTest {
+
+    private static final Logger LOGGER = Logger.getLogger("TestLogger");
+
+    /** タスク1件ごとに1ms進むクロック */
+    private final AtomicLong clock = new AtomicLong();
+
+    private SkillScheduler schedulerWithBudget(long budgetNanos) {
+        return new SkillScheduler(LOGGER, budgetNanos, clock::get);
+    }
+
+    private Runnable record(List<String> ran, String name) {
+        return () -> {
+            ran.add(name);
+            clock.addAndGet(1_000_000L);
+        };
+    }
+
+    @Test
+    @DisplayName("優先度の高いタスクから実行される")
+    void testRunsByPriority() {
+        SkillScheduler scheduler = schedulerWithBudget(Long.MAX_VALUE);
+        List<String> ran = new ArrayList<>();
+        scheduler.submit(SkillScheduler.Priority.EFFECT, record(ran, "effect"));
+        scheduler.submit(SkillScheduler.Priority.DAMAGE, record(ran, "damage"));
+
+        scheduler.tick();
+
+        assertEquals(List.of("damage", "effect"), ran);
+        assertEquals(2, scheduler.getExecutedCount());
+        assertEquals(0, scheduler.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("遅延タスクは期限のティックで実行される")
+    void testDelayedTask() {
+        SkillScheduler scheduler = schedulerWithBudget(Long.MAX_VALUE);
+        List<String> ran = new ArrayList<>();
+        scheduler.schedule(2, SkillScheduler.Priority.EFFECT, record(ran, "delayed"));
+        assertEquals(1, scheduler.getScheduledCount());
+
+        scheduler.tick();
+        assertTrue(ran.isEmpty());
+
+        scheduler.tick();
+        assertEquals(List.of("delayed"), ran);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("予算を超えたタスクは次のティックへ持ち越される")
+    void testOverBudgetWorkIsCarriedOver() {
+        SkillScheduler scheduler = schedulerWithBudget(2_000_000L);
+        List<String> ran = new ArrayList<>();
+        scheduler.submit(SkillScheduler.Priority.EFFECT, record(ran, "effect"));
+        scheduler.submit(SkillScheduler.Priority.DAMAGE, record(ran, "damage1"));
+        scheduler.submit(SkillScheduler.Priority.DAMAGE, record(ran, "damage2"));
+
+        scheduler.tick();
+        assertEquals(List.of("damage1", "damage2"), ran);
+        assertEquals(1, scheduler.getLastDeferred());
+        assertEquals(1, scheduler.getQueueDepth(SkillScheduler.Priority.EFFECT));
+
+        // 持ち越し中に追加されたダメージは効果より先に実行される
+        scheduler.submit(SkillScheduler.Priority.DAMAGE, record(ran, "damage3"));
+        scheduler.tick();
+        assertEquals(List.of("damage1", "damage2", "damage3", "effect"), ran);
+        assertEquals(1, scheduler.getDeferredCount());
+        assertEquals(0, scheduler.getLastDeferred());
+    }
+
+    @Test
+    @DisplayName("予算が0でも1ティックに1件は実行される")
+    void testAlwaysMakesProgress() {
+        SkillScheduler scheduler = schedulerWithBudget(0L);
+        List<String> ran = new ArrayList<>();
+        scheduler.submit(SkillScheduler.Priority.EFFECT, record(ran, "a"));
+        scheduler.submit(SkillScheduler.Priority.EFFECT, record(ran, "b"));
+
+        scheduler.tick();
+        assertEquals(List.of("a"), ran);
+        scheduler.tick();
+        assertEquals(List.of("a", "b"), ran);
+    }
+
+    @Test
+    @DisplayName("予算内ならその場で実行し、超過分だけ次のティックへ持ち越す")
+    void testRunOrSubmitRunsInlineWithinBudget() {
+        SkillScheduler scheduler = schedulerWithBudget(2_000_000L);
+        List<String> ran = new ArrayList<>();
+
+        assertTrue(scheduler.runOrSubmit(SkillScheduler.Priority.DAMAGE, record(ran, "hit1")));
+        assertTrue(scheduler.runOrSubmit(SkillScheduler.Priority.DAMAGE, record(ran, "hit2")));
+        assertFalse(scheduler.runOrSubmit(SkillScheduler.Priority.DAMAGE, record(ran, "hit3")));
+        assertEquals(List.of("hit1", "hit2"), ran);
+        assertEquals(2, scheduler.getInlineCount());
+        assertEquals(1, scheduler.getQueueDepth(SkillScheduler.Priority.DAMAGE));
+
+        scheduler.tick();
+        assertEquals(List.of("hit1", "hit2", "hit3"), ran);
+        assertEquals(3, scheduler.getExecutedCount());
+
+        // 新しいティックでは予算が戻る
+        assertTrue(scheduler.runOrSubmit(SkillScheduler.Priority.DAMAGE, record(ran, "hit4")));
+    }
+
+    @Test
+    @DisplayName("同じ優先度のタスクが持ち越し中ならその場で実行しない")
+    void testRunOrSubmitKeepsOrderBehindBacklog() {
+        SkillScheduler scheduler = schedulerWithBudget(Long.MAX_VALUE);
+        List<String> ran = new ArrayList<>();
+        scheduler.submit(SkillScheduler.Priority.DAMAGE, record(ran, "queued"));
+
+        assertFalse(scheduler.runOrSubmit(SkillScheduler.Priority.DAMAGE, record(ran, "later")));
+        assertTrue(ran.isEmpty());
+
+        scheduler.tick();
+        assertEquals(List.of("queued", "later"), ran);
+    }
+
+    @Test
+    @DisplayName("キャンセルしたタスクは実行されない")
+    void testCancel() {
+        SkillScheduler scheduler = schedulerWithBudget(Long.MAX_VALUE);
+        List<String> ran = new ArrayList<>();
+        SkillScheduler.ScheduledTask queued = scheduler.submit(SkillScheduler.Priority.EFFECT, record(ran, "queued"));
+        SkillScheduler.ScheduledTask delayed = scheduler.schedule(1, SkillScheduler.Priority.EFFECT, record(ran, "delayed"));
+
+        assertTrue(queued.cancel());
+        assertTrue(delayed.cancel());
+        assertFalse(delayed.cancel());
+        scheduler.tick();
+
+        assertTrue(ran.isEmpty());
+        assertFalse(queued.isPending());
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("タスクの例外は他のタスクの実行を妨げない")
+    void testFailingTaskDoesNotStopOthers() {
+        SkillScheduler scheduler = schedulerWithBudget(Long.MAX_VALUE);
+        List<String> ran = new ArrayList<>();
+        scheduler.submit(SkillScheduler.Priority.DAMAGE, () -> {
+            throw new IllegalStateException("boom");
+        });
+        scheduler.submit(SkillScheduler.Priority.DAMAGE, record(ran, "next"));
+
+        scheduler.tick();
+
+        assertEquals(List.of("next"), ran);
+    }
+}
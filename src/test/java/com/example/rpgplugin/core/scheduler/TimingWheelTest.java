@@ -0,0 +1,85 @@
+package com.example.rpgplugin.core.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimingWheelの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("TimingWheel テスト")
+class TimingWheelTest {
+
+    private final TimingWheel wheel = new TimingWheel();
+
+    private long advanceUntilExpired(TimingWheel.Timeout target, long maxTicks) {
+        List<TimingWheel.Timeout> expired = new ArrayList<>();
+        for (long tick = 1; tick <= maxTicks; tick++) {
+            wheel.advance(expired::add);
+            if (expired.contains(target)) {
+                return wheel.getCurrentTick();
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    @DisplayName("期限のティックちょうどに期限切れになる")
+    void testExpiresExactlyAtDeadline() {
+        for (long delay : new long[]{1, 5, 63, 64, 65, 200, 4096, 5000, 300_000}) {
+            TimingWheel.Timeout timeout = wheel.schedule(delay, () -> { });
+            long expected = wheel.getCurrentTick() + delay;
+
+            assertEquals(expected, advanceUntilExpired(timeout, delay + 1), "delay=" + delay);
+        }
+    }
+
+    @Test
+    @DisplayName("キャンセルしたタスクは期限切れにならない")
+    void testCancelledTimeoutIsNotExpired() {
+        TimingWheel.Timeout cancelled = wheel.schedule(10, () -> { });
+        TimingWheel.Timeout kept = wheel.schedule(10, () -> { });
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertEquals(1, wheel.size());
+
+        List<TimingWheel.Timeout> expired = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            wheel.advance(expired::add);
+        }
+
+        assertEquals(List.of(kept), expired);
+        assertFalse(kept.isPending());
+        assertFalse(kept.cancel());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("遅延0以下は次のティックで期限切れになる")
+    void testNonPositiveDelayExpiresNextTick() {
+        TimingWheel.Timeout timeout = wheel.schedule(0, () -> { });
+
+        assertEquals(1, advanceUntilExpired(timeout, 1));
+    }
+
+    @Test
+    @DisplayName("clearで全タスクが破棄される")
+    void testClear() {
+        TimingWheel.Timeout near = wheel.schedule(3, () -> { });
+        TimingWheel.Timeout far = wheel.schedule(10_000, () -> { });
+
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertFalse(near.isPending());
+        assertFalse(far.cancel());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.rpgplugin.damage.config;
 
+import com.example.rpgplugin.skill.evaluator.ConstantTable;
 import org.bukkit.configuration.ConfigurationSection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -319,17 +320,17 @@ class DamageConfigTest {
     class ClassOverrideConfigTests {
 
         @Test
-        @DisplayName("getConstantsでコピーが返される")
-        void getConstants_ReturnsCopy() {
+        @DisplayName("getConstantsは読み取り専用")
+        void getConstants_IsUnmodifiable() {
             DamageConfig.ClassOverrideConfig config = new DamageConfig.ClassOverrideConfig.Builder()
                     .addConstant("KEY", 100)
                     .build();
 
-            Map<String, Object> constants1 = config.getConstants();
-            Map<String, Object> constants2 = config.getConstants();
+            Map<String, Object> constants = config.getConstants();
 
-            assertThat(constants1).isNotSameAs(constants2);
-            assertThat(constants1).isEqualTo(constants2);
+            assertThat(constants).containsEntry("KEY", 100);
+            assertThatThrownBy(() -> constants.put("OTHER", 1))
+                    .isInstanceOf(UnsupportedOperationException.class);
         }
 
         @Test
@@ -352,18 +353,18 @@ class DamageConfigTest {
         }
 
         @Test
-        @DisplayName("getAllEventOverridesでコピーが返される")
-        void getAllEventOverrides_ReturnsCopy() {
+        @DisplayName("getAllEventOverridesは読み取り専用")
+        void getAllEventOverrides_IsUnmodifiable() {
             EventConfig eventConfig = new EventConfig.Builder().build();
             DamageConfig.ClassOverrideConfig config = new DamageConfig.ClassOverrideConfig.Builder()
                     .addEventOverride("skill_damage", eventConfig)
                     .build();
 
-            Map<String, EventConfig> overrides1 = config.getAllEventOverrides();
-            Map<String, EventConfig> overrides2 = config.getAllEventOverrides();
+            Map<String, EventConfig> overrides = config.getAllEventOverrides();
 
-            assertThat(overrides1).isNotSameAs(overrides2);
-            assertThat(overrides1).isEqualTo(overrides2);
+            assertThat(overrides).containsEntry("skill_damage", eventConfig);
+            assertThatThrownBy(() -> overrides.remove("skill_damage"))
+                    .isInstanceOf(UnsupportedOperationException.class);
         }
 
         @Test
@@ -418,23 +419,76 @@ class DamageConfigTest {
         }
 
         @Test
-        @DisplayName("getGlobalConstantsでコピーが返される")
-        void getGlobalConstants_ReturnsCopy() {
-            Map<String, Object> constants1 = config.getGlobalConstants();
-            Map<String, Object> constants2 = config.getGlobalConstants();
+        @DisplayName("getGlobalConstantsは読み取り専用")
+        void getGlobalConstants_IsUnmodifiable() {
+            Map<String, Object> constants = config.getGlobalConstants();
 
-            assertThat(constants1).isNotSameAs(constants2);
-            assertThat(constants1).isEqualTo(constants2);
+            assertThat(constants).containsEntry("BASE_DAMAGE", 10);
+            assertThatThrownBy(() -> constants.put("OTHER", 1))
+                    .isInstanceOf(UnsupportedOperationException.class);
         }
 
         @Test
-        @DisplayName("getAllEventsでコピーが返される")
-        void getAllEvents_ReturnsCopy() {
-            Map<String, EventConfig> events1 = config.getAllEvents();
-            Map<String, EventConfig> events2 = config.getAllEvents();
+        @DisplayName("getAllEventsは読み取り専用")
+        void getAllEvents_IsUnmodifiable() {
+            Map<String, EventConfig> events = config.getAllEvents();
 
-            assertThat(events1).isNotSameAs(events2);
-            assertThat(events1).isEqualTo(events2);
+            assertThat(events).containsEntry("skill_damage", defaultEvent);
+            assertThatThrownBy(() -> events.clear())
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("クラスビューは上書きとデフォルトのイベント設定をマージ済み")
+        void getClassView_MergesEvents() {
+            EventConfig magicEvent = new EventConfig.Builder().formula("INT * 2").build();
+            DamageConfig merged = new DamageConfig.Builder()
+                    .addEvent("skill_damage", defaultEvent)
+                    .addEvent("magic_attack", magicEvent)
+                    .addClassOverride("Warrior", warriorOverride)
+                    .build();
+
+            DamageConfig.ClassView view = merged.getClassView("Warrior");
+
+            assertThat(view.getEventConfig("skill_damage")).isSameAs(warriorEvent);
+            assertThat(view.getEventConfig("magic_attack")).isSameAs(magicEvent);
+            assertThat(merged.getClassView("Warrior")).isSameAs(view);
+        }
+
+        @Test
+        @DisplayName("上書きのないクラスとnullはデフォルトのビューを使う")
+        void getClassView_UnknownClass_ReturnsDefaultView() {
+            assertThat(config.getClassView("Mage")).isSameAs(config.getClassView(null));
+            assertThat(config.getClassView(null).getEventConfig("skill_damage")).isSameAs(defaultEvent);
+        }
+
+        @Test
+        @DisplayName("クラス定数がグローバル定数を上書きした数値テーブルを返す")
+        void getConstantsForClass_MergesNumericConstants() {
+            DamageConfig merged = new DamageConfig.Builder()
+                    .addGlobalConstant("CLASS_MULTIPLIER", 1.0)
+                    .addGlobalConstant("CAP", 100)
+                    .addGlobalConstant("LABEL", "text")
+                    .addClassOverride("Warrior", new DamageConfig.ClassOverrideConfig.Builder()
+                            .addConstant("CLASS_MULTIPLIER", 1.5)
+                            .build())
+                    .build();
+
+            assertThat(merged.getConstantsForClass("Warrior"))
+                    .containsEntry("CLASS_MULTIPLIER", 1.5)
+                    .containsEntry("CAP", 100.0)
+                    .doesNotContainKey("LABEL");
+            assertThat(merged.getConstantsForClass(null))
+                    .containsEntry("CLASS_MULTIPLIER", 1.0);
+
+            // 全クラスのスロット形式テーブルは同じレイアウトを共有する
+            ConstantTable warrior = merged.getConstantTableForClass("Warrior");
+            ConstantTable defaults = merged.getConstantTableForClass(null);
+            assertThat(warrior.getLayout()).isSameAs(defaults.getLayout());
+            int slot = warrior.getLayout().slotOf("CLASS_MULTIPLIER");
+            assertThat(warrior.get(slot)).isEqualTo(1.5);
+            assertThat(defaults.get(slot)).isEqualTo(1.0);
+            assertThat(warrior.getLayout().slotOf("LABEL")).isEqualTo(ConstantTable.UNDEFINED);
         }
 
         @Test
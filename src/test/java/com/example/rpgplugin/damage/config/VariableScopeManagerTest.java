@@ -1,5 +1,6 @@
 package com.example.rpgplugin.damage.config;
 
+import com.example.rpgplugin.core.scheduler.ExpiryService;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.skill.evaluator.VariableContext;
 import com.example.rpgplugin.stats.Stat;
@@ -16,6 +17,7 @@ import org.mockito.quality.Strictness;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.logging.Logger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -190,6 +192,34 @@ class VariableScopeManagerTest {
 
             assertThat(scopeManager.getTemporaryVariable("BUFF", mockPlayer)).isNull();
         }
+
+        @Test
+        @DisplayName("有効期限を過ぎたテンポラリ変数は削除される")
+        void setTemporaryVariable_WithDuration_ExpiresAfterTicks() {
+            ExpiryService service = new ExpiryService(Logger.getLogger("TestLogger"));
+            VariableScopeManager manager = new VariableScopeManager(null, service);
+
+            manager.setTemporaryVariable(TEST_UUID, "BUFF", 50, 2);
+            service.tick();
+            assertThat(manager.getTemporaryVariable("BUFF", mockPlayer)).isEqualTo(50);
+
+            service.tick();
+            assertThat(manager.getTemporaryVariable("BUFF", mockPlayer)).isNull();
+        }
+
+        @Test
+        @DisplayName("再設定したテンポラリ変数は古い期限で削除されない")
+        void setTemporaryVariable_Reset_CancelsPreviousExpiry() {
+            ExpiryService service = new ExpiryService(Logger.getLogger("TestLogger"));
+            VariableScopeManager manager = new VariableScopeManager(null, service);
+
+            manager.setTemporaryVariable(TEST_UUID, "BUFF", 50, 1);
+            manager.setTemporaryVariable(TEST_UUID, "BUFF", 70, 0);
+            service.tick();
+
+            assertThat(manager.getTemporaryVariable("BUFF", mockPlayer)).isEqualTo(70);
+            assertThat(service.size()).isZero();
+        }
     }
 
     // ==================== プレイヤー永続変数 テスト ====================
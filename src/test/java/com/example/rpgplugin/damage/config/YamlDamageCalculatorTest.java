@@ -3,6 +3,7 @@ package com.example.rpgplugin.damage.config;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.stats.Stat;
 import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -59,6 +60,8 @@ class YamlDamageCalculatorTest {
         lenient().when(mockStatManager.getFinalStat(Stat.SPIRIT)).thenReturn(15);
         lenient().when(mockStatManager.getFinalStat(Stat.VITALITY)).thenReturn(30);
         lenient().when(mockStatManager.getFinalStat(Stat.DEXTERITY)).thenReturn(25);
+        lenient().when(mockStatManager.getDerivedAttributes())
+                .thenReturn(DerivedAttributes.of(50, 20, 15, 30, 25, 10));
 
         // setDamageConfigは何も返さない（voidメソッド）
         doNothing().when(mockScopeManager).setDamageConfig(any());
@@ -905,5 +908,27 @@ class YamlDamageCalculatorTest {
 
             assertThat(result).isEqualTo(150.0);
         }
+
+        @Test
+        @DisplayName("数式中の定数はクラス定数・グローバル定数の順に解決される")
+        void calculateSkillDamage_Constants_ResolvedFromClassView() {
+            DamageConfig damageConfig = new DamageConfig.Builder()
+                    .addGlobalConstant("CLASS_MULTIPLIER", 1.0)
+                    .addEvent("skill_damage", new EventConfig.Builder()
+                            .formula("BASE_DAMAGE * CLASS_MULTIPLIER")
+                            .minDamage(1.0)
+                            .build())
+                    .addClassOverride("Warrior", new DamageConfig.ClassOverrideConfig.Builder()
+                            .addConstant("CLASS_MULTIPLIER", 1.5)
+                            .build())
+                    .build();
+            YamlDamageCalculator realCalculator = new YamlDamageCalculator(damageConfig, null);
+
+            RPGPlayer mage = mock(RPGPlayer.class);
+            when(mage.getClassId()).thenReturn("Mage");
+
+            assertThat(realCalculator.calculateSkillDamage(100.0, mockPlayer, 5)).isEqualTo(150.0);
+            assertThat(realCalculator.calculateSkillDamage(100.0, mage, 5)).isEqualTo(100.0);
+        }
     }
 }
@@ -5,6 +5,7 @@ import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.stats.Stat;
 import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -73,6 +74,9 @@ class EntityDamageHandlerTest {
         when(mockPlayer.getUniqueId()).thenReturn(playerUuid);
         when(mockPlayerManager.getRPGPlayer(playerUuid)).thenReturn(mockRpgPlayer);
         when(mockRpgPlayer.getStatManager()).thenReturn(mockStatManager);
+        // 導出パラメータは各テストで設定したgetAllFinalStatsから計算
+        lenient().when(mockStatManager.getDerivedAttributes())
+                .thenAnswer(invocation -> DerivedAttributes.from(mockStatManager));
     }
 
     // ==================== handleEntityToPlayerDamage テスト ====================
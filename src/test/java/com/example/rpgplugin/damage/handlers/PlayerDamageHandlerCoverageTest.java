@@ -5,6 +5,7 @@ import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.stats.Stat;
 import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
@@ -19,9 +20,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import static org.assertj.core.api.Assertions.*;
@@ -64,15 +65,19 @@ class PlayerDamageHandlerCoverageTest {
     private EntityDamageByEntityEvent mockEvent;
 
     private UUID playerUuid;
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
 
     @BeforeEach
     void setUp() {
-        handler = new PlayerDamageHandler(mockPlayerManager, mockLogger);
+        handler = new PlayerDamageHandler(mockPlayerManager, mockLogger, clock::get);
         playerUuid = UUID.randomUUID();
 
         when(mockPlayer.getUniqueId()).thenReturn(playerUuid);
         when(mockPlayerManager.getRPGPlayer(playerUuid)).thenReturn(mockRpgPlayer);
         when(mockRpgPlayer.getStatManager()).thenReturn(mockStatManager);
+        // 導出パラメータは各テストで設定したgetAllFinalStatsから計算
+        lenient().when(mockStatManager.getDerivedAttributes())
+                .thenAnswer(invocation -> DerivedAttributes.from(mockStatManager));
     }
 
     @Nested
@@ -81,7 +86,7 @@ class PlayerDamageHandlerCoverageTest {
 
         @Test
         @DisplayName("キャッシュ有効期限切れで再計算される")
-        void cacheExpired_Recalculates() throws Exception {
+        void cacheExpired_Recalculates() {
             setupDamageEvent(EntityDamageEvent.DamageCause.ENTITY_ATTACK, 10.0);
             when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 50));
 
@@ -89,8 +94,8 @@ class PlayerDamageHandlerCoverageTest {
             handler.handlePlayerToEntityDamage(mockEvent);
             assertThat(handler.getCacheSize()).isEqualTo(1);
 
-            // キャッシュを直接期限切れにする
-            setCacheEntryTimestamp(playerUuid, System.currentTimeMillis() - 2000);
+            // 有効期限を過ぎるまで時間を進める
+            clock.addAndGet(2000);
 
             // 2回目の攻撃（キャッシュ期限切れなので再計算）
             handler.handlePlayerToEntityDamage(mockEvent);
@@ -160,15 +165,15 @@ class PlayerDamageHandlerCoverageTest {
 
         @Test
         @DisplayName("clearCacheで期限切れエントリのみ削除される")
-        void clearCache_RemovesOnlyExpiredEntries() throws Exception {
+        void clearCache_RemovesOnlyExpiredEntries() {
             setupDamageEvent(EntityDamageEvent.DamageCause.ENTITY_ATTACK, 10.0);
             when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 50));
 
             // エントリを作成
             handler.handlePlayerToEntityDamage(mockEvent);
 
-            // 有効なエントリを期限切れに変更
-            setCacheEntryTimestamp(playerUuid, System.currentTimeMillis() - 2000);
+            // 有効期限を過ぎるまで時間を進める
+            clock.addAndGet(2000);
 
             // clearCache実行
             handler.clearCache();
@@ -193,6 +198,85 @@ class PlayerDamageHandlerCoverageTest {
             // サイズが維持される
             assertThat(handler.getCacheSize()).isEqualTo(sizeBefore);
         }
+
+        @Test
+        @DisplayName("基本ダメージが異なる場合はキャッシュ値を使用しない")
+        void differentBaseDamage_Recalculates() {
+            setupDamageEvent(EntityDamageEvent.DamageCause.ENTITY_ATTACK, 10.0);
+            when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 50));
+
+            double first = handler.handlePlayerToEntityDamage(mockEvent);
+
+            when(mockEvent.getDamage()).thenReturn(20.0);
+            double second = handler.handlePlayerToEntityDamage(mockEvent);
+
+            // 10 * 1.5 = 15, 20 * 1.5 = 30
+            assertThat(first).isEqualTo(15);
+            assertThat(second).isEqualTo(30);
+            assertThat(handler.getCacheSize()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("ダメージ種別が異なる場合はキャッシュ値を使用しない")
+        void differentDamageType_Recalculates() {
+            setupDamageEvent(EntityDamageEvent.DamageCause.ENTITY_ATTACK, 100.0);
+            when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 50, Stat.INTELLIGENCE, 0));
+
+            double physical = handler.handlePlayerToEntityDamage(mockEvent);
+
+            when(mockEvent.getCause()).thenReturn(EntityDamageEvent.DamageCause.MAGIC);
+            double magic = handler.handlePlayerToEntityDamage(mockEvent);
+
+            assertThat(physical).isEqualTo(150);
+            assertThat(magic).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("ステータスが変わった場合はキャッシュ値を使用しない")
+        void statVersionChanged_Recalculates() {
+            setupDamageEvent(EntityDamageEvent.DamageCause.ENTITY_ATTACK, 10.0);
+            when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 50));
+            when(mockStatManager.getFinalStatVersion()).thenReturn(1L);
+
+            double before = handler.handlePlayerToEntityDamage(mockEvent);
+
+            when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 100));
+            when(mockStatManager.getFinalStatVersion()).thenReturn(2L);
+            double after = handler.handlePlayerToEntityDamage(mockEvent);
+
+            assertThat(before).isEqualTo(15);
+            assertThat(after).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("上限を超えた場合は古いエントリが退避される")
+        void exceedsMaxSize_EvictsEntries() {
+            setupDamageEvent(EntityDamageEvent.DamageCause.ENTITY_ATTACK, 10.0);
+            when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 50));
+
+            for (int i = 0; i < 1100; i++) {
+                when(mockEvent.getDamage()).thenReturn(10.0 + i);
+                handler.handlePlayerToEntityDamage(mockEvent);
+            }
+            handler.clearCache();
+
+            assertThat(handler.getCacheSize()).isLessThanOrEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("YAML計算機の設定時にキャッシュが破棄される")
+        void setYamlCalculator_InvalidatesCache() {
+            setupDamageEvent(EntityDamageEvent.DamageCause.ENTITY_ATTACK, 10.0);
+            when(mockStatManager.getAllFinalStats()).thenReturn(Map.of(Stat.STRENGTH, 50));
+
+            handler.handlePlayerToEntityDamage(mockEvent);
+            assertThat(handler.getCacheSize()).isEqualTo(1);
+
+            handler.setYamlCalculator(mock(YamlDamageCalculator.class));
+            handler.clearCache();
+
+            assertThat(handler.getCacheSize()).isZero();
+        }
     }
 
     @Nested
@@ -634,28 +718,4 @@ class PlayerDamageHandlerCoverageTest {
         when(mockEvent.getDamage()).thenReturn(damage);
     }
 
-    /**
-     * テスト用にキャッシュエントリのタイムスタンプを設定
-     */
-    private void setCacheEntryTimestamp(UUID playerId, long timestamp) throws Exception {
-        Field cacheField = PlayerDamageHandler.class.getDeclaredField("damageCache");
-        cacheField.setAccessible(true);
-
-        @SuppressWarnings("unchecked")
-        var cache = (Map<UUID, Object>) cacheField.get(handler);
-
-        // 既存のエントリを取得
-        Object existing = cache.get(playerId);
-        if (existing != null) {
-            // recordのコンストラクタをリフレクションで取得
-            Class<?> cachedDamageClass = existing.getClass();
-            var constructor = cachedDamageClass.getDeclaredConstructors()[0];
-            constructor.setAccessible(true);
-            Object newEntry = constructor.newInstance(
-                    cachedDamageClass.getMethod("damage").invoke(existing), timestamp);
-
-            cache.put(playerId, newEntry);
-        }
-    }
-
 }
@@ -5,6 +5,7 @@ import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.stats.Stat;
 import com.example.rpgplugin.stats.StatManager;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
@@ -72,6 +73,9 @@ class PlayerDamageHandlerTest {
         when(mockPlayer.getUniqueId()).thenReturn(playerUuid);
         when(mockPlayerManager.getRPGPlayer(playerUuid)).thenReturn(mockRpgPlayer);
         when(mockRpgPlayer.getStatManager()).thenReturn(mockStatManager);
+        // 導出パラメータは各テストで設定したgetAllFinalStatsから計算
+        lenient().when(mockStatManager.getDerivedAttributes())
+                .thenAnswer(invocation -> DerivedAttributes.from(mockStatManager));
     }
 
     // ==================== handlePlayerToEntityDamage テスト ====================
@@ -1,6 +1,7 @@
 package com.example.rpgplugin.player;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.config.MainSettings;
 import com.example.rpgplugin.core.config.YamlConfigManager;
 import com.example.rpgplugin.player.config.DiminishConfig;
 import com.example.rpgplugin.rpgclass.ClassManager;
@@ -142,7 +143,9 @@ class ExpDiminisherTest {
         @Test
         @DisplayName("減衰無効時は経験値を変更しない")
         void applyDiminishment_Disabled_DoesNotModify() {
-            when(mockConfigManager.getBoolean(anyString(), anyString(), anyBoolean())).thenReturn(false);
+            when(mockConfigManager.getMainSettings()).thenReturn(new MainSettings(
+                    new MainSettings.ExpDiminish(false, false, false, false),
+                    MainSettings.LevelUp.DEFAULTS, MainSettings.Debug.DEFAULTS));
 
             PlayerExpChangeEvent event = new PlayerExpChangeEvent(mockPlayer, 100);
             int originalAmount = event.getAmount();
@@ -155,8 +158,7 @@ class ExpDiminisherTest {
         @Test
         @DisplayName("RPGPlayer未取得時は経験値を変更しない")
         void applyDiminishment_NoRpgPlayer_DoesNotModify() {
-            when(mockConfigManager.getBoolean(anyString(), anyString(), eq(true))).thenReturn(true);
-            when(mockConfigManager.getBoolean(anyString(), anyString(), eq(false))).thenReturn(false);
+            when(mockConfigManager.getMainSettings()).thenReturn(MainSettings.DEFAULTS);
             when(mockPlayerManager.getRPGPlayer(testUuid)).thenReturn(null);
 
             PlayerExpChangeEvent event = new PlayerExpChangeEvent(mockPlayer, 100);
@@ -169,8 +171,7 @@ class ExpDiminisherTest {
         @Test
         @DisplayName("クラス未設定時は経験値を変更しない")
         void applyDiminishment_NoClass_DoesNotModify() {
-            when(mockConfigManager.getBoolean(anyString(), anyString(), eq(true))).thenReturn(true);
-            when(mockConfigManager.getBoolean(anyString(), anyString(), eq(false))).thenReturn(false);
+            when(mockConfigManager.getMainSettings()).thenReturn(MainSettings.DEFAULTS);
             when(mockPlayerManager.getRPGPlayer(testUuid)).thenReturn(mockRpgPlayer);
             when(mockClassManager.getPlayerClass(mockPlayer)).thenReturn(Optional.empty());
 
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -273,6 +274,39 @@ class ManaManagerTest {
         assertEquals(2.5, regen, 0.001);
     }
 
+    @Test
+    @DisplayName("クラスのリロードで同じIDの回復量キャッシュが無効化される")
+    void testClassReloadInvalidatesCachedRegenRate() {
+        UUID uuid = UUID.randomUUID();
+        RPGClass before = mock(RPGClass.class);
+        when(before.getManaRegen()).thenReturn(2.0);
+        RPGClass after = mock(RPGClass.class);
+        when(after.getManaRegen()).thenReturn(5.0);
+        when(classManager.getClass("Mage")).thenReturn(Optional.of(before));
+        when(classManager.getVersion()).thenReturn(0);
+
+        RPGPlayer rpgPlayer = createMockRpgPlayer(uuid, "Mage");
+        when(rpgPlayer.isFullMana()).thenReturn(false);
+        Player player = mock(Player.class);
+        when(player.isOnline()).thenReturn(true);
+        when(rpgPlayer.getBukkitPlayer()).thenReturn(player);
+        when(playerManager.getOnlinePlayers()).thenReturn(Map.of(uuid, rpgPlayer));
+
+        ArgumentCaptor<Runnable> regenTask = ArgumentCaptor.forClass(Runnable.class);
+        manaManager.start();
+        verify(scheduler).runTaskTimer(eq(plugin), regenTask.capture(), anyLong(), anyLong());
+
+        regenTask.getValue().run();
+        verify(rpgPlayer).regenerateMana(2.0);
+
+        // 同じIDのクラスが差し替えられる
+        when(classManager.getClass("Mage")).thenReturn(Optional.of(after));
+        when(classManager.getVersion()).thenReturn(1);
+
+        regenTask.getValue().run();
+        verify(rpgPlayer).regenerateMana(5.0);
+    }
+
     @Test
     @DisplayName("クラス未設定時はデフォルト回復量")
     void testDefaultRegenWhenNoClass() {
@@ -506,8 +540,92 @@ class ManaManagerTest {
         verify(bukkitPlayer, never()).sendActionBar(any(Component.class));
     }
 
+    // ===== スロット管理テスト =====
+
+    @Test
+    @DisplayName("回復タスク: 回復量は設定変更時のみ再計算される")
+    void testRegenRateCachedUntilChanged() {
+        Runnable regenTask = startAndCaptureTask();
+
+        RPGClass rpgClass = mock(RPGClass.class);
+        when(rpgClass.getManaRegen()).thenReturn(2.0);
+        when(classManager.getClass("Mage")).thenReturn(Optional.of(rpgClass));
+
+        RPGPlayer player = createRegeneratingPlayer(testUuid, "Mage");
+        when(playerManager.getOnlinePlayers()).thenReturn(Map.of(testUuid, player));
+
+        regenTask.run();
+        regenTask.run();
+        verify(classManager, times(1)).getClass("Mage");
+        verify(player, times(2)).regenerateMana(2.0);
+
+        manaManager.addTemporaryBonus(testUuid, 1.0);
+        regenTask.run();
+        verify(player).regenerateMana(3.0);
+
+        manaManager.setCustomRegenRate(testUuid, 5.0);
+        regenTask.run();
+        verify(player).regenerateMana(6.0);
+    }
+
+    @Test
+    @DisplayName("回復タスク: Bukkitプレイヤーの解決はスロット割り当て時のみ")
+    void testBukkitPlayerResolvedOncePerSlot() {
+        Runnable regenTask = startAndCaptureTask();
+
+        RPGPlayer player = createRegeneratingPlayer(testUuid, null);
+        when(playerManager.getOnlinePlayers()).thenReturn(Map.of(testUuid, player));
+
+        regenTask.run();
+        regenTask.run();
+
+        verify(player, times(1)).getBukkitPlayer();
+        verify(player, times(2)).regenerateMana(anyDouble());
+    }
+
+    @Test
+    @DisplayName("回復タスク: 退出したプレイヤーのスロットは解放される")
+    void testSlotReleasedAfterQuit() {
+        Runnable regenTask = startAndCaptureTask();
+
+        RPGPlayer player = createRegeneratingPlayer(testUuid, null);
+        when(playerManager.getOnlinePlayers()).thenReturn(Map.of(testUuid, player));
+        regenTask.run();
+
+        when(playerManager.getOnlinePlayers()).thenReturn(Map.of());
+        regenTask.run();
+
+        // 再参加した場合は新しいインスタンスで再解決される
+        RPGPlayer rejoined = createRegeneratingPlayer(testUuid, null);
+        when(playerManager.getOnlinePlayers()).thenReturn(Map.of(testUuid, rejoined));
+        regenTask.run();
+
+        verify(player, times(1)).regenerateMana(anyDouble());
+        verify(rejoined, times(1)).getBukkitPlayer();
+        verify(rejoined, times(1)).regenerateMana(anyDouble());
+    }
+
     // ===== ヘルパーメソッド =====
 
+    private Runnable startAndCaptureTask() {
+        when(task.isCancelled()).thenReturn(false);
+        manaManager.start();
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).runTaskTimer(eq(plugin), captor.capture(), anyLong(), anyLong());
+        return captor.getValue();
+    }
+
+    private RPGPlayer createRegeneratingPlayer(UUID uuid, String classId) {
+        RPGPlayer rpgPlayer = createMockRpgPlayer(uuid, classId);
+        Player bukkitPlayer = mock(Player.class);
+        when(rpgPlayer.getBukkitPlayer()).thenReturn(bukkitPlayer);
+        when(bukkitPlayer.isOnline()).thenReturn(true);
+        when(rpgPlayer.isFullMana()).thenReturn(false);
+        when(rpgPlayer.regenerateMana(anyDouble())).thenReturn(1);
+        return rpgPlayer;
+    }
+
     private RPGPlayer createMockRpgPlayer(UUID uuid) {
         return createMockRpgPlayer(uuid, null);
     }
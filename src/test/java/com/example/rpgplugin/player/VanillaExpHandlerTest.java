@@ -1,6 +1,7 @@
 package com.example.rpgplugin.player;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.config.MainSettings;
 import com.example.rpgplugin.core.config.YamlConfigManager;
 import com.example.rpgplugin.skill.SkillManager;
 import com.example.rpgplugin.stats.Stat;
@@ -112,13 +113,17 @@ class VanillaExpHandlerTest {
         when(mockSkillManager.getPlayerSkillData(testUuid)).thenReturn(mockSkillData);
 
         // ConfigManager setup - default values
-        when(mockConfigManager.getBoolean("main", "debug.log_exp_changes", false)).thenReturn(false);
-        when(mockConfigManager.getBoolean("main", "level_up.show_title", true)).thenReturn(true);
-        when(mockConfigManager.getBoolean("main", "level_up.play_sound", true)).thenReturn(true);
+        when(mockConfigManager.getMainSettings()).thenReturn(MainSettings.DEFAULTS);
 
         vanillaExpHandler = new VanillaExpHandler(mockPlugin, mockPlayerManager, mockExpDiminisher);
     }
 
+    private void stubLevelUp(boolean showTitle, boolean playSound) {
+        when(mockConfigManager.getMainSettings()).thenReturn(new MainSettings(
+                MainSettings.ExpDiminish.DEFAULTS, new MainSettings.LevelUp(showTitle, playSound),
+                MainSettings.Debug.DEFAULTS));
+    }
+
     // ==================== コンストラクタ ====================
 
     @Nested
@@ -192,7 +197,7 @@ class VanillaExpHandlerTest {
         void onPlayerLevelChange_TitleDisabled_DoesNotShowTitle() {
             when(mockPlayerManager.getRPGPlayer(testUuid)).thenReturn(mockRpgPlayer);
             when(mockRpgPlayer.getBaseStat(any())).thenReturn(10);
-            when(mockConfigManager.getBoolean("main", "level_up.show_title", true)).thenReturn(false);
+            stubLevelUp(false, true);
 
             PlayerLevelChangeEvent event = new PlayerLevelChangeEvent(mockPlayer, 10, 11);
             vanillaExpHandler.onPlayerLevelChange(event);
@@ -207,7 +212,7 @@ class VanillaExpHandlerTest {
         void onPlayerLevelChange_SoundDisabled_DoesNotPlaySound() {
             when(mockPlayerManager.getRPGPlayer(testUuid)).thenReturn(mockRpgPlayer);
             when(mockRpgPlayer.getBaseStat(any())).thenReturn(10);
-            when(mockConfigManager.getBoolean("main", "level_up.play_sound", true)).thenReturn(false);
+            stubLevelUp(true, false);
 
             PlayerLevelChangeEvent event = new PlayerLevelChangeEvent(mockPlayer, 10, 11);
             vanillaExpHandler.onPlayerLevelChange(event);
@@ -223,8 +228,7 @@ class VanillaExpHandlerTest {
         void onPlayerLevelChange_BothDisabled_NoEffects() {
             when(mockPlayerManager.getRPGPlayer(testUuid)).thenReturn(mockRpgPlayer);
             when(mockRpgPlayer.getBaseStat(any())).thenReturn(10);
-            when(mockConfigManager.getBoolean("main", "level_up.show_title", true)).thenReturn(false);
-            when(mockConfigManager.getBoolean("main", "level_up.play_sound", true)).thenReturn(false);
+            stubLevelUp(false, false);
 
             PlayerLevelChangeEvent event = new PlayerLevelChangeEvent(mockPlayer, 10, 11);
             vanillaExpHandler.onPlayerLevelChange(event);
@@ -308,7 +312,9 @@ class VanillaExpHandlerTest {
         @Test
         @DisplayName("デバッグログ有効時にログを出力する")
         void onPlayerExpChange_DebugEnabled_LogsExp() {
-            when(mockConfigManager.getBoolean("main", "debug.log_exp_changes", false)).thenReturn(true);
+            when(mockConfigManager.getMainSettings()).thenReturn(new MainSettings(
+                    MainSettings.ExpDiminish.DEFAULTS, MainSettings.LevelUp.DEFAULTS,
+                    new MainSettings.Debug(true, false)));
             PlayerExpChangeEvent event = new PlayerExpChangeEvent(mockPlayer, 50);
 
             vanillaExpHandler.onPlayerExpChange(event);
@@ -12,6 +12,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -193,6 +194,53 @@ class ClassLoaderTest {
             assertEquals(1, result.size());
             assertTrue(result.containsKey("advanced_class"));
         }
+
+        @Test
+        @DisplayName("解析キャッシュから復元しても同じクラスが構築される")
+        void loadAllClasses_LoadTwice_CachedResultMatches() throws IOException {
+            Path classesDir = tempDir.resolve("classes");
+            Files.createDirectories(classesDir);
+
+            String yaml = """
+                    id: warrior
+                    name: 戦士
+                    rank: 1
+                    max_level: 50
+                    icon: IRON_SWORD
+                    mana_regen: 2.5
+                    stat_growth:
+                      manual_points: 5
+                      str: 3
+                      vit: 2
+                    next_rank:
+                      class_id: warrior_advanced
+                      requirements:
+                        - type: level
+                          level: 10
+                    passive_bonuses:
+                      - type: health
+                        value: 20
+                    """;
+
+            Files.writeString(classesDir.resolve("warrior.yml"), yaml);
+
+            RPGClass parsed = classLoader.loadAllClasses().get("warrior");
+            assertTrue(tempDir.resolve(ClassLoader.CACHE_PATH).toFile().isFile());
+            RPGClass cached = classLoader.loadAllClasses().get("warrior");
+
+            assertNotNull(parsed);
+            assertNotNull(cached);
+            assertEquals(parsed.getName(), cached.getName());
+            assertEquals(parsed.getMaxLevel(), cached.getMaxLevel());
+            assertEquals(Material.IRON_SWORD, cached.getIcon());
+            assertEquals(parsed.getManaRegen(), cached.getManaRegen());
+            assertNotNull(cached.getStatGrowth());
+            assertEquals(parsed.getStatGrowth().getManualPoints(), cached.getStatGrowth().getManualPoints());
+            assertEquals(parsed.getStatGrowth().getAllAutoGrowth(), cached.getStatGrowth().getAllAutoGrowth());
+            assertEquals(Optional.of("warrior_advanced"), cached.getNextRankClassId());
+            assertEquals(parsed.getNextRankRequirements().size(), cached.getNextRankRequirements().size());
+            assertEquals(parsed.getPassiveBonuses().size(), cached.getPassiveBonuses().size());
+        }
     }
 
     @Nested
@@ -566,6 +566,19 @@ class ClassManagerTest {
         assertEquals(0, result.getRemovedClasses().size());
     }
 
+    @Test
+    @DisplayName("reloadWithCleanup: 同じIDのままでも世代が進む")
+    void testReloadWithCleanup_BumpsVersion() {
+        classManager.registerClass(testClass1);
+        int before = classManager.getVersion();
+
+        Map<String, RPGClass> newClasses = new HashMap<>();
+        newClasses.put("warrior", testClass1);
+        classManager.reloadWithCleanup(newClasses);
+
+        assertTrue(classManager.getVersion() > before);
+    }
+
     @Test
     @DisplayName("reloadWithCleanup: オンラインプレイヤーに影響")
     void testReloadWithCleanup_WithOnlinePlayers() {
@@ -2925,4 +2925,75 @@ class SkillLoaderTest {
         assertNotNull(skill.getComponentEffect());
     }
 
+    /**
+     * 解析キャッシュから復元した場合も同じスキルが構築されることのテスト
+     */
+    @Test
+    void testLoadTwiceFromParseCache() throws IOException {
+        Path skillFile = tempDir.resolve("skills").resolve("test_cached.yml");
+        Files.createDirectories(skillFile.getParent());
+
+        String yaml = """
+                id: test_cached
+                name: キャッシュテスト
+                type: active
+                max_level: 5
+
+                variables:
+                  str_scale: 2.0
+
+                damage:
+                  formula: "STR * str_scale + Lv * 5"
+
+                cooldown:
+                  base: 5.0
+                  per_level: -0.5
+                  min: 1.0
+
+                cost:
+                  type: mana
+                  base: 10
+                  per_level: -1
+                  min: 0
+
+                skill_tree:
+                  parent: fireball
+                  cost: 2
+
+                components:
+                  - mechanic: damage
+                    value: 10
+                """;
+
+        Files.writeString(skillFile, yaml);
+
+        List<Skill> first = loader.loadAllSkills();
+        assertTrue(tempDir.resolve(SkillLoader.CACHE_PATH).toFile().isFile(), "キャッシュが保存されるべき");
+        List<Skill> second = loader.loadAllSkills();
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        Skill parsed = first.get(0);
+        Skill cached = second.get(0);
+
+        assertEquals(parsed.getId(), cached.getId());
+        assertEquals(parsed.getName(), cached.getName());
+        assertEquals(parsed.getMaxLevel(), cached.getMaxLevel());
+        assertEquals(parsed.getVariableMap(), cached.getVariableMap());
+        assertEquals(parsed.getFormulaDamage().getFormula(), cached.getFormulaDamage().getFormula());
+        assertNotNull(cached.getCooldownParameter(), "cooldownセクションが復元されるべき");
+        assertNotNull(cached.getCostParameter(), "costセクションが復元されるべき");
+        assertEquals(parsed.getCostType(), cached.getCostType());
+        for (int level = 1; level <= 5; level++) {
+            assertEquals(parsed.getCooldown(level), cached.getCooldown(level));
+            assertEquals(parsed.getCost(level), cached.getCost(level));
+        }
+        assertEquals("fireball", cached.getSkillTree().getParent());
+        assertEquals(parsed.getSkillTree().getCost(), cached.getSkillTree().getCost());
+        assertEquals(parsed.hasComponentEffect(), cached.hasComponentEffect());
+        if (parsed.hasComponentEffect()) {
+            assertEquals(parsed.getComponentEffect().getComponents().size(),
+                    cached.getComponentEffect().getComponents().size());
+        }
+    }
 }
@@ -163,7 +163,7 @@ class SkillManagerTest {
         }
 
         @Test
-        @DisplayName("getAllSkills: 全スキルのコピーを取得できること")
+        @DisplayName("getAllSkills: 全スキルを変更不可のマップで取得できること")
         void testGetAllSkills() {
             skillManager.registerSkill(createTestSkill("skill1", "スキル1"));
             skillManager.registerSkill(createTestSkill("skill2", "スキル2"));
@@ -172,10 +172,10 @@ class SkillManagerTest {
 
             assertEquals(2, allSkills.size(), "全スキルが取得できること");
 
-            // コピーの確認
-            allSkills.clear();
+            // 変更不可の確認
+            assertThrows(UnsupportedOperationException.class, allSkills::clear);
             assertEquals(2, skillManager.getAllSkills().size(),
-                    "取得したマップをクリアしても元には影響しないこと");
+                    "取得したマップからは元を変更できないこと");
         }
 
         @Test
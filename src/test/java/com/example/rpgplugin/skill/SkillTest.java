@@ -1711,6 +1711,30 @@ class SkillTest {
             assertEquals(20.0, skill.getDamageFromComponents(5), 0.001);
         }
 
+        @Test
+        @DisplayName("test: 構築後に設定が変更されると事前計算値を作り直す")
+        void testGetFromComponents_RecomputesAfterSettingsChange() {
+            com.example.rpgplugin.skill.component.SkillEffect skillEffect = createSkillEffectWithComponents();
+            com.example.rpgplugin.skill.component.EffectComponent damage = skillEffect.getPlan().find("damage");
+            com.example.rpgplugin.skill.component.EffectComponent cost = skillEffect.getPlan().find("cost");
+            damage.getSettings().set("value", "10");
+            cost.getSettings().set("value", "5");
+
+            Skill skill = new Skill(
+                "testSkill", "Test Skill", "Test", SkillType.NORMAL, new ArrayList<>(),
+                10, 5.0, 20, null, null, SkillCostType.MANA, null, null, "DIAMOND_SWORD",
+                new ArrayList<>(), null, null, null, null, skillEffect
+            );
+            assertEquals(10.0, skill.getDamageFromComponents(3), 0.001);
+            assertEquals(5, skill.getCostFromComponents(3));
+
+            damage.getSettings().set("value", "10 + level * 2");
+            cost.getSettings().set("value", "8");
+
+            assertEquals(16.0, skill.getDamageFromComponents(3), 0.001);
+            assertEquals(8, skill.getCostFromComponents(3));
+        }
+
         @Test
         @DisplayName("test: getDamageFromComponentsは固定値も取得可能")
         void testGetDamageFromComponentsFixed() {
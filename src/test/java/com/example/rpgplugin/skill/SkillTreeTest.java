@@ -230,13 +230,13 @@ class SkillTreeTest {
         }
 
         @Test
-        @DisplayName("test: 返されたマップへの変更は元に影響しない")
-        void testGetAllNodesCopyIsIndependent() {
+        @DisplayName("test: 返されたマップは変更できない")
+        void testGetAllNodesIsUnmodifiable() {
             SkillNode node = new SkillNode(mockSkill, null);
             tree.addNode(node);
 
             Map<String, SkillNode> nodes = tree.getAllNodes();
-            nodes.clear(); // コピーをクリア
+            assertThrows(UnsupportedOperationException.class, nodes::clear);
 
             assertEquals(1, tree.getNodeCount()); // 元は影響を受けない
         }
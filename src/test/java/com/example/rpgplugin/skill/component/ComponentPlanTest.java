@@ -0,0 +1,90 @@
+package com.example.rpgplugin.skill.component;
+
+import org.bukkit.entity.LivingEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ComponentPlanの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("ComponentPlan テスト")
+class ComponentPlanTest {
+
+    @Test
+    @DisplayName("コンポーネントは前順に並ぶ")
+    void testPreOrder() {
+        TestComponent root = new TestComponent("root");
+        TestComponent child1 = new TestComponent("child1");
+        TestComponent grandChild = new TestComponent("grand");
+        TestComponent child2 = new TestComponent("child2");
+        root.addChild(child1);
+        child1.addChild(grandChild);
+        root.addChild(child2);
+        TestComponent second = new TestComponent("second");
+
+        ComponentPlan plan = ComponentPlan.of(List.of(root, second));
+
+        assertEquals(5, plan.size());
+        assertSame(root, plan.get(0));
+        assertSame(child1, plan.get(1));
+        assertSame(grandChild, plan.get(2));
+        assertSame(child2, plan.get(3));
+        assertSame(second, plan.get(4));
+    }
+
+    @Test
+    @DisplayName("同じキーは前順で最初のコンポーネントが返される")
+    void testFindReturnsFirstInPreOrder() {
+        TestComponent root = new TestComponent("root");
+        TestComponent nested = new TestComponent("damage");
+        root.addChild(nested);
+        TestComponent later = new TestComponent("damage");
+
+        ComponentPlan plan = ComponentPlan.of(List.of(root, later));
+
+        assertSame(nested, plan.find("damage"));
+        assertNull(plan.find("cost"));
+        assertNull(plan.find(null));
+    }
+
+    @Test
+    @DisplayName("SkillEffectの実行計画はコンポーネント追加で作り直される")
+    void testSkillEffectPlanInvalidatedOnAdd() {
+        SkillEffect skillEffect = new SkillEffect("test");
+        assertSame(ComponentPlan.EMPTY, skillEffect.getPlan());
+
+        TestComponent damage = new TestComponent("damage");
+        skillEffect.addComponent(damage);
+
+        ComponentPlan plan = skillEffect.getPlan();
+        assertSame(damage, plan.find("damage"));
+        assertSame(plan, skillEffect.getPlan());
+    }
+
+    /**
+     * テスト用コンポーネント
+     */
+    private static class TestComponent extends EffectComponent {
+
+        TestComponent(String key) {
+            super(key);
+        }
+
+        @Override
+        public ComponentType getType() {
+            return ComponentType.MECHANIC;
+        }
+
+        @Override
+        public boolean execute(LivingEntity caster, int level, List<LivingEntity> targets) {
+            return true;
+        }
+    }
+}
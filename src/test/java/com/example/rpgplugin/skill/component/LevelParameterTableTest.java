@@ -0,0 +1,149 @@
+package com.example.rpgplugin.skill.component;
+
+import org.bukkit.entity.LivingEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * レベル別パラメータテーブルのテストクラス
+ */
+@DisplayName("LevelParameterTable: レベル別事前計算")
+class LevelParameterTableTest {
+
+    private TestComponent component;
+
+    @BeforeEach
+    void setUp() {
+        component = new TestComponent();
+    }
+
+    @Test
+    @DisplayName("test: base/scaleの数値設定がスケール済みテーブルになる")
+    void testScaledTableFromNumbers() {
+        component.getSettings().set("value-base", 10);
+        component.getSettings().set("value-scale", 2.5);
+
+        component.precomputeLevelTables(5, null);
+
+        double[] table = component.getSettings().getLevelTable().scaled("value");
+        assertNotNull(table);
+        assertEquals(5, table.length);
+        assertEquals(10.0, table[0], 0.001);
+        assertEquals(20.0, table[4], 0.001);
+        assertEquals(15.0, component.values(null, "value", 3, 0), 0.001);
+    }
+
+    @Test
+    @DisplayName("test: Lvとスキル変数のみの数式は事前計算される")
+    void testSkillLevelFormulaIsPrecomputed() {
+        component.getSettings().set("value-base", "base_mod * 10 + Lv");
+
+        component.precomputeLevelTables(3, Map.of("base_mod", 2.0));
+
+        double[] table = component.getSettings().getLevelTable().scaled("value");
+        assertNotNull(table);
+        assertArrayEquals(new double[]{21.0, 22.0, 23.0}, table, 0.001);
+    }
+
+    @Test
+    @DisplayName("test: ステータスを参照する数式は事前計算されない")
+    void testPlayerDependentFormulaStaysDynamic() {
+        component.getSettings().set("value-base", "STR * 2");
+        component.getSettings().set("radius", "LV + 1");
+
+        component.precomputeLevelTables(3, null);
+
+        assertNull(component.getSettings().getLevelTable().scaled("value"));
+        assertNull(component.getSettings().getLevelTable().value("radius"));
+    }
+
+    @Test
+    @DisplayName("test: スケールが動的な場合はスケール済みテーブルを作らない")
+    void testDynamicScaleSkipsScaledTable() {
+        component.getSettings().set("value-base", 10);
+        component.getSettings().set("value-scale", "INT * 0.1");
+
+        component.precomputeLevelTables(3, null);
+
+        assertNotNull(component.getSettings().getLevelTable().value("value-base"));
+        assertNull(component.getSettings().getLevelTable().scaled("value"));
+    }
+
+    @Test
+    @DisplayName("test: snake_caseのキーも参照できる")
+    void testSnakeCaseAlias() {
+        component.getSettings().set("value_base", 4);
+
+        component.precomputeLevelTables(2, null);
+
+        assertNotNull(component.getSettings().getLevelTable().scaled("value"));
+        assertNotNull(component.getSettings().getLevelTable().value("value-base"));
+        assertEquals(4.0, component.values(null, "value", 2, 0), 0.001);
+    }
+
+    @Test
+    @DisplayName("test: 最大レベルを超える場合は実行時評価にフォールバック")
+    void testLevelOutsideTableFallsBack() {
+        component.getSettings().set("value-base", 10);
+        component.getSettings().set("value-scale", 1);
+
+        component.precomputeLevelTables(2, null);
+
+        assertEquals(14.0, component.values(null, "value", 5, 0), 0.001);
+    }
+
+    @Test
+    @DisplayName("test: 設定変更でテーブルが破棄される")
+    void testSettingsChangeInvalidatesTable() {
+        component.getSettings().set("value-base", 10);
+        component.precomputeLevelTables(3, null);
+        assertFalse(component.getSettings().getLevelTable().isEmpty());
+
+        component.getSettings().set("value-base", 20);
+
+        assertTrue(component.getSettings().getLevelTable().isEmpty());
+        assertEquals(20.0, component.values(null, "value", 1, 0), 0.001);
+    }
+
+    @Test
+    @DisplayName("test: 子コンポーネントにも適用される")
+    void testAppliesToChildren() {
+        TestComponent child = new TestComponent();
+        child.getSettings().set("chance", 25);
+        component.addChild(child);
+
+        component.precomputeLevelTables(2, null);
+
+        assertNotNull(child.getSettings().getLevelTable().value("chance"));
+    }
+
+    /**
+     * テスト用コンポーネント
+     */
+    private static class TestComponent extends EffectComponent {
+
+        TestComponent() {
+            super("test");
+        }
+
+        double values(LivingEntity caster, String key, int level, double fallback) {
+            return parseValues(caster, key, level, fallback);
+        }
+
+        @Override
+        public ComponentType getType() {
+            return ComponentType.MECHANIC;
+        }
+
+        @Override
+        public boolean execute(LivingEntity caster, int level, List<LivingEntity> targets) {
+            return true;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.rpgplugin.skill.component;
 
+import com.example.rpgplugin.skill.component.trigger.Trigger;
+import com.example.rpgplugin.skill.component.trigger.TriggerSettings;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.Event;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -468,4 +472,140 @@ class SkillEffectTest {
             assertTrue(skillEffect2.isActive(mockTarget));
         }
     }
+
+    // ========== トリガーハンドラーのコンパイル ==========
+
+    @Nested
+    @DisplayName("トリガーハンドラーのコンパイル")
+    class TriggerHandlerCompileTests {
+
+        @Test
+        @DisplayName("test: CASTとそれ以外のトリガーに分けてコンパイルされる")
+        void testCompileSplitsCastAndDelayed() {
+            SkillEffect skillEffect = new SkillEffect("trigger_skill");
+            TestTriggerComponent cast = new TestTriggerComponent("CAST");
+            TestTriggerComponent crouch = new TestTriggerComponent("CROUCH");
+            crouch.getSettings().set("duration", "5");
+            cast.addChild(crouch);
+            skillEffect.addComponent(cast);
+
+            skillEffect.compileTriggerHandlers();
+
+            assertEquals(1, skillEffect.getCastTriggerHandlers().size());
+            assertSame(cast, skillEffect.getCastTriggerHandlers().get(0).getTrigger());
+            assertEquals(1, skillEffect.getDelayedTriggerHandlers().size());
+            assertEquals(5, skillEffect.getDelayedTriggerHandlers().get(0).getDuration());
+            assertEquals("trigger_skill", skillEffect.getDelayedTriggerHandlers().get(0).getSkillId());
+        }
+
+        @Test
+        @DisplayName("test: コンパイル結果は発動をまたいで共有される")
+        void testHandlersAreShared() {
+            SkillEffect skillEffect = new SkillEffect("trigger_skill");
+            skillEffect.addComponent(new TestTriggerComponent("CROUCH"));
+
+            List<?> first = skillEffect.getDelayedTriggerHandlers();
+            List<?> second = skillEffect.getDelayedTriggerHandlers();
+
+            assertSame(first, second);
+            assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+        }
+
+        @Test
+        @DisplayName("test: トリガーの設定変更でコンパイル結果が作り直される")
+        void testSettingsChangeRecompilesHandlers() {
+            SkillEffect skillEffect = new SkillEffect("trigger_skill");
+            TestTriggerComponent crouch = new TestTriggerComponent("CROUCH");
+            crouch.getSettings().set("duration", "5");
+            skillEffect.addComponent(crouch);
+            List<?> compiled = skillEffect.getDelayedTriggerHandlers();
+            assertEquals(5, skillEffect.getDelayedTriggerHandlers().get(0).getDuration());
+
+            crouch.getSettings().set("duration", "8");
+
+            assertNotSame(compiled, skillEffect.getDelayedTriggerHandlers());
+            assertEquals(8, skillEffect.getDelayedTriggerHandlers().get(0).getDuration());
+        }
+
+        @Test
+        @DisplayName("test: コンポーネント追加でコンパイル結果が破棄される")
+        void testAddComponentInvalidatesHandlers() {
+            SkillEffect skillEffect = new SkillEffect("trigger_skill");
+            assertTrue(skillEffect.getDelayedTriggerHandlers().isEmpty());
+
+            skillEffect.addComponent(new TestTriggerComponent("CROUCH"));
+
+            assertEquals(1, skillEffect.getDelayedTriggerHandlers().size());
+        }
+
+        @Test
+        @DisplayName("test: 子コンポーネント追加でもコンパイル結果と実行計画が破棄される")
+        void testAddChildInvalidatesHandlers() {
+            SkillEffect skillEffect = new SkillEffect("trigger_skill");
+            TestTriggerComponent cast = new TestTriggerComponent("CAST");
+            TestTriggerComponent nested = new TestTriggerComponent("CAST");
+            cast.addChild(nested);
+            skillEffect.addComponent(cast);
+            assertTrue(skillEffect.getDelayedTriggerHandlers().isEmpty());
+            assertEquals(2, skillEffect.getPlan().size());
+
+            // スキル追加前に組み立てた孫にも追加を通知できる
+            nested.addChild(new TestTriggerComponent("CROUCH"));
+
+            assertEquals(1, skillEffect.getDelayedTriggerHandlers().size());
+            assertEquals(3, skillEffect.getPlan().size());
+        }
+    }
+
+    /**
+     * テスト用トリガーコンポーネント
+     */
+    private static class TestTriggerComponent extends EffectComponent implements Trigger<Event> {
+
+        private final String triggerKey;
+
+        TestTriggerComponent(String triggerKey) {
+            super(triggerKey.toLowerCase());
+            this.triggerKey = triggerKey;
+        }
+
+        @Override
+        public ComponentType getType() {
+            return ComponentType.TRIGGER;
+        }
+
+        @Override
+        public boolean execute(LivingEntity caster, int level, List<LivingEntity> targets) {
+            return true;
+        }
+
+        @Override
+        public String getKey() {
+            return triggerKey;
+        }
+
+        @Override
+        public Class<Event> getEvent() {
+            return Event.class;
+        }
+
+        @Override
+        public boolean shouldTrigger(Event event, int level, TriggerSettings settings) {
+            return true;
+        }
+
+        @Override
+        public void setValues(Event event, Map<String, Object> data) {
+        }
+
+        @Override
+        public LivingEntity getCaster(Event event) {
+            return null;
+        }
+
+        @Override
+        public LivingEntity getTarget(Event event, TriggerSettings settings) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package com.example.rpgplugin.skill.component.mechanic;
+
+import com.example.rpgplugin.RPGPlugin;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CosmeticBatcherの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("CosmeticBatcher テスト")
+@ExtendWith(MockitoExtension.class)
+class CosmeticBatcherTest {
+
+    @Mock
+    private World mockWorld;
+
+    private final List<Player> players = new ArrayList<>();
+    private CosmeticBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(mockWorld.getPlayers()).thenAnswer(invocation -> new ArrayList<>(players));
+        batcher = new CosmeticBatcher(Logger.getLogger("TestLogger"), 32.0);
+    }
+
+    private Player playerAt(double x, double y, double z) {
+        Player player = mock(Player.class);
+        lenient().when(player.getLocation()).thenReturn(new Location(mockWorld, x, y, z));
+        players.add(player);
+        return player;
+    }
+
+    @Test
+    @DisplayName("同じ位置・同じ内容のパーティクルは1回にまとめて送信される")
+    void testDeduplicatesParticles() {
+        Player viewer = playerAt(0, 0, 0);
+
+        assertTrue(batcher.particle(new Location(mockWorld, 1.0, 1.0, 1.0), Particle.FLAME, 10, 0.5, 0.1));
+        assertTrue(batcher.particle(new Location(mockWorld, 1.05, 1.0, 1.0), Particle.FLAME, 10, 0.5, 0.1));
+        assertEquals(1, batcher.getPendingCount());
+        assertEquals(1, batcher.getDeduplicatedCount());
+
+        batcher.flush();
+
+        verify(viewer, times(1)).spawnParticle(eq(Particle.FLAME), any(Location.class), eq(10),
+                eq(0.5), eq(0.5), eq(0.5), eq(0.1));
+        assertEquals(0, batcher.getPendingCount());
+        verify(mockWorld, never()).spawnParticle(any(Particle.class), any(Location.class), anyInt(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("内容が異なるパーティクルはまとめない")
+    void testDifferentParticlesAreKept() {
+        playerAt(0, 0, 0);
+
+        batcher.particle(new Location(mockWorld, 1, 1, 1), Particle.FLAME, 10, 0.5, 0.1);
+        batcher.particle(new Location(mockWorld, 1, 1, 1), Particle.FLAME, 20, 0.5, 0.1);
+        batcher.particle(new Location(mockWorld, 5, 1, 1), Particle.FLAME, 10, 0.5, 0.1);
+
+        assertEquals(3, batcher.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("表示距離外のプレイヤーには送信しない")
+    void testCullsDistantReceivers() {
+        Player near = playerAt(10, 0, 0);
+        Player far = playerAt(100, 0, 0);
+
+        batcher.particle(new Location(mockWorld, 0, 0, 0), Particle.FLAME, 10, 0.5, 0.1);
+        batcher.flush();
+
+        verify(near).spawnParticle(eq(Particle.FLAME), any(Location.class), eq(10),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(far, never()).spawnParticle(any(Particle.class), any(Location.class), anyInt(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        assertEquals(1, batcher.getSentCount());
+    }
+
+    @Test
+    @DisplayName("サウンドは可聴範囲外のプレイヤーに送信しない")
+    void testSoundUsesAudibleRange() {
+        Player near = playerAt(10, 0, 0);
+        Player outOfEarshot = playerAt(20, 0, 0);
+
+        assertTrue(batcher.sound(new Location(mockWorld, 0, 0, 0), Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.0f));
+        assertTrue(batcher.sound(new Location(mockWorld, 0, 0, 0), Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.0f));
+        batcher.flush();
+
+        verify(near, times(1)).playSound(any(Location.class), eq(Sound.ENTITY_BLAZE_SHOOT), eq(1.0f), eq(1.0f));
+        verify(outOfEarshot, never()).playSound(any(Location.class), any(Sound.class), anyFloat(), anyFloat());
+    }
+
+    @Test
+    @DisplayName("追加データが必要なパーティクルは受け付けない")
+    void testRejectsParticlesRequiringData() {
+        assertFalse(batcher.particle(new Location(mockWorld, 0, 0, 0), Particle.DUST, 10, 0.5, 0.1));
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("プラグインのバッチャーがある場合はParticleMechanicの要求が溜められる")
+    void testParticleMechanicUsesBatcher() {
+        org.bukkit.entity.LivingEntity target = mock(org.bukkit.entity.LivingEntity.class);
+        when(target.getLocation()).thenReturn(new Location(mockWorld, 0, 0, 0));
+
+        RPGPlugin plugin = mock(RPGPlugin.class);
+        when(plugin.getCosmeticBatcher()).thenReturn(batcher);
+        try (MockedStatic<RPGPlugin> mockedStatic = mockStatic(RPGPlugin.class)) {
+            mockedStatic.when(RPGPlugin::getInstance).thenReturn(plugin);
+
+            ParticleMechanic mechanic = new ParticleMechanic();
+            assertTrue(mechanic.apply(null, 1, target));
+        }
+
+        assertEquals(1, batcher.getPendingCount());
+        verify(mockWorld, never()).spawnParticle(any(Particle.class), any(Location.class), anyInt(),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.rpgplugin.skill.component.mechanic;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.SkillScheduler;
 import com.example.rpgplugin.skill.component.ComponentSettings;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
@@ -1460,6 +1461,20 @@ class MechanicComponentTest {
             assertTrue(result);
         }
 
+        @Test
+        @DisplayName("test: スキルスケジューラーが有効な場合はスケジューラーに登録")
+        void testSchedulesOnSkillScheduler() {
+            SkillScheduler scheduler = new SkillScheduler(java.util.logging.Logger.getLogger("TestLogger"), Long.MAX_VALUE);
+            when(mockPlugin.getSkillScheduler()).thenReturn(scheduler);
+
+            mechanic.getSettings().set("delay", "2");
+            mechanic.getSettings().set("ticks", true);
+            assertTrue(mechanic.apply(mockCaster, 1, mockTarget));
+
+            assertEquals(1, scheduler.getScheduledCount());
+            verify(mockScheduler, never()).runTaskLater(any(), any(Runnable.class), anyLong());
+        }
+
         @Test
         @DisplayName("test: プラグインが未設定はfalseを返す")
         void testNullPluginReturnsFalse() {
@@ -1557,6 +1572,20 @@ class MechanicComponentTest {
             }
         }
 
+        @Test
+        @DisplayName("test: スキルスケジューラー上のチャネリングをキャンセル")
+        void testCancelChannelOnSkillScheduler() {
+            SkillScheduler scheduler = new SkillScheduler(java.util.logging.Logger.getLogger("TestLogger"), Long.MAX_VALUE);
+            when(mockPlugin.getSkillScheduler()).thenReturn(scheduler);
+
+            mechanic.getSettings().set("duration", "2.0");
+            assertTrue(mechanic.apply(mockCaster, 1, mockTarget));
+            assertEquals(1, scheduler.getScheduledCount());
+
+            ChannelMechanic.cancelChannel(mockTarget.getUniqueId());
+            assertEquals(0, scheduler.getScheduledCount());
+        }
+
         @Test
         @DisplayName("test: 存在しないUUIDでキャンセルしても例外が発生しない")
         void testCancelNonExistentChannel() {
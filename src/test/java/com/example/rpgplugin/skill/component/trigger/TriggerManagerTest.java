@@ -1,6 +1,7 @@
 package com.example.rpgplugin.skill.component.trigger;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
 import com.example.rpgplugin.skill.component.EffectComponent;
 import com.example.rpgplugin.skill.component.SkillEffect;
 import org.bukkit.entity.LivingEntity;
@@ -20,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.logging.Logger;
 
 import org.bukkit.Server;
 import org.bukkit.entity.Player;
@@ -49,9 +51,13 @@ class TriggerManagerTest {
     private EffectComponent mockComponent;
 
     private TriggerManager manager;
+    private ExpiryService expiryService;
 
     @BeforeEach
     void setUp() {
+        expiryService = new ExpiryService(Logger.getLogger("TestLogger"));
+        when(mockPlugin.getExpiryService()).thenReturn(expiryService);
+
         // プライベートコンストラクタを回避するためにリフレクションを使用
         try {
             var constructor = TriggerManager.class.getDeclaredConstructor(RPGPlugin.class);
@@ -358,110 +364,6 @@ class TriggerManagerTest {
     }
 
 
-    // ========== getEntity() テスト（リフレクション使用）==========
-
-    @Nested
-    @DisplayName("getEntity: エンティティ取得")
-    class GetEntityTests {
-
-        @Mock
-        private Server mockServer;
-        private java.util.Collection<Player> emptyPlayers;
-
-        @BeforeEach
-        void setUpGetEntity() {
-            emptyPlayers = java.util.Collections.emptyList();
-            when(mockPlugin.getServer()).thenReturn(mockServer);
-            // getOnlinePlayers()はCollection<? extends Player>を返す
-            when(mockServer.getOnlinePlayers()).thenAnswer(invocation -> emptyPlayers);
-        }
-
-        @Test
-        @DisplayName("test: エンティティが存在しない場合はnull")
-        void testGetEntity_NotFound() throws Exception {
-            var method = TriggerManager.class.getDeclaredMethod("getEntity", int.class);
-            method.setAccessible(true);
-
-            LivingEntity result = (LivingEntity) method.invoke(manager, 999);
-
-            assertThat(result).isNull();
-        }
-
-        @Test
-        @DisplayName("test: プレイヤーリストが空の場合はnull")
-        void testGetEntity_EmptyPlayerList() throws Exception {
-            var method = TriggerManager.class.getDeclaredMethod("getEntity", int.class);
-            method.setAccessible(true);
-
-            LivingEntity result = (LivingEntity) method.invoke(manager, 100);
-
-            assertThat(result).isNull();
-        }
-
-        @Test
-        @DisplayName("test: プレイヤーが見つかる場合はエンティティを返す")
-        void testGetEntity_PlayerFound() throws Exception {
-            // プレイヤーリストにmockPlayerを追加
-            java.util.List<Player> playerList = new java.util.ArrayList<>();
-            playerList.add(mockPlayer);
-
-            @SuppressWarnings("unchecked")
-            java.util.Collection<Player> players = (java.util.Collection<Player>) (java.util.Collection<?>) playerList;
-            when(mockServer.getOnlinePlayers()).thenAnswer(invocation -> players);
-            when(mockPlayer.getEntityId()).thenReturn(100);
-
-            var method = TriggerManager.class.getDeclaredMethod("getEntity", int.class);
-            method.setAccessible(true);
-
-            LivingEntity result = (LivingEntity) method.invoke(manager, 100);
-
-            assertThat(result).isSameAs(mockPlayer);
-        }
-
-        @Test
-        @DisplayName("test: 複数プレイヤーの中から正しいエンティティを返す")
-        void testGetEntity_MultiplePlayers() throws Exception {
-            Player mockPlayer2 = mock(Player.class);
-            when(mockPlayer2.getEntityId()).thenReturn(201);
-
-            java.util.List<Player> playerList = new java.util.ArrayList<>();
-            playerList.add(mockPlayer);
-            playerList.add(mockPlayer2);
-
-            @SuppressWarnings("unchecked")
-            java.util.Collection<Player> players = (java.util.Collection<Player>) (java.util.Collection<?>) playerList;
-            when(mockServer.getOnlinePlayers()).thenAnswer(invocation -> players);
-            when(mockPlayer.getEntityId()).thenReturn(200);
-
-            var method = TriggerManager.class.getDeclaredMethod("getEntity", int.class);
-            method.setAccessible(true);
-
-            // mockPlayer (ID=200) を探す
-            LivingEntity result = (LivingEntity) method.invoke(manager, 200);
-
-            assertThat(result).isSameAs(mockPlayer);
-        }
-
-        @Test
-        @DisplayName("test: 一致しないIDの場合はnull")
-        void testGetEntity_NoMatch() throws Exception {
-            java.util.List<Player> playerList = new java.util.ArrayList<>();
-            playerList.add(mockPlayer);
-
-            @SuppressWarnings("unchecked")
-            java.util.Collection<Player> players = (java.util.Collection<Player>) (java.util.Collection<?>) playerList;
-            when(mockServer.getOnlinePlayers()).thenAnswer(invocation -> players);
-            when(mockPlayer.getEntityId()).thenReturn(200);
-
-            var method = TriggerManager.class.getDeclaredMethod("getEntity", int.class);
-            method.setAccessible(true);
-
-            LivingEntity result = (LivingEntity) method.invoke(manager, 999);
-
-            assertThat(result).isNull();
-        }
-    }
-
     // ========== cleanupExpired() テスト（リフレクション使用）==========
 
     @Nested
@@ -774,4 +676,107 @@ class TriggerManagerTest {
             });
         }
     }
+
+    // ========== インデックス・期限キュー テスト ==========
+
+    @Nested
+    @DisplayName("Indexing: トリガー索引と期限管理")
+    class IndexingTests {
+
+        @Test
+        @DisplayName("test: 一致するトリガーキーのハンドラーのみ呼ばれる")
+        void testHandleTrigger_DispatchesOnlyMatchingKey() {
+            TriggerHandler takenHandler = mock(TriggerHandler.class);
+            when(takenHandler.getSkillId()).thenReturn("testSkill");
+            doReturn(new PhysicalTakenTrigger()).when(takenHandler).getTrigger();
+
+            manager.registerSkill("testSkill", mockEffect);
+            when(mockEffect.isActive(mockCaster)).thenReturn(true);
+            manager.activateSkill("testSkill", mockCaster, 1, 0, List.of(mockHandler, takenHandler));
+
+            org.bukkit.event.entity.EntityDamageByEntityEvent event =
+                mock(org.bukkit.event.entity.EntityDamageByEntityEvent.class);
+            when(event.getEntity()).thenReturn(mockCaster);
+            when(event.getDamager()).thenReturn(mock(org.bukkit.entity.Entity.class));
+
+            manager.onEntityDamageByEntity(event);
+
+            // プレイヤー以外の発動者でもオンラインプレイヤーを走査せずに処理される
+            verify(takenHandler).handle(event, mockEffect);
+            verify(mockHandler, never()).handle(any(), any());
+            verify(mockPlugin, never()).getServer();
+        }
+
+        @Test
+        @DisplayName("test: 期限管理サービスで期限切れのトリガーのみ削除される")
+        void testExpiry_RemovesOnlyDueTriggers() throws Exception {
+            TriggerHandler longHandler = mock(TriggerHandler.class);
+            EffectComponent longComponent = mock(EffectComponent.class);
+            when(longHandler.getRootComponent()).thenReturn(longComponent);
+            doReturn(new CastTrigger()).when(longHandler).getTrigger();
+
+            manager.activateSkill("shortSkill", mockCaster, 1, 1, List.of(mockHandler));
+            manager.activateSkill("longSkill", mockCaster, 1, 60, List.of(longHandler));
+
+            // トリガーイベントが発生しなくても期限で削除される
+            tickSeconds(2);
+
+            verify(mockComponent).cleanUp(mockCaster);
+            verify(longComponent, never()).cleanUp(any());
+
+            var activeTriggersField = TriggerManager.class.getDeclaredField("activeTriggers");
+            activeTriggersField.setAccessible(true);
+            @SuppressWarnings("unchecked")
+            Map<Integer, Map<String, Object>> activeTriggers =
+                (Map<Integer, Map<String, Object>>) activeTriggersField.get(manager);
+            assertThat(activeTriggers.get(mockCaster.getEntityId())).containsOnlyKeys("longSkill");
+        }
+
+        @Test
+        @DisplayName("test: 再アクティブ化された古い期限エントリは無視される")
+        void testExpiry_IgnoresReplacedActivation() {
+            manager.activateSkill("testSkill", mockCaster, 1, 1, List.of(mockHandler));
+            manager.activateSkill("testSkill", mockCaster, 1, 0, List.of(mockHandler));
+
+            assertThat(expiryService.size()).isZero();
+            tickSeconds(2);
+
+            verify(mockComponent, never()).cleanUp(any());
+        }
+
+        @Test
+        @DisplayName("test: 非アクティブ化で期限登録が解除される")
+        void testDeactivate_CancelsExpiry() {
+            manager.activateSkill("testSkill", mockCaster, 1, 60, List.of(mockHandler));
+            assertThat(expiryService.size()).isEqualTo(1);
+
+            manager.deactivateSkill("testSkill", mockCaster);
+
+            assertThat(expiryService.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("test: ログアウトでプレイヤーのトリガーが解放される")
+        void testOnPlayerQuit_ClearsTriggers() throws Exception {
+            manager.activateSkill("testSkill", mockPlayer, 1, 0, List.of(mockHandler));
+
+            org.bukkit.event.player.PlayerQuitEvent event = mock(org.bukkit.event.player.PlayerQuitEvent.class);
+            when(event.getPlayer()).thenReturn(mockPlayer);
+            manager.onPlayerQuit(event);
+
+            verify(mockComponent).cleanUp(mockPlayer);
+            var activeTriggersField = TriggerManager.class.getDeclaredField("activeTriggers");
+            activeTriggersField.setAccessible(true);
+            @SuppressWarnings("unchecked")
+            Map<Integer, Map<String, Object>> activeTriggers =
+                (Map<Integer, Map<String, Object>>) activeTriggersField.get(manager);
+            assertThat(activeTriggers).doesNotContainKey(mockPlayer.getEntityId());
+        }
+
+        private void tickSeconds(int seconds) {
+            for (int i = 0; i <= seconds * 20; i++) {
+                expiryService.tick();
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.rpgplugin.skill.component.trigger;
 
+import com.example.rpgplugin.skill.component.ComponentSettings;
 import org.bukkit.configuration.ConfigurationSection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +34,37 @@ class TriggerSettingsTest {
         settings = new TriggerSettings();
     }
 
+    // ========== from() テスト ==========
+
+    @Nested
+    @DisplayName("from: コンポーネント設定からの変換")
+    class FromTests {
+
+        @Test
+        @DisplayName("文字列の数値は型変換される")
+        void testFrom_ParsesNumericStrings() {
+            ComponentSettings componentSettings = new ComponentSettings();
+            componentSettings.set("duration", "10");
+            componentSettings.set("chance", "0.5");
+            componentSettings.set("type", "melee");
+            componentSettings.set("enabled", true);
+
+            TriggerSettings result = TriggerSettings.from(componentSettings);
+
+            assertThat(result.getKeys()).containsExactlyInAnyOrder("duration", "chance", "type", "enabled");
+            assertThat(result.getInt("duration", 0)).isEqualTo(10);
+            assertThat(result.getDouble("chance", 0.0)).isEqualTo(0.5);
+            assertThat(result.getString("type", null)).isEqualTo("melee");
+            assertThat(result.getBoolean("enabled", false)).isTrue();
+        }
+
+        @Test
+        @DisplayName("nullの場合は空の設定")
+        void testFrom_Null_ReturnsEmpty() {
+            assertThat(TriggerSettings.from(null).getKeys()).isEmpty();
+        }
+    }
+
     // ========== load() テスト ==========
 
     @Nested
@@ -0,0 +1,115 @@
+package com.example.rpgplugin.skill.evaluator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompiledExpressionのテストクラス
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("CompiledExpression テスト")
+class CompiledExpressionTest {
+
+    private VariableContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new VariableContext(null, 5);
+    }
+
+    @Test
+    @DisplayName("変数はスロット番号に出現順で解決される")
+    void testVariableSlots() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("STR * 2 + DEX + STR").compile();
+
+        assertEquals(2, compiled.getSlotCount());
+        assertEquals(List.of("STR", "DEX"), compiled.getVariableNames());
+        assertEquals(0, compiled.slotOf("STR"));
+        assertEquals(1, compiled.slotOf("DEX"));
+        assertEquals(-1, compiled.slotOf("INT"));
+    }
+
+    @Test
+    @DisplayName("コンパイル結果は異なるコンテキストで再利用できる")
+    void testReuseAcrossContexts() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("a * Lv + 1").compile();
+
+        context.setCustomVariable("a", 10.0);
+        assertEquals(51.0, compiled.evaluate(context), 0.001);
+
+        VariableContext other = new VariableContext(null, 2);
+        other.setCustomVariable("a", 3.0);
+        assertEquals(7.0, compiled.evaluate(other), 0.001);
+    }
+
+    @Test
+    @DisplayName("スロット配列で直接評価できる")
+    void testEvaluateWithSlots() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("(x + y) ^ 2").compile();
+        assertEquals(25.0, compiled.evaluate(new double[]{2.0, 3.0}), 0.001);
+    }
+
+    @Test
+    @DisplayName("定数式はコンパイル時に畳み込まれる")
+    void testConstantFolding() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("(10 + 20) * 2 - -1").compile();
+
+        assertTrue(compiled.isConstant());
+        assertEquals(0, compiled.getSlotCount());
+        assertEquals(61.0, compiled.evaluate(context), 0.001);
+    }
+
+    @Test
+    @DisplayName("定数のゼロ除算は評価時に例外となる")
+    void testDivisionByZeroNotFolded() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("10 / 0").compile();
+
+        assertFalse(compiled.isConstant());
+        assertThrows(ExpressionParser.FormulaEvaluationException.class, () -> compiled.evaluate(context));
+    }
+
+    @Test
+    @DisplayName("未定義変数は評価時に例外となる")
+    void testUndefinedVariable() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("undefined_var + 1").compile();
+
+        Exception exception = assertThrows(
+                ExpressionParser.FormulaEvaluationException.class,
+                () -> compiled.evaluate(context)
+        );
+        assertTrue(exception.getMessage().contains("未定義の変数"));
+    }
+
+    @Test
+    @DisplayName("構文エラーはコンパイル時に例外となる")
+    void testSyntaxErrorOnCompile() {
+        assertThrows(ExpressionParser.FormulaEvaluationException.class,
+                () -> new ExpressionParser("5 + )").compile());
+    }
+
+    @Test
+    @DisplayName("論理・比較演算子の評価")
+    void testLogicalOperators() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("(Lv >= 5) && !(Lv == 3) || 0").compile();
+        assertEquals(1.0, compiled.evaluate(context), 0.001);
+    }
+
+    @Test
+    @DisplayName("FormulaEvaluatorは同じ数式に同一のコンパイル結果を返す")
+    void testEvaluatorReturnsCachedInstance() throws Exception {
+        FormulaEvaluator evaluator = new FormulaEvaluator();
+
+        CompiledExpression first = evaluator.compile("STR + 1");
+        CompiledExpression second = evaluator.compile("STR + 1");
+
+        assertSame(first, second);
+        assertEquals(1, evaluator.getCacheSize());
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.rpgplugin.skill.evaluator;
+
+import com.example.rpgplugin.player.RPGPlayer;
+import com.example.rpgplugin.stats.Stat;
+import com.example.rpgplugin.stats.StatManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * EvaluationFrameのテストクラス
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("EvaluationFrame テスト")
+class EvaluationFrameTest {
+
+    @Test
+    @DisplayName("予約変数とカスタム変数を解決できる")
+    void testResolveBuiltinAndCustom() throws Exception {
+        RPGPlayer player = mock(RPGPlayer.class);
+        StatManager statManager = mock(StatManager.class);
+        when(player.getStatManager()).thenReturn(statManager);
+        when(player.getVanillaLevel()).thenReturn(20);
+        when(statManager.getFinalStat(Stat.STRENGTH)).thenReturn(50);
+
+        CompiledExpression compiled = new ExpressionParser("STR * scale + Lv + LV").compile();
+
+        EvaluationFrame frame = EvaluationFrame.acquire(player, 3, Map.of("scale", 2.0));
+        try {
+            assertEquals(50 * 2.0 + 3 + 20, compiled.evaluate(frame), 0.001);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("カスタム変数は予約変数より優先される")
+    void testCustomVariableOverridesBuiltin() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("Lv * 10").compile();
+
+        EvaluationFrame frame = EvaluationFrame.acquire(null, 3, Map.of("Lv", 7.0));
+        try {
+            assertEquals(70.0, compiled.evaluate(frame), 0.001);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("定数テーブルは予約変数で解決できない名前のみに使われる")
+    void testConstantsResolveUnknownNames() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("BASE_DAMAGE * CLASS_MULTIPLIER").compile();
+
+        EvaluationFrame frame = EvaluationFrame.acquire(null, 1, null)
+                .withBaseDamage(10.0)
+                .withConstants(ConstantTable.of(Map.of("CLASS_MULTIPLIER", 1.5, "BASE_DAMAGE", 999.0)));
+        try {
+            assertEquals(15.0, compiled.evaluate(frame), 0.001);
+        } finally {
+            frame.release();
+        }
+
+        EvaluationFrame reused = EvaluationFrame.acquire(null, 1, null).withBaseDamage(10.0);
+        try {
+            assertThrows(ExpressionParser.FormulaEvaluationException.class, () -> compiled.evaluate(reused));
+        } finally {
+            reused.release();
+        }
+    }
+
+    @Test
+    @DisplayName("同じレイアウトの定数テーブルはスロット番号で切り替えられる")
+    void testConstantTablesShareLayout() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("BASE_DAMAGE * CLASS_MULTIPLIER + CAP").compile();
+        ConstantTable.Layout layout = ConstantTable.layout(List.of("CAP", "CLASS_MULTIPLIER"));
+        ConstantTable defaults = layout.bind(Map.of("CLASS_MULTIPLIER", 1.0, "CAP", 0.0));
+        ConstantTable warrior = layout.bind(Map.of("CLASS_MULTIPLIER", 1.5, "CAP", 5.0));
+
+        EvaluationFrame frame = EvaluationFrame.acquire(null, 1, null).withBaseDamage(10.0).withConstants(defaults);
+        try {
+            assertEquals(10.0, compiled.evaluate(frame), 0.001);
+        } finally {
+            frame.release();
+        }
+
+        EvaluationFrame other = EvaluationFrame.acquire(null, 1, null).withBaseDamage(10.0).withConstants(warrior);
+        try {
+            assertEquals(20.0, compiled.evaluate(other), 0.001);
+        } finally {
+            other.release();
+        }
+
+        ConstantTable partial = layout.bind(Map.of("CLASS_MULTIPLIER", 2.0));
+        EvaluationFrame missing = EvaluationFrame.acquire(null, 1, null).withBaseDamage(10.0).withConstants(partial);
+        try {
+            assertThrows(ExpressionParser.FormulaEvaluationException.class, () -> compiled.evaluate(missing));
+        } finally {
+            missing.release();
+        }
+    }
+
+    @Test
+    @DisplayName("BASE_DAMAGEとDAMAGEを束縛できる")
+    void testBaseDamage() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("BASE_DAMAGE + DAMAGE").compile();
+
+        EvaluationFrame frame = EvaluationFrame.acquire(null, 1, null).withBaseDamage(25.0);
+        try {
+            assertEquals(50.0, compiled.evaluate(frame), 0.001);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("プレイヤー未指定のステータス変数は未定義となる")
+    void testUndefinedStatWithoutPlayer() throws Exception {
+        CompiledExpression compiled = new ExpressionParser("STR + 10").compile();
+
+        EvaluationFrame frame = EvaluationFrame.acquire(null, 1, null);
+        try {
+            Exception exception = assertThrows(
+                    ExpressionParser.FormulaEvaluationException.class,
+                    () -> compiled.evaluate(frame)
+            );
+            assertTrue(exception.getMessage().contains("未定義の変数"));
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("同一スレッドではフレームが再利用される")
+    void testFrameIsReused() {
+        EvaluationFrame first = EvaluationFrame.acquire(null, 1, null);
+        first.release();
+        EvaluationFrame second = EvaluationFrame.acquire(null, 2, null);
+        second.release();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("使用中に再取得すると別のフレームが返される")
+    void testNestedAcquireReturnsNewFrame() {
+        EvaluationFrame outer = EvaluationFrame.acquire(null, 1, null);
+        try {
+            EvaluationFrame inner = EvaluationFrame.acquire(null, 2, null);
+            assertNotSame(outer, inner);
+            inner.release();
+        } finally {
+            outer.release();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.rpgplugin.skill.executor;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.api.skript.events.EvtRPGSkillCast.RPGSkillCastEvent;
+import com.example.rpgplugin.core.scheduler.SkillScheduler;
 import com.example.rpgplugin.model.skill.DamageCalculation;
 import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
@@ -10,10 +12,13 @@ import com.example.rpgplugin.skill.SkillCostType;
 import com.example.rpgplugin.skill.SkillManager;
 import com.example.rpgplugin.skill.SkillType;
 import com.example.rpgplugin.skill.component.SkillEffect;
+import com.example.rpgplugin.skill.target.SkillTarget;
+import com.example.rpgplugin.skill.target.TargetSelector;
 import com.example.rpgplugin.skill.target.TargetType;
 import com.example.rpgplugin.stats.Stat;
 import com.example.rpgplugin.stats.StatManager;
 import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Server;
 import org.bukkit.World;
@@ -25,6 +30,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -92,6 +98,7 @@ class ActiveSkillExecutorTest {
         lenient().when(mockPlayer.getUniqueId()).thenReturn(testUuid);
         lenient().when(mockPlayer.getLocation()).thenReturn(new Location(mockWorld, 0, 0, 0));
         lenient().when(mockPlayer.getWorld()).thenReturn(mockWorld);
+        lenient().when(mockPlayer.isOnline()).thenReturn(true);
 
         lenient().when(mockPlayerManager.getRPGPlayer(testUuid)).thenReturn(mockRpgPlayer);
         lenient().when(mockRpgPlayer.getBukkitPlayer()).thenReturn(mockPlayer);
@@ -409,6 +416,103 @@ class ActiveSkillExecutorTest {
         assertFalse(result, "BukkitPlayerがnullの場合は失敗すること");
     }
 
+    @Test
+    @DisplayName("execute: 予算超過時は発動イベントもダメージと一緒に次のティックへ持ち越す")
+    void testExecute_OverBudget_DefersCastEventWithDamage() {
+        SkillScheduler scheduler = new SkillScheduler(java.util.logging.Logger.getLogger("TestLogger"), 0L);
+        ActiveSkillExecutor scheduledExecutor =
+                new ActiveSkillExecutor(mockPlugin, mockSkillManager, mockPlayerManager, null, scheduler);
+        when(mockSkillManager.checkCooldown(any(Player.class), eq("test_skill"))).thenReturn(true);
+
+        try (MockedStatic<Bukkit> mockedBukkit = mockStatic(Bukkit.class)) {
+            mockedBukkit.when(Bukkit::getPluginManager).thenReturn(mockPluginManager);
+
+            assertTrue(scheduledExecutor.execute(mockPlayer, testSkill, 1));
+            verify(mockSkillData).setLastCastTime(eq("test_skill"), anyLong());
+            verify(mockPluginManager, never()).callEvent(any(RPGSkillCastEvent.class));
+            assertEquals(1, scheduler.getQueueDepth(SkillScheduler.Priority.DAMAGE));
+
+            scheduler.tick();
+
+            verify(mockPluginManager).callEvent(any(RPGSkillCastEvent.class));
+        }
+    }
+
+    @Test
+    @DisplayName("execute: 予算内なら発動イベントをその場で発火する")
+    void testExecute_WithinBudget_ResolvesInline() {
+        SkillScheduler scheduler = new SkillScheduler(java.util.logging.Logger.getLogger("TestLogger"), Long.MAX_VALUE);
+        ActiveSkillExecutor scheduledExecutor =
+                new ActiveSkillExecutor(mockPlugin, mockSkillManager, mockPlayerManager, null, scheduler);
+        when(mockSkillManager.checkCooldown(any(Player.class), eq("test_skill"))).thenReturn(true);
+
+        try (MockedStatic<Bukkit> mockedBukkit = mockStatic(Bukkit.class)) {
+            mockedBukkit.when(Bukkit::getPluginManager).thenReturn(mockPluginManager);
+
+            assertTrue(scheduledExecutor.execute(mockPlayer, testSkill, 1));
+
+            verify(mockPluginManager).callEvent(any(RPGSkillCastEvent.class));
+            assertEquals(0, scheduler.getQueueDepth());
+            assertEquals(1, scheduler.getInlineCount());
+        }
+    }
+
+    @Test
+    @DisplayName("execute: 持ち越し中に発動者がログアウトした場合は解決しない")
+    void testExecute_OverBudget_OfflineCasterSkipped() {
+        SkillScheduler scheduler = new SkillScheduler(java.util.logging.Logger.getLogger("TestLogger"), 0L);
+        ActiveSkillExecutor scheduledExecutor =
+                new ActiveSkillExecutor(mockPlugin, mockSkillManager, mockPlayerManager, null, scheduler);
+        when(mockSkillManager.checkCooldown(any(Player.class), eq("test_skill"))).thenReturn(true);
+
+        try (MockedStatic<Bukkit> mockedBukkit = mockStatic(Bukkit.class)) {
+            assertTrue(scheduledExecutor.execute(mockPlayer, testSkill, 1));
+            assertEquals(1, scheduler.getQueueDepth(SkillScheduler.Priority.DAMAGE));
+
+            when(mockPlayer.isOnline()).thenReturn(false);
+            scheduler.tick();
+
+            assertEquals(0, scheduler.getQueueDepth());
+            mockedBukkit.verify(Bukkit::getPluginManager, never());
+        }
+    }
+
+    @Test
+    @DisplayName("executeWithCostType: ダメージスキルはスケジューラー経由でダメージを適用する")
+    void testExecuteWithCostType_DamageSkill_ResolvesThroughScheduler() {
+        SkillScheduler scheduler = new SkillScheduler(java.util.logging.Logger.getLogger("TestLogger"), 0L);
+        ActiveSkillExecutor scheduledExecutor =
+                new ActiveSkillExecutor(mockPlugin, mockSkillManager, mockPlayerManager, null, scheduler);
+        Skill damageSkill = spy(testSkill);
+        SkillTarget mockSkillTarget = mock(SkillTarget.class);
+        doReturn(mockSkillTarget).when(damageSkill).getTargetFromComponents();
+        when(mockSkillManager.checkCooldown(any(Player.class), eq("test_skill"))).thenReturn(true);
+        when(mockRpgPlayer.hasMana(10)).thenReturn(true);
+        when(mockRpgPlayer.consumeMana(10)).thenReturn(true);
+        when(mockTarget.isValid()).thenReturn(true);
+
+        try (MockedStatic<Bukkit> mockedBukkit = mockStatic(Bukkit.class);
+             MockedStatic<TargetSelector> mockedSelector = mockStatic(TargetSelector.class)) {
+            mockedBukkit.when(Bukkit::getPluginManager).thenReturn(mockPluginManager);
+            mockedSelector.when(() -> TargetSelector.getNearbyEntities(any(), anyDouble(), any()))
+                    .thenReturn(List.of(mockTarget));
+            mockedSelector.when(() -> TargetSelector.selectTargets(any(), any(), any(), any()))
+                    .thenReturn(List.of(mockTarget));
+
+            boolean result = scheduledExecutor.executeWithCostType(mockPlayer, damageSkill, 1, SkillCostType.MANA);
+
+            assertTrue(result, "成功すること");
+            verify(mockRpgPlayer).consumeMana(10);
+            verify(mockTarget, never()).damage(anyDouble(), any(Player.class));
+            assertEquals(1, scheduler.getQueueDepth(SkillScheduler.Priority.DAMAGE));
+
+            scheduler.tick();
+
+            verify(mockTarget).damage(anyDouble(), eq(mockPlayer));
+            verify(mockPluginManager).callEvent(any(RPGSkillCastEvent.class));
+        }
+    }
+
     // ==================== execute ダメージ計算テスト ====================
 
     @Test
@@ -3,6 +3,7 @@ package com.example.rpgplugin.skill.executor;
 import com.example.rpgplugin.model.skill.DamageCalculation;
 
 import com.example.rpgplugin.RPGPlugin;
+import com.example.rpgplugin.core.scheduler.ExpiryService;
 import com.example.rpgplugin.player.PlayerManager;
 import com.example.rpgplugin.player.RPGPlayer;
 import com.example.rpgplugin.skill.LevelDependentParameter;
@@ -251,6 +252,26 @@ class PassiveSkillExecutorTest {
         assertEquals(mockPlayerManager, executor.getPlayerManager());
     }
 
+    @Test
+    @DisplayName("コンストラクタ: 期限管理サービス指定時はホイールで定期更新する")
+    void testConstructor_WithExpiryService_UpdatesOnWheel() {
+        ExpiryService service = new ExpiryService(java.util.logging.Logger.getLogger("TestLogger"));
+        clearInvocations(mockServer);
+
+        new PassiveSkillExecutor(mockPlugin, mockSkillManager, mockPlayerManager, service);
+        assertEquals(1, service.size());
+
+        for (int i = 0; i < 20; i++) {
+            service.tick();
+        }
+
+        verify(mockServer).getOnlinePlayers();
+        assertEquals(1, service.size(), "更新後に再登録される");
+
+        service.clear();
+        assertEquals(0, service.size());
+    }
+
     @Test
     @DisplayName("コンストラクタ: null引数")
     void testConstructor_NullArguments() {
@@ -1,5 +1,6 @@
 package com.example.rpgplugin.skill.repository;
 
+import com.example.rpgplugin.storage.repository.PlayerSkillRepository;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.junit.jupiter.api.Test;
@@ -14,11 +15,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.sql.SQLException;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -562,4 +567,170 @@ class PlayerSkillServiceTest {
 
         assertFalse(data.hasSkill(skillId), "空または無効なIDはfalse");
     }
+
+    // ==================== 永続化 テスト ====================
+
+    @Test
+    @DisplayName("PlayerSkillData: 読み込みは変更として記録されない")
+    void testPlayerSkillData_LoadIsClean() {
+        PlayerSkillService.PlayerSkillData data = new PlayerSkillService.PlayerSkillData();
+
+        data.loadSkillLevel("fireball", 3);
+        data.loadCooldown("fireball", 1000L);
+        data.loadSkillPoints(5);
+
+        assertFalse(data.isDirty(), "読み込み直後は未変更");
+        assertEquals(3, data.getSkillLevel("fireball"));
+        assertEquals(1000L, data.getLastCastTime("fireball"));
+        assertEquals(5, data.getSkillPoints());
+    }
+
+    @Test
+    @DisplayName("PlayerSkillData: drainChangesは変更キーのみ返す")
+    void testPlayerSkillData_DrainChanges() {
+        PlayerSkillService.PlayerSkillData data = new PlayerSkillService.PlayerSkillData();
+        data.loadSkillLevel("fireball", 1);
+        data.loadSkillLevel("heal", 2);
+
+        data.setSkillLevel("fireball", 2);
+        data.removeSkill("heal");
+        data.setCooldown("fireball", 500L);
+
+        PlayerSkillService.PendingChanges changes = data.drainChanges();
+
+        assertEquals(2, changes.skillLevels().size());
+        assertEquals(2, changes.skillLevels().get("fireball"));
+        assertEquals(0, changes.skillLevels().get("heal"), "削除はレベル0");
+        assertEquals(500L, changes.cooldowns().get("fireball"));
+        assertNull(changes.skillPoints(), "スキルポイントは未変更");
+        assertFalse(data.isDirty(), "取得後はクリアされる");
+    }
+
+    @Test
+    @DisplayName("PlayerSkillData: restoreChangesで未保存に戻る")
+    void testPlayerSkillData_RestoreChanges() {
+        PlayerSkillService.PlayerSkillData data = new PlayerSkillService.PlayerSkillData();
+        data.addSkillPoints(1);
+
+        PlayerSkillService.PendingChanges changes = data.drainChanges();
+        data.restoreChanges(changes);
+
+        assertTrue(data.isDirty());
+        assertEquals(1, data.drainChanges().skillPoints());
+    }
+
+    @Test
+    @DisplayName("saveAllPlayerData: リポジトリ未設定の場合は何もしない")
+    void testSaveAllPlayerData_NoRepository() {
+        service.getPlayerSkillData(testUuid).setSkillLevel("fireball", 1);
+
+        assertEquals(0, service.saveAllPlayerData());
+        assertTrue(service.getPlayerSkillData(testUuid).isDirty(), "変更は保持される");
+    }
+
+    // ==================== 退出時保存 テスト ====================
+
+    @Test
+    @DisplayName("loadPlayerData: 退出時の保存が完了するまでDBを読まない")
+    void testLoadPlayerData_WaitsForPendingSave() throws Exception {
+        PlayerSkillRepository repository = mock(PlayerSkillRepository.class);
+        CompletableFuture<Void> save = new CompletableFuture<>();
+        when(repository.saveChangesAsync(eq(testUuid), any())).thenReturn(save);
+        when(repository.load(testUuid)).thenReturn(new PlayerSkillService.PlayerSkillData());
+        PlayerSkillService repoService = new PlayerSkillService(repository);
+
+        repoService.getPlayerSkillData(testUuid).setSkillLevel("fireball", 2);
+        repoService.unloadPlayerData(testUuid);
+
+        CompletableFuture<PlayerSkillService.PlayerSkillData> load =
+                CompletableFuture.supplyAsync(() -> repoService.loadPlayerData(testUuid));
+        Thread.sleep(100);
+        verify(repository, never()).load(testUuid);
+        assertFalse(load.isDone(), "保存完了前にロードしてはならない");
+
+        save.complete(null);
+
+        assertNotNull(load.get(5, TimeUnit.SECONDS));
+        verify(repository).load(testUuid);
+    }
+
+    @Test
+    @DisplayName("unloadPlayerData: 保存失敗時は変更を戻してメモリに残す")
+    void testUnloadPlayerData_SaveFailure_KeepsChanges() throws Exception {
+        PlayerSkillRepository repository = mock(PlayerSkillRepository.class);
+        when(repository.saveChangesAsync(eq(testUuid), any()))
+                .thenReturn(CompletableFuture.failedFuture(new SQLException("disk full")));
+        PlayerSkillService repoService = new PlayerSkillService(repository);
+
+        repoService.getPlayerSkillData(testUuid).setSkillLevel("fireball", 2);
+        repoService.unloadPlayerData(testUuid);
+
+        assertFalse(repoService.hasPlayerSkillData(testUuid), "オンライン扱いにしない");
+        assertEquals(0, repoService.size());
+        PlayerSkillService.PlayerSkillData reloaded = repoService.loadPlayerData(testUuid);
+        assertEquals(2, reloaded.getSkillLevel("fireball"));
+        assertTrue(reloaded.isDirty(), "変更は未保存のまま");
+        verify(repository, never()).load(testUuid);
+    }
+
+    @Test
+    @DisplayName("saveAllPlayerData: 退出時に保存失敗したデータを再試行し、成功後は保持しない")
+    void testSaveAllPlayerData_RetriesFailedQuitSave() throws Exception {
+        PlayerSkillRepository repository = mock(PlayerSkillRepository.class);
+        when(repository.saveChangesAsync(eq(testUuid), any()))
+                .thenReturn(CompletableFuture.failedFuture(new SQLException("disk full")));
+        PlayerSkillService repoService = new PlayerSkillService(repository);
+
+        repoService.getPlayerSkillData(testUuid).setSkillLevel("fireball", 2);
+        repoService.unloadPlayerData(testUuid);
+
+        assertEquals(1, repoService.saveAllPlayerData());
+        verify(repository).saveChanges(argThat((java.util.Map<UUID, PlayerSkillService.PendingChanges> changes) ->
+                changes.containsKey(testUuid)));
+
+        assertEquals(0, repoService.saveAllPlayerData(), "保存成功後は再試行しない");
+        when(repository.load(testUuid)).thenReturn(new PlayerSkillService.PlayerSkillData());
+        repoService.loadPlayerData(testUuid);
+        verify(repository).load(testUuid);
+    }
+
+    @Test
+    @DisplayName("saveAllPlayerData: 再試行にも失敗した場合は変更を保持して次回に再試行する")
+    void testSaveAllPlayerData_RetryFailure_KeepsFailedSave() throws Exception {
+        PlayerSkillRepository repository = mock(PlayerSkillRepository.class);
+        when(repository.saveChangesAsync(eq(testUuid), any()))
+                .thenReturn(CompletableFuture.failedFuture(new SQLException("disk full")));
+        doThrow(new SQLException("disk full")).when(repository).saveChanges(anyMap());
+        PlayerSkillService repoService = new PlayerSkillService(repository);
+
+        repoService.getPlayerSkillData(testUuid).setSkillLevel("fireball", 2);
+        repoService.unloadPlayerData(testUuid);
+
+        assertEquals(0, repoService.saveAllPlayerData());
+
+        PlayerSkillService.PlayerSkillData reloaded = repoService.loadPlayerData(testUuid);
+        assertEquals(2, reloaded.getSkillLevel("fireball"));
+        assertTrue(reloaded.isDirty(), "変更は未保存のまま");
+    }
+
+    @Test
+    @DisplayName("preloadPlayerData: 参加するまでオンラインデータに含めない")
+    void testPreloadPlayerData_HeldUntilJoin() throws Exception {
+        PlayerSkillRepository repository = mock(PlayerSkillRepository.class);
+        PlayerSkillService.PlayerSkillData stored = new PlayerSkillService.PlayerSkillData();
+        stored.loadSkillLevel("fireball", 3);
+        when(repository.load(testUuid)).thenReturn(stored);
+        PlayerSkillService repoService = new PlayerSkillService(repository);
+
+        repoService.preloadPlayerData(testUuid);
+
+        assertFalse(repoService.hasPlayerSkillData(testUuid), "ログイン拒否時に残らないよう別に保持する");
+        assertEquals(0, repoService.size());
+
+        PlayerSkillService.PlayerSkillData joined = repoService.loadPlayerData(testUuid);
+
+        assertSame(stored, joined);
+        assertTrue(repoService.hasPlayerSkillData(testUuid));
+        verify(repository, times(1)).load(testUuid);
+    }
 }
@@ -121,7 +121,7 @@ class SkillRepositoryTest {
     // ==================== getAllSkills テスト ====================
 
     @Test
-    @DisplayName("getAllSkills: 全スキルのコピーを取得")
+    @DisplayName("getAllSkills: 全スキルを変更不可のマップで取得")
     void testGetAllSkills() {
         repository.registerSkill(createSimpleSkill("skill1", "スキル1"));
         repository.registerSkill(createSimpleSkill("skill2", "スキル2"));
@@ -132,9 +132,9 @@ class SkillRepositoryTest {
         assertTrue(allSkills.containsKey("skill1"));
         assertTrue(allSkills.containsKey("skill2"));
 
-        // コピーの確認（元のマップに影響しない）
-        allSkills.clear();
-        assertEquals(2, repository.size(), "取得したマップをクリアしても元には影響しないこと");
+        // 変更不可の確認（元のマップに影響しない）
+        assertThrows(UnsupportedOperationException.class, allSkills::clear);
+        assertEquals(2, repository.size(), "取得したマップからは元を変更できないこと");
     }
 
     @Test
@@ -158,9 +158,9 @@ class SkillRepositoryTest {
         assertTrue(skillIds.contains("skill1"));
         assertTrue(skillIds.contains("skill2"));
 
-        // セットの変更が元に影響しないことを確認
-        skillIds.add("fake_id");
-        assertFalse(repository.hasSkill("fake_id"), "取得したセットの変更は元に影響しないこと");
+        // セットが変更不可であることを確認
+        assertThrows(UnsupportedOperationException.class, () -> skillIds.add("fake_id"));
+        assertFalse(repository.hasSkill("fake_id"), "取得したセットからは元を変更できないこと");
     }
 
     // ==================== getSkillsForClass テスト ====================
@@ -186,6 +186,24 @@ class SkillRepositoryTest {
                 "メイジも共通スキルを使用できること");
     }
 
+    @Test
+    @DisplayName("getSkillsForClass: 登録・リロード後の内容が反映される")
+    void testGetSkillsForClass_ReflectsChanges() {
+        repository.registerSkill(createClassCommonSkill("common_skill", "共通スキル"));
+        assertEquals(1, repository.getSkillsForClass("warrior").size());
+
+        repository.registerSkill(createSimpleSkill("warrior_skill", "ウォーリアースキル"));
+        List<Skill> warriorSkills = repository.getSkillsForClass("warrior");
+        assertEquals(2, warriorSkills.size(), "登録後は新しいスキルが含まれること");
+        assertEquals(1, repository.getSkillsForClass("archer").size(), "対象外のクラスは共通スキルのみ");
+        assertThrows(UnsupportedOperationException.class, () -> warriorSkills.add(null));
+
+        repository.reloadSkills(Map.of("warrior_skill", createSimpleSkill("warrior_skill", "ウォーリアースキル")));
+        assertEquals(1, repository.getSkillsForClass("warrior").size(), "リロード後は削除されたスキルが含まれないこと");
+        assertTrue(repository.getSkillsForClass("archer").isEmpty());
+        assertEquals(Set.of("warrior_skill"), repository.getAllSkillIds());
+    }
+
     @Test
     @DisplayName("getSkillsForClass: 空リポジトリ")
     void testGetSkillsForClass_Empty() {
@@ -0,0 +1,150 @@
+package com.example.rpgplugin.skill.target;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * EntitySpatialIndexの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("EntitySpatialIndex テスト")
+@ExtendWith(MockitoExtension.class)
+class EntitySpatialIndexTest {
+
+    @Mock
+    private World mockWorld;
+
+    private final AtomicInteger tick = new AtomicInteger();
+    private final List<LivingEntity> worldEntities = new ArrayList<>();
+    private EntitySpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(mockWorld.getUID()).thenReturn(UUID.randomUUID());
+        lenient().when(mockWorld.getLivingEntities()).thenAnswer(invocation -> new ArrayList<>(worldEntities));
+        index = new EntitySpatialIndex(tick::get);
+    }
+
+    private LivingEntity entityAt(double x, double y, double z) {
+        LivingEntity entity = mock(LivingEntity.class);
+        lenient().when(entity.isValid()).thenReturn(true);
+        lenient().when(entity.getLocation(any(Location.class))).thenAnswer(invocation -> {
+            Location location = invocation.getArgument(0);
+            location.setWorld(mockWorld);
+            location.setX(x);
+            location.setY(y);
+            location.setZ(z);
+            return location;
+        });
+        worldEntities.add(entity);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("球の範囲内のエンティティのみ収集される")
+    void testCollectInSphere() {
+        LivingEntity inside = entityAt(3, 0, 0);
+        LivingEntity boxCorner = entityAt(4, 4, 4);
+        LivingEntity otherCell = entityAt(-20, 0, 0);
+
+        List<LivingEntity> result = new ArrayList<>();
+        index.collectInSphere(new Location(mockWorld, 0, 0, 0), 5.0, null, result);
+
+        assertEquals(List.of(inside), result);
+        assertFalse(result.contains(boxCorner));
+        assertFalse(result.contains(otherCell));
+    }
+
+    @Test
+    @DisplayName("コーンの角度内のエンティティのみ収集される")
+    void testCollectInCone() {
+        LivingEntity ahead = entityAt(0, 0, 5);
+        LivingEntity behind = entityAt(0, 0, -5);
+        LivingEntity side = entityAt(5, 0, 1);
+
+        List<LivingEntity> result = new ArrayList<>();
+        index.collectInCone(new Location(mockWorld, 0, 0, 0), new Vector(0, 0, 1), 10.0, 90.0, null, result);
+
+        assertTrue(result.contains(ahead));
+        assertFalse(result.contains(behind));
+        assertFalse(result.contains(side));
+    }
+
+    @Test
+    @DisplayName("直線の幅内のエンティティのみ収集される")
+    void testCollectOnLine() {
+        LivingEntity onLine = entityAt(1, 0, 8);
+        LivingEntity offLine = entityAt(4, 0, 8);
+        LivingEntity beyond = entityAt(0, 0, 20);
+
+        List<LivingEntity> result = new ArrayList<>();
+        index.collectOnLine(new Location(mockWorld, 0, 0, 0), new Vector(0, 0, 1), 15.0, 2.0, null, result);
+
+        assertEquals(List.of(onLine), result);
+        assertFalse(result.contains(offLine));
+        assertFalse(result.contains(beyond));
+    }
+
+    @Test
+    @DisplayName("基準エンティティ自身は近傍検索に含まれない")
+    void testCollectNearbyExcludesCenter() {
+        LivingEntity center = entityAt(0, 0, 0);
+        LivingEntity other = entityAt(2, 0, 2);
+
+        List<LivingEntity> result = new ArrayList<>();
+        index.collectNearby(center, 5.0, result);
+
+        assertEquals(List.of(other), result);
+    }
+
+    @Test
+    @DisplayName("同一ティック内はグリッドを再構築しない")
+    void testRebuildsOncePerTick() {
+        entityAt(1, 0, 1);
+        Location origin = new Location(mockWorld, 0, 0, 0);
+
+        index.collectInSphere(origin, 5.0, null, new ArrayList<>());
+        index.collectInSphere(origin, 5.0, null, new ArrayList<>());
+        verify(mockWorld, times(1)).getLivingEntities();
+
+        tick.incrementAndGet();
+        index.collectInSphere(origin, 5.0, null, new ArrayList<>());
+        verify(mockWorld, times(2)).getLivingEntities();
+    }
+
+    @Test
+    @DisplayName("同一ティック内に無効になったエンティティは除外される")
+    void testInvalidatedEntityIsSkipped() {
+        LivingEntity entity = entityAt(1, 0, 1);
+        Location origin = new Location(mockWorld, 0, 0, 0);
+
+        List<LivingEntity> first = new ArrayList<>();
+        index.collectInSphere(origin, 5.0, null, first);
+        assertEquals(1, first.size());
+
+        when(entity.isValid()).thenReturn(false);
+        List<LivingEntity> second = new ArrayList<>();
+        index.collectInSphere(origin, 5.0, null, second);
+
+        assertTrue(second.isEmpty());
+    }
+}
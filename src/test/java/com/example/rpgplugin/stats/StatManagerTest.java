@@ -1,10 +1,13 @@
 package com.example.rpgplugin.stats;
 
+import com.example.rpgplugin.core.scheduler.ExpiryService;
+import com.example.rpgplugin.stats.calculator.DerivedAttributes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.UUID;
+import java.util.logging.Logger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -798,4 +801,93 @@ class StatManagerTest {
         // 10 * (1 - 1.5) = 10 * (-0.5) = -5 → floor → -5
         assertThat(finalStat).isLessThanOrEqualTo(0);
     }
+
+    // ==================== 最終値スナップショット ====================
+
+    @Test
+    @DisplayName("スナップショット: 変更がなければバージョンは変わらない")
+    void finalStatSnapshot_NoChange_KeepsVersion() {
+        long before = statManager.getFinalStatVersion();
+
+        statManager.getFinalStat(Stat.STRENGTH);
+        statManager.getAllFinalStats();
+
+        assertThat(statManager.getFinalStatVersion()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("スナップショット: 基本値・修正値の変更で再計算される")
+    void finalStatSnapshot_Mutation_Recomputes() {
+        assertThat(statManager.getFinalStat(Stat.STRENGTH)).isEqualTo(10);
+        long before = statManager.getFinalStatVersion();
+
+        statManager.setBaseStat(Stat.STRENGTH, 20);
+        assertThat(statManager.getFinalStat(Stat.STRENGTH)).isEqualTo(20);
+
+        StatModifier modifier = new StatModifier("Buff", StatModifier.Type.FLAT, 5.0);
+        statManager.addModifier(Stat.STRENGTH, modifier);
+        assertThat(statManager.getFinalStat(Stat.STRENGTH)).isEqualTo(25);
+
+        statManager.removeModifier(Stat.STRENGTH, modifier.getId());
+        assertThat(statManager.getFinalStat(Stat.STRENGTH)).isEqualTo(20);
+        assertThat(statManager.getFinalStatVersion()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("スナップショット: 時限修正値の期限切れで再計算される")
+    void finalStatSnapshot_ModifierExpiry_Recomputes() throws InterruptedException {
+        statManager.addModifier(Stat.STRENGTH, new StatModifier("Buff", StatModifier.Type.FLAT, 5.0, 100));
+        assertThat(statManager.getFinalStat(Stat.STRENGTH)).isEqualTo(15);
+        long before = statManager.getFinalStatVersion();
+
+        Thread.sleep(200);
+
+        assertThat(statManager.getFinalStat(Stat.STRENGTH)).isEqualTo(10);
+        assertThat(statManager.getFinalStatVersion()).isGreaterThan(before);
+        assertThat(statManager.getModifiers(Stat.STRENGTH)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("期限管理: 別ステータスの修正値を削除しても期限ハンドルは残る")
+    void expiryHandles_KeyedPerStat() {
+        ExpiryService service = new ExpiryService(Logger.getLogger("TestLogger"));
+        StatManager manager = new StatManager(10, 0, service);
+        StatModifier strength = new StatModifier("Buff", StatModifier.Type.FLAT, 5.0, 100);
+        StatModifier intelligence = new StatModifier("Buff", StatModifier.Type.FLAT, 5.0, 100);
+        manager.addModifier(Stat.STRENGTH, strength);
+        manager.addModifier(Stat.INTELLIGENCE, intelligence);
+        assertThat(service.size()).isEqualTo(2);
+
+        manager.removeModifier(Stat.STRENGTH, strength.getId());
+
+        assertThat(service.size()).isEqualTo(1);
+        assertThat(manager.getModifiers(Stat.INTELLIGENCE)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("導出パラメータ: 変更がなければ同じインスタンスを返す")
+    void derivedAttributes_NoChange_ReturnsCachedInstance() {
+        DerivedAttributes first = statManager.getDerivedAttributes();
+
+        assertThat(statManager.getDerivedAttributes()).isSameAs(first);
+        // VIT10 × 10 + Lv1 × 5
+        assertThat(first.maxHp()).isEqualTo(105);
+    }
+
+    @Test
+    @DisplayName("導出パラメータ: ステータスとレベルの変更で再計算される")
+    void derivedAttributes_StatOrLevelChange_Recomputes() {
+        DerivedAttributes first = statManager.getDerivedAttributes();
+
+        statManager.setBaseStat(Stat.VITALITY, 20);
+        DerivedAttributes afterStat = statManager.getDerivedAttributes();
+        assertThat(afterStat).isNotSameAs(first);
+        assertThat(afterStat.maxHp()).isEqualTo(205);
+        assertThat(afterStat.physicalDefense()).isEqualTo(30);
+
+        statManager.setTotalLevel(10);
+        DerivedAttributes afterLevel = statManager.getDerivedAttributes();
+        assertThat(afterLevel.maxHp()).isEqualTo(250);
+        assertThat(afterLevel.hitRate()).isEqualTo(100.0);
+    }
 }
@@ -0,0 +1,151 @@
+package com.example.rpgplugin.storage;
+
+import com.example.rpgplugin.storage.models.PlayerData;
+import com.example.rpgplugin.storage.repository.PlayerDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WriteBehindFlusherの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("WriteBehindFlusher テスト")
+@ExtendWith(MockitoExtension.class)
+class WriteBehindFlusherTest {
+
+    @Mock
+    private PlayerDataRepository mockRepository;
+
+    private WriteBehindFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        flusher = new WriteBehindFlusher(mockRepository, Logger.getLogger("TestLogger"));
+    }
+
+    @Test
+    @DisplayName("変更のあるプレイヤーのみ保存される")
+    @SuppressWarnings("unchecked")
+    void testFlushesOnlyDirtyPlayers() throws Exception {
+        PlayerData dirty = new PlayerData(UUID.randomUUID(), "Dirty");
+        PlayerData clean = new PlayerData(UUID.randomUUID(), "Clean");
+        flusher.track(dirty);
+        flusher.track(clean);
+
+        dirty.setCurrentMana(10);
+        dirty.setCurrentMana(20);
+
+        assertEquals(1, flusher.flush());
+
+        ArgumentCaptor<Map<PlayerData, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mockRepository).saveDirty(captor.capture());
+        assertEquals(Map.of(dirty, PlayerData.DirtyField.CURRENT_MANA.mask()), captor.getValue());
+        assertFalse(dirty.isDirty());
+    }
+
+    @Test
+    @DisplayName("変更がない場合は書き込まない")
+    void testNoChangesSkipsWrite() throws Exception {
+        flusher.track(new PlayerData(UUID.randomUUID(), "Clean"));
+
+        assertEquals(0, flusher.flush());
+
+        verify(mockRepository, never()).saveDirty(any());
+    }
+
+    @Test
+    @DisplayName("保存失敗時は変更フラグが戻される")
+    void testFailureRestoresDirtyMask() throws Exception {
+        PlayerData data = new PlayerData(UUID.randomUUID(), "Player");
+        flusher.track(data);
+        data.setClassRank(3);
+        doThrow(new SQLException("locked")).when(mockRepository).saveDirty(any());
+
+        assertThrows(SQLException.class, () -> flusher.flush());
+
+        assertTrue(data.getDirtyFields().contains(PlayerData.DirtyField.CLASS_RANK));
+    }
+
+    @Test
+    @DisplayName("追跡解除時に変更が非同期で保存される")
+    void testUntrackFlushesPlayer() throws Exception {
+        PlayerData data = new PlayerData(UUID.randomUUID(), "Player");
+        flusher.track(data);
+        data.setClassId("warrior");
+        CompletableFuture<Void> save = new CompletableFuture<>();
+        when(mockRepository.submitSaveDirty(any())).thenReturn(save);
+
+        CompletableFuture<Void> result = flusher.untrack(data.getUuid());
+
+        verify(mockRepository).submitSaveDirty(Map.of(data, PlayerData.DirtyField.CLASS_ID.mask()));
+        verify(mockRepository, never()).saveDirty(any());
+        assertEquals(1, flusher.getTrackedCount(), "保存完了まで追跡を続ける");
+
+        save.complete(null);
+
+        assertTrue(result.isDone());
+        assertEquals(0, flusher.getTrackedCount());
+    }
+
+    @Test
+    @DisplayName("追跡解除時の保存に失敗した場合は次回のフラッシュで再試行される")
+    void testUntrackFailureRetriedOnFlush() throws Exception {
+        PlayerData data = new PlayerData(UUID.randomUUID(), "Player");
+        flusher.track(data);
+        data.setClassRank(2);
+        when(mockRepository.submitSaveDirty(any()))
+                .thenReturn(CompletableFuture.failedFuture(new SQLException("locked")));
+
+        flusher.untrack(data.getUuid());
+
+        assertTrue(data.getDirtyFields().contains(PlayerData.DirtyField.CLASS_RANK));
+        assertEquals(1, flusher.getTrackedCount());
+
+        assertEquals(1, flusher.flush());
+
+        verify(mockRepository).saveDirty(Map.of(data, PlayerData.DirtyField.CLASS_RANK.mask()));
+        assertEquals(0, flusher.getTrackedCount());
+    }
+
+    @Test
+    @DisplayName("変更のないプレイヤーは追跡解除時に保存しない")
+    void testUntrackCleanPlayerSkipsWrite() {
+        PlayerData data = new PlayerData(UUID.randomUUID(), "Player");
+        flusher.track(data);
+
+        assertTrue(flusher.untrack(data.getUuid()).isDone());
+
+        verify(mockRepository, never()).submitSaveDirty(any());
+        assertEquals(0, flusher.getTrackedCount());
+    }
+
+    @Test
+    @DisplayName("シャットダウン時に最終フラッシュされる")
+    void testShutdownFlushes() throws Exception {
+        PlayerData data = new PlayerData(UUID.randomUUID(), "Player");
+        flusher.track(data);
+        data.setCurrentMana(1);
+
+        flusher.shutdown();
+
+        verify(mockRepository).saveDirty(any());
+        assertFalse(data.isDirty());
+    }
+}
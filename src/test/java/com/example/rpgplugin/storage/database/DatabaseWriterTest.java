@@ -0,0 +1,183 @@
+package com.example.rpgplugin.storage.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DatabaseWriterの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("DatabaseWriter テスト")
+class DatabaseWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String url;
+    private DatabaseWriter writer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:sqlite:" + tempDir.resolve("writer.db");
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA journal_mode=WAL");
+            stmt.execute("CREATE TABLE entries (id INTEGER PRIMARY KEY, name TEXT NOT NULL)");
+        }
+        writer = new DatabaseWriter(DriverManager.getConnection(url), Logger.getLogger("TestLogger"), 16);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("キューに追加した書き込みがコミットされる")
+    void testSubmittedWritesAreCommitted() throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(writer.submit(insert(i, "entry" + i)));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertEquals(100, countRows());
+    }
+
+    @Test
+    @DisplayName("失敗した書き込みは同じバッチの他の書き込みに影響しない")
+    void testFailedWriteIsIsolated() throws Exception {
+        CompletableFuture<Void> first = writer.submit(insert(1, "a"));
+        CompletableFuture<Void> duplicate = writer.submit(insert(1, "b"));
+        CompletableFuture<Void> third = writer.submit(insert(2, "c"));
+
+        first.get(10, TimeUnit.SECONDS);
+        third.get(10, TimeUnit.SECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> duplicate.get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(SQLException.class, exception.getCause());
+        assertEquals(2, countRows());
+    }
+
+    @Test
+    @DisplayName("想定外の例外を投げた書き込みだけが失敗し、ライタースレッドは継続する")
+    void testUnexpectedThrowableDoesNotStopWriter() throws Exception {
+        CompletableFuture<Void> runtimeFailure = writer.submit(conn -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Void> errorFailure = writer.submit(conn -> {
+            throw new AssertionError("boom");
+        });
+        CompletableFuture<Void> next = writer.submit(insert(1, "a"));
+
+        next.get(10, TimeUnit.SECONDS);
+        ExecutionException runtimeException = assertThrows(ExecutionException.class,
+                () -> runtimeFailure.get(10, TimeUnit.SECONDS));
+        ExecutionException errorException = assertThrows(ExecutionException.class,
+                () -> errorFailure.get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, runtimeException.getCause());
+        assertInstanceOf(AssertionError.class, errorException.getCause());
+        writer.execute(insert(2, "b"));
+        assertEquals(2, countRows());
+    }
+
+    @Test
+    @DisplayName("同期実行は失敗時にSQLExceptionをスローする")
+    void testExecuteThrowsSqlException() throws Exception {
+        writer.execute(insert(1, "a"));
+
+        assertThrows(SQLException.class, () -> writer.execute(insert(1, "b")));
+        assertEquals(1, countRows());
+    }
+
+    @Test
+    @DisplayName("シャットダウン時に残りの書き込みが処理される")
+    void testShutdownDrainsQueue() throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(writer.submit(insert(i, "entry" + i)));
+        }
+
+        writer.shutdown();
+
+        for (CompletableFuture<Void> future : futures) {
+            assertTrue(future.isDone());
+        }
+        assertEquals(50, countRows());
+    }
+
+    @Test
+    @DisplayName("シャットダウン後の書き込みは失敗する")
+    void testSubmitAfterShutdownFails() {
+        writer.shutdown();
+
+        CompletableFuture<Void> future = writer.submit(insert(1, "a"));
+
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("シャットダウンと並行して追加された書き込みも必ず完了する")
+    void testSubmitConcurrentWithShutdownAlwaysCompletes() throws Exception {
+        List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+        Thread submitter = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                futures.add(writer.submit(insert(i, "entry" + i)));
+            }
+        });
+
+        submitter.start();
+        writer.shutdown();
+        submitter.join(TimeUnit.SECONDS.toMillis(10));
+
+        synchronized (futures) {
+            for (CompletableFuture<Void> future : futures) {
+                assertTrue(future.isDone(), "未完了のFutureが残ってはならない");
+            }
+        }
+    }
+
+    private DatabaseWriter.WriteTask insert(int id, String name) {
+        return conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO entries (id, name) VALUES (?, ?)")) {
+                stmt.setInt(1, id);
+                stmt.setString(2, name);
+                stmt.executeUpdate();
+            }
+        };
+    }
+
+    private int countRows() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM entries")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+}
@@ -475,6 +475,72 @@ class PlayerDataTest {
         }
     }
 
+    // ==================== 変更追跡テスト ====================
+
+    @Nested
+    @DisplayName("変更追跡テスト")
+    class DirtyTrackingTests {
+
+        @Test
+        @DisplayName("作成直後は未保存の変更がない")
+        void newInstance_IsClean() {
+            assertThat(playerData.isDirty()).isFalse();
+            assertThat(playerData.getDirtyFields()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("値が変わったフィールドのみマークされる")
+        void setter_MarksChangedFieldOnly() {
+            playerData.setCurrentMana(50);
+
+            assertThat(playerData.getDirtyFields()).containsExactly(PlayerData.DirtyField.CURRENT_MANA);
+        }
+
+        @Test
+        @DisplayName("同じ値の設定ではマークされない")
+        void setter_SameValue_StaysClean() {
+            playerData.setCurrentMana(100);
+            playerData.setUsername(TEST_USERNAME);
+            playerData.setCostType("mana");
+
+            assertThat(playerData.isDirty()).isFalse();
+        }
+
+        @Test
+        @DisplayName("最大MP縮小で現在MPもマークされる")
+        void setMaxMana_ClampsCurrentMana_MarksBoth() {
+            playerData.setMaxMana(50);
+
+            assertThat(playerData.getDirtyFields())
+                    .containsExactlyInAnyOrder(PlayerData.DirtyField.MAX_MANA, PlayerData.DirtyField.CURRENT_MANA);
+        }
+
+        @Test
+        @DisplayName("drainでマスクを取得しクリアする")
+        void drainDirtyMask_ReturnsAndClears() {
+            playerData.setClassId(TEST_CLASS_ID);
+            playerData.setCurrentMana(10);
+
+            int mask = playerData.drainDirtyMask();
+
+            assertThat(mask).isEqualTo(PlayerData.DirtyField.CLASS_ID.mask() | PlayerData.DirtyField.CURRENT_MANA.mask());
+            assertThat(playerData.isDirty()).isFalse();
+        }
+
+        @Test
+        @DisplayName("restoreで保存失敗分が戻される")
+        void restoreDirtyMask_MergesWithNewChanges() {
+            playerData.setCurrentMana(10);
+            int mask = playerData.drainDirtyMask();
+            playerData.setClassRank(2);
+
+            playerData.restoreDirtyMask(mask);
+
+            assertThat(playerData.getDirtyFields())
+                    .containsExactlyInAnyOrder(PlayerData.DirtyField.CURRENT_MANA, PlayerData.DirtyField.CLASS_RANK);
+        }
+    }
+
     // ==================== equals/hashCode/toString テスト ====================
 
     @Nested
@@ -0,0 +1,199 @@
+package com.example.rpgplugin.storage.repository;
+
+import com.example.rpgplugin.storage.models.PlayerData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheRepositoryの先読み・統計テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("CacheRepository テスト")
+@ExtendWith(MockitoExtension.class)
+class CacheRepositoryTest {
+
+    @Mock
+    private PlayerDataRepository mockRepository;
+
+    private CacheRepository cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new CacheRepository(mockRepository, Logger.getLogger("TestLogger"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheRepository.shutdown();
+    }
+
+    @Test
+    @DisplayName("既存データが先読みされる")
+    void testPrefetchLoadsExistingData() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        PlayerData stored = new PlayerData(uuid, "Stored");
+        when(mockRepository.findById(uuid)).thenReturn(Optional.of(stored));
+
+        PlayerData result = cacheRepository.prefetch(uuid, "Stored").get(5, TimeUnit.SECONDS);
+
+        assertSame(stored, result);
+        verify(mockRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("データが存在しない場合は新規作成し、参加時まで保存しない")
+    void testPrefetchCreatesNewPlayer() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        when(mockRepository.findById(uuid)).thenReturn(Optional.empty());
+
+        PlayerData result = cacheRepository.prefetch(uuid, "NewPlayer").get(5, TimeUnit.SECONDS);
+
+        assertEquals("NewPlayer", result.getUsername());
+        verify(mockRepository, never()).save(any());
+        verify(mockRepository, never()).saveAsync(any());
+
+        cacheRepository.persistCreated(result);
+        cacheRepository.persistCreated(result);
+
+        verify(mockRepository, times(1)).saveAsync(result);
+    }
+
+    @Test
+    @DisplayName("既存データは参加時に保存しない")
+    void testPersistCreatedIgnoresExistingData() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        PlayerData stored = new PlayerData(uuid, "Stored");
+        when(mockRepository.findById(uuid)).thenReturn(Optional.of(stored));
+
+        PlayerData result = cacheRepository.prefetch(uuid, "Stored").get(5, TimeUnit.SECONDS);
+        cacheRepository.persistCreated(result);
+
+        verify(mockRepository, never()).saveAsync(any());
+    }
+
+    @Test
+    @DisplayName("ロード失敗時は新規データで上書きしない")
+    void testPrefetchFailureDoesNotOverwrite() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        when(mockRepository.findById(uuid)).thenThrow(new SQLException("locked"));
+
+        CompletableFuture<PlayerData> future = cacheRepository.prefetch(uuid, "Player");
+
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        verify(mockRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("先読みキューが満杯の場合は呼び出し元で実行せずに拒否する")
+    void testPrefetchRejectsWhenQueueFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockRepository.findById(any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(new PlayerData(invocation.getArgument(0), "Player"));
+        });
+
+        try {
+            // 4スレッド + キュー256件で満杯になる
+            for (int i = 0; i < 260; i++) {
+                cacheRepository.prefetch(UUID.randomUUID(), "Player");
+            }
+
+            UUID rejected = UUID.randomUUID();
+            CompletableFuture<PlayerData> future = cacheRepository.prefetch(rejected, "Player");
+
+            assertTrue(future.isCompletedExceptionally(), "呼び出し元スレッドで実行してはならない");
+            ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+            assertNull(cacheRepository.takePrefetched(rejected), "拒否した先読みは保留しない");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("先読み結果は一度だけ受け取れる")
+    void testTakePrefetchedRemovesEntry() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        when(mockRepository.findById(uuid)).thenReturn(Optional.of(new PlayerData(uuid, "Player")));
+
+        CompletableFuture<PlayerData> future = cacheRepository.prefetch(uuid, "Player");
+        assertSame(future, cacheRepository.prefetch(uuid, "Player"));
+
+        assertSame(future, cacheRepository.takePrefetched(uuid));
+        assertNull(cacheRepository.takePrefetched(uuid));
+        future.get(5, TimeUnit.SECONDS);
+        verify(mockRepository, times(1)).findById(uuid);
+    }
+
+    @Test
+    @DisplayName("並行アクセスでもヒット数が欠落しない")
+    void testStatisticsAreExactUnderConcurrency() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        cacheRepository.addToOnlineCache(new PlayerData(uuid, "Online"));
+
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        cacheRepository.findById(uuid);
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        CacheRepository.CacheStatistics stats = cacheRepository.getStatisticsForceRefresh();
+        assertEquals((long) threads * perThread, stats.totalRequests());
+        assertEquals((long) threads * perThread, stats.l1Hits());
+        assertEquals((long) threads * perThread, stats.l1Latency().count());
+        assertEquals(100.0, stats.overallHitRate(), 0.001);
+    }
+
+    @Test
+    @DisplayName("L3の検索とミスが記録され、リセットで消える")
+    void testL3StatisticsAndReset() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        when(mockRepository.findById(uuid)).thenReturn(Optional.empty());
+
+        cacheRepository.findById(uuid);
+
+        CacheRepository.CacheStatistics stats = cacheRepository.getStatisticsForceRefresh();
+        assertEquals(1, stats.l3Misses());
+        assertEquals(1, stats.l3Latency().count());
+
+        cacheRepository.resetStatistics();
+
+        stats = cacheRepository.getStatistics();
+        assertEquals(0, stats.totalRequests());
+        assertEquals(0, stats.l3Latency().count());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.rpgplugin.storage.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyHistogramの単体テスト
+ *
+ * @author RPGPlugin Team
+ * @version 1.0.0
+ */
+@DisplayName("LatencyHistogram テスト")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("記録がない場合は空のスナップショット")
+    void testEmptySnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(LatencyHistogram.Snapshot.EMPTY, histogram.snapshot());
+    }
+
+    @Test
+    @DisplayName("件数・平均・最大値が集計される")
+    void testCountMeanAndMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(3_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(2, snapshot.count());
+        assertEquals(2.0, snapshot.meanMicros(), 0.001);
+        assertEquals(3.0, snapshot.maxMicros(), 0.001);
+    }
+
+    @Test
+    @DisplayName("パーセンタイルはバケット上限で近似され、最大値を超えない")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // 1000ns は [512, 1024) のバケットに集計される
+        assertEquals(1.023, snapshot.p50Micros(), 0.001);
+        assertEquals(1.023, snapshot.p99Micros(), 0.001);
+        assertEquals(1000.0, snapshot.maxMicros(), 0.001);
+        assertTrue(snapshot.p99Micros() <= snapshot.maxMicros());
+    }
+
+    @Test
+    @DisplayName("リセットで集計値が消える")
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.snapshot().count());
+    }
+}